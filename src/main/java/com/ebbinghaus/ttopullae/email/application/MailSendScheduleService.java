@@ -20,13 +20,16 @@ public class MailSendScheduleService {
     private final MailService mailService;
     private final ProblemReviewStateRepository problemReviewStateRepository;
     private final String fromEmail;
+    private final int batchSize;
 
     public MailSendScheduleService(MailService mailService,
                                    ProblemReviewStateRepository problemReviewStateRepository,
-                                   @Value("${spring.mail.username}") String fromEmail) {
+                                   @Value("${spring.mail.username}") String fromEmail,
+                                   @Value("${mail.batch.size:50}") int batchSize) {
         this.mailService = mailService;
         this.problemReviewStateRepository = problemReviewStateRepository;
         this.fromEmail = fromEmail;
+        this.batchSize = batchSize;
     }
 
     @Scheduled(cron = "0 45 9 * * *")
@@ -46,11 +49,18 @@ public class MailSendScheduleService {
         log.info("[MailSchedule] 메일 전송 요청 종료 (총 대상자: {}명 요청 완료)", mailData.size());
     }
 
+    /**
+     * 수신자별 메일을 batch-size개씩 묶어 전송 요청 (묶음마다 SMTP 연결 하나를 사용하며, 묶음끼리는 병렬로 전송)
+     */
     private void sendMail(Map<String, List<TodayMailProjection>> mailData) {
-        mailData.forEach((email, list) -> {
-            MailSendCommand command = createMailSendCommand(email, list);
-            mailService.sendEmail(command);
-        });
+        List<MailSendCommand> commands = mailData.entrySet().stream()
+                .map(entry -> createMailSendCommand(entry.getKey(), entry.getValue()))
+                .toList();
+
+        for (int from = 0; from < commands.size(); from += batchSize) {
+            int to = Math.min(from + batchSize, commands.size());
+            mailService.sendEmails(List.copyOf(commands.subList(from, to)));
+        }
     }
 
     private MailSendCommand createMailSendCommand(String userEmail, List<TodayMailProjection> mailInfo) {
@@ -1,11 +1,18 @@
 package com.ebbinghaus.ttopullae.email.application;
 
 import com.ebbinghaus.ttopullae.email.application.dto.MailSendCommand;
+import jakarta.mail.Address;
 import jakarta.mail.MessagingException;
+import jakarta.mail.SendFailedException;
 import jakarta.mail.internet.MimeMessage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.eclipse.angus.mail.smtp.SMTPAddressFailedException;
+import org.eclipse.angus.mail.smtp.SMTPSendFailedException;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailAuthenticationException;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.scheduling.annotation.Async;
@@ -13,44 +20,175 @@ import org.springframework.stereotype.Service;
 import org.thymeleaf.TemplateEngine;
 import org.thymeleaf.context.Context;
 
+import java.io.UnsupportedEncodingException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 오늘의 복습 메일 전송
+ *
+ * 메일 묶음을 SMTP 연결 하나로 전송하여(JavaMailSender.send(MimeMessage...)) 수신자마다 연결과 STARTTLS 협상을 반복하지 않습니다.
+ * 전송 중 연결이 끊기면 JavaMailSender가 다음 메일 전에 다시 연결하며, 실패한 메일은 나머지 메일 전송에 영향을 주지 않습니다.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class MailService {
 
+    private static final String SUBJECT = "[Study Loop] 오늘의 복습 문제 목록이 도착했습니다!";
+
     private final JavaMailSender mailSender;
     private final TemplateEngine templateEngine;
 
     @Value("${app.problem-base-url}")
     private String baseUrl;
 
+    @Value("${mail.batch.max-retries:1}")
+    private int maxRetries;
+
+    @Value("${mail.batch.retry-backoff:2s}")
+    private Duration retryBackoff;
+
+    /**
+     * 메일 묶음 전송
+     * 메일 생성에 실패한 수신자는 건너뛰고, 연결 오류 등 일시적인 전송 실패는 max-retries 횟수만큼 다시 전송합니다.
+     * (수신자 주소 오류, SMTP 5xx 거부, 인증 실패는 다시 전송해도 실패하므로 재시도하지 않고, SMTP 4xx 응답은 재시도)
+     */
     @Async("mailExecutor")
-    public void sendEmail(MailSendCommand command) {
+    public void sendEmails(List<MailSendCommand> commands) {
+        Map<MimeMessage, MailSendCommand> pending = new LinkedHashMap<>();
+        for (MailSendCommand command : commands) {
+            try {
+                pending.put(createMessage(command), command);
+            } catch (Exception e) {
+                log.error("[MailService] 메일 생성 실패 (Target: {})", command.to(), e);
+            }
+        }
+
+        int sentCount = 0;
+        int failedCount = commands.size() - pending.size();
+        for (int attempt = 0; !pending.isEmpty(); attempt++) {
+            if (attempt > 0 && !waitBeforeRetry()) {
+                failedCount += pending.size();
+                break;
+            }
+
+            Map<MimeMessage, Exception> failures = send(pending.keySet().toArray(MimeMessage[]::new));
+            Map<MimeMessage, MailSendCommand> retryable = new LinkedHashMap<>();
+            for (Map.Entry<MimeMessage, MailSendCommand> entry : pending.entrySet()) {
+                Exception failure = failures.get(entry.getKey());
+                if (failure == null) {
+                    sentCount++;
+                } else if (attempt < maxRetries && isRetryable(failure)) {
+                    retryable.put(entry.getKey(), entry.getValue());
+                } else {
+                    failedCount++;
+                    log.error("[MailService] 메일 전송 실패 (Target: {})", entry.getValue().to(), failure);
+                }
+            }
+
+            if (!retryable.isEmpty()) {
+                log.warn("[MailService] 메일 {}건 전송 실패, 재전송 예정 ({}/{})", retryable.size(), attempt + 1, maxRetries);
+            }
+            pending = retryable;
+        }
+
+        log.info("[MailService] 메일 묶음 전송 완료 (성공: {}건, 실패: {}건)", sentCount, failedCount);
+    }
+
+    private MimeMessage createMessage(MailSendCommand command) throws MessagingException, UnsupportedEncodingException {
         MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
 
-        try {
+        Context context = new Context();
+        context.setVariable("username", command.username());
+        context.setVariable("problems", command.problems());
+
+        context.setVariable("baseUrl", baseUrl);
 
-            MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
+        String htmlContent = templateEngine.process("problem-mail", context);
 
-            Context context = new Context();
-            context.setVariable("username", command.username());
-            context.setVariable("problems", command.problems());
+        helper.setTo(command.to());
+        helper.setSubject(SUBJECT);
+        helper.setText(htmlContent, true);
+        helper.setFrom(command.from(), "Study Loop");
+        return message;
+    }
 
-            context.setVariable("baseUrl", baseUrl);
+    /**
+     * 메일을 한 번의 연결로 전송하고 실패한 메일과 원인을 반환합니다.
+     */
+    private Map<MimeMessage, Exception> send(MimeMessage[] messages) {
+        try {
+            mailSender.send(messages);
+            return Map.of();
+        } catch (MailSendException e) {
+            // 메일별 실패 (연결 자체가 실패하면 남은 메일 모두 포함, 전송 후 연결 종료 실패만 있으면 비어 있음)
+            Map<MimeMessage, Exception> failures = new LinkedHashMap<>();
+            e.getFailedMessages().forEach((message, cause) -> failures.put((MimeMessage) message, cause));
+            return failures;
+        } catch (MailException e) {
+            Map<MimeMessage, Exception> failures = new LinkedHashMap<>();
+            for (MimeMessage message : messages) {
+                failures.put(message, e);
+            }
+            return failures;
+        }
+    }
 
-            String htmlContent = templateEngine.process("problem-mail", context);
+    private boolean isRetryable(Exception failure) {
+        if (failure instanceof MailAuthenticationException) {
+            return false;
+        }
+        if (failure instanceof SendFailedException sendFailed) {
+            return isTransientReply(sendFailed);
+        }
+        return true;
+    }
 
-            helper.setTo(command.to());
-            helper.setSubject("[Study Loop] 오늘의 복습 문제 목록이 도착했습니다!");
-            helper.setText(htmlContent, true);
-            helper.setFrom(command.from(), "Study Loop");
+    /**
+     * 전송 실패가 일시적인 SMTP 응답(4xx, 예: 421, 451 4.7.0 발송 제한)으로 인한 것인지 판단합니다.
+     * 잘못된 주소나 영구 거부(5xx), 응답 코드를 알 수 없는 실패는 다시 보내도 실패하므로 재시도하지 않습니다.
+     */
+    private static boolean isTransientReply(SendFailedException failure) {
+        Address[] invalidAddresses = failure.getInvalidAddresses();
+        if (invalidAddresses != null && invalidAddresses.length > 0) {
+            return false;
+        }
 
-            mailSender.send(message);
-            log.info("[MailService] 메일 전송 성공! (Target: {})", command.to());
+        // 메일 단위 응답 코드를 먼저 보고, 없으면 연결된 수신자 단위 응답 코드를 확인
+        Exception current = failure;
+        while (current != null) {
+            int returnCode = smtpReturnCode(current);
+            if (returnCode >= 400) {
+                return returnCode < 500;
+            }
+            current = current instanceof MessagingException messagingException
+                    ? messagingException.getNextException()
+                    : null;
+        }
+        return false;
+    }
 
-        } catch (Exception e) {
-            log.error("[MailService] 메일 전송 실패 (Target: {})", command.to(), e);
+    private static int smtpReturnCode(Exception failure) {
+        if (failure instanceof SMTPSendFailedException sendFailed) {
+            return sendFailed.getReturnCode();
+        }
+        if (failure instanceof SMTPAddressFailedException addressFailed) {
+            return addressFailed.getReturnCode();
         }
+        return -1;
     }
 
+    private boolean waitBeforeRetry() {
+        try {
+            Thread.sleep(retryBackoff.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
 }
@@ -1,9 +1,7 @@
 package com.ebbinghaus.ttopullae.global.auth;
 
-import com.ebbinghaus.ttopullae.global.exception.ApplicationException;
 import com.ebbinghaus.ttopullae.global.util.CookieUtil;
 import com.ebbinghaus.ttopullae.global.util.JwtTokenProvider;
-import com.ebbinghaus.ttopullae.user.exception.UserException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
@@ -37,11 +35,10 @@ public class JwtAuthenticationInterceptor implements HandlerInterceptor {
         // 쿠키에서 JWT 토큰 추출
         String token = CookieUtil.extractToken(request.getCookies());
 
-        // 토큰 유효성 검증 (예외 발생 시 GlobalExceptionHandler에서 처리)
-        jwtTokenProvider.validateToken(token);
+        // 토큰 검증과 사용자 ID 추출을 한 번에 처리 (예외 발생 시 GlobalExceptionHandler에서 처리)
+        Long userId = jwtTokenProvider.authenticate(token);
 
-        // 토큰에서 사용자 ID 추출 후 request attribute에 저장
-        Long userId = jwtTokenProvider.getUserId(token);
+        // 사용자 ID를 request attribute에 저장
         request.setAttribute(USER_ID_ATTRIBUTE, userId);
 
         log.debug("사용자 인증 성공. userId: {}, URI: {}", userId, request.getRequestURI());
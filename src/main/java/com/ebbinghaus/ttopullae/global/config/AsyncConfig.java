@@ -29,4 +29,25 @@ public class AsyncConfig {
         return executor;
     }
 
+    /**
+     * 서술형 비동기 채점 전용 스레드 풀
+     * 큐가 가득 차면 요청 스레드로 되돌리지 않고 거절하며, 거절된 채점은 복구 스케줄러가 다시 요청합니다.
+     */
+    @Bean(name = "gradingExecutor")
+    public Executor gradingExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(8);
+        executor.setMaxPoolSize(16);
+        executor.setQueueCapacity(200);
+        executor.setThreadNamePrefix("GradingExecutor-");
+
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+
+        executor.initialize();
+        return executor;
+    }
+
 }
@@ -0,0 +1,37 @@
+package com.ebbinghaus.ttopullae.global.config;
+
+import io.netty.channel.ChannelOption;
+import java.time.Duration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * OpenAI 채점 전용 WebClient 설정
+ * 연결/응답 타임아웃과 커넥션 풀 상한을 두어 외부 API 지연이 요청 스레드를 무기한 점유하지 않도록 한다
+ */
+@Configuration
+@EnableConfigurationProperties(OpenAiClientProperties.class)
+public class OpenAiClientConfig {
+
+    @Bean
+    public WebClient openAiWebClient(WebClient.Builder webClientBuilder, OpenAiClientProperties properties) {
+        ConnectionProvider connectionProvider = ConnectionProvider.builder("openai")
+                .maxConnections(properties.maxConnections())
+                .pendingAcquireTimeout(properties.acquireTimeout())
+                .maxIdleTime(Duration.ofSeconds(30))
+                .build();
+
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) properties.connectTimeout().toMillis())
+                .responseTimeout(properties.responseTimeout());
+
+        return webClientBuilder.clone()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+    }
+}
@@ -0,0 +1,36 @@
+package com.ebbinghaus.ttopullae.global.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * OpenAI 채점 HTTP 클라이언트 설정
+ *
+ * @param connectTimeout    TCP 연결 타임아웃
+ * @param responseTimeout   요청 1회당 응답 대기 타임아웃
+ * @param callDeadline      재시도를 포함한 호출 전체의 마감 시간
+ * @param maxConnections    커넥션 풀 최대 커넥션 수
+ * @param maxConcurrentCalls 동시에 진행할 수 있는 최대 호출 수
+ * @param acquireTimeout    동시 호출 허용량을 기다리는 최대 시간
+ * @param maxRetries        재시도 가능한 실패에 대한 최대 재시도 횟수
+ * @param retryBackoff      재시도 최소 대기 시간 (지수 증가 + 지터)
+ * @param failureThreshold  회로를 여는 연속 실패 횟수
+ * @param openDuration      회로가 열린 뒤 호출을 차단하는 시간
+ * @param streamDeadline    스트리밍 호출 전체의 마감 시간 (토큰이 계속 들어와도 이 시간이 지나면 실패)
+ */
+@ConfigurationProperties(prefix = "openai.client")
+public record OpenAiClientProperties(
+    @DefaultValue("3s") Duration connectTimeout,
+    @DefaultValue("30s") Duration responseTimeout,
+    @DefaultValue("45s") Duration callDeadline,
+    @DefaultValue("32") int maxConnections,
+    @DefaultValue("16") int maxConcurrentCalls,
+    @DefaultValue("2s") Duration acquireTimeout,
+    @DefaultValue("2") int maxRetries,
+    @DefaultValue("300ms") Duration retryBackoff,
+    @DefaultValue("5") int failureThreshold,
+    @DefaultValue("30s") Duration openDuration,
+    @DefaultValue("60s") Duration streamDeadline
+) {
+}
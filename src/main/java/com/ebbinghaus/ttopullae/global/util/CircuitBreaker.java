@@ -0,0 +1,122 @@
+package com.ebbinghaus.ttopullae.global.util;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * 연속 실패 횟수 기반의 단순 서킷 브레이커
+ *
+ * - CLOSED: 호출 허용, 연속 실패가 임계치에 도달하면 OPEN
+ * - OPEN: 지정된 시간 동안 호출 차단
+ * - HALF_OPEN: 차단 시간이 지나면 시험 호출 1건만 허용, 성공 시 CLOSED / 실패 시 다시 OPEN
+ *   (시험 호출이 끝날 때까지 다른 호출은 차단하여 밀려 있던 호출이 한꺼번에 장애 중인 서버로 가지 않게 함)
+ *
+ * 호출마다 받은 허용(Permission)으로 결과를 알리며, OPEN/HALF_OPEN 상태에서는 시험 호출의 결과만 상태를 바꾼다
+ */
+public class CircuitBreaker {
+
+  public enum State {
+    CLOSED, OPEN, HALF_OPEN
+  }
+
+  private final int failureThreshold;
+  private final Duration openDuration;
+  private final Clock clock;
+
+  private int consecutiveFailures;
+  private Instant openUntil = Instant.MIN;
+  private boolean halfOpenProbeInFlight;
+
+  public CircuitBreaker(int failureThreshold, Duration openDuration) {
+    this(failureThreshold, openDuration, Clock.systemUTC());
+  }
+
+  public CircuitBreaker(int failureThreshold, Duration openDuration, Clock clock) {
+    this.failureThreshold = failureThreshold;
+    this.openDuration = openDuration;
+    this.clock = clock;
+  }
+
+  /**
+   * 호출 허용을 요청한다 (OPEN 상태와, HALF_OPEN 상태에서 시험 호출이 진행 중일 때 차단)
+   * 허용된 호출은 끝날 때 받은 허용의 onSuccess, onFailure, release 중 하나를 호출해야 한다
+   *
+   * @return 호출 허용, 차단되면 null
+   */
+  public synchronized Permission tryAcquirePermission() {
+    State state = state();
+    if (state == State.CLOSED) {
+      return new Permission(false);
+    }
+    if (state == State.OPEN || halfOpenProbeInFlight) {
+      return null;
+    }
+    halfOpenProbeInFlight = true;
+    return new Permission(true);
+  }
+
+  private synchronized void complete(Permission permission, Outcome outcome) {
+    if (permission.completed) {
+      return;
+    }
+    permission.completed = true;
+
+    if (permission.probe) {
+      halfOpenProbeInFlight = false;
+    } else if (state() != State.CLOSED) {
+      // 열리기 전에 허용된 호출의 늦은 결과는 상태를 바꾸지 않음 (상태 전환은 시험 호출의 결과로만)
+      return;
+    }
+
+    if (outcome == Outcome.SUCCESS) {
+      consecutiveFailures = 0;
+      openUntil = Instant.MIN;
+    } else if (outcome == Outcome.FAILURE) {
+      consecutiveFailures++;
+      if (consecutiveFailures >= failureThreshold) {
+        openUntil = clock.instant().plus(openDuration);
+      }
+    }
+  }
+
+  public synchronized State state() {
+    if (consecutiveFailures < failureThreshold) {
+      return State.CLOSED;
+    }
+    return clock.instant().isBefore(openUntil) ? State.OPEN : State.HALF_OPEN;
+  }
+
+  private enum Outcome {
+    SUCCESS, FAILURE, RELEASED
+  }
+
+  /**
+   * 허용된 호출 1건, 처음 호출한 완료 메서드만 반영되고 이후 호출은 무시된다
+   */
+  public final class Permission {
+
+    private final boolean probe;
+    private boolean completed;
+
+    private Permission(boolean probe) {
+      this.probe = probe;
+    }
+
+    public void onSuccess() {
+      complete(this, Outcome.SUCCESS);
+    }
+
+    public void onFailure() {
+      complete(this, Outcome.FAILURE);
+    }
+
+    /**
+     * 성공/실패로 집계하지 않고 허용을 반납한다 (요청 자체의 오류, 취소 등)
+     * 시험 호출이었다면 다음 호출이 다시 시험 호출로 허용된다
+     */
+    public void release() {
+      complete(this, Outcome.RELEASED);
+    }
+  }
+}
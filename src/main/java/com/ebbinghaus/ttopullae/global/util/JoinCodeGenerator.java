@@ -1,24 +1,96 @@
 package com.ebbinghaus.ttopullae.global.util;
 
-import java.security.SecureRandom;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
 
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+
+/**
+ * 그룹 스터디 참여 코드 생성기
+ *
+ * 스터디룸 ID를 비밀 키로 섞은(Feistel 암호) 뒤 8자리 영숫자로 인코딩합니다.
+ * 36^8 범위 안에서 ID와 코드가 일대일로 대응하므로 중복 확인 조회 없이 고유한 코드를 얻으며,
+ * 비밀 키를 모르면 코드로부터 ID나 다른 스터디룸의 코드를 추측할 수 없습니다.
+ * (비밀 키를 바꾸면 이전 코드와 충돌할 수 있으므로 운영 중에는 변경하지 않음)
+ */
+@Component
 public class JoinCodeGenerator {
 
     private static final String CHARACTERS = "ABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789";
     private static final int CODE_LENGTH = 8;
-    private static final SecureRandom random = new SecureRandom();
+    private static final long HALF_DOMAIN = pow(CHARACTERS.length(), CODE_LENGTH / 2);
+    private static final long DOMAIN = HALF_DOMAIN * HALF_DOMAIN;
+    private static final int ROUNDS = 8;
+    private static final String MAC_ALGORITHM = "HmacSHA256";
+
+    private final SecretKeySpec secretKey;
+
+    public JoinCodeGenerator(@Value("${study-room.join-code.secret-key}") String secretKeyString) {
+        this.secretKey = new SecretKeySpec(secretKeyString.getBytes(StandardCharsets.UTF_8), MAC_ALGORITHM);
+    }
 
     /**
-     * 8자리 랜덤 영숫자 참여 코드를 생성합니다.
+     * 스터디룸 ID에 대응하는 8자리 참여 코드를 생성합니다.
      *
+     * @param studyRoomId 스터디룸 ID (0 이상 36^8 미만)
      * @return 8자리 고유 참여 코드
      */
-    public static String generateCode() {
-        StringBuilder code = new StringBuilder(CODE_LENGTH);
-        for (int i = 0; i < CODE_LENGTH; i++) {
-            int index = random.nextInt(CHARACTERS.length());
-            code.append(CHARACTERS.charAt(index));
+    public String generateCode(long studyRoomId) {
+        if (studyRoomId < 0 || studyRoomId >= DOMAIN) {
+            throw new IllegalArgumentException("참여 코드로 인코딩할 수 없는 ID입니다: " + studyRoomId);
+        }
+        return encode(permute(studyRoomId));
+    }
+
+    /**
+     * [0, 36^8) 범위의 순열 (두 절반을 36^4 범위의 모듈러 덧셈으로 섞는 Feistel 구조)
+     */
+    private long permute(long value) {
+        Mac mac = newMac();
+        long left = value / HALF_DOMAIN;
+        long right = value % HALF_DOMAIN;
+        for (int round = 0; round < ROUNDS; round++) {
+            long mixed = (left + roundFunction(mac, round, right)) % HALF_DOMAIN;
+            left = right;
+            right = mixed;
+        }
+        return left * HALF_DOMAIN + right;
+    }
+
+    private long roundFunction(Mac mac, int round, long half) {
+        byte[] input = ByteBuffer.allocate(Integer.BYTES + Long.BYTES).putInt(round).putLong(half).array();
+        long hash = ByteBuffer.wrap(mac.doFinal(input)).getLong();
+        return Math.floorMod(hash, HALF_DOMAIN);
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(MAC_ALGORITHM);
+            mac.init(secretKey);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String encode(long value) {
+        char[] code = new char[CODE_LENGTH];
+        for (int i = CODE_LENGTH - 1; i >= 0; i--) {
+            code[i] = CHARACTERS.charAt((int) (value % CHARACTERS.length()));
+            value /= CHARACTERS.length();
+        }
+        return new String(code);
+    }
+
+    private static long pow(int base, int exponent) {
+        long result = 1;
+        for (int i = 0; i < exponent; i++) {
+            result *= base;
         }
-        return code.toString();
+        return result;
     }
 }
@@ -2,37 +2,84 @@ package com.ebbinghaus.ttopullae.global.util;
 
 import com.ebbinghaus.ttopullae.global.exception.ApplicationException;
 import com.ebbinghaus.ttopullae.user.exception.UserException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.SecurityException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.util.Date;
+import java.util.HexFormat;
 
 /**
  * JWT 토큰 생성, 검증, 파싱을 담당하는 유틸리티 클래스
+ *
+ * 파서는 생성 시 한 번만 만들어 재사용하며(스레드 안전), 인증 요청마다 서명 검증과 클레임 추출을 한 번의 파싱으로 처리합니다.
+ * jwt.verification-cache.maximum-size가 0보다 크면 최근 검증한 토큰의 SHA-256 다이제스트와 사용자 ID를 캐시하여
+ * 같은 토큰의 반복 요청에서 파싱을 생략합니다. 캐시 항목은 토큰 만료 시각(최대 max-ttl)까지만 유지됩니다.
+ * (로그아웃은 쿠키만 삭제하고 서버에서 토큰을 폐기하지 않으므로, 캐시로 인해 인증 결과가 달라지지 않음)
  */
 @Slf4j
 @Component
 public class JwtTokenProvider {
 
+    private static final String CACHE_METRIC_NAME = "jwt.verification.cache";
+
     private final SecretKey secretKey;
+    private final JwtParser jwtParser;
     private final long tokenExpirationSeconds;
 
+    private final Cache<String, VerifiedToken> verificationCache;
+    private final Counter cacheHitCounter;
+    private final Counter cacheMissCounter;
+
     public JwtTokenProvider(
             @Value("${jwt.secret-key}") String secretKeyString,
-            @Value("${jwt.token-expiration-seconds}") long tokenExpirationSeconds
+            @Value("${jwt.token-expiration-seconds}") long tokenExpirationSeconds,
+            @Value("${jwt.verification-cache.maximum-size:0}") long cacheMaximumSize,
+            @Value("${jwt.verification-cache.max-ttl:5m}") Duration cacheMaxTtl,
+            MeterRegistry meterRegistry
     ) {
         this.secretKey = Keys.hmacShaKeyFor(secretKeyString.getBytes(StandardCharsets.UTF_8));
+        this.jwtParser = Jwts.parser()
+                .verifyWith(secretKey)
+                .build();
         this.tokenExpirationSeconds = tokenExpirationSeconds;
+
+        if (cacheMaximumSize > 0) {
+            this.verificationCache = Caffeine.newBuilder()
+                    .maximumSize(cacheMaximumSize)
+                    .expireAfter(untilTokenExpiry(cacheMaxTtl))
+                    .build();
+            this.cacheHitCounter = Counter.builder(CACHE_METRIC_NAME)
+                    .tag("result", "hit")
+                    .description("JWT 검증 캐시 조회 결과")
+                    .register(meterRegistry);
+            this.cacheMissCounter = Counter.builder(CACHE_METRIC_NAME)
+                    .tag("result", "miss")
+                    .description("JWT 검증 캐시 조회 결과")
+                    .register(meterRegistry);
+        } else {
+            this.verificationCache = null;
+            this.cacheHitCounter = null;
+            this.cacheMissCounter = null;
+        }
     }
 
     /**
@@ -52,6 +99,33 @@ public class JwtTokenProvider {
                 .compact();
     }
 
+    /**
+     * JWT 토큰을 검증하고 사용자 ID 추출 (인증 요청마다 호출)
+     * @param token 검증할 JWT 토큰
+     * @return 토큰에 포함된 사용자 ID
+     * @throws ApplicationException 토큰이 유효하지 않거나 만료된 경우
+     */
+    public Long authenticate(String token) {
+        if (verificationCache == null || token == null || token.isBlank()) {
+            return parseUserId(parseClaims(token));
+        }
+
+        String digest = digest(token);
+        VerifiedToken cached = verificationCache.getIfPresent(digest);
+        if (cached != null && cached.expiresAtMillis() > System.currentTimeMillis()) {
+            cacheHitCounter.increment();
+            return cached.userId();
+        }
+
+        cacheMissCounter.increment();
+        Claims claims = parseClaims(token);
+        Long userId = parseUserId(claims);
+        if (claims.getExpiration() != null) {
+            verificationCache.put(digest, new VerifiedToken(userId, claims.getExpiration().getTime()));
+        }
+        return userId;
+    }
+
     /**
      * JWT 토큰 유효성 검증
      * @param token 검증할 JWT 토큰
@@ -59,12 +133,22 @@ public class JwtTokenProvider {
      * @throws ApplicationException 토큰이 유효하지 않은 경우
      */
     public boolean validateToken(String token) {
+        parseClaims(token);
+        return true;
+    }
+
+    /**
+     * JWT 토큰에서 사용자 ID 추출
+     * @param token JWT 토큰
+     * @return 토큰에 포함된 사용자 ID
+     */
+    public Long getUserId(String token) {
+        return parseUserId(parseClaims(token));
+    }
+
+    private Claims parseClaims(String token) {
         try {
-            Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token);
-            return true;
+            return jwtParser.parseSignedClaims(token).getPayload();
         } catch (SecurityException | MalformedJwtException e) {
             log.error("잘못된 JWT 서명입니다: {}", e.getMessage());
             throw new ApplicationException(UserException.INVALID_TOKEN);
@@ -80,18 +164,50 @@ public class JwtTokenProvider {
         }
     }
 
+    private Long parseUserId(Claims claims) {
+        try {
+            return Long.parseLong(claims.getSubject());
+        } catch (NumberFormatException e) {
+            log.error("JWT 토큰의 사용자 ID가 올바르지 않습니다: {}", claims.getSubject());
+            throw new ApplicationException(UserException.INVALID_TOKEN);
+        }
+    }
+
     /**
-     * JWT 토큰에서 사용자 ID 추출
-     * @param token JWT 토큰
-     * @return 토큰에 포함된 사용자 ID
+     * 캐시 키로 토큰 원문 대신 SHA-256 다이제스트를 사용 (메모리에 토큰 원문을 보관하지 않음)
      */
-    public Long getUserId(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 캐시 항목은 토큰 만료 시각까지 유지하되 max-ttl을 넘지 않음
+     */
+    private static Expiry<String, VerifiedToken> untilTokenExpiry(Duration maxTtl) {
+        return new Expiry<>() {
+            @Override
+            public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+                long untilExpiry = Duration.ofMillis(value.expiresAtMillis() - System.currentTimeMillis()).toNanos();
+                return Math.max(0, Math.min(untilExpiry, maxTtl.toNanos()));
+            }
+
+            @Override
+            public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+                return expireAfterCreate(key, value, currentTime);
+            }
+
+            @Override
+            public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+                return currentDuration;
+            }
+        };
+    }
 
-        return Long.parseLong(claims.getSubject());
+    private record VerifiedToken(Long userId, long expiresAtMillis) {
     }
-}
\ No newline at end of file
+}
@@ -3,6 +3,8 @@ package com.ebbinghaus.ttopullae.global.util;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.ResourceLoader;
 import org.springframework.stereotype.Component;
@@ -14,6 +16,7 @@ import org.springframework.stereotype.Component;
 public class PromptLoader {
 
   private final ResourceLoader resourceLoader;
+  private final ConcurrentMap<String, PromptTemplate> compiledTemplates = new ConcurrentHashMap<>();
 
   public PromptLoader(ResourceLoader resourceLoader) {
     this.resourceLoader = resourceLoader;
@@ -31,6 +34,25 @@ public class PromptLoader {
     return new String(resource.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
   }
 
+  /**
+   * 지정된 경로의 프롬프트 템플릿을 컴파일하여 반환한다
+   * 경로별로 최초 1회만 파일을 읽고 컴파일하며, 이후에는 캐시된 템플릿을 재사용한다
+   *
+   * @param resourcePath 리소스 경로 (예: "classpath:prompts/grading_system_prompt.txt")
+   * @return 컴파일된 프롬프트 템플릿
+   * @throws IOException 파일 읽기 실패 시
+   */
+  public PromptTemplate getTemplate(String resourcePath) throws IOException {
+    PromptTemplate template = compiledTemplates.get(resourcePath);
+    if (template != null) {
+      return template;
+    }
+
+    PromptTemplate compiled = PromptTemplate.compile(loadPromptTemplate(resourcePath));
+    PromptTemplate existing = compiledTemplates.putIfAbsent(resourcePath, compiled);
+    return existing != null ? existing : compiled;
+  }
+
   /**
    * 프롬프트 템플릿의 변수를 실제 값으로 치환한다
    * 템플릿 변수 형식: {{VARIABLE_NAME}}
@@ -0,0 +1,96 @@
+package com.ebbinghaus.ttopullae.global.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 미리 컴파일된 프롬프트 템플릿
+ * 템플릿을 리터럴 구간과 {{VARIABLE_NAME}} 변수 구간으로 한 번만 분리해 두고,
+ * 렌더링 시에는 필요한 크기만큼 할당한 StringBuilder에 한 번의 순회로 결과를 작성한다
+ */
+public final class PromptTemplate {
+
+  private static final Pattern PLACEHOLDER = Pattern.compile("\\{\\{([A-Za-z0-9_]+)}}");
+
+  private final String source;
+  private final String[] literals;
+  private final String[] variableNames;
+  private final Set<String> requiredVariables;
+  private final int literalLength;
+
+  private PromptTemplate(String source, List<String> literals, List<String> variableNames) {
+    this.source = source;
+    this.literals = literals.toArray(String[]::new);
+    this.variableNames = variableNames.toArray(String[]::new);
+    this.requiredVariables = Collections.unmodifiableSet(new LinkedHashSet<>(variableNames));
+    this.literalLength = literals.stream().mapToInt(String::length).sum();
+  }
+
+  /**
+   * 템플릿 문자열을 리터럴/변수 구간으로 분리하여 컴파일한다
+   *
+   * @param source 템플릿 원문
+   * @return 컴파일된 템플릿
+   */
+  public static PromptTemplate compile(String source) {
+    List<String> literals = new ArrayList<>();
+    List<String> variableNames = new ArrayList<>();
+
+    Matcher matcher = PLACEHOLDER.matcher(source);
+    int cursor = 0;
+    while (matcher.find()) {
+      literals.add(source.substring(cursor, matcher.start()));
+      variableNames.add(matcher.group(1));
+      cursor = matcher.end();
+    }
+    literals.add(source.substring(cursor));
+
+    return new PromptTemplate(source, literals, variableNames);
+  }
+
+  /**
+   * 변수를 바인딩하여 최종 프롬프트를 생성한다
+   * 템플릿에 사용된 변수가 하나라도 바인딩되지 않으면 예외가 발생한다
+   *
+   * @param variables 바인딩할 변수 맵 (키: 변수명, 값: 치환할 값)
+   * @return 변수가 치환된 최종 프롬프트 문자열
+   * @throws IllegalArgumentException 바인딩되지 않은 변수가 있는 경우
+   */
+  public String render(Map<String, String> variables) {
+    int capacity = literalLength;
+    for (String name : variableNames) {
+      String value = variables.get(name);
+      if (value == null) {
+        throw new IllegalArgumentException("프롬프트 변수가 바인딩되지 않았습니다: " + name);
+      }
+      capacity += value.length();
+    }
+
+    StringBuilder builder = new StringBuilder(capacity);
+    for (int i = 0; i < variableNames.length; i++) {
+      builder.append(literals[i]).append(variables.get(variableNames[i]));
+    }
+    builder.append(literals[variableNames.length]);
+    return builder.toString();
+  }
+
+  /**
+   * 템플릿에서 사용하는 변수명 목록 (등장 순서, 중복 제거)
+   */
+  public Set<String> requiredVariables() {
+    return requiredVariables;
+  }
+
+  /**
+   * 컴파일 전 템플릿 원문
+   */
+  public String source() {
+    return source;
+  }
+}
@@ -2,6 +2,8 @@ package com.ebbinghaus.ttopullae.problem.application;
 
 import com.ebbinghaus.ttopullae.problem.application.dto.AiGradingRequest;
 import com.ebbinghaus.ttopullae.problem.application.dto.AiGradingResult;
+import java.util.List;
+import java.util.Optional;
 
 /**
  * AI 기반 서술형 답안 채점 서비스 인터페이스
@@ -15,4 +17,37 @@ public interface AiGradingService {
    * @return 채점 결과 (정답여부, 피드백, 누락키워드, 채점근거)
    */
   AiGradingResult gradeSubjectiveAnswer(AiGradingRequest request);
+
+  /**
+   * 여러 서술형 답안을 한 번에 채점한다
+   * 기본 구현은 항목마다 gradeSubjectiveAnswer를 호출하며, 구현체는 여러 항목을 한 번의 요청으로 묶어 처리할 수 있다
+   *
+   * @param requests 채점 요청 목록
+   * @return 요청과 같은 순서의 채점 결과 목록 (일부 항목이 실패해도 해당 항목만 실패 결과로 반환)
+   */
+  default List<AiGradingResult> gradeSubjectiveAnswers(List<AiGradingRequest> requests) {
+    return requests.stream()
+        .map(this::gradeSubjectiveAnswer)
+        .toList();
+  }
+
+  /**
+   * 이미 채점된 결과가 있으면 OpenAI 호출 없이 반환한다
+   * 스트리밍 채점처럼 gradeSubjectiveAnswer를 거치지 않는 경로에서 재사용 여부를 판단할 때 사용한다
+   *
+   * @param request 채점 요청 정보
+   * @return 캐시된 채점 결과 (캐시를 사용하지 않는 구현은 항상 빈 값)
+   */
+  default Optional<AiGradingResult> findCachedResult(AiGradingRequest request) {
+    return Optional.empty();
+  }
+
+  /**
+   * gradeSubjectiveAnswer를 거치지 않고 얻은 채점 결과(스트리밍 채점 등)를 이후 같은 답안에 재사용하도록 저장한다
+   *
+   * @param request 채점 요청 정보
+   * @param result  채점 결과 (시스템 오류로 인한 대체 결과는 저장하지 않음)
+   */
+  default void cacheResult(AiGradingRequest request, AiGradingResult result) {
+  }
 }
@@ -0,0 +1,243 @@
+package com.ebbinghaus.ttopullae.problem.application;
+
+import com.ebbinghaus.ttopullae.global.util.PromptLoader;
+import com.ebbinghaus.ttopullae.problem.application.dto.AiGradingRequest;
+import com.ebbinghaus.ttopullae.problem.application.dto.AiGradingResult;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+/**
+ * AI 채점 결과 캐시 데코레이터
+ * 같은 문제에 대해 정규화 후 동일한 답안이 제출되면 OpenAI 호출 없이 이전 채점 결과를 재사용한다
+ *
+ * 캐시 키: SHA-256(문제 내용, 모델, 프롬프트 버전, 정규화된 답안)
+ * - 문제 내용(주제, 문제, 모범답안, 키워드)이 바뀌면 키도 바뀌므로 수정 전 채점 결과가 재사용되지 않는다
+ * - 프롬프트 버전은 프롬프트 파일 내용의 해시로, 프롬프트 수정 시 자동으로 캐시가 무효화된다
+ *
+ * 같은 키의 요청이 동시에 들어오면 첫 요청의 결과를 함께 기다려 OpenAI 호출을 한 번만 수행한다
+ * 일괄 채점 시에는 캐시에 없는 답안만, 정규화 후 중복을 제거하여 위임 대상에 전달한다
+ * 스트리밍 채점 결과도 cacheResult로 같은 캐시에 저장되어, 이후 동일한 답안은 스트리밍 없이 재사용된다
+ */
+@Service
+@Primary
+@ConditionalOnProperty(name = "grading.cache.enabled", havingValue = "true")
+public class CachingAiGradingService implements AiGradingService {
+
+  private static final String PROMPT_PATH = "classpath:prompts/grading_system_prompt.txt";
+  private static final String METRIC_NAME = "ai.grading.cache";
+
+  private final AiGradingService delegate;
+  private final AsyncCache<String, AiGradingResult> cache;
+  private final String model;
+  private final String promptVersion;
+  private final Counter hitCounter;
+  private final Counter missCounter;
+
+  public CachingAiGradingService(OpenAiGradingService delegate, PromptLoader promptLoader,
+      MeterRegistry meterRegistry,
+      @Value("${openai.model}") String model,
+      @Value("${grading.cache.maximum-size:10000}") long maximumSize,
+      @Value("${grading.cache.ttl:24h}") Duration ttl) throws IOException {
+    this.delegate = delegate;
+    this.model = model;
+    this.promptVersion = sha256Hex(promptLoader.getTemplate(PROMPT_PATH).source()).substring(0, 12);
+    this.cache = Caffeine.newBuilder()
+        .maximumSize(maximumSize)
+        .expireAfterWrite(ttl)
+        .buildAsync();
+
+    this.hitCounter = Counter.builder(METRIC_NAME)
+        .tag("result", "hit")
+        .description("AI 채점 캐시 조회 결과")
+        .register(meterRegistry);
+    this.missCounter = Counter.builder(METRIC_NAME)
+        .tag("result", "miss")
+        .description("AI 채점 캐시 조회 결과")
+        .register(meterRegistry);
+    Gauge.builder(METRIC_NAME + ".size", cache, c -> c.synchronous().estimatedSize())
+        .description("AI 채점 캐시 항목 수")
+        .register(meterRegistry);
+  }
+
+  @Override
+  public AiGradingResult gradeSubjectiveAnswer(AiGradingRequest request) {
+    String key = cacheKey(request);
+
+    CompletableFuture<AiGradingResult> pending = new CompletableFuture<>();
+    CompletableFuture<AiGradingResult> cached = cache.asMap().putIfAbsent(key, pending);
+    if (cached != null) {
+      hitCounter.increment();
+      return join(cached);
+    }
+
+    missCounter.increment();
+    try {
+      AiGradingResult result = delegate.gradeSubjectiveAnswer(request);
+      pending.complete(result);
+
+      // 시스템 오류로 인한 대체 결과는 재시도할 수 있도록 캐시하지 않는다
+      if (result.isSystemFailure()) {
+        cache.asMap().remove(key, pending);
+      }
+      return result;
+    } catch (RuntimeException e) {
+      cache.asMap().remove(key, pending);
+      pending.completeExceptionally(e);
+      throw e;
+    }
+  }
+
+  @Override
+  public List<AiGradingResult> gradeSubjectiveAnswers(List<AiGradingRequest> requests) {
+    List<String> keys = requests.stream().map(this::cacheKey).toList();
+
+    // 키별로 캐시된(또는 다른 요청이 채점 중인) 결과를 찾고, 없으면 이번 호출이 채점을 맡는다
+    Map<String, CompletableFuture<AiGradingResult>> futures = new LinkedHashMap<>();
+    Map<String, AiGradingRequest> misses = new LinkedHashMap<>();
+    for (int i = 0; i < requests.size(); i++) {
+      String key = keys.get(i);
+      if (futures.containsKey(key)) {
+        hitCounter.increment();
+        continue;
+      }
+      CompletableFuture<AiGradingResult> pending = new CompletableFuture<>();
+      CompletableFuture<AiGradingResult> cached = cache.asMap().putIfAbsent(key, pending);
+      if (cached != null) {
+        hitCounter.increment();
+        futures.put(key, cached);
+      } else {
+        missCounter.increment();
+        futures.put(key, pending);
+        misses.put(key, requests.get(i));
+      }
+    }
+
+    if (!misses.isEmpty()) {
+      gradeMisses(misses, futures);
+    }
+
+    List<AiGradingResult> results = new ArrayList<>(requests.size());
+    for (String key : keys) {
+      results.add(join(futures.get(key)));
+    }
+    return results;
+  }
+
+  /**
+   * 채점이 끝난 결과만 반환한다 (다른 요청이 채점 중인 항목은 기다리지 않음)
+   */
+  @Override
+  public Optional<AiGradingResult> findCachedResult(AiGradingRequest request) {
+    CompletableFuture<AiGradingResult> cached = cache.getIfPresent(cacheKey(request));
+    if (cached == null || !cached.isDone() || cached.isCompletedExceptionally()) {
+      return Optional.empty();
+    }
+    hitCounter.increment();
+    return Optional.of(cached.join());
+  }
+
+  @Override
+  public void cacheResult(AiGradingRequest request, AiGradingResult result) {
+    // 시스템 오류로 인한 대체 결과는 재시도할 수 있도록 캐시하지 않는다
+    if (result.isSystemFailure()) {
+      return;
+    }
+    cache.asMap().putIfAbsent(cacheKey(request), CompletableFuture.completedFuture(result));
+  }
+
+  private void gradeMisses(Map<String, AiGradingRequest> misses,
+      Map<String, CompletableFuture<AiGradingResult>> futures) {
+    List<String> missKeys = new ArrayList<>(misses.keySet());
+    try {
+      List<AiGradingResult> graded = delegate.gradeSubjectiveAnswers(new ArrayList<>(misses.values()));
+      for (int i = 0; i < missKeys.size(); i++) {
+        String key = missKeys.get(i);
+        CompletableFuture<AiGradingResult> pending = futures.get(key);
+        AiGradingResult result = graded.get(i);
+        pending.complete(result);
+
+        // 시스템 오류로 인한 대체 결과는 재시도할 수 있도록 캐시하지 않는다
+        if (result.isSystemFailure()) {
+          cache.asMap().remove(key, pending);
+        }
+      }
+    } catch (RuntimeException e) {
+      for (String key : missKeys) {
+        CompletableFuture<AiGradingResult> pending = futures.get(key);
+        cache.asMap().remove(key, pending);
+        pending.completeExceptionally(e);
+      }
+      throw e;
+    }
+  }
+
+  private AiGradingResult join(CompletableFuture<AiGradingResult> future) {
+    try {
+      return future.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+
+  private String cacheKey(AiGradingRequest request) {
+    List<String> keywords = request.keywords() == null
+        ? List.of()
+        : request.keywords().stream().sorted().toList();
+
+    String source = String.join("\u0000",
+        model,
+        promptVersion,
+        String.valueOf(request.topic()),
+        String.valueOf(request.question()),
+        String.valueOf(request.modelAnswer()),
+        String.join("\u0001", keywords),
+        normalizeAnswer(request.userAnswer())
+    );
+    return sha256Hex(source);
+  }
+
+  /**
+   * 답안 정규화: 유니코드 호환 정규화(NFKC), 앞뒤 공백 제거, 연속 공백 축약, 소문자 변환
+   */
+  static String normalizeAnswer(String answer) {
+    if (answer == null) {
+      return "";
+    }
+    String normalized = Normalizer.normalize(answer, Normalizer.Form.NFKC);
+    return normalized.strip().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+  }
+
+  private static String sha256Hex(String value) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+    }
+  }
+}
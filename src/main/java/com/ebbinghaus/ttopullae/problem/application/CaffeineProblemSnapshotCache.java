@@ -0,0 +1,66 @@
+package com.ebbinghaus.ttopullae.problem.application;
+
+import com.ebbinghaus.ttopullae.problem.application.dto.ProblemSnapshot;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Function;
+
+/**
+ * 서버 메모리(Caffeine) 문제 스냅샷 캐시
+ *
+ * 스냅샷은 변경되지 않으므로 만료 시간 없이 문제 수(maximum-size)로만 크기를 제한합니다.
+ * 조회에 실패한 문제(존재하지 않는 문제)는 캐시하지 않습니다.
+ */
+@Component
+@ConditionalOnProperty(name = "problem.snapshot-cache.backend", havingValue = "caffeine")
+public class CaffeineProblemSnapshotCache implements ProblemSnapshotCache {
+
+    private static final String METRIC_NAME = "problem.snapshot.cache";
+
+    private final Cache<Long, ProblemSnapshot> cache;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public CaffeineProblemSnapshotCache(MeterRegistry meterRegistry,
+                                        @Value("${problem.snapshot-cache.maximum-size:50000}") long maximumSize) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .build();
+
+        this.hitCounter = Counter.builder(METRIC_NAME)
+                .tag("result", "hit")
+                .description("문제 스냅샷 캐시 조회 결과")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder(METRIC_NAME)
+                .tag("result", "miss")
+                .description("문제 스냅샷 캐시 조회 결과")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_NAME + ".size", cache, Cache::estimatedSize)
+                .description("스냅샷이 캐시된 문제 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public ProblemSnapshot get(Long problemId, Function<Long, ProblemSnapshot> loader) {
+        ProblemSnapshot cached = cache.getIfPresent(problemId);
+        if (cached != null) {
+            hitCounter.increment();
+            return cached;
+        }
+
+        missCounter.increment();
+        return cache.get(problemId, loader);
+    }
+
+    @Override
+    public void evict(Long problemId) {
+        cache.invalidate(problemId);
+    }
+}
@@ -0,0 +1,100 @@
+package com.ebbinghaus.ttopullae.problem.application;
+
+import com.ebbinghaus.ttopullae.problem.application.dto.TodayReviewResult;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 서버 메모리(Caffeine) 오늘의 복습 목록 캐시
+ *
+ * 사용자 ID를 키로 그날의 필터별 목록을 묶어 저장하므로, 사용자 단위 무효화가 항목 하나의 삭제로 끝납니다.
+ * 캐시 크기는 사용자 수(maximum-size)로 제한하며, 무효화가 누락된 변경(문제 삭제 등)은 ttl이 지나면 반영됩니다.
+ *
+ * 무효화는 사용자 항목을 캐시에서 떼어내는 방식이므로, 무효화 전에 시작된 조회의 결과는
+ * 떨어져 나간 항목에만 기록되어 이후 조회에 노출되지 않습니다.
+ *
+ * 무효화는 이 서버의 캐시에만 반영되므로 단일 서버 배포 전용입니다.
+ * (서버가 여러 대이면 다른 서버에서 제출 후 ttl 동안 변경 전 목록이 보임)
+ */
+@Component
+@ConditionalOnProperty(name = "review.today-cache.backend", havingValue = "caffeine")
+public class CaffeineTodayReviewCache implements TodayReviewCache {
+
+    private static final String METRIC_NAME = "review.today.cache";
+
+    private final Cache<Long, UserEntry> cache;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public CaffeineTodayReviewCache(MeterRegistry meterRegistry,
+                                    @Value("${review.today-cache.maximum-size:10000}") long maximumSize,
+                                    @Value("${review.today-cache.ttl:10m}") Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .build();
+
+        this.hitCounter = Counter.builder(METRIC_NAME)
+                .tag("result", "hit")
+                .description("오늘의 복습 목록 캐시 조회 결과")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder(METRIC_NAME)
+                .tag("result", "miss")
+                .description("오늘의 복습 목록 캐시 조회 결과")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_NAME + ".size", cache, Cache::estimatedSize)
+                .description("오늘의 복습 목록이 캐시된 사용자 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public TodayReviewResult get(Long userId, LocalDate date, String filter, Supplier<TodayReviewResult> loader) {
+        UserEntry entry = cache.get(userId, id -> new UserEntry(date));
+        if (!entry.date().equals(date)) {
+            // 날짜가 바뀐 항목은 새 항목으로 교체 (다른 요청이 이미 교체했다면 그 항목 사용)
+            UserEntry stale = entry;
+            entry = cache.asMap().compute(userId, (id, current) ->
+                    current == null || current == stale ? new UserEntry(date) : current);
+        }
+
+        TodayReviewResult cached = entry.results().get(filter);
+        if (cached != null) {
+            hitCounter.increment();
+            return cached;
+        }
+
+        missCounter.increment();
+        TodayReviewResult result = loader.get();
+        entry.results().put(filter, result);
+        return result;
+    }
+
+    @Override
+    public void evictUser(Long userId) {
+        cache.invalidate(userId);
+    }
+
+    @Override
+    public void evictAll() {
+        cache.invalidateAll();
+    }
+
+    private record UserEntry(LocalDate date, Map<String, TodayReviewResult> results) {
+
+        UserEntry(LocalDate date) {
+            this(date, new ConcurrentHashMap<>());
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.ebbinghaus.ttopullae.problem.application;
+
+import com.ebbinghaus.ttopullae.problem.application.dto.EssayGradingRequestedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 채점이 지연된 서술형 풀이 복구 스케줄러
+ *
+ * 워커 큐 포화로 거절되었거나 서버 재시작으로 유실된 채점 요청을 다시 워커에 전달합니다.
+ * 같은 풀이가 중복으로 채점되더라도 결과 반영은 한 번만 이루어집니다.
+ */
+@Slf4j
+@Service
+public class EssayGradingRecoveryScheduler {
+
+    private static final int RECOVERY_BATCH_SIZE = 100;
+
+    private final ProblemService problemService;
+    private final EssayGradingWorker essayGradingWorker;
+    private final boolean asyncEssayGradingEnabled;
+    private final long stalledThresholdMinutes;
+
+    public EssayGradingRecoveryScheduler(ProblemService problemService,
+                                         EssayGradingWorker essayGradingWorker,
+                                         @Value("${grading.async.enabled:false}") boolean asyncEssayGradingEnabled,
+                                         @Value("${grading.async.stalled-threshold-minutes:5}") long stalledThresholdMinutes) {
+        this.problemService = problemService;
+        this.essayGradingWorker = essayGradingWorker;
+        this.asyncEssayGradingEnabled = asyncEssayGradingEnabled;
+        this.stalledThresholdMinutes = stalledThresholdMinutes;
+    }
+
+    @Scheduled(fixedDelayString = "${grading.async.recovery-interval-ms:60000}")
+    public void redispatchStalledGradings() {
+        if (!asyncEssayGradingEnabled) {
+            return;
+        }
+
+        LocalDateTime submittedBefore = LocalDateTime.now().minusMinutes(stalledThresholdMinutes);
+        List<EssayGradingRequestedEvent> stalled =
+                problemService.findStalledEssayGradings(submittedBefore, RECOVERY_BATCH_SIZE);
+        if (stalled.isEmpty()) {
+            return;
+        }
+
+        log.info("[EssayGrading] 지연된 채점 재요청: {} 건", stalled.size());
+        for (EssayGradingRequestedEvent event : stalled) {
+            try {
+                essayGradingWorker.grade(event);
+            } catch (TaskRejectedException e) {
+                // 워커 큐가 여전히 포화 상태이면 다음 주기에 재시도
+                log.warn("[EssayGrading] 워커 큐 포화로 재요청 중단 (attemptId: {})", event.attemptId());
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.ebbinghaus.ttopullae.problem.application;
+
+import com.ebbinghaus.ttopullae.problem.application.dto.AiGradingResult;
+import com.ebbinghaus.ttopullae.problem.application.dto.EssayGradingRequestedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 서술형 비동기 채점 워커
+ *
+ * 풀이 기록 저장 트랜잭션이 커밋된 뒤 gradingExecutor 스레드에서 AI 채점을 수행합니다.
+ * AI 호출 동안에는 트랜잭션(DB 커넥션)을 점유하지 않으며,
+ * 채점 결과 반영과 복습 상태 전이만 짧은 트랜잭션으로 처리합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EssayGradingWorker {
+
+    private final AiGradingService aiGradingService;
+    private final ProblemService problemService;
+
+    @Async("gradingExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void grade(EssayGradingRequestedEvent event) {
+        try {
+            AiGradingResult result = aiGradingService.gradeSubjectiveAnswer(event.request());
+            problemService.completeEssayGrading(event.attemptId(), result);
+        } catch (Exception e) {
+            log.error("[EssayGrading] 비동기 채점 실패 (attemptId: {})", event.attemptId(), e);
+            problemService.failEssayGrading(event.attemptId());
+        }
+    }
+}
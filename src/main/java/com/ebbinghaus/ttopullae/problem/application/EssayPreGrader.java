@@ -0,0 +1,126 @@
+package com.ebbinghaus.ttopullae.problem.application;
+
+import com.ebbinghaus.ttopullae.problem.application.dto.AiGradingRequest;
+import com.ebbinghaus.ttopullae.problem.application.dto.AiGradingResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 서술형 답안 로컬 사전 채점기
+ * 명백한 오답만 AI 호출 없이 채점하고, 나머지 답안은 모두 AI 채점으로 넘긴다
+ *
+ * 판정 기준
+ * - 오답: 답안이 최소 길이 미만이거나, 키워드가 하나도 없으면서 모범 답안보다 확연히 짧은 경우
+ * - 그 외: AI 채점으로 넘김
+ *
+ * 키워드가 모두 포함되어도 내용이 틀리거나 서로 모순될 수 있으므로 정답 판정은 로컬에서 하지 않는다
+ * 키워드 일치는 공백과 기호를 제거한 문자열 포함 여부로 판단한다
+ */
+@Component
+public class EssayPreGrader {
+
+  private static final String METRIC_NAME = "ai.grading.pregrade";
+  private static final String SCORING_REASON_PREFIX = "[사전 채점] ";
+
+  private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+  private final boolean enabled;
+  private final int minAnswerLength;
+  private final double rejectMaxLengthRatio;
+  private final Counter rejectedCounter;
+  private final Counter escalatedCounter;
+
+  public EssayPreGrader(MeterRegistry meterRegistry,
+      @Value("${grading.pre-grader.enabled:false}") boolean enabled,
+      @Value("${grading.pre-grader.min-answer-length:5}") int minAnswerLength,
+      @Value("${grading.pre-grader.reject-max-length-ratio:0.3}") double rejectMaxLengthRatio) {
+    this.enabled = enabled;
+    this.minAnswerLength = minAnswerLength;
+    this.rejectMaxLengthRatio = rejectMaxLengthRatio;
+
+    this.rejectedCounter = decisionCounter(meterRegistry, "rejected");
+    this.escalatedCounter = decisionCounter(meterRegistry, "escalated");
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * 답안을 사전 채점한다
+   *
+   * @param request 채점 요청 (문제, 모범 답안, 키워드, 사용자 답안)
+   * @return 명백한 오답인 경우 채점 결과, AI 채점이 필요한 경우 빈 값
+   */
+  public Optional<AiGradingResult> preGrade(AiGradingRequest request) {
+    if (!enabled) {
+      return Optional.empty();
+    }
+
+    String answer = compact(request.userAnswer());
+    List<String> keywords = request.keywords() == null ? List.of() : request.keywords();
+
+    if (answer.length() < minAnswerLength) {
+      rejectedCounter.increment();
+      return Optional.of(new AiGradingResult(
+          false,
+          "답안이 너무 짧아 핵심 개념을 설명하지 못했습니다. 모범 답안의 핵심 키워드를 포함하여 다시 작성해 보세요.",
+          keywords,
+          SCORING_REASON_PREFIX + "답안 길이가 최소 기준에 미달합니다."
+      ));
+    }
+
+    List<String> missingKeywords = new ArrayList<>();
+    for (String keyword : keywords) {
+      if (!containsKeyword(answer, keyword)) {
+        missingKeywords.add(keyword);
+      }
+    }
+
+    int modelAnswerLength = compact(request.modelAnswer()).length();
+    if (!keywords.isEmpty() && missingKeywords.size() == keywords.size()
+        && answer.length() < modelAnswerLength * rejectMaxLengthRatio) {
+      rejectedCounter.increment();
+      return Optional.of(new AiGradingResult(
+          false,
+          "핵심 키워드가 답안에 포함되지 않았습니다. 누락된 키워드의 개념을 중심으로 답안을 보완해 보세요.",
+          missingKeywords,
+          SCORING_REASON_PREFIX + "핵심 키워드가 하나도 포함되지 않았습니다."
+      ));
+    }
+
+    escalatedCounter.increment();
+    return Optional.empty();
+  }
+
+  private static boolean containsKeyword(String compactAnswer, String keyword) {
+    String compactKeyword = compact(keyword);
+    return !compactKeyword.isEmpty() && compactAnswer.contains(compactKeyword);
+  }
+
+  private static String compact(String text) {
+    if (text == null) {
+      return "";
+    }
+    return NON_WORD.matcher(normalize(text)).replaceAll("");
+  }
+
+  private static String normalize(String text) {
+    return Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+  }
+
+  private static Counter decisionCounter(MeterRegistry meterRegistry, String decision) {
+    return Counter.builder(METRIC_NAME)
+        .tag("decision", decision)
+        .description("서술형 사전 채점 판정 결과")
+        .register(meterRegistry);
+  }
+}
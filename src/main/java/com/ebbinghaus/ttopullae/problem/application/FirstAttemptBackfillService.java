@@ -0,0 +1,53 @@
+package com.ebbinghaus.ttopullae.problem.application;
+
+import com.ebbinghaus.ttopullae.problem.domain.repository.ProblemReviewStateRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+
+/**
+ * 오늘의 복습 첫 시도 정답 여부 보정 작업
+ *
+ * 정답 여부 컬럼(today_review_first_attempt_correct) 도입 전 서버가 오늘 기록한 첫 시도는
+ * 날짜만 있고 정답 여부가 비어 있어, 오늘의 복습 목록에 다음 날까지 채점 중(GRADING)으로 표시됩니다.
+ * 컬럼 도입 배포에서 한 번만 실행하면 되므로, backfill-on-startup 설정을 켠 경우에만 서버 기동 시 실행합니다.
+ * (오늘 첫 시도한 행만 보정하므로 여러 번 실행해도 결과는 같음)
+ */
+@Slf4j
+@Service
+public class FirstAttemptBackfillService {
+
+    private final ProblemReviewStateRepository problemReviewStateRepository;
+    private final TodayReviewCache todayReviewCache;
+    private final boolean backfillOnStartup;
+
+    public FirstAttemptBackfillService(ProblemReviewStateRepository problemReviewStateRepository,
+                                       TodayReviewCache todayReviewCache,
+                                       @Value("${review.first-attempt.backfill-on-startup:false}") boolean backfillOnStartup) {
+        this.problemReviewStateRepository = problemReviewStateRepository;
+        this.todayReviewCache = todayReviewCache;
+        this.backfillOnStartup = backfillOnStartup;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        if (backfillOnStartup) {
+            backfill(LocalDate.now());
+        }
+    }
+
+    @Transactional
+    public int backfill(LocalDate today) {
+        int updated = problemReviewStateRepository.backfillTodayFirstAttemptCorrect(today, today.atStartOfDay());
+        if (updated > 0) {
+            todayReviewCache.evictAll();
+        }
+        log.info("오늘의 복습 첫 시도 정답 여부 보정 완료: {} 건", updated);
+        return updated;
+    }
+}
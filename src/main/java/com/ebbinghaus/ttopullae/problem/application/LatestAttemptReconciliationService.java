@@ -0,0 +1,95 @@
+package com.ebbinghaus.ttopullae.problem.application;
+
+import com.ebbinghaus.ttopullae.problem.domain.LatestProblemAttempt;
+import com.ebbinghaus.ttopullae.problem.domain.repository.LatestProblemAttemptRepository;
+import com.ebbinghaus.ttopullae.problem.domain.repository.ProblemAttemptRepository;
+import com.ebbinghaus.ttopullae.problem.domain.repository.ProblemRepository;
+import com.ebbinghaus.ttopullae.user.domain.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 최근 풀이 기록 포인터 보정 작업
+ *
+ * 풀이 기록 저장 시 포인터를 함께 갱신하므로, 포인터가 없는 (사용자, 문제)는
+ * 포인터 도입 전에 저장된 풀이 기록이나 서비스를 거치지 않고 저장된 풀이 기록뿐입니다.
+ * 포인터 도입 배포에서 한 번만 실행하면 되므로, reconcile-on-startup 설정을 켠 경우에만 서버 기동 시 실행합니다.
+ * (켜 둔 채로 두면 모든 서버가 재시작마다 problem_attempts 전체를 다시 조회함)
+ *
+ * 테이블 전체를 한 트랜잭션으로 처리하지 않도록 풀이 기록 기본 키 범위(chunk-size) 단위로 나누어 커밋합니다.
+ */
+@Slf4j
+@Service
+public class LatestAttemptReconciliationService {
+
+    private final ProblemAttemptRepository problemAttemptRepository;
+    private final LatestProblemAttemptRepository latestProblemAttemptRepository;
+    private final UserRepository userRepository;
+    private final ProblemRepository problemRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final boolean reconcileOnStartup;
+
+    public LatestAttemptReconciliationService(ProblemAttemptRepository problemAttemptRepository,
+                                              LatestProblemAttemptRepository latestProblemAttemptRepository,
+                                              UserRepository userRepository,
+                                              ProblemRepository problemRepository,
+                                              PlatformTransactionManager transactionManager,
+                                              @Value("${problem.latest-attempt.reconcile-chunk-size:1000}") int chunkSize,
+                                              @Value("${problem.latest-attempt.reconcile-on-startup:false}") boolean reconcileOnStartup) {
+        this.problemAttemptRepository = problemAttemptRepository;
+        this.latestProblemAttemptRepository = latestProblemAttemptRepository;
+        this.userRepository = userRepository;
+        this.problemRepository = problemRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.reconcileOnStartup = reconcileOnStartup;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileOnStartup() {
+        if (reconcileOnStartup) {
+            reconcile();
+        }
+    }
+
+    public void reconcile() {
+        long startedNanos = System.nanoTime();
+        long maxAttemptId = problemAttemptRepository.findMaxAttemptId();
+
+        long created = 0;
+        long fromId = 1;
+        while (fromId <= maxAttemptId) {
+            long rangeStart = fromId;
+            long rangeEnd = Math.min(fromId + chunkSize - 1, maxAttemptId);
+            Integer count = transactionTemplate.execute(status -> createMissingPointers(rangeStart, rangeEnd));
+            created += count == null ? 0 : count;
+            fromId = rangeEnd + 1;
+        }
+
+        log.info("최근 풀이 기록 포인터 보정 완료: 신규 {} 개, {} ms",
+                created, (System.nanoTime() - startedNanos) / 1_000_000);
+    }
+
+    private int createMissingPointers(long fromId, long toId) {
+        List<LatestProblemAttempt> pointers = latestProblemAttemptRepository
+                .findLatestAttemptsWithoutPointerInRange(fromId, toId).stream()
+                .map(attempt -> LatestProblemAttempt.builder()
+                        .user(userRepository.getReferenceById(attempt.userId()))
+                        .problem(problemRepository.getReferenceById(attempt.problemId()))
+                        .attemptId(attempt.attemptId())
+                        .isCorrect(attempt.isCorrect())
+                        .attemptedAt(attempt.attemptedAt())
+                        .build())
+                .toList();
+        latestProblemAttemptRepository.saveAll(pointers);
+        return pointers.size();
+    }
+}
@@ -0,0 +1,54 @@
+package com.ebbinghaus.ttopullae.problem.application;
+
+import com.ebbinghaus.ttopullae.problem.domain.ProblemAttempt;
+import com.ebbinghaus.ttopullae.problem.domain.repository.LatestProblemAttemptRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * 사용자별, 문제별 최근 풀이 기록 포인터 갱신
+ * 호출한 서비스의 트랜잭션 안에서 실행되어 풀이 기록 저장과 함께 커밋됩니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class LatestProblemAttemptService {
+
+    private final LatestProblemAttemptRepository latestProblemAttemptRepository;
+
+    /**
+     * 저장된 풀이 기록을 최근 풀이로 반영합니다.
+     *
+     * @param attempt 저장된 풀이 기록 (ID와 생성 시각이 채워진 상태)
+     */
+    public void recordAttempt(ProblemAttempt attempt) {
+        Long userId = attempt.getUser().getUserId();
+        Long problemId = attempt.getProblem().getProblemId();
+
+        int updated = latestProblemAttemptRepository.moveTo(
+                userId,
+                problemId,
+                attempt.getAttemptId(),
+                attempt.getIsCorrect(),
+                attempt.getCreatedAt()
+        );
+
+        // 이 문제의 첫 풀이이거나 포인터 도입 전 데이터: 포인터 행 생성
+        // (동시에 첫 풀이가 저장되어도 충돌하지 않도록 upsert, 이미 더 최근 풀이를 가리키면 그대로 둠)
+        if (updated == 0) {
+            latestProblemAttemptRepository.upsert(
+                    userId,
+                    problemId,
+                    attempt.getAttemptId(),
+                    attempt.getIsCorrect(),
+                    attempt.getCreatedAt()
+            );
+        }
+    }
+
+    /**
+     * 비동기 채점 결과를 반영합니다. (포인터가 해당 풀이 기록을 가리키는 경우만)
+     */
+    public void recordGradingResult(Long attemptId, boolean isCorrect) {
+        latestProblemAttemptRepository.updateCorrectness(attemptId, isCorrect);
+    }
+}
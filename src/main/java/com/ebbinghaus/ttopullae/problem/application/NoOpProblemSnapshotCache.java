@@ -0,0 +1,24 @@
+package com.ebbinghaus.ttopullae.problem.application;
+
+import com.ebbinghaus.ttopullae.problem.application.dto.ProblemSnapshot;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Function;
+
+/**
+ * 캐시하지 않는 문제 스냅샷 캐시 (problem.snapshot-cache.backend=none, 기본값)
+ */
+@Component
+@ConditionalOnProperty(name = "problem.snapshot-cache.backend", havingValue = "none", matchIfMissing = true)
+public class NoOpProblemSnapshotCache implements ProblemSnapshotCache {
+
+    @Override
+    public ProblemSnapshot get(Long problemId, Function<Long, ProblemSnapshot> loader) {
+        return loader.apply(problemId);
+    }
+
+    @Override
+    public void evict(Long problemId) {
+    }
+}
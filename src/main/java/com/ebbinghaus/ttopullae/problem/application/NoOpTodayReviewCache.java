@@ -0,0 +1,29 @@
+package com.ebbinghaus.ttopullae.problem.application;
+
+import com.ebbinghaus.ttopullae.problem.application.dto.TodayReviewResult;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.function.Supplier;
+
+/**
+ * 캐시하지 않는 오늘의 복습 목록 캐시 (review.today-cache.backend=none, 기본값)
+ */
+@Component
+@ConditionalOnProperty(name = "review.today-cache.backend", havingValue = "none", matchIfMissing = true)
+public class NoOpTodayReviewCache implements TodayReviewCache {
+
+    @Override
+    public TodayReviewResult get(Long userId, LocalDate date, String filter, Supplier<TodayReviewResult> loader) {
+        return loader.get();
+    }
+
+    @Override
+    public void evictUser(Long userId) {
+    }
+
+    @Override
+    public void evictAll() {
+    }
+}
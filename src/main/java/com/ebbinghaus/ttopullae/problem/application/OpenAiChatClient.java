@@ -0,0 +1,254 @@
+package com.ebbinghaus.ttopullae.problem.application;
+
+import com.ebbinghaus.ttopullae.global.config.OpenAiClientProperties;
+import com.ebbinghaus.ttopullae.global.exception.ApplicationException;
+import com.ebbinghaus.ttopullae.global.util.CircuitBreaker;
+import com.ebbinghaus.ttopullae.problem.exception.ProblemException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.net.ConnectException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+import reactor.util.retry.Retry;
+
+/**
+ * OpenAI Chat Completions 호출 클라이언트
+ *
+ * 외부 API 장애가 서버 전체로 번지지 않도록 다음 보호 장치를 적용한다
+ * - 동시 호출 수 제한: 허용량을 기다리다 시간이 초과되면 즉시 실패
+ * - 호출 마감 시간: 재시도를 포함한 전체 호출 시간을 제한
+ * - 재시도: 요청이 처리되지 않았음이 확실한 실패(연결 실패, 429, 503)만 지터를 둔 지수 백오프로 재시도
+ * - 서킷 브레이커: 연속 실패 시 일정 시간 동안 호출 없이 즉시 실패
+ *
+ * 스트리밍 호출은 응답이 끝날 때까지 동시 호출 허용량을 점유하며, 토큰 사이의 최대 대기 시간(response-timeout)과
+ * 스트림 전체의 마감 시간(stream-deadline)을 함께 적용한다
+ * 구독 스레드(Netty, SSE 스레드)를 막지 않도록 허용량을 기다리지 않고, 남은 허용량이 없으면 즉시 거절한다
+ */
+@Component
+public class OpenAiChatClient {
+
+  private static final Logger log = LoggerFactory.getLogger(OpenAiChatClient.class);
+
+  private final WebClient webClient;
+  private final OpenAiClientProperties properties;
+  private final Semaphore permits;
+  private final AtomicInteger waitingCalls = new AtomicInteger();
+  private final CircuitBreaker circuitBreaker;
+  private final MeterRegistry meterRegistry;
+  private final Counter rejectedCounter;
+
+  private static final String STREAM_DONE = "[DONE]";
+  private static final ParameterizedTypeReference<ServerSentEvent<String>> SSE_TYPE =
+      new ParameterizedTypeReference<>() {
+      };
+
+  public OpenAiChatClient(WebClient openAiWebClient, OpenAiClientProperties properties,
+      MeterRegistry meterRegistry) {
+    this.webClient = openAiWebClient;
+    this.properties = properties;
+    this.permits = new Semaphore(properties.maxConcurrentCalls(), true);
+    this.circuitBreaker = new CircuitBreaker(properties.failureThreshold(), properties.openDuration());
+    this.meterRegistry = meterRegistry;
+
+    this.rejectedCounter = Counter.builder("openai.request.rejected")
+        .description("서킷 브레이커 또는 동시 호출 제한으로 거절된 호출 수")
+        .register(meterRegistry);
+    Gauge.builder("openai.request.queue.depth", waitingCalls, AtomicInteger::get)
+        .description("동시 호출 허용량을 기다리는 호출 수")
+        .register(meterRegistry);
+    Gauge.builder("openai.request.in.flight", permits,
+            p -> properties.maxConcurrentCalls() - p.availablePermits())
+        .description("진행 중인 호출 수")
+        .register(meterRegistry);
+    Gauge.builder("openai.circuit.open", circuitBreaker,
+            cb -> cb.state() == CircuitBreaker.State.OPEN ? 1 : 0)
+        .description("서킷 브레이커 열림 여부 (1: 열림)")
+        .register(meterRegistry);
+  }
+
+  /**
+   * Chat Completions API를 호출하고 응답 본문을 반환한다
+   *
+   * @throws ApplicationException 서킷이 열려 있거나 동시 호출 허용량을 얻지 못한 경우
+   */
+  public String post(String apiUrl, String apiKey, Object requestBody) {
+    CircuitBreaker.Permission permission = circuitBreaker.tryAcquirePermission();
+    if (permission == null) {
+      rejectedCounter.increment();
+      throw new ApplicationException(ProblemException.AI_GRADING_UNAVAILABLE);
+    }
+
+    try {
+      acquirePermit();
+    } catch (RuntimeException e) {
+      permission.release();
+      throw e;
+    }
+    Timer.Sample sample = Timer.start(meterRegistry);
+    String outcome = "success";
+    try {
+      String response = webClient.post()
+          .uri(apiUrl)
+          .header(HttpHeaders.AUTHORIZATION, "Bearer " + apiKey)
+          .contentType(MediaType.APPLICATION_JSON)
+          .bodyValue(requestBody)
+          .retrieve()
+          .bodyToMono(String.class)
+          .retryWhen(Retry.backoff(properties.maxRetries(), properties.retryBackoff())
+              .jitter(0.5)
+              .filter(OpenAiChatClient::isRetryable)
+              .onRetryExhaustedThrow((spec, signal) -> signal.failure()))
+          .timeout(properties.callDeadline())
+          .block();
+
+      permission.onSuccess();
+      return response;
+    } catch (RuntimeException e) {
+      outcome = "failure";
+      if (isUpstreamFailure(e)) {
+        permission.onFailure();
+      }
+      throw e;
+    } finally {
+      // 성공/실패로 집계되지 않은 호출(요청 자체의 오류)의 허용 반납
+      permission.release();
+      permits.release();
+      sample.stop(meterRegistry.timer("openai.request.latency", "outcome", outcome));
+    }
+  }
+
+  /**
+   * Chat Completions API를 스트리밍 모드로 호출하고, 응답 이벤트의 data 본문을 순서대로 방출한다
+   * 요청 바디에는 "stream": true가 포함되어 있어야 하며, 종료 이벤트([DONE])는 방출하지 않는다
+   *
+   * 구독 시점에 서킷 상태와 동시 호출 허용량을 확인하며, 거절 시 ApplicationException으로 종료된다
+   * (허용량을 기다리지 않으므로 구독 스레드가 막히지 않음)
+   */
+  public Flux<String> stream(String apiUrl, String apiKey, Object requestBody) {
+    return Flux.defer(() -> {
+      CircuitBreaker.Permission permission = circuitBreaker.tryAcquirePermission();
+      if (permission == null) {
+        rejectedCounter.increment();
+        return Flux.error(new ApplicationException(ProblemException.AI_GRADING_UNAVAILABLE));
+      }
+
+      if (!permits.tryAcquire()) {
+        permission.release();
+        rejectedCounter.increment();
+        log.warn("OpenAI 동시 호출 허용량 초과로 스트리밍 요청을 거절합니다.");
+        return Flux.error(new ApplicationException(ProblemException.AI_GRADING_UNAVAILABLE));
+      }
+      long deadlineNanos = System.nanoTime() + properties.streamDeadline().toNanos();
+      Timer.Sample sample = Timer.start(meterRegistry);
+      return webClient.post()
+          .uri(apiUrl)
+          .header(HttpHeaders.AUTHORIZATION, "Bearer " + apiKey)
+          .contentType(MediaType.APPLICATION_JSON)
+          .accept(MediaType.TEXT_EVENT_STREAM)
+          .bodyValue(requestBody)
+          .retrieve()
+          .bodyToFlux(SSE_TYPE)
+          // 첫 이벤트 수신 전의 실패만 재시도 대상이므로 중복 방출이 발생하지 않는다
+          .retryWhen(Retry.backoff(properties.maxRetries(), properties.retryBackoff())
+              .jitter(0.5)
+              .filter(OpenAiChatClient::isRetryable)
+              .onRetryExhaustedThrow((spec, signal) -> signal.failure()))
+          // 다음 이벤트까지의 대기 시간을 response-timeout과 전체 마감까지 남은 시간 중 짧은 값으로 제한
+          .timeout(nextEventTimeout(deadlineNanos), event -> nextEventTimeout(deadlineNanos))
+          .mapNotNull(ServerSentEvent::data)
+          .takeWhile(data -> !STREAM_DONE.equals(data.strip()))
+          .doOnComplete(permission::onSuccess)
+          .doOnError(e -> {
+            if (isUpstreamFailure(e)) {
+              permission.onFailure();
+            }
+          })
+          .doFinally(signal -> {
+            permission.release();
+            permits.release();
+            sample.stop(meterRegistry.timer("openai.request.latency", "outcome", streamOutcome(signal)));
+          });
+    });
+  }
+
+  public CircuitBreaker.State circuitState() {
+    return circuitBreaker.state();
+  }
+
+  private Mono<Long> nextEventTimeout(long deadlineNanos) {
+    long remainingNanos = Math.max(0, deadlineNanos - System.nanoTime());
+    return Mono.delay(Duration.ofNanos(Math.min(properties.responseTimeout().toNanos(), remainingNanos)));
+  }
+
+  private static String streamOutcome(SignalType signal) {
+    return switch (signal) {
+      case ON_COMPLETE -> "success";
+      case CANCEL -> "cancelled";
+      default -> "failure";
+    };
+  }
+
+  private void acquirePermit() {
+    waitingCalls.incrementAndGet();
+    try {
+      boolean acquired = permits.tryAcquire(properties.acquireTimeout().toMillis(), TimeUnit.MILLISECONDS);
+      if (!acquired) {
+        rejectedCounter.increment();
+        log.warn("OpenAI 동시 호출 허용량 초과로 요청을 거절합니다.");
+        throw new ApplicationException(ProblemException.AI_GRADING_UNAVAILABLE);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new ApplicationException(ProblemException.AI_GRADING_UNAVAILABLE);
+    } finally {
+      waitingCalls.decrementAndGet();
+    }
+  }
+
+  /**
+   * 요청이 처리되지 않았음이 확실한 실패만 재시도한다
+   * - 연결 실패: 요청이 서버에 도달하지 않음
+   * - 429 Too Many Requests, 503 Service Unavailable: 서버가 요청을 처리하지 않고 거절함
+   */
+  static boolean isRetryable(Throwable throwable) {
+    if (throwable instanceof WebClientResponseException responseException) {
+      int status = responseException.getStatusCode().value();
+      return status == HttpStatus.TOO_MANY_REQUESTS.value()
+          || status == HttpStatus.SERVICE_UNAVAILABLE.value();
+    }
+    if (throwable instanceof WebClientRequestException requestException) {
+      return requestException.getCause() instanceof ConnectException;
+    }
+    return false;
+  }
+
+  /**
+   * 서킷 브레이커 실패로 집계할 예외인지 판단한다
+   * 요청 자체의 문제(429를 제외한 4xx)는 외부 API 장애가 아니므로 제외한다
+   */
+  private static boolean isUpstreamFailure(Throwable throwable) {
+    if (throwable instanceof WebClientResponseException responseException) {
+      return responseException.getStatusCode().is5xxServerError()
+          || responseException.getStatusCode().value() == HttpStatus.TOO_MANY_REQUESTS.value();
+    }
+    return true;
+  }
+}
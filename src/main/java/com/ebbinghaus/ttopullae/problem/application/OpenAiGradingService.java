@@ -3,18 +3,22 @@ package com.ebbinghaus.ttopullae.problem.application;
 import com.ebbinghaus.ttopullae.global.exception.ApplicationException;
 import com.ebbinghaus.ttopullae.global.exception.CommonException;
 import com.ebbinghaus.ttopullae.global.util.PromptLoader;
+import com.ebbinghaus.ttopullae.global.util.PromptTemplate;
 import com.ebbinghaus.ttopullae.problem.application.dto.AiGradingRequest;
 import com.ebbinghaus.ttopullae.problem.application.dto.AiGradingResult;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
 
 /**
  * OpenAI API를 사용한 AI 채점 서비스 구현체
@@ -24,9 +28,13 @@ import org.springframework.web.reactive.function.client.WebClient;
 public class OpenAiGradingService implements AiGradingService {
 
   private static final Logger log = LoggerFactory.getLogger(OpenAiGradingService.class);
+  private static final String GRADING_PROMPT_PATH = "classpath:prompts/grading_system_prompt.txt";
+  private static final String BATCH_GRADING_PROMPT_PATH = "classpath:prompts/batch_grading_system_prompt.txt";
+  private static final String GRADING_FAILURE_MESSAGE = "AI 채점 중 오류가 발생했습니다. 잠시 후 다시 시도해주세요.";
 
-  private final WebClient webClient;
-  private final PromptLoader promptLoader;
+  private final OpenAiChatClient openAiChatClient;
+  private final PromptTemplate gradingPrompt;
+  private final PromptTemplate batchGradingPrompt;
   private final ObjectMapper objectMapper;
 
   @Value("${openai.api-key}")
@@ -38,62 +46,182 @@ public class OpenAiGradingService implements AiGradingService {
   @Value("${openai.api-url}")
   private String apiUrl;
 
-  public OpenAiGradingService(WebClient.Builder webClientBuilder, PromptLoader promptLoader,
-      ObjectMapper objectMapper) {
-    this.webClient = webClientBuilder.build();
-    this.promptLoader = promptLoader;
+  @Value("${openai.batch-size:20}")
+  private int batchSize;
+
+  public OpenAiGradingService(OpenAiChatClient openAiChatClient, PromptLoader promptLoader,
+      ObjectMapper objectMapper) throws IOException {
+    this.openAiChatClient = openAiChatClient;
+    // 프롬프트는 기동 시 1회만 로드/컴파일 (요청마다 파일을 읽지 않음)
+    this.gradingPrompt = promptLoader.getTemplate(GRADING_PROMPT_PATH);
+    this.batchGradingPrompt = promptLoader.getTemplate(BATCH_GRADING_PROMPT_PATH);
     this.objectMapper = objectMapper;
   }
 
   @Override
   public AiGradingResult gradeSubjectiveAnswer(AiGradingRequest request) {
     try {
-      // 1. 프롬프트 템플릿 로드 및 변수 치환
-      String promptTemplate = promptLoader.loadPromptTemplate(
-          "classpath:prompts/grading_system_prompt.txt");
-      String filledPrompt = promptLoader.fillTemplate(promptTemplate, Map.of(
-          "TOPIC", request.topic(),
-          "QUESTION", request.question(),
-          "MODEL_ANSWER", request.modelAnswer(),
-          "KEYWORDS_LIST", String.join(", ", request.keywords()),
-          "USER_ANSWER", request.userAnswer()
-      ));
-
-      // 2. OpenAI API 요청 바디 구성
-      Map<String, Object> requestBody = Map.of(
-          "model", model,
-          "messages", List.of(
-              Map.of("role", "user", "content", filledPrompt)
-          ),
-          "response_format", Map.of("type", "json_object")
-      );
-
-      // 3. OpenAI API 호출
-      String response = webClient.post()
-          .uri(apiUrl)
-          .header("Authorization", "Bearer " + apiKey)
-          .header("Content-Type", "application/json")
-          .bodyValue(requestBody)
-          .retrieve()
-          .bodyToMono(String.class)
-          .block();
-
-      // 4. 응답 파싱
+      // 1. 컴파일된 프롬프트 템플릿에 변수 바인딩
+      String filledPrompt = renderGradingPrompt(request);
+
+      // 2. OpenAI API 호출 (타임아웃, 동시 호출 제한, 재시도, 서킷 브레이커 적용)
+      String response = openAiChatClient.post(apiUrl, apiKey, buildRequestBody(filledPrompt));
+
+      // 3. 응답 파싱
       return parseAiResponse(response);
 
-    } catch (IOException e) {
-      log.error("프롬프트 파일 로드 실패", e);
-      return createFailureResult("프롬프트 파일을 읽는 중 오류가 발생했습니다.");
     } catch (Exception e) {
       log.error("AI 채점 실패", e);
-      return createFailureResult("AI 채점 중 오류가 발생했습니다. 잠시 후 다시 시도해주세요.");
+      return createFailureResult(GRADING_FAILURE_MESSAGE);
     }
   }
 
+  /**
+   * 단건 채점과 같은 프롬프트로 채점 결과 JSON을 생성되는 대로 스트리밍한다
+   *
+   * @param request 채점 요청
+   * @return 모델이 생성한 응답 본문 조각 (순서대로 이어 붙이면 채점 결과 JSON)
+   */
+  public Flux<String> streamGradingContent(AiGradingRequest request) {
+    Map<String, Object> requestBody = new LinkedHashMap<>(buildRequestBody(renderGradingPrompt(request)));
+    requestBody.put("stream", true);
+
+    return openAiChatClient.stream(apiUrl, apiKey, requestBody)
+        .handle((chunk, sink) -> {
+          try {
+            String delta = extractDelta(chunk);
+            if (!delta.isEmpty()) {
+              sink.next(delta);
+            }
+          } catch (IOException e) {
+            sink.error(e);
+          }
+        });
+  }
+
+  /**
+   * 스트리밍으로 수신한 채점 결과 JSON을 AiGradingResult로 변환한다
+   * 형식이 잘못된 경우 단건 채점과 동일하게 시스템 오류 결과를 반환한다
+   */
+  public AiGradingResult parseGradingContent(String content) {
+    try {
+      return toGradingResult(objectMapper.readTree(content));
+    } catch (Exception e) {
+      log.error("AI 스트리밍 채점 결과 파싱 실패", e);
+      return createFailureResult(GRADING_FAILURE_MESSAGE);
+    }
+  }
+
+  /**
+   * 여러 답안을 batch-size 단위로 묶어 한 번의 요청으로 채점한다
+   * 응답에서 누락되었거나 형식이 잘못된 항목만 개별 채점으로 다시 요청한다
+   */
+  @Override
+  public List<AiGradingResult> gradeSubjectiveAnswers(List<AiGradingRequest> requests) {
+    if (requests.size() <= 1) {
+      return requests.stream()
+          .map(this::gradeSubjectiveAnswer)
+          .toList();
+    }
+
+    List<AiGradingResult> results = new ArrayList<>(requests.size());
+    for (int from = 0; from < requests.size(); from += batchSize) {
+      int to = Math.min(from + batchSize, requests.size());
+      results.addAll(gradeBatch(requests.subList(from, to)));
+    }
+    return results;
+  }
+
+  private List<AiGradingResult> gradeBatch(List<AiGradingRequest> batch) {
+    Map<Integer, AiGradingResult> gradedById;
+    try {
+      String filledPrompt = batchGradingPrompt.render(Map.of("ITEMS_JSON", toItemsJson(batch)));
+      String response = openAiChatClient.post(apiUrl, apiKey, buildRequestBody(filledPrompt));
+      gradedById = parseBatchResponse(response);
+    } catch (Exception e) {
+      log.error("AI 일괄 채점 실패 (항목 수: {})", batch.size(), e);
+      return batch.stream()
+          .map(request -> createFailureResult(GRADING_FAILURE_MESSAGE))
+          .toList();
+    }
+
+    List<AiGradingResult> results = new ArrayList<>(batch.size());
+    for (int id = 0; id < batch.size(); id++) {
+      AiGradingResult result = gradedById.get(id);
+      if (result == null) {
+        log.warn("AI 일괄 채점 응답에 항목 누락 (id: {}), 개별 채점으로 재요청", id);
+        result = gradeSubjectiveAnswer(batch.get(id));
+      }
+      results.add(result);
+    }
+    return results;
+  }
+
+  /**
+   * 일괄 채점 프롬프트에 삽입할 항목 목록 JSON 생성 (id = 묶음 내 순번)
+   */
+  private String toItemsJson(List<AiGradingRequest> batch) throws Exception {
+    List<Map<String, Object>> items = new ArrayList<>(batch.size());
+    for (int id = 0; id < batch.size(); id++) {
+      AiGradingRequest request = batch.get(id);
+      Map<String, Object> item = new LinkedHashMap<>();
+      item.put("id", id);
+      item.put("topic", request.topic());
+      item.put("question", request.question());
+      item.put("modelAnswer", request.modelAnswer());
+      item.put("keywords", request.keywords());
+      item.put("userAnswer", request.userAnswer());
+      items.add(item);
+    }
+    return objectMapper.writeValueAsString(items);
+  }
+
+  private String renderGradingPrompt(AiGradingRequest request) {
+    return gradingPrompt.render(Map.of(
+        "TOPIC", request.topic(),
+        "QUESTION", request.question(),
+        "MODEL_ANSWER", request.modelAnswer(),
+        "KEYWORDS_LIST", String.join(", ", request.keywords()),
+        "USER_ANSWER", request.userAnswer()
+    ));
+  }
+
+  private Map<String, Object> buildRequestBody(String filledPrompt) {
+    return Map.of(
+        "model", model,
+        "messages", List.of(
+            Map.of("role", "user", "content", filledPrompt)
+        ),
+        "response_format", Map.of("type", "json_object")
+    );
+  }
+
   /**
    * OpenAI API 응답을 파싱하여 AiGradingResult로 변환
    */
   private AiGradingResult parseAiResponse(String response) throws Exception {
+    return toGradingResult(objectMapper.readTree(extractContent(response)));
+  }
+
+  /**
+   * 일괄 채점 응답을 항목 id별 AiGradingResult로 변환
+   * 형식이 잘못된 항목은 건너뛰어 나머지 항목의 결과는 그대로 사용한다
+   */
+  private Map<Integer, AiGradingResult> parseBatchResponse(String response) throws Exception {
+    JsonNode results = objectMapper.readTree(extractContent(response)).path("results");
+
+    Map<Integer, AiGradingResult> gradedById = new HashMap<>();
+    for (JsonNode item : results) {
+      try {
+        gradedById.putIfAbsent(item.get("id").asInt(), toGradingResult(item));
+      } catch (RuntimeException e) {
+        log.warn("AI 일괄 채점 결과 항목 파싱 실패: {}", item);
+      }
+    }
+    return gradedById;
+  }
+
+  private String extractContent(String response) throws Exception {
     JsonNode root = objectMapper.readTree(response);
     JsonNode choices = root.get("choices");
 
@@ -101,9 +229,18 @@ public class OpenAiGradingService implements AiGradingService {
       throw new ApplicationException(CommonException.INTERNAL_SERVER_ERROR);
     }
 
-    String content = choices.get(0).get("message").get("content").asText();
-    JsonNode gradingResult = objectMapper.readTree(content);
+    return choices.get(0).get("message").get("content").asText();
+  }
+
+  /**
+   * 스트리밍 응답 이벤트에서 새로 생성된 본문 조각 추출 (choices[0].delta.content)
+   */
+  private String extractDelta(String chunk) throws IOException {
+    JsonNode content = objectMapper.readTree(chunk).path("choices").path(0).path("delta").path("content");
+    return content.isTextual() ? content.asText() : "";
+  }
 
+  private AiGradingResult toGradingResult(JsonNode gradingResult) {
     return new AiGradingResult(
         gradingResult.get("isCorrect").asBoolean(),
         gradingResult.get("feedback").asText(),
@@ -121,7 +258,7 @@ public class OpenAiGradingService implements AiGradingService {
         false,
         errorMessage,
         List.of(),
-        "시스템 오류로 인해 채점을 완료할 수 없습니다."
+        AiGradingResult.SYSTEM_FAILURE_REASON
     );
   }
 }
@@ -0,0 +1,97 @@
+package com.ebbinghaus.ttopullae.problem.application;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.util.List;
+
+/**
+ * 문제 관련 테이블의 시퀀스 테이블 초기값 보정
+ *
+ * MySQL에서는 Hibernate가 시퀀스를 테이블(next_val 1행)로 대신하며, 기존 데이터가 있는 DB에서
+ * ddl-auto가 시퀀스 테이블을 새로 만들면 next_val이 1부터 시작해 기존 ID와 충돌합니다.
+ * (docs/design/id-generation-migration.md의 전환 SQL을 실행하지 않은 경우)
+ *
+ * 서버 기동 중(요청을 받기 전) next_val이 기존 최대 ID 이후의 구간을 할당하지 못하는 값이면
+ * 최대 ID + 할당 크기 + 1로 올립니다. 값은 올리기만 하므로 여러 서버가 동시에 기동해도 안전합니다.
+ * 시퀀스 테이블이 없는 DB(H2 등 시퀀스를 지원하는 DB)는 건너뜁니다.
+ */
+@Slf4j
+@Component
+public class ProblemIdSequenceInitializer implements InitializingBean {
+
+    /**
+     * 엔티티의 @SequenceGenerator allocationSize와 같아야 함
+     */
+    private static final int ALLOCATION_SIZE = 50;
+
+    private static final List<SequenceTable> SEQUENCE_TABLES = List.of(
+            new SequenceTable("problems_seq", "problems", "problem_id"),
+            new SequenceTable("problem_choices_seq", "problem_choices", "choice_id"),
+            new SequenceTable("problem_keywords_seq", "problem_keywords", "keyword_id"),
+            new SequenceTable("problem_review_states_seq", "problem_review_states", "state_id")
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * EntityManagerFactory를 주입받아 ddl-auto로 시퀀스 테이블이 생성된 뒤에 실행되도록 합니다.
+     */
+    public ProblemIdSequenceInitializer(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        for (SequenceTable sequenceTable : SEQUENCE_TABLES) {
+            if (tableExists(sequenceTable.name())) {
+                seed(sequenceTable);
+            }
+        }
+    }
+
+    private void seed(SequenceTable sequenceTable) {
+        long maxId = jdbcTemplate.queryForObject(
+                "SELECT COALESCE(MAX(" + sequenceTable.idColumn() + "), 0) FROM " + sequenceTable.targetTable(), Long.class);
+        long required = maxId + ALLOCATION_SIZE + 1;
+
+        List<Long> nextValues = jdbcTemplate.queryForList("SELECT next_val FROM " + sequenceTable.name(), Long.class);
+        if (nextValues.isEmpty()) {
+            jdbcTemplate.update("INSERT INTO " + sequenceTable.name() + " (next_val) VALUES (?)", required);
+            log.warn("시퀀스 테이블 초기값 생성: {} next_val={} (max {}={})",
+                    sequenceTable.name(), required, sequenceTable.idColumn(), maxId);
+            return;
+        }
+
+        // pooled 최적화기는 next_val - allocationSize + 1부터 할당하므로, 그 값이 최대 ID 이하이면 충돌
+        long nextValue = nextValues.get(0);
+        if (nextValue - ALLOCATION_SIZE + 1 > maxId) {
+            return;
+        }
+        int updated = jdbcTemplate.update(
+                "UPDATE " + sequenceTable.name() + " SET next_val = ? WHERE next_val < ?", required, required);
+        if (updated > 0) {
+            log.warn("시퀀스 테이블 초기값 보정: {} next_val {} -> {} (max {}={})",
+                    sequenceTable.name(), nextValue, required, sequenceTable.idColumn(), maxId);
+        }
+    }
+
+    private boolean tableExists(String tableName) {
+        Boolean exists = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            try (ResultSet tables = metaData.getTables(connection.getCatalog(), null, tableName, new String[]{"TABLE"})) {
+                return tables.next();
+            }
+        });
+        return Boolean.TRUE.equals(exists);
+    }
+
+    private record SequenceTable(String name, String targetTable, String idColumn) {
+    }
+}
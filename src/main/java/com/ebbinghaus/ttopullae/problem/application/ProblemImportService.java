@@ -0,0 +1,371 @@
+package com.ebbinghaus.ttopullae.problem.application;
+
+import com.ebbinghaus.ttopullae.global.exception.ApplicationException;
+import com.ebbinghaus.ttopullae.problem.application.dto.ProblemCreateCommand;
+import com.ebbinghaus.ttopullae.problem.application.dto.ProblemImportCommand;
+import com.ebbinghaus.ttopullae.problem.application.dto.ProblemImportFormat;
+import com.ebbinghaus.ttopullae.problem.application.dto.ProblemImportResult;
+import com.ebbinghaus.ttopullae.problem.domain.ProblemType;
+import com.ebbinghaus.ttopullae.problem.exception.ProblemException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 문제 일괄 가져오기
+ *
+ * 업로드 파일을 한 줄씩 읽어 파싱과 검증을 수행하고, 검증을 통과한 문제를 chunk-size개씩 모아
+ * {@link ProblemService#createProblems}로 등록합니다. (묶음마다 별도 트랜잭션으로 커밋)
+ * 파일 전체를 메모리에 올리지 않으므로 파일 크기와 관계없이 묶음 1개 분량만 유지합니다.
+ * 검증에 실패한 줄은 건너뛰고 줄 번호와 사유를 결과에 담습니다.
+ */
+@Slf4j
+@Service
+public class ProblemImportService {
+
+    private static final String BYTE_ORDER_MARK = "\uFEFF";
+    private static final String CSV_LIST_DELIMITER = "\\|";
+    private static final List<String> REQUIRED_CSV_COLUMNS = List.of("problemType", "question", "explanation");
+    private static final String SAVE_FAILURE_MESSAGE = "문제를 저장하는 중 오류가 발생했습니다.";
+
+    private final ProblemService problemService;
+    private final ObjectMapper objectMapper;
+    private final int chunkSize;
+
+    public ProblemImportService(ProblemService problemService,
+                                ObjectMapper objectMapper,
+                                @Value("${problem.import.chunk-size:500}") int chunkSize) {
+        this.problemService = problemService;
+        this.objectMapper = objectMapper;
+        this.chunkSize = chunkSize;
+    }
+
+    public ProblemImportResult importProblems(ProblemImportCommand command) {
+        // 파일을 읽기 전에 권한을 검증하여 권한이 없으면 줄별 결과 대신 오류 응답
+        problemService.validateProblemImport(command.userId(), command.studyRoomId());
+
+        long startedNanos = System.nanoTime();
+        ImportRun run = new ImportRun(command.userId(), command.studyRoomId());
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(command.content(), StandardCharsets.UTF_8))) {
+            readLines(reader, command.format(), run);
+        } catch (IOException e) {
+            throw new ApplicationException(ProblemException.IMPORT_FILE_UNREADABLE);
+        }
+
+        run.errors.sort(Comparator.comparingLong(ProblemImportResult.LineError::lineNumber));
+        log.info("문제 가져오기 완료: 스터디룸 {}, 전체 {} 건, 등록 {} 건, 실패 {} 건 ({} ms)",
+                command.studyRoomId(), run.totalCount, run.importedCount, run.errors.size(),
+                Duration.ofNanos(System.nanoTime() - startedNanos).toMillis());
+        return new ProblemImportResult(run.totalCount, run.importedCount, List.copyOf(run.errors));
+    }
+
+    private void readLines(BufferedReader reader, ProblemImportFormat format, ImportRun run) throws IOException {
+        long lineNumber = 0;
+        Map<String, Integer> csvColumns = null;
+        if (format == ProblemImportFormat.CSV) {
+            csvColumns = parseCsvHeader(reader.readLine());
+            lineNumber++;
+        }
+
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (lineNumber == 1) {
+                line = stripByteOrderMark(line);
+            }
+            if (line.isBlank()) {
+                continue;
+            }
+
+            run.totalCount++;
+            try {
+                ImportLine importLine = format == ProblemImportFormat.JSONL
+                        ? parseJsonLine(line)
+                        : parseCsvLine(line, csvColumns);
+                ProblemCreateCommand createCommand = toCreateCommand(importLine, run);
+                problemService.validateProblemData(createCommand);
+                run.pending.add(new PendingLine(lineNumber, createCommand));
+            } catch (InvalidLineException | ApplicationException e) {
+                run.errors.add(new ProblemImportResult.LineError(lineNumber, e.getMessage()));
+            }
+
+            if (run.pending.size() >= chunkSize) {
+                flush(run);
+            }
+        }
+        flush(run);
+    }
+
+    /**
+     * 대기 중인 문제를 한 트랜잭션으로 등록
+     * 저장에 실패하면 해당 묶음만 롤백되고, 묶음의 모든 줄을 실패로 기록한 뒤 다음 줄부터 계속 진행합니다.
+     * (가져오는 도중 권한이 회수되는 등 검증에 실패한 경우도 이전 묶음의 결과를 유지하도록 같은 방식으로 기록)
+     */
+    private void flush(ImportRun run) {
+        if (run.pending.isEmpty()) {
+            return;
+        }
+
+        List<ProblemCreateCommand> commands = run.pending.stream()
+                .map(PendingLine::command)
+                .toList();
+        try {
+            run.importedCount += problemService.createProblems(run.userId, run.studyRoomId, commands);
+        } catch (DataAccessException e) {
+            failPending(run, SAVE_FAILURE_MESSAGE, e);
+        } catch (ApplicationException e) {
+            failPending(run, e.getMessage(), e);
+        }
+        run.pending.clear();
+    }
+
+    private void failPending(ImportRun run, String message, RuntimeException cause) {
+        log.warn("문제 가져오기 묶음 저장 실패: 줄 {} ~ {}",
+                run.pending.get(0).lineNumber(), run.pending.get(run.pending.size() - 1).lineNumber(), cause);
+        run.pending.forEach(pending ->
+                run.errors.add(new ProblemImportResult.LineError(pending.lineNumber(), message)));
+    }
+
+    private ProblemCreateCommand toCreateCommand(ImportLine line, ImportRun run) {
+        // 단건 생성 요청(ProblemCreateRequest)의 필수값 검증과 동일
+        if (line.problemType() == null) {
+            throw new InvalidLineException("문제 유형은 필수입니다");
+        }
+        if (line.question() == null || line.question().isBlank()) {
+            throw new InvalidLineException("문제 내용은 필수입니다");
+        }
+        if (line.explanation() == null || line.explanation().isBlank()) {
+            throw new InvalidLineException("해설은 필수입니다");
+        }
+
+        return new ProblemCreateCommand(
+                run.userId,
+                run.studyRoomId,
+                line.problemType(),
+                line.question(),
+                line.explanation(),
+                line.choices(),
+                line.correctChoiceIndex(),
+                line.answerBoolean(),
+                line.answerText(),
+                line.modelAnswerText(),
+                line.keywords()
+        );
+    }
+
+    private ImportLine parseJsonLine(String line) {
+        ImportLine importLine;
+        try {
+            importLine = objectMapper.readValue(line, ImportLine.class);
+        } catch (JsonProcessingException e) {
+            throw new InvalidLineException("JSON 형식이 올바르지 않거나 필드 값의 타입이 맞지 않습니다.");
+        }
+        // 줄 내용이 JSON null이면 예외 없이 null로 읽힘
+        if (importLine == null) {
+            throw new InvalidLineException("문제 데이터는 JSON 객체여야 합니다.");
+        }
+        return importLine;
+    }
+
+    private Map<String, Integer> parseCsvHeader(String headerLine) {
+        if (headerLine == null) {
+            throw new ApplicationException(ProblemException.INVALID_IMPORT_HEADER);
+        }
+
+        List<String> names;
+        try {
+            names = splitCsvLine(stripByteOrderMark(headerLine));
+        } catch (InvalidLineException e) {
+            throw new ApplicationException(ProblemException.INVALID_IMPORT_HEADER);
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < names.size(); i++) {
+            columns.put(names.get(i).trim(), i);
+        }
+        if (!columns.keySet().containsAll(REQUIRED_CSV_COLUMNS)) {
+            throw new ApplicationException(ProblemException.INVALID_IMPORT_HEADER);
+        }
+        return columns;
+    }
+
+    private ImportLine parseCsvLine(String line, Map<String, Integer> columns) {
+        List<String> values = splitCsvLine(line);
+        CsvRow row = new CsvRow(columns, values);
+        return new ImportLine(
+                row.problemType("problemType"),
+                row.text("question"),
+                row.text("explanation"),
+                row.list("choices"),
+                row.integer("correctChoiceIndex"),
+                row.bool("answerBoolean"),
+                row.text("answerText"),
+                row.text("modelAnswerText"),
+                row.list("keywords")
+        );
+    }
+
+    /**
+     * CSV 한 줄을 값 목록으로 분리
+     * 쉼표가 포함된 값은 큰따옴표로 감싸고, 값 안의 큰따옴표는 두 번 연속("")으로 표기합니다.
+     * 한 줄에 문제 1개이므로 값 안의 줄바꿈은 지원하지 않습니다.
+     */
+    private static List<String> splitCsvLine(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        if (quoted) {
+            throw new InvalidLineException("닫히지 않은 큰따옴표가 있습니다. (값 안의 줄바꿈은 지원하지 않습니다)");
+        }
+        values.add(current.toString());
+        return values;
+    }
+
+    private static String stripByteOrderMark(String line) {
+        return line.startsWith(BYTE_ORDER_MARK) ? line.substring(1) : line;
+    }
+
+    /**
+     * 파일 한 줄의 문제 데이터 (JSON Lines는 필드 이름, CSV는 헤더 이름이 같음)
+     */
+    private record ImportLine(
+            ProblemType problemType,
+            String question,
+            String explanation,
+            List<String> choices,
+            Integer correctChoiceIndex,
+            Boolean answerBoolean,
+            String answerText,
+            String modelAnswerText,
+            List<String> keywords
+    ) {
+    }
+
+    private record PendingLine(long lineNumber, ProblemCreateCommand command) {
+    }
+
+    /**
+     * CSV 한 줄의 값을 헤더 이름으로 조회 (빈 값과 없는 컬럼은 null)
+     */
+    private record CsvRow(Map<String, Integer> columns, List<String> values) {
+
+        String text(String column) {
+            Integer index = columns.get(column);
+            if (index == null || index >= values.size() || values.get(index).isBlank()) {
+                return null;
+            }
+            return values.get(index);
+        }
+
+        ProblemType problemType(String column) {
+            String value = text(column);
+            if (value == null) {
+                return null;
+            }
+            try {
+                return ProblemType.valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new InvalidLineException("알 수 없는 문제 유형입니다: " + value.trim());
+            }
+        }
+
+        Integer integer(String column) {
+            String value = text(column);
+            if (value == null) {
+                return null;
+            }
+            try {
+                return Integer.valueOf(value.trim());
+            } catch (NumberFormatException e) {
+                throw new InvalidLineException(column + " 값은 정수여야 합니다: " + value.trim());
+            }
+        }
+
+        Boolean bool(String column) {
+            String value = text(column);
+            if (value == null) {
+                return null;
+            }
+            return switch (value.trim().toLowerCase(Locale.ROOT)) {
+                case "true" -> true;
+                case "false" -> false;
+                default -> throw new InvalidLineException(column + " 값은 true 또는 false여야 합니다: " + value.trim());
+            };
+        }
+
+        List<String> list(String column) {
+            String value = text(column);
+            if (value == null) {
+                return null;
+            }
+            return Arrays.stream(value.split(CSV_LIST_DELIMITER))
+                    .map(String::trim)
+                    .filter(item -> !item.isEmpty())
+                    .toList();
+        }
+    }
+
+    /**
+     * 가져오기 1회의 진행 상태
+     */
+    private static class ImportRun {
+
+        private final Long userId;
+        private final Long studyRoomId;
+        private final List<PendingLine> pending = new ArrayList<>();
+        private final List<ProblemImportResult.LineError> errors = new ArrayList<>();
+        private int totalCount;
+        private int importedCount;
+
+        private ImportRun(Long userId, Long studyRoomId) {
+            this.userId = userId;
+            this.studyRoomId = studyRoomId;
+        }
+    }
+
+    /**
+     * 한 줄의 형식 오류 (해당 줄만 건너뜀)
+     */
+    private static class InvalidLineException extends RuntimeException {
+
+        private InvalidLineException(String message) {
+            super(message);
+        }
+    }
+}
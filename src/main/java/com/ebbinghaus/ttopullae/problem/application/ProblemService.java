@@ -10,38 +10,49 @@ import com.ebbinghaus.ttopullae.problem.domain.repository.ProblemKeywordReposito
 import com.ebbinghaus.ttopullae.problem.domain.repository.ProblemRepository;
 import com.ebbinghaus.ttopullae.problem.domain.repository.ProblemReviewStateRepository;
 import com.ebbinghaus.ttopullae.problem.exception.ProblemException;
+import com.ebbinghaus.ttopullae.studyroom.application.StudyRoomAccessResolver;
 import com.ebbinghaus.ttopullae.studyroom.domain.RoomType;
 import com.ebbinghaus.ttopullae.studyroom.domain.StudyRoom;
 import com.ebbinghaus.ttopullae.studyroom.domain.repository.StudyRoomRepository;
-import com.ebbinghaus.ttopullae.studyroom.domain.repository.StudyRoomMemberRepository;
 import com.ebbinghaus.ttopullae.user.domain.User;
 import com.ebbinghaus.ttopullae.user.domain.repository.UserRepository;
 import com.ebbinghaus.ttopullae.user.exception.UserException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Collections;
 import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
 public class ProblemService {
 
+    private static final String ESSAY_GRADING_FAILURE_FEEDBACK = "AI 채점 중 오류가 발생했습니다. 잠시 후 다시 시도해주세요.";
+
     private final ProblemRepository problemRepository;
     private final ProblemChoiceRepository problemChoiceRepository;
     private final ProblemKeywordRepository problemKeywordRepository;
     private final ProblemReviewStateRepository problemReviewStateRepository;
     private final ProblemAttemptRepository problemAttemptRepository;
     private final StudyRoomRepository studyRoomRepository;
-    private final StudyRoomMemberRepository studyRoomMemberRepository;
     private final UserRepository userRepository;
+    private final StudyRoomAccessResolver studyRoomAccessResolver;
+    private final ProblemSnapshotCache problemSnapshotCache;
     private final AiGradingService aiGradingService;
+    private final EssayPreGrader essayPreGrader;
+    private final ReviewGateCountService reviewGateCountService;
+    private final LatestProblemAttemptService latestProblemAttemptService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${grading.async.enabled:false}")
+    private boolean asyncEssayGradingEnabled;
 
     @Transactional
     public ProblemCreateResult createProblem(ProblemCreateCommand command) {
@@ -49,12 +60,13 @@ public class ProblemService {
         StudyRoom studyRoom = findStudyRoomById(command.studyRoomId());
 
         // 스터디룸 멤버십 검증
-        validateStudyRoomMembership(user, studyRoom);
+        validateStudyRoomAccess(user, studyRoom);
 
         validateProblemData(command);
 
         Problem problem = buildProblem(command, user, studyRoom);
         Problem savedProblem = problemRepository.save(problem);
+        studyRoomRepository.adjustProblemCount(studyRoom.getStudyRoomId(), 1);
 
         saveRelatedEntities(command, savedProblem);
         initializeReviewState(user, savedProblem, studyRoom);
@@ -62,8 +74,61 @@ public class ProblemService {
         return ProblemCreateResult.from(savedProblem);
     }
 
+    /**
+     * 문제 일괄 등록 전 스터디룸 접근 권한을 검증합니다.
+     */
+    @Transactional(readOnly = true)
+    public void validateProblemImport(Long userId, Long studyRoomId) {
+        User user = findUserById(userId);
+        StudyRoom studyRoom = findStudyRoomById(studyRoomId);
+        validateStudyRoomAccess(user, studyRoom);
+    }
+
+    /**
+     * 문제 일괄 등록 (가져오기 파일의 한 묶음)
+     * 사용자, 스터디룸 조회와 멤버십 검증을 묶음마다 한 번만 수행하고,
+     * 문제, 보기, 키워드, 복습 상태를 테이블별로 모아 저장하여 JDBC 배치로 전송합니다.
+     */
+    @Transactional
+    public int createProblems(Long userId, Long studyRoomId, List<ProblemCreateCommand> commands) {
+        User user = findUserById(userId);
+        StudyRoom studyRoom = findStudyRoomById(studyRoomId);
+        validateStudyRoomAccess(user, studyRoom);
+        commands.forEach(this::validateProblemData);
+
+        List<Problem> problems = commands.stream()
+                .map(command -> buildProblem(command, user, studyRoom))
+                .toList();
+        problemRepository.saveAll(problems);
+
+        List<ProblemChoice> choices = new ArrayList<>();
+        List<ProblemKeyword> keywords = new ArrayList<>();
+        for (int i = 0; i < commands.size(); i++) {
+            ProblemCreateCommand command = commands.get(i);
+            Problem problem = problems.get(i);
+            if (command.problemType() == ProblemType.MCQ) {
+                choices.addAll(buildProblemChoices(command.choices(), problem));
+            }
+            if (command.problemType() == ProblemType.SUBJECTIVE) {
+                keywords.addAll(buildProblemKeywords(command.keywords(), problem));
+            }
+        }
+        problemChoiceRepository.saveAll(choices);
+        problemKeywordRepository.saveAll(keywords);
+
+        if (isReviewedByCreator(user, studyRoom)) {
+            problemReviewStateRepository.saveAll(problems.stream()
+                    .map(problem -> buildInitialReviewState(user, problem))
+                    .toList());
+            reviewGateCountService.recordCreatedInBulk(userId, studyRoomId, problems.size());
+        }
+        studyRoomRepository.adjustProblemCount(studyRoomId, problems.size());
+        return problems.size();
+    }
+
     /**
      * 오늘의 복습 문제 목록을 조회합니다.
+     * 지연 스냅샷 모드의 스냅샷은 이 트랜잭션을 시작하기 전에 생성되어 있어야 합니다. ({@link TodayReviewQueryService})
      */
     @Transactional(readOnly = true)
     public TodayReviewResult getTodayReviewProblems(TodayReviewCommand command) {
@@ -76,26 +141,8 @@ public class ProblemService {
         List<ProblemReviewState> reviewStates = problemReviewStateRepository
             .findTodaysReviewProblems(command.userId(), today, targetGate);
 
-        // 오늘의 첫 번째 풀이 기록 조회 (N+1 방지)
-        List<ProblemAttempt> todaysAttempts = Collections.emptyList();
-        if (!reviewStates.isEmpty()) {
-            List<Long> problemIds = reviewStates.stream()
-                .map(rs -> rs.getProblem().getProblemId())
-                .toList();
-
-            LocalDateTime todayStart = LocalDateTime.of(today, LocalTime.MIN);
-            LocalDateTime tomorrowStart = LocalDateTime.of(today.plusDays(1), LocalTime.MIN);
-
-            todaysAttempts = problemAttemptRepository.findTodaysFirstAttemptsByUserAndProblems(
-                command.userId(),
-                problemIds,
-                todayStart,
-                tomorrowStart
-            );
-        }
-
-        // DTO 변환 (대시보드 통계 계산 및 풀이 상태 포함)
-        return TodayReviewResult.of(reviewStates, today, todaysAttempts);
+        // DTO 변환 (대시보드 통계 계산, 풀이 상태는 복습 상태의 첫 시도 기록으로 판단)
+        return TodayReviewResult.of(reviewStates, today);
     }
 
     /**
@@ -105,23 +152,15 @@ public class ProblemService {
     @Transactional(readOnly = true)
     public ProblemDetailResult getProblemDetail(Long userId, Long problemId) {
         User user = findUserById(userId);
-        Problem problem = findProblemById(problemId);
+        ProblemSnapshot problem = findProblemSnapshot(problemId);
 
         // 스터디룸 멤버십 검증
-        validateStudyRoomAccess(user, problem);
-
-        // 객관식 선택지 조회 (정답 제외)
-        List<ProblemChoice> choices = null;
-        if (problem.getProblemType() == ProblemType.MCQ) {
-            choices = problemChoiceRepository.findByProblem(problem);
-        }
+        validateStudyRoomAccess(user, findStudyRoomById(problem.studyRoomId()));
 
         // 사용자의 복습 상태 조회 (없으면 null)
-        ProblemReviewState reviewState = problemReviewStateRepository
-                .findByUserAndProblem(user, problem)
-                .orElse(null);
+        ProblemReviewState reviewState = findReviewState(user, problem).orElse(null);
 
-        return ProblemDetailResult.of(problem, choices, reviewState);
+        return ProblemDetailResult.of(problem, reviewState);
     }
 
     private ReviewGate parseFilterToGate(String filter) {
@@ -143,7 +182,7 @@ public class ProblemService {
                 .orElseThrow(() -> new ApplicationException(ProblemException.STUDYROOM_NOT_FOUND));
     }
 
-    private void validateProblemData(ProblemCreateCommand command) {
+    void validateProblemData(ProblemCreateCommand command) {
         switch (command.problemType()) {
             case MCQ -> validateMcqData(command);
             case OX -> validateOxData(command);
@@ -209,6 +248,10 @@ public class ProblemService {
     }
 
     private void saveProblemChoices(List<String> choices, Problem problem) {
+        problemChoiceRepository.saveAll(buildProblemChoices(choices, problem));
+    }
+
+    private List<ProblemChoice> buildProblemChoices(List<String> choices, Problem problem) {
         List<ProblemChoice> problemChoices = new ArrayList<>();
         for (int i = 0; i < choices.size(); i++) {
             ProblemChoice choice = ProblemChoice.builder()
@@ -218,112 +261,378 @@ public class ProblemService {
                     .build();
             problemChoices.add(choice);
         }
-        problemChoiceRepository.saveAll(problemChoices);
+        return problemChoices;
     }
 
     private void saveProblemKeywords(List<String> keywords, Problem problem) {
-        List<ProblemKeyword> problemKeywords = keywords.stream()
+        problemKeywordRepository.saveAll(buildProblemKeywords(keywords, problem));
+    }
+
+    private List<ProblemKeyword> buildProblemKeywords(List<String> keywords, Problem problem) {
+        return keywords.stream()
                 .map(keyword -> ProblemKeyword.builder()
                         .problem(problem)
                         .keyword(keyword)
                         .build())
                 .toList();
-        problemKeywordRepository.saveAll(problemKeywords);
     }
 
     private void initializeReviewState(User user, Problem problem, StudyRoom studyRoom) {
-        if (studyRoom.getRoomType() == RoomType.PERSONAL ||
-                studyRoom.getOwner().getUserId().equals(user.getUserId())) {
-
-            ProblemReviewState reviewState = ProblemReviewState.builder()
-                    .user(user)
-                    .problem(problem)
-                    .gate(ReviewGate.GATE_1)
-                    .nextReviewDate(LocalDate.now().plusDays(1))
-                    .reviewCount(0)
-                    .includeInReview(true)  // 본인이 만든 문제는 무조건 복습 루프에 포함
-                    .reviewInclusionConfigured(true)  // 본인 문제는 설정 변경 불가
-                    .build();
-
+        if (isReviewedByCreator(user, studyRoom)) {
+            ProblemReviewState reviewState = buildInitialReviewState(user, problem);
             problemReviewStateRepository.save(reviewState);
+            reviewGateCountService.recordCreated(reviewState);
         }
     }
 
+    /**
+     * 개인 스터디룸이거나 그룹 스터디룸 방장이 만든 문제는 생성자의 복습 루프에 바로 포함
+     */
+    private boolean isReviewedByCreator(User user, StudyRoom studyRoom) {
+        return studyRoom.getRoomType() == RoomType.PERSONAL ||
+                studyRoom.getOwner().getUserId().equals(user.getUserId());
+    }
+
+    private ProblemReviewState buildInitialReviewState(User user, Problem problem) {
+        return ProblemReviewState.builder()
+                .user(user)
+                .problem(problem)
+                .gate(ReviewGate.GATE_1)
+                .nextReviewDate(LocalDate.now().plusDays(1))
+                .reviewCount(0)
+                .includeInReview(true)  // 본인이 만든 문제는 무조건 복습 루프에 포함
+                .reviewInclusionConfigured(true)  // 본인 문제는 설정 변경 불가
+                .build();
+    }
+
     /**
      * 문제 풀이 제출 및 채점
+     * 지연 스냅샷 모드의 스냅샷은 이 트랜잭션을 시작하기 전에 생성되어 있어야 합니다. ({@link ProblemSubmitService})
      */
     @Transactional
     public ProblemSubmitResult submitProblemAnswer(ProblemSubmitCommand command) {
-        User user = findUserById(command.userId());
-        Problem problem = findProblemById(command.problemId());
         LocalDate today = LocalDate.now();
 
+        User user = findUserById(command.userId());
+        ProblemSnapshot problem = findProblemSnapshot(command.problemId());
+
         // 그룹 스터디룸 접근 권한 검증
-        validateStudyRoomAccess(user, problem);
+        validateStudyRoomAccess(user, findStudyRoomById(problem.studyRoomId()));
 
-        // ReviewState 조회
-        Optional<ProblemReviewState> optionalReviewState =
-                problemReviewStateRepository.findByUserAndProblem(user, problem);
+        // ReviewState 조회 (없으면 null)
+        ProblemReviewState reviewState = findReviewState(user, problem).orElse(null);
+
+        // 서술형 사전 채점: 명백한 오답은 AI 호출 없이 채점 (AI 채점이 필요하면 null)
+        GradingOutcome preGradedOutcome = preGradeEssay(problem, command.answer());
 
-        // 채점 수행
-        boolean isCorrect = gradeAnswer(problem, command.answer());
-        String aiFeedback = null;
+        // 비동기 채점 모드: 사전 채점으로 판정되지 않은 서술형은 채점 중 상태로 저장 후 즉시 반환
+        if (preGradedOutcome == null && isAsyncEssayGradingTarget(problem, command.answer())) {
+            return submitEssayForAsyncGrading(user, problem, command.answer(), reviewState, today);
+        }
+
+        // 채점 수행 (서술형은 AI 채점 1회로 정답 여부와 피드백을 함께 받음)
+        GradingOutcome outcome = preGradedOutcome != null
+                ? preGradedOutcome
+                : gradeAnswer(problem, command.answer());
+
+        return recordGradedSubmission(user, problem, command.answer(), reviewState, outcome, today);
+    }
+
+    /**
+     * 서술형 스트리밍 채점 준비
+     * 접근 권한을 검증하고, AI 채점이 필요한 서술형 답안이면 AI 채점 요청을 반환합니다.
+     * 서술형이 아니거나 AI 호출 없이 채점되는 답안(빈 답안, 사전 채점으로 판정된 답안, 채점 캐시에 있는 답안)은
+     * null을 반환하여 일반 제출로 처리되게 합니다.
+     */
+    @Transactional(readOnly = true)
+    public AiGradingRequest prepareEssayStreamGrading(ProblemSubmitCommand command) {
+        User user = findUserById(command.userId());
+        ProblemSnapshot problem = findProblemSnapshot(command.problemId());
+        validateStudyRoomAccess(user, findStudyRoomById(problem.studyRoomId()));
 
-        if (problem.getProblemType() == ProblemType.SUBJECTIVE) {
-            aiFeedback = gradeEssayWithAi(problem, command.answer());
+        if (problem.problemType() != ProblemType.SUBJECTIVE
+                || command.answer() == null || command.answer().isBlank()
+                || preGradeEssay(problem, command.answer()) != null) {
+            return null;
         }
+        AiGradingRequest request = buildAiGradingRequest(problem, command.answer());
+        if (aiGradingService.findCachedResult(request).isPresent()) {
+            return null;
+        }
+        return request;
+    }
+
+    /**
+     * 스트리밍으로 받은 AI 채점 결과로 서술형 답안 제출 처리
+     * 채점 이후의 처리(시도 기록, 복습 상태 전이)는 일반 제출과 동일하며, 채점 결과는 같은 답안에 재사용되도록 캐시에 저장합니다.
+     * 지연 스냅샷 모드의 스냅샷은 이 트랜잭션을 시작하기 전에 생성되어 있어야 합니다. ({@link ProblemSubmitService})
+     */
+    @Transactional
+    public ProblemSubmitResult submitGradedEssayAnswer(ProblemSubmitCommand command, AiGradingResult result) {
+        LocalDate today = LocalDate.now();
+
+        User user = findUserById(command.userId());
+        ProblemSnapshot problem = findProblemSnapshot(command.problemId());
+        validateStudyRoomAccess(user, findStudyRoomById(problem.studyRoomId()));
+
+        ProblemReviewState reviewState = findReviewState(user, problem).orElse(null);
+        aiGradingService.cacheResult(buildAiGradingRequest(problem, command.answer()), result);
+
+        GradingOutcome outcome = new GradingOutcome(Boolean.TRUE.equals(result.isCorrect()), result.feedback());
+        return recordGradedSubmission(user, problem, command.answer(), reviewState, outcome, today);
+    }
+
+    /**
+     * 채점 결과로 시도 기록을 저장하고, 오늘의 복습 첫 시도라면 복습 상태를 전이
+     */
+    private ProblemSubmitResult recordGradedSubmission(User user, ProblemSnapshot problem, String answer,
+                                                       ProblemReviewState reviewState, GradingOutcome outcome,
+                                                       LocalDate today) {
+        boolean isCorrect = outcome.isCorrect();
+        String aiFeedback = outcome.aiFeedback();
+
+        // 오늘의 복습 문제 첫 시도 여부 판단 (ReviewState가 있는 경우만)
+        boolean isFirstAttemptToday = isFirstReviewAttemptToday(reviewState, today);
 
         // 시도 로그 저장 (ReviewState 존재 여부와 무관하게 항상 저장)
-        saveProblemAttempt(user, problem, command.answer(), isCorrect, aiFeedback);
+        ProblemAttempt attempt = saveProblemAttempt(user, problem, answer, isCorrect, aiFeedback,
+                isFirstAttemptToday, GradingStatus.COMPLETED);
 
         // ReviewState가 없으면 채점 결과만 반환 (그룹방 타인 문제 첫 풀이)
-        if (optionalReviewState.isEmpty()) {
+        if (reviewState == null) {
             return buildSubmitResultWithoutReviewState(
                     isCorrect,
-                    problem.getExplanation(),
-                    aiFeedback
+                    problem.explanation(),
+                    aiFeedback,
+                    attempt
             );
         }
 
-        // ReviewState가 있는 경우 기존 복습 로직 수행
-        ProblemReviewState reviewState = optionalReviewState.get();
-
-        // 오늘의 복습 문제 여부 판단
-        boolean isTodayReview = reviewState.isTodayReviewProblem(today);
-
-        // 첫 시도 여부 판단 (오늘의 복습 문제인 경우만)
-        boolean isFirstAttemptToday = isTodayReview && reviewState.isFirstAttemptToday(today);
-
         // 상태 전이 처리 (오늘의 복습 문제 + 첫 시도만)
         boolean isReviewStateChanged = false;
-        if (isTodayReview && isFirstAttemptToday) {
+        if (isFirstAttemptToday) {
             updateReviewStateOnFirstAttempt(reviewState, isCorrect, today);
             isReviewStateChanged = true;
+            eventPublisher.publishEvent(new TodayReviewChangedEvent(user.getUserId()));
         }
 
         // 결과 반환
+        return buildSubmitResult(
+                isCorrect,
+                problem.explanation(),
+                aiFeedback,
+                reviewState,
+                isFirstAttemptToday,
+                isReviewStateChanged,
+                attempt
+        );
+    }
+
+    /**
+     * 풀이 기록의 채점 결과 조회
+     * 비동기 채점 모드에서 클라이언트가 채점 완료 여부를 확인하는 데 사용합니다.
+     * 복습 상태 필드는 조회 시점의 현재 상태를 반환합니다.
+     */
+    @Transactional(readOnly = true)
+    public ProblemSubmitResult getAttemptResult(Long userId, Long attemptId) {
+        ProblemAttempt attempt = findAttemptById(attemptId);
+
+        // 본인의 풀이 기록만 조회 가능 (타인의 기록은 존재 여부도 노출하지 않음)
+        if (!attempt.getUser().getUserId().equals(userId)) {
+            throw new ApplicationException(ProblemException.ATTEMPT_NOT_FOUND);
+        }
+
+        Problem problem = attempt.getProblem();
+        boolean isCorrect = Boolean.TRUE.equals(attempt.getIsCorrect());
+        String aiFeedback = attempt.getAiFeedbackJson();
+
+        Optional<ProblemReviewState> optionalReviewState =
+                problemReviewStateRepository.findByUserAndProblem(attempt.getUser(), problem);
+
+        if (optionalReviewState.isEmpty()) {
+            return buildSubmitResultWithoutReviewState(isCorrect, problem.getExplanation(), aiFeedback, attempt);
+        }
+
+        boolean isFirstAttempt = attempt.isFirstReviewAttempt();
         return buildSubmitResult(
                 isCorrect,
                 problem.getExplanation(),
                 aiFeedback,
+                optionalReviewState.get(),
+                isFirstAttempt,
+                isFirstAttempt && !attempt.isGradingPending(),
+                attempt
+        );
+    }
+
+    /**
+     * 비동기 서술형 채점 결과 반영
+     * 오늘의 복습 첫 시도로 기록된 풀이라면 제출일 기준으로 복습 상태 전이를 적용합니다.
+     */
+    @Transactional
+    public void completeEssayGrading(Long attemptId, AiGradingResult result) {
+        boolean isCorrect = Boolean.TRUE.equals(result.isCorrect());
+        finishPendingGrading(attemptId, isCorrect, result.feedback(), GradingStatus.COMPLETED);
+    }
+
+    /**
+     * 비동기 서술형 채점 실패 처리
+     * 동기 채점의 AI 오류 처리와 동일하게 오답으로 확정합니다.
+     */
+    @Transactional
+    public void failEssayGrading(Long attemptId) {
+        finishPendingGrading(attemptId, false, ESSAY_GRADING_FAILURE_FEEDBACK, GradingStatus.FAILED);
+    }
+
+    /**
+     * 채점이 지연된 서술형 풀이의 채점 요청 재구성
+     * 워커 큐 포화나 서버 재시작으로 유실된 요청을 복구할 때 사용합니다.
+     */
+    @Transactional(readOnly = true)
+    public List<EssayGradingRequestedEvent> findStalledEssayGradings(LocalDateTime submittedBefore, int limit) {
+        return problemAttemptRepository.findStalledPendingAttempts(submittedBefore, PageRequest.of(0, limit))
+                .stream()
+                .map(attempt -> new EssayGradingRequestedEvent(
+                        attempt.getAttemptId(),
+                        buildAiGradingRequest(
+                                findProblemSnapshot(attempt.getProblem().getProblemId()),
+                                attempt.getSubmittedAnswerText()
+                        )
+                ))
+                .toList();
+    }
+
+    /**
+     * 서술형 로컬 사전 채점
+     * 명백한 오답이면 채점 결과를, AI 채점이 필요하면 null을 반환합니다.
+     */
+    private GradingOutcome preGradeEssay(ProblemSnapshot problem, String answer) {
+        if (problem.problemType() != ProblemType.SUBJECTIVE || !essayPreGrader.isEnabled()) {
+            return null;
+        }
+        return essayPreGrader.preGrade(buildAiGradingRequest(problem, answer))
+                .map(result -> new GradingOutcome(Boolean.TRUE.equals(result.isCorrect()), result.feedback()))
+                .orElse(null);
+    }
+
+    private boolean isAsyncEssayGradingTarget(ProblemSnapshot problem, String answer) {
+        // 빈 답안은 AI 호출 없이 즉시 오답 처리되므로 동기 채점으로 처리
+        return asyncEssayGradingEnabled
+                && problem.problemType() == ProblemType.SUBJECTIVE
+                && answer != null && !answer.isBlank();
+    }
+
+    /**
+     * 서술형 비동기 채점 제출
+     * 풀이 기록을 채점 중(PENDING) 상태로 저장하고, 커밋 이후 채점 워커가 AI 채점과 상태 전이를 처리합니다.
+     * 첫 시도 날짜와 복습 횟수는 제출 시점에 기록하여, 채점 중 재제출이 상태 전이를 중복으로 일으키지 않도록 합니다.
+     */
+    private ProblemSubmitResult submitEssayForAsyncGrading(User user, ProblemSnapshot problem, String answer,
+                                                           ProblemReviewState reviewState, LocalDate today) {
+        boolean isFirstAttemptToday = isFirstReviewAttemptToday(reviewState, today);
+        if (isFirstAttemptToday) {
+            reviewState.recordFirstAttemptToday(today, null);    // 정답 여부는 채점 완료 후 기록
+            reviewState.increaseReviewCount();
+            eventPublisher.publishEvent(new TodayReviewChangedEvent(user.getUserId()));
+        }
+
+        ProblemAttempt attempt = saveProblemAttempt(user, problem, answer, false, null,
+                isFirstAttemptToday, GradingStatus.PENDING);
+
+        // 트랜잭션 커밋 이후 EssayGradingWorker에서 AI 채점 수행
+        eventPublisher.publishEvent(new EssayGradingRequestedEvent(
+                attempt.getAttemptId(),
+                buildAiGradingRequest(problem, answer)
+        ));
+
+        if (reviewState == null) {
+            return buildSubmitResultWithoutReviewState(false, problem.explanation(), null, attempt);
+        }
+
+        return buildSubmitResult(
+                false,
+                problem.explanation(),
+                null,
                 reviewState,
                 isFirstAttemptToday,
-                isReviewStateChanged
+                false,    // isReviewStateChanged: 채점 완료 후 반영
+                attempt
         );
     }
 
+    private void finishPendingGrading(Long attemptId, boolean isCorrect, String aiFeedback, GradingStatus status) {
+        // 조건부 UPDATE로 선점하여 중복 완료(워커 + 복구 스케줄러)를 방지
+        int updated = problemAttemptRepository.completePendingGrading(attemptId, isCorrect, aiFeedback, status);
+        if (updated == 0) {
+            return;
+        }
+        latestProblemAttemptService.recordGradingResult(attemptId, isCorrect);
+
+        ProblemAttempt attempt = findAttemptById(attemptId);
+        if (!attempt.isFirstReviewAttempt()) {
+            return;
+        }
+
+        // 첫 시도 기록과 복습 횟수는 제출 시점에 반영되었으므로 정답 여부와 관문 전이만 적용
+        LocalDate submittedDate = attempt.getCreatedAt().toLocalDate();
+        problemReviewStateRepository.findByUserAndProblem(attempt.getUser(), attempt.getProblem())
+                .ifPresent(reviewState -> {
+                    reviewState.recordFirstAttemptResult(submittedDate, isCorrect);
+                    applyGateTransition(reviewState, isCorrect, submittedDate);
+                });
+        eventPublisher.publishEvent(new TodayReviewChangedEvent(attempt.getUser().getUserId()));
+    }
+
+    private boolean isFirstReviewAttemptToday(ProblemReviewState reviewState, LocalDate today) {
+        return reviewState != null
+                && reviewState.isTodayReviewProblem(today)
+                && reviewState.isFirstAttemptToday(today);
+    }
+
+    private ProblemAttempt findAttemptById(Long attemptId) {
+        return problemAttemptRepository.findById(attemptId)
+                .orElseThrow(() -> new ApplicationException(ProblemException.ATTEMPT_NOT_FOUND));
+    }
+
     private Problem findProblemById(Long problemId) {
         return problemRepository.findById(problemId)
                 .orElseThrow(() -> new ApplicationException(ProblemException.PROBLEM_NOT_FOUND));
     }
 
+    /**
+     * 문제 내용 스냅샷 조회 (캐시에 없을 때만 문제, 보기, 키워드를 조회)
+     */
+    private ProblemSnapshot findProblemSnapshot(Long problemId) {
+        return problemSnapshotCache.get(problemId, this::loadProblemSnapshot);
+    }
+
+    private ProblemSnapshot loadProblemSnapshot(Long problemId) {
+        Problem problem = findProblemById(problemId);
+        List<ProblemChoice> choices = problem.getProblemType() == ProblemType.MCQ
+                ? problemChoiceRepository.findByProblem(problem)
+                : List.of();
+        List<ProblemKeyword> keywords = problem.getProblemType() == ProblemType.SUBJECTIVE
+                ? problemKeywordRepository.findByProblem(problem)
+                : List.of();
+        return ProblemSnapshot.of(problem, choices, keywords);
+    }
+
+    /**
+     * 스냅샷으로 조회한 문제의 복습 상태 조회 (문제 엔티티는 조회하지 않고 참조만 사용)
+     */
+    private Optional<ProblemReviewState> findReviewState(User user, ProblemSnapshot problem) {
+        return problemReviewStateRepository.findByUserAndProblem(
+                user, problemRepository.getReferenceById(problem.problemId()));
+    }
+
     /**
      * ReviewState 없이 채점 결과만 반환 (그룹방 타인 문제 첫 풀이)
      */
     private ProblemSubmitResult buildSubmitResultWithoutReviewState(
             boolean isCorrect,
             String explanation,
-            String aiFeedback
+            String aiFeedback,
+            ProblemAttempt attempt
     ) {
         return new ProblemSubmitResult(
                 isCorrect,
@@ -333,93 +642,73 @@ public class ProblemService {
                 null,     // reviewCount: null = 복습 안 함
                 null,     // nextReviewDate: null = 복습 예정 없음
                 false,    // isFirstAttempt: false = 오늘의 복습 아님
-                false     // isReviewStateChanged: false = 상태 변화 없음
+                false,    // isReviewStateChanged: false = 상태 변화 없음
+                attempt.getAttemptId(),
+                attempt.getGradingStatus()
         );
     }
 
     /**
      * 답안 채점 (문제 유형별)
      */
-    private boolean gradeAnswer(Problem problem, String answer) {
-        return switch (problem.getProblemType()) {
-            case MCQ -> gradeMultipleChoice(problem, answer);
-            case OX -> gradeTrueFalse(problem, answer);
-            case SHORT -> gradeShortAnswer(problem, answer);
+    private GradingOutcome gradeAnswer(ProblemSnapshot problem, String answer) {
+        return switch (problem.problemType()) {
+            case MCQ -> GradingOutcome.withoutFeedback(gradeMultipleChoice(problem, answer));
+            case OX -> GradingOutcome.withoutFeedback(gradeTrueFalse(problem, answer));
+            case SHORT -> GradingOutcome.withoutFeedback(gradeShortAnswer(problem, answer));
             case SUBJECTIVE -> gradeEssay(problem, answer);
         };
     }
 
-    private boolean gradeMultipleChoice(Problem problem, String answer) {
+    private boolean gradeMultipleChoice(ProblemSnapshot problem, String answer) {
         try {
             int submittedIndex = Integer.parseInt(answer);
-            return submittedIndex == problem.getCorrectChoiceIndex();
+            return submittedIndex == problem.correctChoiceIndex();
         } catch (NumberFormatException e) {
             return false;
         }
     }
 
-    private boolean gradeTrueFalse(Problem problem, String answer) {
+    private boolean gradeTrueFalse(ProblemSnapshot problem, String answer) {
         try {
             boolean submittedAnswer = Boolean.parseBoolean(answer);
-            return submittedAnswer == problem.getAnswerBoolean();
+            return submittedAnswer == problem.answerBoolean();
         } catch (Exception e) {
             return false;
         }
     }
 
-    private boolean gradeShortAnswer(Problem problem, String answer) {
+    private boolean gradeShortAnswer(ProblemSnapshot problem, String answer) {
         if (answer == null || answer.isBlank()) {
             return false;
         }
         // 대소문자 무시, 모든 공백 제거 후 비교
         String normalizedAnswer = answer.replaceAll("\\s+", "").toLowerCase();
-        String correctAnswer = problem.getAnswerText().replaceAll("\\s+", "").toLowerCase();
+        String correctAnswer = problem.answerText().replaceAll("\\s+", "").toLowerCase();
         return normalizedAnswer.equals(correctAnswer);
     }
 
-    private boolean gradeEssay(Problem problem, String answer) {
-        // 서술형은 AI 채점 결과로 판단
+    /**
+     * 서술형 채점
+     * AI 채점 결과 하나로 정답 여부와 피드백을 모두 결정합니다.
+     */
+    private GradingOutcome gradeEssay(ProblemSnapshot problem, String answer) {
         if (answer == null || answer.isBlank()) {
-            return false;
+            return new GradingOutcome(false, "답안이 입력되지 않았습니다.");
         }
 
-        List<ProblemKeyword> keywords = problemKeywordRepository.findByProblem(problem);
-        List<String> keywordTexts = keywords.stream()
-                .map(ProblemKeyword::getKeyword)
-                .toList();
-
-        AiGradingRequest request = new AiGradingRequest(
-                problem.getStudyRoom().getName(),
-                problem.getQuestion(),
-                problem.getModelAnswerText(),
-                keywordTexts,
-                answer
-        );
-
-        AiGradingResult result = aiGradingService.gradeSubjectiveAnswer(request);
-        return result.isCorrect();
+        AiGradingResult result = aiGradingService.gradeSubjectiveAnswer(buildAiGradingRequest(problem, answer));
+        return new GradingOutcome(Boolean.TRUE.equals(result.isCorrect()), result.feedback());
     }
 
-    private String gradeEssayWithAi(Problem problem, String answer) {
-        if (answer == null || answer.isBlank()) {
-            return "답안이 입력되지 않았습니다.";
-        }
-
-        List<ProblemKeyword> keywords = problemKeywordRepository.findByProblem(problem);
-        List<String> keywordTexts = keywords.stream()
-                .map(ProblemKeyword::getKeyword)
-                .toList();
-
-        AiGradingRequest request = new AiGradingRequest(
-                problem.getStudyRoom().getName(),
-                problem.getQuestion(),
-                problem.getModelAnswerText(),
-                keywordTexts,
+    private AiGradingRequest buildAiGradingRequest(ProblemSnapshot problem, String answer) {
+        return new AiGradingRequest(
+                problem.studyRoomName(),
+                problem.question(),
+                problem.modelAnswerText(),
+                problem.keywords(),
                 answer
         );
-
-        AiGradingResult result = aiGradingService.gradeSubjectiveAnswer(request);
-        return result.feedback();
     }
 
     /**
@@ -428,18 +717,26 @@ public class ProblemService {
     private void updateReviewStateOnFirstAttempt(ProblemReviewState reviewState,
                                                   boolean isCorrect,
                                                   LocalDate today) {
-        // 첫 시도 날짜 기록
-        reviewState.recordFirstAttemptToday(today);
+        // 첫 시도 날짜와 정답 여부 기록
+        reviewState.recordFirstAttemptToday(today, isCorrect);
 
         // 복습 횟수 증가
         reviewState.increaseReviewCount();
 
         // 정답/오답에 따른 상태 전이
+        applyGateTransition(reviewState, isCorrect, today);
+    }
+
+    private void applyGateTransition(ProblemReviewState reviewState, boolean isCorrect, LocalDate today) {
+        ReviewGate previousGate = reviewState.getGate();
         if (isCorrect) {
             handleCorrectAnswer(reviewState, today);
         } else {
             handleWrongAnswer(reviewState, today);
         }
+
+        // 공부방 목록의 관문별 문제 수 카운터 갱신
+        reviewGateCountService.recordTransition(reviewState, previousGate);
     }
 
     private void handleCorrectAnswer(ProblemReviewState reviewState, LocalDate today) {
@@ -471,14 +768,15 @@ public class ProblemService {
     /**
      * 문제 풀이 시도 로그 저장
      */
-    private void saveProblemAttempt(User user, Problem problem, String answer,
-                                    boolean isCorrect, String aiFeedback) {
+    private ProblemAttempt saveProblemAttempt(User user, ProblemSnapshot problem, String answer,
+                                              boolean isCorrect, String aiFeedback,
+                                              boolean firstReviewAttempt, GradingStatus gradingStatus) {
         Integer choiceIndex = null;
         Boolean boolAnswer = null;
         String textAnswer = null;
 
         // 답안 유형별 저장
-        switch (problem.getProblemType()) {
+        switch (problem.problemType()) {
             case MCQ -> {
                 try {
                     choiceIndex = Integer.parseInt(answer);
@@ -498,15 +796,19 @@ public class ProblemService {
 
         ProblemAttempt attempt = ProblemAttempt.builder()
                 .user(user)
-                .problem(problem)
+                .problem(problemRepository.getReferenceById(problem.problemId()))
                 .submittedChoiceIndex(choiceIndex)
                 .submittedBoolean(boolAnswer)
                 .submittedAnswerText(textAnswer)
                 .isCorrect(isCorrect)
                 .aiFeedbackJson(aiFeedback)
+                .firstReviewAttempt(firstReviewAttempt)
+                .gradingStatus(gradingStatus)
                 .build();
 
         problemAttemptRepository.save(attempt);
+        latestProblemAttemptService.recordAttempt(attempt);
+        return attempt;
     }
 
     /**
@@ -517,7 +819,8 @@ public class ProblemService {
                                                   String aiFeedback,
                                                   ProblemReviewState reviewState,
                                                   boolean isFirstAttempt,
-                                                  boolean isReviewStateChanged) {
+                                                  boolean isReviewStateChanged,
+                                                  ProblemAttempt attempt) {
         String nextReviewDateStr = null;
         if (reviewState.getNextReviewDate() != null) {
             nextReviewDateStr = reviewState.getNextReviewDate().toString();
@@ -531,59 +834,20 @@ public class ProblemService {
                 reviewState.getReviewCount(),
                 nextReviewDateStr,
                 isFirstAttempt,
-                isReviewStateChanged
+                isReviewStateChanged,
+                attempt.getAttemptId(),
+                attempt.getGradingStatus()
         );
     }
 
     /**
-     * 그룹 스터디룸 접근 권한 검증 (Problem 객체 기반)
-     * - 개인 스터디룸: 소유자만 접근 가능
-     * - 그룹 스터디룸: 소유자 또는 활성 멤버만 접근 가능
-     */
-    private void validateStudyRoomAccess(User user, Problem problem) {
-        StudyRoom studyRoom = problem.getStudyRoom();
-
-        // 개인 스터디룸인 경우: 소유자만 접근 가능
-        if (studyRoom.getRoomType() == RoomType.PERSONAL) {
-            if (!studyRoom.getOwner().getUserId().equals(user.getUserId())) {
-                throw new ApplicationException(ProblemException.ROOM_ACCESS_DENIED);
-            }
-        }
-
-        // 그룹 스터디룸인 경우: 소유자 또는 활성 멤버만 접근 가능
-        if (studyRoom.getRoomType() == RoomType.GROUP) {
-            boolean isOwner = studyRoom.getOwner().getUserId().equals(user.getUserId());
-            boolean isMember = studyRoomMemberRepository
-                    .existsByUserAndStudyRoomAndActive(user, studyRoom, true);
-
-            if (!isOwner && !isMember) {
-                throw new ApplicationException(ProblemException.ROOM_ACCESS_DENIED);
-            }
-        }
-    }
-
-    /**
-     * 스터디룸 멤버십 검증 (StudyRoom 객체 기반)
+     * 스터디룸 접근 권한 검증 (멤버십 조회 결과는 요청 안에서 재사용)
      * - 개인 스터디룸: 소유자만 접근 가능
      * - 그룹 스터디룸: 소유자 또는 활성 멤버만 접근 가능
      */
-    private void validateStudyRoomMembership(User user, StudyRoom studyRoom) {
-        // 개인 스터디룸인 경우: 소유자만 접근 가능
-        if (studyRoom.getRoomType() == RoomType.PERSONAL) {
-            if (!studyRoom.getOwner().getUserId().equals(user.getUserId())) {
-                throw new ApplicationException(ProblemException.ROOM_ACCESS_DENIED);
-            }
-        }
-
-        // 그룹 스터디룸인 경우: 소유자 또는 활성 멤버만 접근 가능
-        if (studyRoom.getRoomType() == RoomType.GROUP) {
-            boolean isOwner = studyRoom.getOwner().getUserId().equals(user.getUserId());
-            boolean isMember = studyRoomMemberRepository
-                    .existsByUserAndStudyRoomAndActive(user, studyRoom, true);
-
-            if (!isOwner && !isMember) {
-                throw new ApplicationException(ProblemException.ROOM_ACCESS_DENIED);
-            }
+    private void validateStudyRoomAccess(User user, StudyRoom studyRoom) {
+        if (!studyRoomAccessResolver.resolveRole(user, studyRoom).canAccess()) {
+            throw new ApplicationException(ProblemException.ROOM_ACCESS_DENIED);
         }
     }
 
@@ -617,6 +881,8 @@ public class ProblemService {
                     .reviewInclusionConfigured(true)
                     .build();
             problemReviewStateRepository.save(newState);
+            reviewGateCountService.recordCreated(newState);
+            eventPublisher.publishEvent(new TodayReviewChangedEvent(user.getUserId()));
             return command.includeInReview();
         }
 
@@ -630,7 +896,21 @@ public class ProblemService {
 
         // 설정 변경
         reviewState.configureReviewInclusion(command.includeInReview());
+        eventPublisher.publishEvent(new TodayReviewChangedEvent(user.getUserId()));
 
         return command.includeInReview();
     }
+
+    /**
+     * 채점 결과를 담는 내부 record
+     * aiFeedback은 서술형 문제에서만 채워집니다.
+     */
+    private record GradingOutcome(
+        boolean isCorrect,
+        String aiFeedback
+    ) {
+        static GradingOutcome withoutFeedback(boolean isCorrect) {
+            return new GradingOutcome(isCorrect, null);
+        }
+    }
 }
@@ -0,0 +1,27 @@
+package com.ebbinghaus.ttopullae.problem.application;
+
+import com.ebbinghaus.ttopullae.problem.application.dto.ProblemSnapshot;
+
+import java.util.function.Function;
+
+/**
+ * 문제 ID별 문제 내용 스냅샷 캐시
+ *
+ * 문제, 보기, 키워드는 등록 후 수정되지 않으므로 무효화는 문제 삭제 시에만 필요합니다.
+ * 저장소는 problem.snapshot-cache.backend 설정으로 선택합니다. (caffeine: 서버 메모리, none: 캐시하지 않음)
+ */
+public interface ProblemSnapshotCache {
+
+    /**
+     * 캐시된 스냅샷을 반환하고, 없으면 loader로 조회하여 캐시합니다.
+     *
+     * @param problemId 문제 ID
+     * @param loader 캐시에 없을 때 스냅샷을 조회하는 함수 (문제가 없으면 예외 발생)
+     */
+    ProblemSnapshot get(Long problemId, Function<Long, ProblemSnapshot> loader);
+
+    /**
+     * 문제의 스냅샷을 무효화합니다. (문제 삭제 시)
+     */
+    void evict(Long problemId);
+}
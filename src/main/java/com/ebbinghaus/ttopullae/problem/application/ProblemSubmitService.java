@@ -0,0 +1,34 @@
+package com.ebbinghaus.ttopullae.problem.application;
+
+import com.ebbinghaus.ttopullae.problem.application.dto.AiGradingResult;
+import com.ebbinghaus.ttopullae.problem.application.dto.ProblemSubmitCommand;
+import com.ebbinghaus.ttopullae.problem.application.dto.ProblemSubmitResult;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+
+/**
+ * 문제 풀이 제출 (지연 스냅샷 적용)
+ *
+ * 지연 스냅샷 모드에서는 상태 전이로 nextReviewDate가 바뀌기 전에 오늘의 복습 문제를 확정해야 하므로,
+ * 제출 트랜잭션을 시작하기 전에 사용자의 오늘 스냅샷을 먼저 생성합니다.
+ * 스냅샷은 별도 트랜잭션에서 커밋되므로, 제출 트랜잭션 안에서 호출하면 한 요청이 커넥션을 두 개 점유합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ProblemSubmitService {
+
+    private final ProblemService problemService;
+    private final TodayReviewSnapshotService todayReviewSnapshotService;
+
+    public ProblemSubmitResult submitProblemAnswer(ProblemSubmitCommand command) {
+        todayReviewSnapshotService.ensureTodaySnapshot(command.userId(), LocalDate.now());
+        return problemService.submitProblemAnswer(command);
+    }
+
+    public ProblemSubmitResult submitGradedEssayAnswer(ProblemSubmitCommand command, AiGradingResult result) {
+        todayReviewSnapshotService.ensureTodaySnapshot(command.userId(), LocalDate.now());
+        return problemService.submitGradedEssayAnswer(command, result);
+    }
+}
@@ -0,0 +1,72 @@
+package com.ebbinghaus.ttopullae.problem.application;
+
+import com.ebbinghaus.ttopullae.problem.application.dto.AiGradingRequest;
+import com.ebbinghaus.ttopullae.problem.application.dto.ProblemSubmitCommand;
+import com.ebbinghaus.ttopullae.problem.application.dto.ProblemSubmitStreamEvent;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * 문제 풀이 스트리밍 제출 서비스
+ *
+ * 서술형 AI 채점 시 모델이 생성하는 피드백을 토큰 단위로 먼저 전달하고,
+ * 생성이 끝나면 일반 제출과 같은 방식으로 채점 결과를 반영한 뒤 최종 결과를 마지막 이벤트로 전달합니다.
+ * 채점 프롬프트와 결과 형식은 일반 제출과 동일하므로 채점 결과는 달라지지 않습니다.
+ *
+ * - AI 채점이 필요 없는 제출(객관식/OX/단답형, 빈 답안, 사전 채점된 서술형)은 결과 이벤트 하나만 전달
+ * - 스트리밍 중 OpenAI 호출이 실패하면 일반 제출로 다시 채점하여 결과 이벤트를 전달
+ * - 결과 이벤트 전에 클라이언트 연결이 끊기면 풀이 기록이 저장되지 않음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProblemSubmitStreamService {
+
+    private final ProblemService problemService;
+    private final ProblemSubmitService problemSubmitService;
+    private final OpenAiGradingService openAiGradingService;
+
+    /**
+     * 문제 풀이를 제출하고 채점 과정을 이벤트 스트림으로 반환
+     * 접근 권한 검증은 스트림 시작 전에 수행하므로, 검증 실패는 일반 API와 같은 오류 응답으로 처리됩니다.
+     */
+    public Flux<ProblemSubmitStreamEvent> submit(ProblemSubmitCommand command) {
+        AiGradingRequest aiGradingRequest = problemService.prepareEssayStreamGrading(command);
+        if (aiGradingRequest == null) {
+            return submitWithoutStreaming(command).flux();
+        }
+
+        StreamingFeedbackExtractor extractor = new StreamingFeedbackExtractor();
+        AtomicBoolean streamFailed = new AtomicBoolean(false);
+
+        Flux<ProblemSubmitStreamEvent> feedbackEvents = openAiGradingService.streamGradingContent(aiGradingRequest)
+                .map(extractor::append)
+                .filter(delta -> !delta.isEmpty())
+                .map(ProblemSubmitStreamEvent::feedback)
+                .onErrorResume(e -> {
+                    log.warn("[SubmitStream] AI 피드백 스트리밍 실패, 일반 채점으로 전환 (problemId: {})",
+                            command.problemId(), e);
+                    streamFailed.set(true);
+                    return Flux.empty();
+                });
+
+        Mono<ProblemSubmitStreamEvent> resultEvent = Mono.defer(() -> streamFailed.get()
+                ? submitWithoutStreaming(command)
+                : Mono.fromCallable(() -> ProblemSubmitStreamEvent.result(problemSubmitService.submitGradedEssayAnswer(
+                        command,
+                        openAiGradingService.parseGradingContent(extractor.content())
+                ))).subscribeOn(Schedulers.boundedElastic()));
+
+        return feedbackEvents.concatWith(resultEvent);
+    }
+
+    private Mono<ProblemSubmitStreamEvent> submitWithoutStreaming(ProblemSubmitCommand command) {
+        return Mono.fromCallable(() -> ProblemSubmitStreamEvent.result(problemSubmitService.submitProblemAnswer(command)))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+}
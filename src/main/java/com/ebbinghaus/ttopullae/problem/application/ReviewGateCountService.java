@@ -0,0 +1,85 @@
+package com.ebbinghaus.ttopullae.problem.application;
+
+import com.ebbinghaus.ttopullae.problem.domain.ProblemReviewState;
+import com.ebbinghaus.ttopullae.problem.domain.ReviewGate;
+import com.ebbinghaus.ttopullae.problem.domain.repository.ReviewGateCountRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * 사용자별, 스터디룸별 복습 관문 분포 카운터 갱신
+ * 호출한 서비스의 트랜잭션 안에서 실행되어 복습 상태 변경과 함께 커밋됩니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ReviewGateCountService {
+
+    private final ReviewGateCountRepository reviewGateCountRepository;
+
+    /**
+     * 새로 생성된 복습 상태를 현재 관문에 반영합니다.
+     */
+    public void recordCreated(ProblemReviewState reviewState) {
+        adjust(reviewState, null, reviewState.getGate());
+    }
+
+    /**
+     * 한 스터디룸에 한꺼번에 생성된 첫 관문(GATE_1) 복습 상태들을 카운터 갱신 1회로 반영합니다.
+     * (문제 일괄 가져오기)
+     *
+     * @param count 새로 생성된 복습 상태 수
+     */
+    public void recordCreatedInBulk(Long userId, Long studyRoomId, int count) {
+        if (count == 0) {
+            return;
+        }
+        adjust(userId, studyRoomId, count, 0, 0);
+    }
+
+    /**
+     * 관문 전이를 반영합니다. (관문이 바뀌지 않았으면 아무것도 하지 않음)
+     *
+     * @param reviewState 전이가 적용된 복습 상태
+     * @param previousGate 전이 전 관문
+     */
+    public void recordTransition(ProblemReviewState reviewState, ReviewGate previousGate) {
+        if (previousGate == reviewState.getGate()) {
+            return;
+        }
+        adjust(reviewState, previousGate, reviewState.getGate());
+    }
+
+    private void adjust(ProblemReviewState reviewState, ReviewGate from, ReviewGate to) {
+        adjust(
+                reviewState.getUser().getUserId(),
+                reviewState.getProblem().getStudyRoom().getStudyRoomId(),
+                delta(ReviewGate.GATE_1, from, to),
+                delta(ReviewGate.GATE_2, from, to),
+                delta(ReviewGate.GRADUATED, from, to)
+        );
+    }
+
+    private void adjust(Long userId, Long studyRoomId, int gate1Delta, int gate2Delta, int graduatedDelta) {
+        int updated = reviewGateCountRepository.adjustCounts(
+                userId, studyRoomId, gate1Delta, gate2Delta, graduatedDelta);
+
+        // 이 스터디룸의 첫 복습 상태이거나 카운터 도입 전 데이터: 카운터 행을 만들고 실제 개수로 계산
+        // 같은 (사용자, 스터디룸)의 첫 전이가 동시에 들어와도 행 생성이 충돌하지 않고,
+        // 다시 계산은 증감이 아닌 실제 개수로 덮어쓰므로 어느 쪽이 먼저 실행되어도 결과가 같음
+        if (updated == 0) {
+            reviewGateCountRepository.insertIfAbsent(userId, studyRoomId);
+            reviewGateCountRepository.recalculate(userId, studyRoomId);
+        }
+    }
+
+    private static int delta(ReviewGate gate, ReviewGate from, ReviewGate to) {
+        int delta = 0;
+        if (gate == from) {
+            delta--;
+        }
+        if (gate == to) {
+            delta++;
+        }
+        return delta;
+    }
+}
@@ -1,23 +1,92 @@
 package com.ebbinghaus.ttopullae.problem.application;
 
+import com.ebbinghaus.ttopullae.problem.domain.ReviewSnapshotCheckpoint;
+import com.ebbinghaus.ttopullae.problem.domain.repository.ProblemAttemptRepository;
 import com.ebbinghaus.ttopullae.problem.domain.repository.ProblemReviewStateRepository;
-import lombok.RequiredArgsConstructor;
+import com.ebbinghaus.ttopullae.problem.domain.repository.ReviewSnapshotCheckpointRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class ReviewScheduleService {
 
+    private static final String METRIC_PREFIX = "review.snapshot";
+
     private final ProblemReviewStateRepository problemReviewStateRepository;
+    private final ReviewSnapshotCheckpointRepository checkpointRepository;
+    private final ProblemAttemptRepository problemAttemptRepository;
+    private final TodayReviewSnapshotService todayReviewSnapshotService;
+    private final TodayReviewCache todayReviewCache;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final int prewarmActiveDays;
+    private final Duration lease;
+    private final String nodeId = resolveNodeId();
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    private final Counter snapshotRowCounter;
+    private final Timer chunkTimer;
+    private final AtomicLong lastProcessedId = new AtomicLong();
+    private final AtomicLong maxStateId = new AtomicLong();
+
+    public ReviewScheduleService(ProblemReviewStateRepository problemReviewStateRepository,
+                                 ReviewSnapshotCheckpointRepository checkpointRepository,
+                                 ProblemAttemptRepository problemAttemptRepository,
+                                 TodayReviewSnapshotService todayReviewSnapshotService,
+                                 TodayReviewCache todayReviewCache,
+                                 PlatformTransactionManager transactionManager,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${review.snapshot.chunk-size:1000}") int chunkSize,
+                                 @Value("${review.snapshot.prewarm-active-days:7}") int prewarmActiveDays,
+                                 @Value("${review.snapshot.lease:5m}") Duration lease) {
+        this.problemReviewStateRepository = problemReviewStateRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.problemAttemptRepository = problemAttemptRepository;
+        this.todayReviewSnapshotService = todayReviewSnapshotService;
+        this.todayReviewCache = todayReviewCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.prewarmActiveDays = prewarmActiveDays;
+        this.lease = lease;
+
+        this.snapshotRowCounter = Counter.builder(METRIC_PREFIX + ".rows")
+                .description("오늘의 복습 스냅샷에 포함된 문제 수")
+                .register(meterRegistry);
+        this.chunkTimer = Timer.builder(METRIC_PREFIX + ".chunk")
+                .description("스냅샷 범위 1개 처리 시간")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".progress", this,
+                        service -> service.maxStateId.get() == 0
+                                ? 1.0
+                                : (double) service.lastProcessedId.get() / service.maxStateId.get())
+                .description("진행 중인 스냅샷 작업의 진행률 (0~1)")
+                .register(meterRegistry);
+    }
 
     /**
-     * 매일 자정 5분에 오늘의 복습 문제 스냅샷 생성
+     * 매일 자정에 오늘의 복습 문제 스냅샷 생성
      *
      * nextReviewDate가 오늘 이하인 문제들의 todayReviewIncludedDate를 오늘로 설정하고,
      * todayReviewIncludedGate를 현재 gate로 보존하여 필터 일관성을 유지합니다.
@@ -29,14 +98,178 @@ public class ReviewScheduleService {
      * 제외 대상:
      * - 졸업한 문제 (GRADUATED)
      * - 이미 오늘 스냅샷된 문제
+     *
+     * 테이블 전체를 한 트랜잭션으로 갱신하면 행 잠금이 길어져 아침 제출을 막으므로,
+     * 기본 키 범위(chunk-size) 단위로 나누어 범위마다 커밋하고 체크포인트를 남깁니다.
+     * 여러 서버가 동시에 실행해도 체크포인트를 점유한 서버 하나만 처리합니다.
+     *
+     * 지연 스냅샷 모드(review.snapshot.mode=lazy)에서는 각 사용자의 첫 접근 시 스냅샷이 생성되므로,
+     * 최근 prewarm-active-days일 안에 문제를 푼 활성 사용자의 스냅샷만 미리 생성합니다.
      */
     @Scheduled(cron = "0 0 0 * * *")  // 매일 자정 00:00:00
-    @Transactional
     public void createDailyReviewSnapshot() {
         LocalDate today = LocalDate.now();
+        if (todayReviewSnapshotService.isLazy()) {
+            prewarmActiveUsers(today);
+            return;
+        }
+        runSnapshot(today);
+    }
+
+    /**
+     * 서버 기동 시 오늘 스냅샷 작업이 중단된 상태라면 마지막 체크포인트부터 이어서 실행
+     * 기동을 막지 않도록 별도 스레드에서 실행합니다.
+     */
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeOnStartup() {
+        resumeIncompleteSnapshot();
+    }
+
+    /**
+     * 오늘 스냅샷 작업이 완료되지 않았고 점유한 서버가 없거나 점유가 만료되었으면 이어서 실행
+     *
+     * 작업을 점유한 서버가 중단되거나 범위 처리가 실패하면 다른 서버의 자정 작업은 이미 끝났으므로,
+     * 주기적으로 확인하여 점유가 풀린 작업을 이어받습니다. (점유가 유효한 동안에는 아무것도 하지 않음)
+     */
+    @Scheduled(fixedDelayString = "${review.snapshot.resume-interval-ms:60000}",
+            initialDelayString = "${review.snapshot.resume-interval-ms:60000}")
+    public void resumeIncompleteSnapshot() {
+        if (todayReviewSnapshotService.isLazy()) {
+            return;
+        }
+        LocalDate today = LocalDate.now();
+        checkpointRepository.findById(today)
+                .filter(checkpoint -> checkpoint.isResumableBy(nodeId, LocalDateTime.now()))
+                .ifPresent(checkpoint -> {
+                    log.info("중단된 오늘의 복습 스냅샷 재개: stateId {} 이후부터", checkpoint.getLastProcessedId());
+                    runSnapshot(today);
+                });
+    }
+
+    /**
+     * 최근 활성 사용자의 스냅샷을 사용자마다 별도 트랜잭션으로 미리 생성
+     * (이미 오늘 스냅샷이 생성된 사용자는 건너뜀)
+     */
+    private void prewarmActiveUsers(LocalDate today) {
+        long startedNanos = System.nanoTime();
+        List<Long> activeUserIds = problemAttemptRepository.findActiveUserIdsSince(
+                today.minusDays(prewarmActiveDays).atStartOfDay());
 
-        int snapshotCount = problemReviewStateRepository.snapshotTodayReviewProblems(today);
+        long snapshotCount = 0;
+        for (Long userId : activeUserIds) {
+            snapshotCount += todayReviewSnapshotService.ensureTodaySnapshot(userId, today);
+        }
+        snapshotRowCounter.increment(snapshotCount);
+
+        log.info("활성 사용자 오늘의 복습 스냅샷 미리 생성 완료: 사용자 {} 명, {} 건 ({} ms)",
+                activeUserIds.size(), snapshotCount, Duration.ofNanos(System.nanoTime() - startedNanos).toMillis());
+    }
+
+    private void runSnapshot(LocalDate today) {
+        // 같은 서버에서 자정 작업과 기동 시 재개 작업이 겹치지 않도록 함
+        if (!running.compareAndSet(false, true)) {
+            log.info("오늘의 복습 스냅샷이 이 서버에서 이미 실행 중");
+            return;
+        }
+        try {
+            runClaimedSnapshot(today);
+        } catch (RuntimeException e) {
+            // 점유를 풀어 다음 확인 주기에 이 서버나 다른 서버가 마지막 체크포인트부터 다시 시도하게 함
+            log.error("오늘의 복습 스냅샷 실패, 다음 확인 주기에 재시도", e);
+            releaseClaim(today);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private void releaseClaim(LocalDate today) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> checkpointRepository.release(today, nodeId));
+        } catch (RuntimeException e) {
+            log.warn("오늘의 복습 스냅샷 점유 해제 실패, 점유 만료 후 재시도", e);
+        }
+    }
+
+    private void runClaimedSnapshot(LocalDate today) {
+        ReviewSnapshotCheckpoint checkpoint = transactionTemplate.execute(status -> {
+            // 체크포인트 생성과 점유를 잠금을 잡는 문장으로 먼저 수행해야 이후 조회가 최신 진행 상태를 읽음
+            LocalDateTime now = LocalDateTime.now();
+            checkpointRepository.insertIfAbsent(today, problemReviewStateRepository.findMaxStateId(), now);
+            if (checkpointRepository.claim(today, nodeId, now, now.plus(lease)) == 0) {
+                return null;
+            }
+            return checkpointRepository.findById(today).orElseThrow();
+        });
+
+        if (checkpoint == null) {
+            log.info("오늘의 복습 스냅샷이 이미 완료되었거나 다른 서버가 처리 중");
+            return;
+        }
+
+        long upperBound = checkpoint.getMaxStateId();
+        lastProcessedId.set(checkpoint.getLastProcessedId());
+        maxStateId.set(upperBound);
+
+        long scannedIds = upperBound - checkpoint.getLastProcessedId();
+        long startedNanos = System.nanoTime();
+        long snapshotCountThisRun = 0;
+        long fromId = checkpoint.getLastProcessedId() + 1;
+        while (fromId <= upperBound) {
+            long toId = Math.min(fromId + chunkSize - 1, upperBound);
+            int chunkCount = processChunk(today, fromId, toId);
+            if (chunkCount < 0) {
+                log.warn("오늘의 복습 스냅샷 점유를 잃어 중단: stateId {} 이전까지 처리", fromId);
+                return;
+            }
+
+            snapshotCountThisRun += chunkCount;
+            lastProcessedId.set(toId);
+            log.debug("오늘의 복습 스냅샷 진행: stateId {} ~ {} ({} 건)", fromId, toId, chunkCount);
+            fromId = toId + 1;
+        }
+
+        ReviewSnapshotCheckpoint completed = transactionTemplate.execute(status -> {
+            ReviewSnapshotCheckpoint current = checkpointRepository.findById(today).orElseThrow();
+            current.complete(LocalDateTime.now());
+            return current;
+        });
+
+        // 스냅샷 진행 중에 조회되어 캐시된 목록 무효화
+        todayReviewCache.evictAll();
+
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startedNanos);
+        double idsPerSecond = elapsed.isZero() ? 0 : scannedIds * 1_000_000_000.0 / elapsed.toNanos();
+        log.info("오늘의 복습 문제 스냅샷 생성 완료: {} 건 (이번 실행 {} 건, {} ms, 초당 {} 개 ID 범위 처리)",
+                completed.getSnapshotCount(), snapshotCountThisRun, elapsed.toMillis(), Math.round(idsPerSecond));
+    }
+
+    /**
+     * 범위 하나를 스냅샷하고 같은 트랜잭션에서 체크포인트를 갱신
+     * (실행 중인 트랜잭션이 있으면 참여하고, 없으면 범위마다 새 트랜잭션으로 커밋)
+     *
+     * 처리 전에 점유를 연장하며, 그 사이 다른 서버가 만료된 점유를 가져갔다면 처리하지 않고 -1을 반환합니다.
+     * 점유 연장이 체크포인트 행을 잠그므로 두 서버가 같은 범위를 함께 처리하지 않습니다.
+     */
+    private int processChunk(LocalDate today, long fromId, long toId) {
+        return chunkTimer.record(() -> transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            if (checkpointRepository.claim(today, nodeId, now, now.plus(lease)) == 0) {
+                return -1;
+            }
+            int chunkCount = problemReviewStateRepository.snapshotTodayReviewProblemsInRange(today, fromId, toId);
+            checkpointRepository.findById(today).orElseThrow()
+                    .advance(toId, chunkCount, LocalDateTime.now());
+            snapshotRowCounter.increment(chunkCount);
+            return chunkCount;
+        }));
+    }
 
-        log.info("오늘의 복습 문제 스냅샷 생성 완료: {} 건", snapshotCount);
+    private static String resolveNodeId() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return UUID.randomUUID().toString();
+        }
     }
 }
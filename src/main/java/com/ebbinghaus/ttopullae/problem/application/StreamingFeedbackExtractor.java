@@ -0,0 +1,84 @@
+package com.ebbinghaus.ttopullae.problem.application;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 스트리밍으로 생성되는 채점 결과 JSON에서 feedback 필드 값만 점진적으로 추출한다
+ * 수신한 본문 조각을 모두 누적해 두므로, 스트림이 끝나면 전체 JSON으로 최종 채점 결과를 파싱할 수 있다
+ *
+ * 스트림 하나당 인스턴스 하나를 사용하며 스레드 안전하지 않다
+ */
+class StreamingFeedbackExtractor {
+
+  private static final Pattern FEEDBACK_START = Pattern.compile("\"feedback\"\\s*:\\s*\"");
+
+  private final StringBuilder content = new StringBuilder();
+  private int cursor = -1;
+  private boolean finished;
+
+  /**
+   * 본문 조각을 누적하고, 이번 조각으로 새로 확정된 feedback 텍스트를 반환한다
+   * 이스케이프 시퀀스가 조각 경계에서 잘린 경우 다음 조각이 도착할 때까지 보류한다
+   *
+   * @param delta 새로 수신한 본문 조각
+   * @return 새로 확정된 feedback 텍스트 (없으면 빈 문자열)
+   */
+  String append(String delta) {
+    content.append(delta);
+    if (finished) {
+      return "";
+    }
+    if (cursor < 0) {
+      Matcher matcher = FEEDBACK_START.matcher(content);
+      if (!matcher.find()) {
+        return "";
+      }
+      cursor = matcher.end();
+    }
+
+    StringBuilder decoded = new StringBuilder();
+    while (cursor < content.length()) {
+      char c = content.charAt(cursor);
+      if (c == '"') {
+        finished = true;
+        break;
+      }
+      if (c != '\\') {
+        decoded.append(c);
+        cursor++;
+        continue;
+      }
+
+      if (cursor + 1 >= content.length()) {
+        break;
+      }
+      char escaped = content.charAt(cursor + 1);
+      if (escaped == 'u') {
+        if (cursor + 6 > content.length()) {
+          break;
+        }
+        decoded.append((char) Integer.parseInt(content.substring(cursor + 2, cursor + 6), 16));
+        cursor += 6;
+        continue;
+      }
+      decoded.append(switch (escaped) {
+        case 'n' -> '\n';
+        case 't' -> '\t';
+        case 'r' -> '\r';
+        case 'b' -> '\b';
+        case 'f' -> '\f';
+        default -> escaped;
+      });
+      cursor += 2;
+    }
+    return decoded.toString();
+  }
+
+  /**
+   * 지금까지 누적된 전체 본문
+   */
+  String content() {
+    return content.toString();
+  }
+}
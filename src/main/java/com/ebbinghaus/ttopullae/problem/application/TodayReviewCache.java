@@ -0,0 +1,38 @@
+package com.ebbinghaus.ttopullae.problem.application;
+
+import com.ebbinghaus.ttopullae.problem.application.dto.TodayReviewResult;
+
+import java.time.LocalDate;
+import java.util.function.Supplier;
+
+/**
+ * 사용자별 오늘의 복습 목록 캐시
+ *
+ * 오늘의 복습 목록은 사용자가 문제를 제출하거나 복습 설정을 바꿀 때, 그리고 스냅샷 작업이 실행될 때만 바뀝니다.
+ * 저장소는 review.today-cache.backend 설정으로 선택합니다. (caffeine: 서버 메모리, none: 캐시하지 않음)
+ * caffeine의 무효화(evictUser, evictAll)는 같은 서버의 캐시에만 반영되므로 단일 서버 배포에서만 사용합니다.
+ * 서버가 여러 대이면 none을 사용하거나, 서버 밖 저장소로 옮기도록 이 인터페이스를 구현한 빈을 추가합니다.
+ */
+public interface TodayReviewCache {
+
+    /**
+     * 캐시된 목록을 반환하고, 없으면 loader로 조회하여 캐시합니다.
+     * 조회 도중 같은 사용자의 캐시가 무효화되었다면 조회 결과를 캐시에 남기지 않아야 합니다.
+     *
+     * @param userId 사용자 ID
+     * @param date 오늘 날짜
+     * @param filter 관문 필터 (ALL, GATE_1, GATE_2)
+     * @param loader 캐시에 없을 때 목록을 조회하는 함수
+     */
+    TodayReviewResult get(Long userId, LocalDate date, String filter, Supplier<TodayReviewResult> loader);
+
+    /**
+     * 사용자의 모든 필터 목록을 무효화합니다.
+     */
+    void evictUser(Long userId);
+
+    /**
+     * 모든 사용자의 목록을 무효화합니다. (스냅샷 작업 완료 시)
+     */
+    void evictAll();
+}
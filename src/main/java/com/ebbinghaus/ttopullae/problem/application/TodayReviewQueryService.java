@@ -0,0 +1,45 @@
+package com.ebbinghaus.ttopullae.problem.application;
+
+import com.ebbinghaus.ttopullae.problem.application.dto.TodayReviewChangedEvent;
+import com.ebbinghaus.ttopullae.problem.application.dto.TodayReviewCommand;
+import com.ebbinghaus.ttopullae.problem.application.dto.TodayReviewResult;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+
+/**
+ * 오늘의 복습 목록 조회 (캐시 적용)
+ *
+ * 캐시 적중 시 트랜잭션(DB 커넥션) 없이 응답하도록 트랜잭션 밖에서 캐시를 확인하고,
+ * 캐시에 없을 때만 ProblemService의 조회 트랜잭션을 실행합니다.
+ * 지연 스냅샷 모드의 스냅샷도 조회 트랜잭션을 시작하기 전에 생성하여, 한 요청이 커넥션을 두 개 점유하지 않게 합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class TodayReviewQueryService {
+
+    private final ProblemService problemService;
+    private final TodayReviewCache todayReviewCache;
+    private final TodayReviewSnapshotService todayReviewSnapshotService;
+
+    public TodayReviewResult getTodayReviewProblems(TodayReviewCommand command) {
+        LocalDate today = LocalDate.now();
+        return todayReviewCache.get(command.userId(), today, command.filter(), () -> {
+            // 지연 스냅샷 모드: 오늘 첫 접근이면 스냅샷 생성 (캐시에 목록이 있으면 이미 생성된 상태)
+            todayReviewSnapshotService.ensureTodaySnapshot(command.userId(), today);
+            return problemService.getTodayReviewProblems(command);
+        });
+    }
+
+    /**
+     * 변경 트랜잭션 커밋 이후 사용자의 캐시를 무효화
+     * (커밋 전에 무효화하면 그 사이의 조회가 변경 전 목록을 다시 캐시할 수 있음)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTodayReviewChanged(TodayReviewChangedEvent event) {
+        todayReviewCache.evictUser(event.userId());
+    }
+}
@@ -0,0 +1,101 @@
+package com.ebbinghaus.ttopullae.problem.application;
+
+import com.ebbinghaus.ttopullae.problem.domain.repository.ProblemReviewStateRepository;
+import com.ebbinghaus.ttopullae.user.domain.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+
+/**
+ * 사용자별 오늘의 복습 스냅샷 (지연 스냅샷 모드)
+ *
+ * review.snapshot.mode가 lazy이면 자정 배치가 모든 사용자의 스냅샷을 만드는 대신,
+ * 사용자가 그날 처음 오늘의 복습을 조회하거나 문제를 제출할 때 그 사용자의 스냅샷만 생성합니다.
+ * 스냅샷 쓰기량이 전체 사용자 수가 아닌 일일 활성 사용자 수에 비례하게 됩니다.
+ *
+ * 같은 사용자의 요청이 동시에 들어오면 사용자 행의 조건부 갱신(claimReviewSnapshot)으로
+ * 한 요청만 스냅샷을 생성하고, 나머지는 그 트랜잭션이 끝날 때까지 대기합니다.
+ * 선점과 스냅샷 생성은 짧은 별도 트랜잭션에서 커밋하므로,
+ * 사용자 행 잠금이 호출한 쪽의 작업(AI 채점 등)이 끝날 때까지 유지되지 않습니다.
+ * 이미 오늘 스냅샷이 생성된 사용자는 잠금 없는 조회만 하고 돌아갑니다.
+ *
+ * 호출한 쪽의 트랜잭션 안에서 호출하면 한 요청이 커넥션을 두 개 점유하므로,
+ * 조회와 제출은 트랜잭션 경계 밖({@link TodayReviewQueryService}, {@link ProblemSubmitService})에서 호출합니다.
+ */
+@Slf4j
+@Service
+public class TodayReviewSnapshotService {
+
+    private static final String METRIC_NAME = "review.snapshot.lazy";
+
+    private final UserRepository userRepository;
+    private final ProblemReviewStateRepository problemReviewStateRepository;
+    private final TransactionTemplate requiresNewTransaction;
+    private final boolean lazy;
+    private final Counter materializedCounter;
+    private final Counter rowCounter;
+
+    public TodayReviewSnapshotService(UserRepository userRepository,
+                                      ProblemReviewStateRepository problemReviewStateRepository,
+                                      PlatformTransactionManager transactionManager,
+                                      MeterRegistry meterRegistry,
+                                      @Value("${review.snapshot.mode:eager}") String mode) {
+        this.userRepository = userRepository;
+        this.problemReviewStateRepository = problemReviewStateRepository;
+        this.requiresNewTransaction = new TransactionTemplate(transactionManager);
+        this.requiresNewTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.lazy = "lazy".equalsIgnoreCase(mode);
+
+        this.materializedCounter = Counter.builder(METRIC_NAME)
+                .description("첫 접근 시 오늘의 복습 스냅샷을 생성한 사용자 수")
+                .register(meterRegistry);
+        this.rowCounter = Counter.builder(METRIC_NAME + ".rows")
+                .description("첫 접근 시 스냅샷된 문제 수")
+                .register(meterRegistry);
+    }
+
+    public boolean isLazy() {
+        return lazy;
+    }
+
+    /**
+     * 사용자의 오늘 스냅샷이 없으면 생성합니다. (지연 스냅샷 모드가 아니면 아무것도 하지 않음)
+     *
+     * 별도 트랜잭션에서 커밋하므로 트랜잭션 밖에서 호출해야 합니다.
+     * (트랜잭션 안에서 호출하면 커넥션을 하나 더 점유하고, 이미 시작된 트랜잭션은 생성된 스냅샷을 읽지 못할 수 있음)
+     *
+     * @param userId 사용자 ID
+     * @param today 오늘 날짜
+     * @return 이번 호출에서 스냅샷된 문제 개수
+     */
+    public int ensureTodaySnapshot(Long userId, LocalDate today) {
+        if (!lazy) {
+            return 0;
+        }
+        Integer snapshotCount = requiresNewTransaction.execute(status -> snapshotIfAbsent(userId, today));
+        return snapshotCount == null ? 0 : snapshotCount;
+    }
+
+    private int snapshotIfAbsent(Long userId, LocalDate today) {
+        // 대부분의 요청은 이미 스냅샷된 상태이므로 잠금 없이 먼저 확인
+        boolean snapshotted = userRepository.findReviewSnapshotDateById(userId)
+                .filter(today::equals)
+                .isPresent();
+        if (snapshotted || userRepository.claimReviewSnapshot(userId, today) == 0) {
+            return 0;
+        }
+
+        int snapshotCount = problemReviewStateRepository.snapshotTodayReviewProblemsForUser(userId, today);
+        materializedCounter.increment();
+        rowCounter.increment(snapshotCount);
+        log.debug("오늘의 복습 스냅샷 생성: userId={}, {} 건", userId, snapshotCount);
+        return snapshotCount;
+    }
+}
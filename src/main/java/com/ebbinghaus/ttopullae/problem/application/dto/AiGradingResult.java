@@ -12,4 +12,16 @@ public record AiGradingResult(
     List<String> missingKeywords,
     String scoringReason
 ) {
+
+    /**
+     * AI 호출 실패 시 Graceful Degradation 결과의 채점 근거
+     */
+    public static final String SYSTEM_FAILURE_REASON = "시스템 오류로 인해 채점을 완료할 수 없습니다.";
+
+    /**
+     * 실제 채점이 아닌 시스템 오류로 인한 대체 결과인지 여부
+     */
+    public boolean isSystemFailure() {
+        return SYSTEM_FAILURE_REASON.equals(scoringReason);
+    }
 }
@@ -0,0 +1,11 @@
+package com.ebbinghaus.ttopullae.problem.application.dto;
+
+/**
+ * 서술형 비동기 채점 요청 이벤트
+ * 풀이 기록이 커밋된 뒤 채점 워커가 AI 채점을 수행합니다.
+ */
+public record EssayGradingRequestedEvent(
+        Long attemptId,
+        AiGradingRequest request
+) {
+}
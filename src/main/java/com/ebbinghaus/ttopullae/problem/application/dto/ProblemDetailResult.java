@@ -1,7 +1,5 @@
 package com.ebbinghaus.ttopullae.problem.application.dto;
 
-import com.ebbinghaus.ttopullae.problem.domain.Problem;
-import com.ebbinghaus.ttopullae.problem.domain.ProblemChoice;
 import com.ebbinghaus.ttopullae.problem.domain.ProblemReviewState;
 import com.ebbinghaus.ttopullae.problem.domain.ProblemType;
 import com.ebbinghaus.ttopullae.problem.domain.ReviewGate;
@@ -21,16 +19,13 @@ public record ProblemDetailResult(
         Boolean includeInReview
 ) {
     public static ProblemDetailResult of(
-            Problem problem,
-            List<ProblemChoice> problemChoices,
+            ProblemSnapshot problem,
             ProblemReviewState reviewState
     ) {
         // 객관식 선택지 (정답 제외)
         List<String> choices = null;
-        if (problem.getProblemType() == ProblemType.MCQ && problemChoices != null) {
-            choices = problemChoices.stream()
-                    .map(ProblemChoice::getChoiceText)
-                    .toList();
+        if (problem.problemType() == ProblemType.MCQ) {
+            choices = problem.choices();
         }
 
         // ReviewState가 없으면 null 반환
@@ -47,10 +42,10 @@ public record ProblemDetailResult(
         }
 
         return new ProblemDetailResult(
-                problem.getProblemId(),
-                problem.getQuestion(),
-                problem.getProblemType(),
-                problem.getStudyRoom().getStudyRoomId(),
+                problem.problemId(),
+                problem.question(),
+                problem.problemType(),
+                problem.studyRoomId(),
                 choices,
                 currentGate,
                 nextReviewDate,
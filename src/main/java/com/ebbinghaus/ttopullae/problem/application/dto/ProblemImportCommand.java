@@ -0,0 +1,11 @@
+package com.ebbinghaus.ttopullae.problem.application.dto;
+
+import java.io.InputStream;
+
+public record ProblemImportCommand(
+        Long userId,
+        Long studyRoomId,
+        ProblemImportFormat format,
+        InputStream content
+) {
+}
@@ -0,0 +1,35 @@
+package com.ebbinghaus.ttopullae.problem.application.dto;
+
+import com.ebbinghaus.ttopullae.global.exception.ApplicationException;
+import com.ebbinghaus.ttopullae.problem.exception.ProblemException;
+
+import java.util.Locale;
+
+/**
+ * 문제 가져오기 파일 형식
+ */
+public enum ProblemImportFormat {
+
+    /**
+     * 한 줄에 문제 생성 요청 JSON 1개
+     */
+    JSONL,
+
+    /**
+     * 첫 줄은 헤더, 이후 한 줄에 문제 1개 (목록 값은 '|'로 구분)
+     */
+    CSV;
+
+    public static ProblemImportFormat fromFilename(String filename) {
+        if (filename != null) {
+            String lower = filename.toLowerCase(Locale.ROOT);
+            if (lower.endsWith(".jsonl") || lower.endsWith(".ndjson")) {
+                return JSONL;
+            }
+            if (lower.endsWith(".csv")) {
+                return CSV;
+            }
+        }
+        throw new ApplicationException(ProblemException.UNSUPPORTED_IMPORT_FORMAT);
+    }
+}
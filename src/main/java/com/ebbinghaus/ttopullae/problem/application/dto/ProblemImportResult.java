@@ -0,0 +1,18 @@
+package com.ebbinghaus.ttopullae.problem.application.dto;
+
+import java.util.List;
+
+public record ProblemImportResult(
+        int totalCount,
+        int importedCount,
+        List<LineError> errors
+) {
+    /**
+     * 등록하지 못한 줄과 사유 (줄 번호는 파일 기준 1부터 시작)
+     */
+    public record LineError(
+            long lineNumber,
+            String message
+    ) {
+    }
+}
@@ -0,0 +1,48 @@
+package com.ebbinghaus.ttopullae.problem.application.dto;
+
+import com.ebbinghaus.ttopullae.problem.domain.Problem;
+import com.ebbinghaus.ttopullae.problem.domain.ProblemChoice;
+import com.ebbinghaus.ttopullae.problem.domain.ProblemKeyword;
+import com.ebbinghaus.ttopullae.problem.domain.ProblemType;
+
+import java.util.List;
+
+/**
+ * 문제 상세 조회와 채점에 필요한 문제 내용 (문제는 등록 후 수정되지 않으므로 캐시하여 재사용)
+ * 보기는 객관식, 키워드는 서술형에서만 채워지며 나머지 유형은 빈 목록입니다.
+ */
+public record ProblemSnapshot(
+        Long problemId,
+        Long studyRoomId,
+        String studyRoomName,
+        ProblemType problemType,
+        String question,
+        String explanation,
+        Boolean answerBoolean,
+        String answerText,
+        String modelAnswerText,
+        Integer correctChoiceIndex,
+        List<String> choices,
+        List<String> keywords
+) {
+    public static ProblemSnapshot of(
+            Problem problem,
+            List<ProblemChoice> problemChoices,
+            List<ProblemKeyword> problemKeywords
+    ) {
+        return new ProblemSnapshot(
+                problem.getProblemId(),
+                problem.getStudyRoom().getStudyRoomId(),
+                problem.getStudyRoom().getName(),
+                problem.getProblemType(),
+                problem.getQuestion(),
+                problem.getExplanation(),
+                problem.getAnswerBoolean(),
+                problem.getAnswerText(),
+                problem.getModelAnswerText(),
+                problem.getCorrectChoiceIndex(),
+                problemChoices.stream().map(ProblemChoice::getChoiceText).toList(),
+                problemKeywords.stream().map(ProblemKeyword::getKeyword).toList()
+        );
+    }
+}
@@ -1,5 +1,6 @@
 package com.ebbinghaus.ttopullae.problem.application.dto;
 
+import com.ebbinghaus.ttopullae.problem.domain.GradingStatus;
 import com.ebbinghaus.ttopullae.problem.domain.ReviewGate;
 
 public record ProblemSubmitResult(
@@ -10,6 +11,8 @@ public record ProblemSubmitResult(
         Integer reviewCount,
         String nextReviewDate,
         boolean isFirstAttempt,
-        boolean isReviewStateChanged
+        boolean isReviewStateChanged,
+        Long attemptId,
+        GradingStatus gradingStatus
 ) {
 }
@@ -0,0 +1,25 @@
+package com.ebbinghaus.ttopullae.problem.application.dto;
+
+/**
+ * 스트리밍 제출 이벤트
+ * - FEEDBACK: AI 피드백 텍스트 조각 (feedbackDelta만 채워짐)
+ * - RESULT: 최종 채점 결과와 복습 상태 변화 (result만 채워짐, 항상 마지막 이벤트)
+ */
+public record ProblemSubmitStreamEvent(
+        Type type,
+        String feedbackDelta,
+        ProblemSubmitResult result
+) {
+
+    public enum Type {
+        FEEDBACK, RESULT
+    }
+
+    public static ProblemSubmitStreamEvent feedback(String feedbackDelta) {
+        return new ProblemSubmitStreamEvent(Type.FEEDBACK, feedbackDelta, null);
+    }
+
+    public static ProblemSubmitStreamEvent result(ProblemSubmitResult result) {
+        return new ProblemSubmitStreamEvent(Type.RESULT, null, result);
+    }
+}
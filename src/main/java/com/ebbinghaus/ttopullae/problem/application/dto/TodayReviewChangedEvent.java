@@ -0,0 +1,10 @@
+package com.ebbinghaus.ttopullae.problem.application.dto;
+
+/**
+ * 오늘의 복습 목록 변경 이벤트
+ * 변경 트랜잭션이 커밋된 뒤 사용자의 오늘의 복습 목록 캐시를 무효화합니다.
+ */
+public record TodayReviewChangedEvent(
+        Long userId
+) {
+}
@@ -12,7 +12,8 @@ public enum AttemptStatus {
 
     NOT_ATTEMPTED("아직 풀지 않음"),
     CORRECT("정답"),
-    INCORRECT("오답");
+    INCORRECT("오답"),
+    GRADING("채점 중");
 
     private final String description;
 }
\ No newline at end of file
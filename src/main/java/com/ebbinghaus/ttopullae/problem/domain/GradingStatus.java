@@ -0,0 +1,19 @@
+package com.ebbinghaus.ttopullae.problem.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 풀이 기록의 채점 진행 상태
+ * 비동기 채점 모드에서 서술형 풀이는 PENDING으로 저장된 뒤 채점 워커가 완료 처리합니다.
+ */
+@Getter
+@AllArgsConstructor
+public enum GradingStatus {
+
+    PENDING("채점 중"),
+    COMPLETED("채점 완료"),
+    FAILED("채점 실패");
+
+    private final String description;
+}
@@ -0,0 +1,53 @@
+package com.ebbinghaus.ttopullae.problem.domain;
+
+import com.ebbinghaus.ttopullae.user.domain.User;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자별, 문제별 가장 최근 풀이 기록 요약 (비정규화 포인터)
+ *
+ * 공부방 문제 목록에서 최근 풀이 시각을 problem_attempts의 MAX 서브쿼리 없이
+ * (user_id, problem_id) 고유 인덱스 조회만으로 읽기 위해 유지합니다.
+ * 풀이 기록 저장과 같은 트랜잭션에서 갱신하며, 포인터 도입 전 풀이 기록은
+ * 보정 작업(LatestAttemptReconciliationService)이 채웁니다.
+ */
+@Builder
+@Entity @Getter
+@Table(
+        name = "latest_problem_attempts",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"user_id", "problem_id"})
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class LatestProblemAttempt {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long latestAttemptId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "problem_id", nullable = false)
+    private Problem problem;
+
+    /**
+     * 가리키는 풀이 기록 ID (ProblemAttempt.attemptId)
+     */
+    @Column(nullable = false)
+    private Long attemptId;
+
+    @Column(nullable = false)
+    private Boolean isCorrect;
+
+    /**
+     * 풀이 시각 (ProblemAttempt.createdAt)
+     */
+    @Column(nullable = false)
+    private LocalDateTime attemptedAt;
+}
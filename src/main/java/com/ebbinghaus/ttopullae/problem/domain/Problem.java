@@ -11,13 +11,23 @@ import java.util.List;
 
 @Builder
 @Entity @Getter
-@Table(name = "problems")
+@Table(
+        name = "problems",
+        indexes = @Index(name = "idx_study_room_created_at", columnList = "study_room_id, createdAt, problemId")
+)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 public class Problem extends BaseTimeEntity {
 
+    /**
+     * 문제, 보기, 키워드, 복습 상태는 시퀀스 기반 ID를 사용하여 INSERT를 JDBC 배치로 묶습니다.
+     * (IDENTITY 전략은 INSERT 직후 생성된 키를 읽어야 하므로 배치가 비활성화됨)
+     * MySQL에서는 시퀀스 대신 같은 이름의 테이블을 사용하며, 기존 데이터가 있는 DB의 전환 절차는
+     * docs/design/id-generation-migration.md를 참고합니다.
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "problem_seq")
+    @SequenceGenerator(name = "problem_seq", sequenceName = "problems_seq", allocationSize = 50)
     private Long problemId;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -7,7 +7,10 @@ import lombok.*;
 
 @Builder
 @Entity @Getter
-@Table(name = "problem_attempts")
+@Table(
+        name = "problem_attempts",
+        indexes = @Index(name = "idx_user_problem_created_at", columnList = "user_id, problem_id, createdAt")
+)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 public class ProblemAttempt extends BaseTimeEntity {
@@ -37,7 +40,37 @@ public class ProblemAttempt extends BaseTimeEntity {
     @Column(columnDefinition = "TEXT")
     private String aiFeedbackJson;
 
+    /**
+     * 채점 진행 상태 (기존 데이터는 null = 채점 완료로 취급)
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    @Builder.Default
+    private GradingStatus gradingStatus = GradingStatus.COMPLETED;
+
+    /**
+     * 오늘의 복습 첫 시도로 기록된 풀이인지 여부
+     * 비동기 채점 완료 시 복습 상태 전이를 적용할지 판단하는 데 사용합니다.
+     */
+    @Builder.Default
+    private Boolean firstReviewAttempt = false;
+
     public void updateAiFeedback(String json) {
         this.aiFeedbackJson = json;
     }
+
+    /**
+     * 채점 상태가 없는 기존 데이터는 동기 채점으로 완료된 풀이로 취급합니다.
+     */
+    public GradingStatus getGradingStatus() {
+        return gradingStatus != null ? gradingStatus : GradingStatus.COMPLETED;
+    }
+
+    public boolean isGradingPending() {
+        return gradingStatus == GradingStatus.PENDING;
+    }
+
+    public boolean isFirstReviewAttempt() {
+        return Boolean.TRUE.equals(firstReviewAttempt);
+    }
 }
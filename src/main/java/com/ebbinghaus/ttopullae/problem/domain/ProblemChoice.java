@@ -11,7 +11,8 @@ import lombok.*;
 public class ProblemChoice { // BaseTimeEntity 상속 제거
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "problem_choice_seq")
+    @SequenceGenerator(name = "problem_choice_seq", sequenceName = "problem_choices_seq", allocationSize = 50)
     private Long choiceId;
 
     @ManyToOne(fetch = FetchType.LAZY)
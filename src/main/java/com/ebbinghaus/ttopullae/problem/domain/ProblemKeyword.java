@@ -11,7 +11,8 @@ import lombok.*;
 public class ProblemKeyword { // BaseTimeEntity 상속 제거
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "problem_keyword_seq")
+    @SequenceGenerator(name = "problem_keyword_seq", sequenceName = "problem_keywords_seq", allocationSize = 50)
     private Long keywordId;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -22,7 +22,8 @@ import java.time.LocalDate;
 public class ProblemReviewState extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "problem_review_state_seq")
+    @SequenceGenerator(name = "problem_review_state_seq", sequenceName = "problem_review_states_seq", allocationSize = 50)
     private Long stateId;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -66,6 +67,14 @@ public class ProblemReviewState extends BaseTimeEntity {
     @Column(name = "today_review_first_attempt_date")
     private LocalDate todayReviewFirstAttemptDate;
 
+    /**
+     * 오늘의 복습 첫 시도의 정답 여부
+     * - todayReviewFirstAttemptDate와 함께 오늘의 복습 목록의 풀이 상태를 판단 (풀이 기록 조회 불필요)
+     * - null이면 → 비동기 채점 중 (채점 완료 시 기록)
+     */
+    @Column(name = "today_review_first_attempt_correct")
+    private Boolean todayReviewFirstAttemptCorrect;
+
     /**
      * 복습 루프 포함 여부
      * - true: 복습 주기에 포함 (오늘의 복습에 노출)
@@ -97,8 +106,36 @@ public class ProblemReviewState extends BaseTimeEntity {
         this.reviewCount++;
     }
 
-    public void recordFirstAttemptToday(LocalDate today) {
+    /**
+     * 오늘의 복습 첫 시도 기록
+     * @param isCorrect 정답 여부 (비동기 채점 중이면 null)
+     */
+    public void recordFirstAttemptToday(LocalDate today, Boolean isCorrect) {
         this.todayReviewFirstAttemptDate = today;
+        this.todayReviewFirstAttemptCorrect = isCorrect;
+    }
+
+    /**
+     * 비동기 채점 결과를 첫 시도 정답 여부로 기록
+     * 채점 중 날짜가 바뀌어 다른 날의 첫 시도가 기록되었다면 덮어쓰지 않습니다.
+     */
+    public void recordFirstAttemptResult(LocalDate attemptDate, boolean isCorrect) {
+        if (attemptDate.equals(this.todayReviewFirstAttemptDate)) {
+            this.todayReviewFirstAttemptCorrect = isCorrect;
+        }
+    }
+
+    /**
+     * 오늘의 복습 문제 풀이 상태
+     */
+    public AttemptStatus getTodayAttemptStatus(LocalDate today) {
+        if (isFirstAttemptToday(today)) {
+            return AttemptStatus.NOT_ATTEMPTED;
+        }
+        if (todayReviewFirstAttemptCorrect == null) {
+            return AttemptStatus.GRADING;
+        }
+        return todayReviewFirstAttemptCorrect ? AttemptStatus.CORRECT : AttemptStatus.INCORRECT;
     }
 
     /**
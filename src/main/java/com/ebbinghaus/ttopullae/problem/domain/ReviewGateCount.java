@@ -0,0 +1,67 @@
+package com.ebbinghaus.ttopullae.problem.domain;
+
+import com.ebbinghaus.ttopullae.studyroom.domain.StudyRoom;
+import com.ebbinghaus.ttopullae.user.domain.User;
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 사용자별, 스터디룸별 복습 관문 분포 (비정규화 카운터)
+ *
+ * 공부방 목록 조회 시 관문별 문제 수를 COUNT 쿼리 없이 읽기 위해 유지합니다.
+ * 복습 상태 생성과 관문 전이 시 같은 트랜잭션에서 원자적 UPDATE로 갱신하며,
+ * 어긋난 값은 카운터 정합성 작업(RoomCounterReconciliationService)이 복구합니다.
+ */
+@Builder
+@Entity @Getter
+@Table(
+        name = "review_gate_counts",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"user_id", "study_room_id"})
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class ReviewGateCount {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long countId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "study_room_id", nullable = false)
+    private StudyRoom studyRoom;
+
+    @Builder.Default
+    @Column(nullable = false)
+    private int gate1Count = 0;
+
+    @Builder.Default
+    @Column(nullable = false)
+    private int gate2Count = 0;
+
+    @Builder.Default
+    @Column(nullable = false)
+    private int graduatedCount = 0;
+
+    /**
+     * 복습 주기에 포함된 문제 수 (모든 관문의 합)
+     */
+    public int getTotalCount() {
+        return gate1Count + gate2Count + graduatedCount;
+    }
+
+    /**
+     * 특정 관문에 있는 문제 수
+     */
+    public int getCount(ReviewGate gate) {
+        return switch (gate) {
+            case GATE_1 -> gate1Count;
+            case GATE_2 -> gate2Count;
+            case GRADUATED -> graduatedCount;
+            default -> 0;
+        };
+    }
+}
@@ -0,0 +1,94 @@
+package com.ebbinghaus.ttopullae.problem.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 오늘의 복습 스냅샷 작업의 진행 상태 (날짜별 1건)
+ *
+ * 스냅샷은 problem_review_states를 기본 키 범위 단위로 나누어 처리하며,
+ * 각 범위의 처리 결과와 체크포인트 갱신을 같은 트랜잭션으로 커밋합니다.
+ * 작업 도중 서버가 중단되면 lastProcessedId 다음 범위부터 이어서 실행합니다.
+ *
+ * 여러 서버가 같은 날의 작업을 동시에 처리하지 않도록, 작업을 맡은 서버(ownerId)가
+ * 임대 만료 시각(leaseUntil)까지 작업을 점유하며 범위를 처리할 때마다 임대를 연장합니다.
+ * 처리가 실패하면 점유를 해제하고, 서버가 중단되면 임대가 만료된 뒤
+ * 각 서버의 주기적 확인(ReviewScheduleService#resumeIncompleteSnapshot)이 작업을 이어받습니다.
+ */
+@Builder
+@Entity @Getter
+@Table(name = "review_snapshot_checkpoints")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class ReviewSnapshotCheckpoint {
+
+    @Id
+    private LocalDate snapshotDate;
+
+    /**
+     * 처리 범위 상한 (작업 시작 시점의 최대 stateId)
+     */
+    @Column(nullable = false)
+    private Long maxStateId;
+
+    /**
+     * 처리가 완료된 마지막 stateId (0이면 아직 처리한 범위 없음)
+     */
+    @Column(nullable = false)
+    private Long lastProcessedId;
+
+    /**
+     * 지금까지 스냅샷된 행 수
+     */
+    private long snapshotCount;
+
+    private boolean completed;
+
+    private LocalDateTime startedAt;
+
+    /**
+     * 작업을 점유한 서버 식별자 (null이면 점유한 서버 없음)
+     */
+    private String ownerId;
+
+    /**
+     * 점유 만료 시각 (이 시각이 지나면 다른 서버가 작업을 이어받을 수 있음)
+     */
+    private LocalDateTime leaseUntil;
+
+    private LocalDateTime updatedAt;
+
+    public static ReviewSnapshotCheckpoint start(LocalDate snapshotDate, long maxStateId, LocalDateTime now) {
+        return ReviewSnapshotCheckpoint.builder()
+                .snapshotDate(snapshotDate)
+                .maxStateId(maxStateId)
+                .lastProcessedId(0L)
+                .snapshotCount(0)
+                .completed(false)
+                .startedAt(now)
+                .updatedAt(now)
+                .build();
+    }
+
+    /**
+     * 완료되지 않았고, 점유한 서버가 없거나 이 서버가 점유했거나 점유가 만료되어 이어받을 수 있는지 여부
+     */
+    public boolean isResumableBy(String ownerId, LocalDateTime now) {
+        return !completed
+                && (this.ownerId == null || this.ownerId.equals(ownerId) || leaseUntil == null || leaseUntil.isBefore(now));
+    }
+
+    public void advance(long processedId, int chunkSnapshotCount, LocalDateTime now) {
+        this.lastProcessedId = processedId;
+        this.snapshotCount += chunkSnapshotCount;
+        this.updatedAt = now;
+    }
+
+    public void complete(LocalDateTime now) {
+        this.completed = true;
+        this.updatedAt = now;
+    }
+}
@@ -0,0 +1,116 @@
+package com.ebbinghaus.ttopullae.problem.domain.repository;
+
+import com.ebbinghaus.ttopullae.problem.domain.LatestProblemAttempt;
+import com.ebbinghaus.ttopullae.problem.domain.repository.dto.LatestAttemptDto;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface LatestProblemAttemptRepository extends JpaRepository<LatestProblemAttempt, Long> {
+
+    /**
+     * 여러 문제에 대한 사용자의 최근 풀이 기록 요약을 조회합니다.
+     * (user_id, problem_id) 고유 인덱스만 읽으므로 풀이 기록이 늘어나도 비용이 일정합니다.
+     *
+     * @param userId 사용자 ID
+     * @param problemIds 문제 ID 목록
+     * @return 풀이 기록이 있는 문제의 최근 풀이 기록 요약 목록
+     */
+    @Query("""
+        SELECT l FROM LatestProblemAttempt l
+        WHERE l.user.userId = :userId
+          AND l.problem.problemId IN :problemIds
+        """)
+    List<LatestProblemAttempt> findAllByUserIdAndProblemIds(
+        @Param("userId") Long userId,
+        @Param("problemIds") List<Long> problemIds
+    );
+
+    /**
+     * 포인터를 더 최근 풀이 기록으로 옮깁니다.
+     * 이미 같거나 더 최근 풀이 기록을 가리키고 있으면 갱신하지 않습니다.
+     *
+     * @return 갱신된 행 수 (포인터 행이 없거나 더 최근 풀이를 가리키고 있으면 0)
+     */
+    @Modifying
+    @Query("""
+        UPDATE LatestProblemAttempt l
+        SET l.attemptId = :attemptId,
+            l.isCorrect = :isCorrect,
+            l.attemptedAt = :attemptedAt
+        WHERE l.user.userId = :userId
+          AND l.problem.problemId = :problemId
+          AND l.attemptId < :attemptId
+        """)
+    int moveTo(
+        @Param("userId") Long userId,
+        @Param("problemId") Long problemId,
+        @Param("attemptId") Long attemptId,
+        @Param("isCorrect") Boolean isCorrect,
+        @Param("attemptedAt") LocalDateTime attemptedAt
+    );
+
+    /**
+     * 포인터 행이 없으면 생성하고, 있으면 더 최근 풀이 기록일 때만 옮깁니다.
+     * 같은 (사용자, 문제)의 첫 풀이가 동시에 저장되어도 고유 키 충돌로 실패하지 않습니다.
+     * (attempt_id는 다른 컬럼의 비교에 쓰이므로 마지막에 갱신)
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO latest_problem_attempts (user_id, problem_id, attempt_id, is_correct, attempted_at)
+        VALUES (:userId, :problemId, :attemptId, :isCorrect, :attemptedAt)
+        ON DUPLICATE KEY UPDATE
+            is_correct = CASE WHEN attempt_id < VALUES(attempt_id) THEN VALUES(is_correct) ELSE is_correct END,
+            attempted_at = CASE WHEN attempt_id < VALUES(attempt_id) THEN VALUES(attempted_at) ELSE attempted_at END,
+            attempt_id = GREATEST(attempt_id, VALUES(attempt_id))
+        """, nativeQuery = true)
+    void upsert(
+        @Param("userId") Long userId,
+        @Param("problemId") Long problemId,
+        @Param("attemptId") Long attemptId,
+        @Param("isCorrect") Boolean isCorrect,
+        @Param("attemptedAt") LocalDateTime attemptedAt
+    );
+
+    /**
+     * 비동기 채점이 완료된 풀이 기록을 가리키는 포인터에 채점 결과를 반영합니다.
+     * (채점 중 같은 문제를 다시 풀어 포인터가 옮겨졌다면 갱신하지 않음)
+     */
+    @Modifying
+    @Query("""
+        UPDATE LatestProblemAttempt l
+        SET l.isCorrect = :isCorrect
+        WHERE l.attemptId = :attemptId
+        """)
+    int updateCorrectness(
+        @Param("attemptId") Long attemptId,
+        @Param("isCorrect") Boolean isCorrect
+    );
+
+    /**
+     * 풀이 기록 ID 범위 [fromId, toId] 안에서, 해당 (사용자, 문제)의 가장 최근 풀이이면서
+     * 아직 포인터가 없는 풀이 기록을 조회합니다.
+     */
+    @Query("""
+        SELECT new com.ebbinghaus.ttopullae.problem.domain.repository.dto.LatestAttemptDto(
+            pa.attemptId, pa.user.userId, pa.problem.problemId, pa.isCorrect, pa.createdAt)
+        FROM ProblemAttempt pa
+        WHERE pa.attemptId BETWEEN :fromId AND :toId
+          AND NOT EXISTS (
+              SELECT 1 FROM ProblemAttempt pa2
+              WHERE pa2.user = pa.user AND pa2.problem = pa.problem
+                AND pa2.attemptId > pa.attemptId
+          )
+          AND NOT EXISTS (
+              SELECT 1 FROM LatestProblemAttempt l
+              WHERE l.user = pa.user AND l.problem = pa.problem
+          )
+        """)
+    List<LatestAttemptDto> findLatestAttemptsWithoutPointerInRange(
+        @Param("fromId") Long fromId,
+        @Param("toId") Long toId
+    );
+}
@@ -1,67 +1,77 @@
 package com.ebbinghaus.ttopullae.problem.domain.repository;
 
+import com.ebbinghaus.ttopullae.problem.domain.GradingStatus;
 import com.ebbinghaus.ttopullae.problem.domain.ProblemAttempt;
 import java.time.LocalDateTime;
 import java.util.List;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 public interface ProblemAttemptRepository extends JpaRepository<ProblemAttempt, Long> {
 
     /**
-     * 여러 문제에 대한 사용자의 가장 최근 풀이 기록을 조회합니다.
-     * Batch 조회로 N+1 문제를 방지합니다.
+     * 채점 중(PENDING)인 풀이 기록에 채점 결과를 반영합니다.
+     * 조건부 UPDATE로 처리하므로 같은 풀이를 여러 워커가 동시에 완료하려 해도 한 번만 반영됩니다.
      *
-     * @param userId 사용자 ID
-     * @param problemIds 문제 ID 목록
-     * @return 각 문제의 최근 풀이 기록 목록
+     * @param attemptId 풀이 기록 ID
+     * @param isCorrect 채점 결과 (정답 여부)
+     * @param aiFeedback AI 피드백
+     * @param status 반영할 채점 상태 (COMPLETED 또는 FAILED)
+     * @return 반영된 행 수 (이미 처리된 풀이라면 0)
      */
+    @Modifying(clearAutomatically = true)
     @Query("""
-        SELECT pa FROM ProblemAttempt pa
-        WHERE pa.user.userId = :userId
-          AND pa.problem.problemId IN :problemIds
-          AND pa.createdAt = (
-              SELECT MAX(pa2.createdAt)
-              FROM ProblemAttempt pa2
-              WHERE pa2.user.userId = :userId
-                AND pa2.problem.problemId = pa.problem.problemId
-          )
+        UPDATE ProblemAttempt pa
+        SET pa.isCorrect = :isCorrect,
+            pa.aiFeedbackJson = :aiFeedback,
+            pa.gradingStatus = :status
+        WHERE pa.attemptId = :attemptId
+          AND pa.gradingStatus = com.ebbinghaus.ttopullae.problem.domain.GradingStatus.PENDING
         """)
-    List<ProblemAttempt> findLatestAttemptsByUserAndProblems(
-        @Param("userId") Long userId,
-        @Param("problemIds") List<Long> problemIds
+    int completePendingGrading(
+        @Param("attemptId") Long attemptId,
+        @Param("isCorrect") Boolean isCorrect,
+        @Param("aiFeedback") String aiFeedback,
+        @Param("status") GradingStatus status
     );
 
     /**
-     * 오늘 날짜에 풀이한 문제들의 첫 번째 시도를 조회합니다.
-     * Batch 조회로 N+1 문제를 방지합니다.
+     * 일정 시간 이상 채점 중(PENDING)으로 남아있는 풀이 기록을 조회합니다.
+     * 워커 큐 포화나 서버 재시작으로 유실된 채점 요청을 복구하는 데 사용합니다.
      *
-     * @param userId 사용자 ID
-     * @param problemIds 문제 ID 목록
-     * @param todayStart 오늘 시작 시간 (00:00:00)
-     * @param tomorrowStart 내일 시작 시간 (00:00:00)
-     * @return 각 문제의 오늘 첫 번째 풀이 기록 목록
+     * @param submittedBefore 이 시각 이전에 제출된 풀이만 조회
+     * @param pageable 조회 건수 제한
+     * @return 채점이 지연된 풀이 기록 목록 (문제, 스터디룸 fetch join)
      */
     @Query("""
         SELECT pa FROM ProblemAttempt pa
-        WHERE pa.user.userId = :userId
-          AND pa.problem.problemId IN :problemIds
-          AND pa.createdAt >= :todayStart
-          AND pa.createdAt < :tomorrowStart
-          AND pa.createdAt = (
-              SELECT MIN(pa2.createdAt)
-              FROM ProblemAttempt pa2
-              WHERE pa2.user.userId = :userId
-                AND pa2.problem.problemId = pa.problem.problemId
-                AND pa2.createdAt >= :todayStart
-                AND pa2.createdAt < :tomorrowStart
-          )
+        JOIN FETCH pa.problem p
+        JOIN FETCH p.studyRoom
+        WHERE pa.gradingStatus = com.ebbinghaus.ttopullae.problem.domain.GradingStatus.PENDING
+          AND pa.createdAt < :submittedBefore
+        ORDER BY pa.attemptId
         """)
-    List<ProblemAttempt> findTodaysFirstAttemptsByUserAndProblems(
-        @Param("userId") Long userId,
-        @Param("problemIds") List<Long> problemIds,
-        @Param("todayStart") LocalDateTime todayStart,
-        @Param("tomorrowStart") LocalDateTime tomorrowStart
+    List<ProblemAttempt> findStalledPendingAttempts(
+        @Param("submittedBefore") LocalDateTime submittedBefore,
+        Pageable pageable
     );
-}
\ No newline at end of file
+
+    /**
+     * 일정 시각 이후 문제를 풀이한 사용자 ID를 조회합니다.
+     * 지연 스냅샷 모드에서 자정 배치가 최근 활성 사용자의 스냅샷만 미리 생성하는 데 사용합니다.
+     *
+     * @param since 이 시각 이후 풀이 기록이 있는 사용자만 조회
+     * @return 사용자 ID 목록
+     */
+    @Query("""
+        SELECT DISTINCT pa.user.userId FROM ProblemAttempt pa
+        WHERE pa.createdAt >= :since
+        """)
+    List<Long> findActiveUserIdsSince(@Param("since") LocalDateTime since);
+
+    @Query("SELECT COALESCE(MAX(pa.attemptId), 0) FROM ProblemAttempt pa")
+    Long findMaxAttemptId();
+}
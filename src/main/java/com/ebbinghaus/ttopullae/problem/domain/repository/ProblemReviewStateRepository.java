@@ -4,9 +4,9 @@ import com.ebbinghaus.ttopullae.problem.domain.Problem;
 import com.ebbinghaus.ttopullae.problem.domain.ProblemReviewState;
 import com.ebbinghaus.ttopullae.problem.domain.ReviewGate;
 import com.ebbinghaus.ttopullae.problem.domain.repository.dto.TodayMailProjection;
-import com.ebbinghaus.ttopullae.studyroom.domain.StudyRoom;
 import com.ebbinghaus.ttopullae.user.domain.User;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -16,8 +16,6 @@ import org.springframework.data.repository.query.Param;
 
 public interface ProblemReviewStateRepository extends JpaRepository<ProblemReviewState, Long> {
 
-    int countByUserAndProblem_StudyRoomAndGate(User user, StudyRoom studyRoom, ReviewGate gate);
-
     Optional<ProblemReviewState> findByUserAndProblem(User user, Problem problem);
 
     /**
@@ -46,11 +44,95 @@ public interface ProblemReviewStateRepository extends JpaRepository<ProblemRevie
         """)
     int snapshotTodayReviewProblems(@Param("today") LocalDate today);
 
+    /**
+     * 기본 키 범위 [fromId, toId] 안에서 오늘의 복습 문제 스냅샷을 생성합니다.
+     * 처리 조건은 snapshotTodayReviewProblems와 같으며, 스냅샷 작업을 범위 단위로 나누어
+     * 커밋할 때 사용합니다. (한 번에 잠그는 행 수를 제한)
+     *
+     * @param today 오늘 날짜
+     * @param fromId 시작 stateId (포함)
+     * @param toId 끝 stateId (포함)
+     * @return 스냅샷된 문제 개수
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+        UPDATE ProblemReviewState prs
+        SET prs.todayReviewIncludedDate = :today,
+            prs.todayReviewIncludedGate = prs.gate
+        WHERE prs.stateId BETWEEN :fromId AND :toId
+          AND prs.nextReviewDate <= :today
+          AND prs.gate <> 'GRADUATED'
+          AND (prs.todayReviewIncludedDate IS NULL
+               OR prs.todayReviewIncludedDate <> :today)
+        """)
+    int snapshotTodayReviewProblemsInRange(
+        @Param("today") LocalDate today,
+        @Param("fromId") Long fromId,
+        @Param("toId") Long toId
+    );
+
+    /**
+     * 오늘 첫 시도가 기록되었지만 정답 여부가 비어 있는 복습 상태를 오늘의 첫 풀이 기록으로 채웁니다.
+     * (정답 여부 컬럼 도입 전 서버가 기록한 첫 시도 보정용)
+     *
+     * 첫 풀이 기록은 오늘 저장된 풀이 기록 중 가장 먼저 저장된 것이며, 채점 중인 풀이는 채점 완료 시 기록되므로 제외합니다.
+     *
+     * @return 보정한 행 수
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+        UPDATE ProblemReviewState prs
+        SET prs.todayReviewFirstAttemptCorrect = (
+            SELECT pa.isCorrect FROM ProblemAttempt pa
+            WHERE pa.attemptId = (SELECT MIN(pa2.attemptId) FROM ProblemAttempt pa2
+                                  WHERE pa2.user = prs.user AND pa2.problem = prs.problem
+                                    AND pa2.createdAt >= :startOfToday))
+        WHERE prs.todayReviewFirstAttemptDate = :today
+          AND prs.todayReviewFirstAttemptCorrect IS NULL
+          AND EXISTS (
+            SELECT pa.attemptId FROM ProblemAttempt pa
+            WHERE pa.attemptId = (SELECT MIN(pa2.attemptId) FROM ProblemAttempt pa2
+                                  WHERE pa2.user = prs.user AND pa2.problem = prs.problem
+                                    AND pa2.createdAt >= :startOfToday)
+              AND (pa.gradingStatus IS NULL OR pa.gradingStatus <> 'PENDING'))
+        """)
+    int backfillTodayFirstAttemptCorrect(
+        @Param("today") LocalDate today,
+        @Param("startOfToday") LocalDateTime startOfToday
+    );
+
+    /**
+     * 한 사용자의 오늘의 복습 문제 스냅샷을 생성합니다. (지연 스냅샷 모드)
+     * 처리 조건은 snapshotTodayReviewProblems와 같으며, 사용자가 오늘 처음 접근할 때 실행합니다.
+     *
+     * @param userId 사용자 ID
+     * @param today 오늘 날짜
+     * @return 스냅샷된 문제 개수
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+        UPDATE ProblemReviewState prs
+        SET prs.todayReviewIncludedDate = :today,
+            prs.todayReviewIncludedGate = prs.gate
+        WHERE prs.user.userId = :userId
+          AND prs.nextReviewDate <= :today
+          AND prs.gate <> 'GRADUATED'
+          AND (prs.todayReviewIncludedDate IS NULL
+               OR prs.todayReviewIncludedDate <> :today)
+        """)
+    int snapshotTodayReviewProblemsForUser(
+        @Param("userId") Long userId,
+        @Param("today") LocalDate today
+    );
+
+    @Query("SELECT COALESCE(MAX(prs.stateId), 0) FROM ProblemReviewState prs")
+    Long findMaxStateId();
+
     /**
      * 오늘의 복습 문제를 조회합니다.
      *
      * 조회 조건:
-     * 1. todayReviewIncludedDate = today (자정 배치에서 스냅샷됨)
+     * 1. todayReviewIncludedDate = today (자정 배치 또는 지연 모드의 첫 접근 시 스냅샷됨)
      * 2. targetGate 필터 (todayReviewIncludedGate 기준)
      *
      * @param userId 사용자 ID
@@ -72,7 +154,11 @@ public interface ProblemReviewStateRepository extends JpaRepository<ProblemRevie
         @Param("targetGate") ReviewGate targetGate
     );
 
-
+    /**
+     * 오늘의 복습 알림 메일 대상 조회
+     * 지연 스냅샷 모드에서는 앱에 접속하지 않은 사용자의 스냅샷이 없으므로,
+     * 스냅샷 여부와 관계없이 오늘 복습할 문제(nextReviewDate <= today)도 함께 조회합니다.
+     */
     @Query("""
             SELECT
                 u.userId as userId,
@@ -82,7 +168,8 @@ public interface ProblemReviewStateRepository extends JpaRepository<ProblemRevie
             FROM ProblemReviewState prs
                  JOIN prs.user u
                  JOIN prs.problem p
-            WHERE prs.todayReviewIncludedDate = :today
+            WHERE (prs.todayReviewIncludedDate = :today
+                    OR (prs.nextReviewDate <= :today AND prs.gate <> 'GRADUATED'))
                  AND u.receiveNotifications = true
             """)
     List<TodayMailProjection> findAllTodayReviewProblemMails(@Param("today")LocalDate today);
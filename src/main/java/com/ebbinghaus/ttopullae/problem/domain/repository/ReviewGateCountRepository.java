@@ -0,0 +1,130 @@
+package com.ebbinghaus.ttopullae.problem.domain.repository;
+
+import com.ebbinghaus.ttopullae.problem.domain.ReviewGateCount;
+import com.ebbinghaus.ttopullae.problem.domain.repository.dto.UserStudyRoomPairDto;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface ReviewGateCountRepository extends JpaRepository<ReviewGateCount, Long> {
+
+    @Query("""
+        SELECT c FROM ReviewGateCount c
+        WHERE c.user.userId = :userId
+          AND c.studyRoom.studyRoomId IN :studyRoomIds
+        """)
+    List<ReviewGateCount> findAllByUserIdAndStudyRoomIds(
+        @Param("userId") Long userId,
+        @Param("studyRoomIds") List<Long> studyRoomIds
+    );
+
+    @Query("""
+        SELECT c FROM ReviewGateCount c
+        WHERE c.user.userId = :userId
+          AND c.studyRoom.studyRoomId = :studyRoomId
+        """)
+    Optional<ReviewGateCount> findByUserIdAndStudyRoomId(
+        @Param("userId") Long userId,
+        @Param("studyRoomId") Long studyRoomId
+    );
+
+    /**
+     * 관문별 문제 수를 원자적으로 증감합니다.
+     * 동시에 여러 문제의 관문이 바뀌어도 갱신이 유실되지 않도록 현재 값에 더하는 방식으로 갱신합니다.
+     *
+     * @return 갱신된 행 수 (해당 사용자와 스터디룸의 카운터 행이 없으면 0)
+     */
+    @Modifying
+    @Query("""
+        UPDATE ReviewGateCount c
+        SET c.gate1Count = c.gate1Count + :gate1Delta,
+            c.gate2Count = c.gate2Count + :gate2Delta,
+            c.graduatedCount = c.graduatedCount + :graduatedDelta
+        WHERE c.user.userId = :userId
+          AND c.studyRoom.studyRoomId = :studyRoomId
+        """)
+    int adjustCounts(
+        @Param("userId") Long userId,
+        @Param("studyRoomId") Long studyRoomId,
+        @Param("gate1Delta") int gate1Delta,
+        @Param("gate2Delta") int gate2Delta,
+        @Param("graduatedDelta") int graduatedDelta
+    );
+
+    /**
+     * (사용자, 스터디룸)의 카운터 행이 없으면 빈 행을 생성합니다.
+     * 동시에 같은 행을 생성해도 고유 키 충돌로 실패하지 않도록 이미 있으면 아무것도 바꾸지 않습니다.
+     * (개수는 이후 recalculate로 채움)
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO review_gate_counts (user_id, study_room_id, gate1_count, gate2_count, graduated_count)
+        VALUES (:userId, :studyRoomId, 0, 0, 0)
+        ON DUPLICATE KEY UPDATE gate1_count = gate1_count
+        """, nativeQuery = true)
+    void insertIfAbsent(@Param("userId") Long userId, @Param("studyRoomId") Long studyRoomId);
+
+    /**
+     * (사용자, 스터디룸)의 카운터를 실제 복습 상태 개수로 다시 계산합니다.
+     *
+     * @return 다시 계산한 행 수
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        UPDATE ReviewGateCount c
+        SET c.gate1Count = CAST((SELECT COUNT(prs) FROM ProblemReviewState prs
+                                 WHERE prs.user = c.user AND prs.problem.studyRoom = c.studyRoom
+                                   AND prs.gate = 'GATE_1') AS Integer),
+            c.gate2Count = CAST((SELECT COUNT(prs) FROM ProblemReviewState prs
+                                 WHERE prs.user = c.user AND prs.problem.studyRoom = c.studyRoom
+                                   AND prs.gate = 'GATE_2') AS Integer),
+            c.graduatedCount = CAST((SELECT COUNT(prs) FROM ProblemReviewState prs
+                                     WHERE prs.user = c.user AND prs.problem.studyRoom = c.studyRoom
+                                       AND prs.gate = 'GRADUATED') AS Integer)
+        WHERE c.user.userId = :userId
+          AND c.studyRoom.studyRoomId = :studyRoomId
+        """)
+    int recalculate(@Param("userId") Long userId, @Param("studyRoomId") Long studyRoomId);
+
+    /**
+     * 기본 키 범위 [fromId, toId]의 카운터를 실제 복습 상태 개수로 다시 계산합니다.
+     *
+     * @return 다시 계산한 행 수
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        UPDATE ReviewGateCount c
+        SET c.gate1Count = CAST((SELECT COUNT(prs) FROM ProblemReviewState prs
+                                 WHERE prs.user = c.user AND prs.problem.studyRoom = c.studyRoom
+                                   AND prs.gate = 'GATE_1') AS Integer),
+            c.gate2Count = CAST((SELECT COUNT(prs) FROM ProblemReviewState prs
+                                 WHERE prs.user = c.user AND prs.problem.studyRoom = c.studyRoom
+                                   AND prs.gate = 'GATE_2') AS Integer),
+            c.graduatedCount = CAST((SELECT COUNT(prs) FROM ProblemReviewState prs
+                                     WHERE prs.user = c.user AND prs.problem.studyRoom = c.studyRoom
+                                       AND prs.gate = 'GRADUATED') AS Integer)
+        WHERE c.countId BETWEEN :fromId AND :toId
+        """)
+    int recalculateInRange(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    /**
+     * 복습 상태는 있지만 카운터 행이 없는 (사용자, 스터디룸) 쌍을 조회합니다.
+     */
+    @Query("""
+        SELECT DISTINCT new com.ebbinghaus.ttopullae.problem.domain.repository.dto.UserStudyRoomPairDto(
+            prs.user.userId, p.studyRoom.studyRoomId)
+        FROM ProblemReviewState prs
+        JOIN prs.problem p
+        WHERE NOT EXISTS (
+            SELECT 1 FROM ReviewGateCount c
+            WHERE c.user = prs.user AND c.studyRoom = p.studyRoom
+        )
+        """)
+    List<UserStudyRoomPairDto> findPairsWithoutCount();
+
+    @Query("SELECT COALESCE(MAX(c.countId), 0) FROM ReviewGateCount c")
+    Long findMaxCountId();
+}
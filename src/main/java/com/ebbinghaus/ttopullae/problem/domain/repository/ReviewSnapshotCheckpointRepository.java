@@ -0,0 +1,64 @@
+package com.ebbinghaus.ttopullae.problem.domain.repository;
+
+import com.ebbinghaus.ttopullae.problem.domain.ReviewSnapshotCheckpoint;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface ReviewSnapshotCheckpointRepository extends JpaRepository<ReviewSnapshotCheckpoint, LocalDate> {
+
+    /**
+     * 날짜의 체크포인트가 없으면 생성합니다.
+     * 여러 서버가 동시에 생성해도 기본 키 충돌로 실패하지 않도록 이미 있으면 아무것도 바꾸지 않습니다.
+     * (작업 점유는 이후 claim으로 결정)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+        INSERT INTO review_snapshot_checkpoints
+            (snapshot_date, max_state_id, last_processed_id, snapshot_count, completed, started_at, updated_at)
+        VALUES (:snapshotDate, :maxStateId, 0, 0, false, :now, :now)
+        ON DUPLICATE KEY UPDATE updated_at = updated_at
+        """, nativeQuery = true)
+    void insertIfAbsent(
+        @Param("snapshotDate") LocalDate snapshotDate,
+        @Param("maxStateId") long maxStateId,
+        @Param("now") LocalDateTime now
+    );
+
+    /**
+     * 완료되지 않은 작업을 점유하거나 점유를 연장합니다.
+     * 점유한 서버가 없거나, 이미 이 서버가 점유 중이거나, 다른 서버의 점유가 만료된 경우에만 성공합니다.
+     *
+     * @return 점유에 성공하면 1, 다른 서버가 점유 중이거나 이미 완료된 작업이면 0
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+        UPDATE ReviewSnapshotCheckpoint c
+        SET c.ownerId = :ownerId, c.leaseUntil = :leaseUntil
+        WHERE c.snapshotDate = :snapshotDate
+          AND c.completed = false
+          AND (c.ownerId IS NULL OR c.ownerId = :ownerId OR c.leaseUntil < :now)
+        """)
+    int claim(
+        @Param("snapshotDate") LocalDate snapshotDate,
+        @Param("ownerId") String ownerId,
+        @Param("now") LocalDateTime now,
+        @Param("leaseUntil") LocalDateTime leaseUntil
+    );
+
+    /**
+     * 이 서버가 점유한 완료되지 않은 작업의 점유를 해제합니다. (처리 실패 시 다른 서버가 바로 이어받을 수 있도록)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+        UPDATE ReviewSnapshotCheckpoint c
+        SET c.ownerId = NULL, c.leaseUntil = NULL
+        WHERE c.snapshotDate = :snapshotDate
+          AND c.ownerId = :ownerId
+          AND c.completed = false
+        """)
+    int release(@Param("snapshotDate") LocalDate snapshotDate, @Param("ownerId") String ownerId);
+}
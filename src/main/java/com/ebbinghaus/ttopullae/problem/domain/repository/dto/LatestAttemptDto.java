@@ -0,0 +1,22 @@
+package com.ebbinghaus.ttopullae.problem.domain.repository.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 최근 풀이 기록 포인터를 만들기 위한 풀이 기록 요약
+ * Repository 쿼리 결과를 담기 위한 용도로 사용됩니다.
+ *
+ * @param attemptId 풀이 기록 ID
+ * @param userId 사용자 ID
+ * @param problemId 문제 ID
+ * @param isCorrect 정답 여부
+ * @param attemptedAt 풀이 시각
+ */
+public record LatestAttemptDto(
+    Long attemptId,
+    Long userId,
+    Long problemId,
+    Boolean isCorrect,
+    LocalDateTime attemptedAt
+) {
+}
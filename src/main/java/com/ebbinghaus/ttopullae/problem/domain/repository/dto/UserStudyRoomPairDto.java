@@ -0,0 +1,13 @@
+package com.ebbinghaus.ttopullae.problem.domain.repository.dto;
+
+/**
+ * 사용자와 스터디룸 ID 쌍을 담는 DTO
+ *
+ * @param userId 사용자 ID
+ * @param studyRoomId 스터디룸 ID
+ */
+public record UserStudyRoomPairDto(
+    Long userId,
+    Long studyRoomId
+) {
+}
@@ -16,8 +16,13 @@ public enum ProblemException implements ExceptionCode {
     INVALID_CHOICE_INDEX(HttpStatus.BAD_REQUEST, "잘못된 정답 인덱스", "정답 인덱스는 선택지 범위 내에 있어야 합니다."),
     ROOM_ACCESS_DENIED(HttpStatus.FORBIDDEN, "스터디룸 접근 권한 없음", "해당 스터디룸의 문제를 풀 수 있는 권한이 없습니다."),
     PROBLEM_NOT_ATTEMPTED(HttpStatus.BAD_REQUEST, "문제를 풀지 않음", "아직 풀지 않은 문제입니다. 문제를 먼저 풀어주세요."),
+    ATTEMPT_NOT_FOUND(HttpStatus.NOT_FOUND, "풀이 기록을 찾을 수 없음", "요청한 ID의 풀이 기록이 존재하지 않습니다."),
     REVIEW_INCLUSION_NOT_CONFIGURABLE(HttpStatus.BAD_REQUEST, "복습 루프 설정 변경 불가", "본인이 만든 문제는 복습 루프 포함 설정을 변경할 수 없습니다."),
-    REVIEW_INCLUSION_ALREADY_CONFIGURED(HttpStatus.BAD_REQUEST, "복습 루프 설정 이미 완료", "복습 루프 포함 설정은 한 번만 변경할 수 있습니다.");
+    REVIEW_INCLUSION_ALREADY_CONFIGURED(HttpStatus.BAD_REQUEST, "복습 루프 설정 이미 완료", "복습 루프 포함 설정은 한 번만 변경할 수 있습니다."),
+    AI_GRADING_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "AI 채점 일시 중단", "AI 채점 요청이 많거나 응답이 원활하지 않아 잠시 채점을 진행할 수 없습니다."),
+    UNSUPPORTED_IMPORT_FORMAT(HttpStatus.BAD_REQUEST, "지원하지 않는 파일 형식", "문제 가져오기는 JSON Lines(.jsonl) 또는 CSV(.csv) 파일만 지원합니다."),
+    INVALID_IMPORT_HEADER(HttpStatus.BAD_REQUEST, "CSV 헤더 오류", "CSV 파일의 첫 줄에는 problemType, question, explanation 컬럼을 포함한 헤더가 필요합니다."),
+    IMPORT_FILE_UNREADABLE(HttpStatus.BAD_REQUEST, "파일을 읽을 수 없음", "업로드한 파일을 읽는 중 오류가 발생했습니다.");
 
     private final HttpStatus httpStatus;
     private final String title;
@@ -4,9 +4,12 @@ import com.ebbinghaus.ttopullae.global.auth.LoginUser;
 import com.ebbinghaus.ttopullae.problem.application.AiGradingService;
 import com.ebbinghaus.ttopullae.problem.application.dto.AiGradingRequest;
 import com.ebbinghaus.ttopullae.problem.application.dto.AiGradingResult;
+import com.ebbinghaus.ttopullae.problem.presentation.dto.AiGradingBatchRequest;
+import com.ebbinghaus.ttopullae.problem.presentation.dto.AiGradingBatchResponse;
 import com.ebbinghaus.ttopullae.problem.presentation.dto.AiGradingTestRequest;
 import com.ebbinghaus.ttopullae.problem.presentation.dto.AiGradingTestResponse;
 import jakarta.validation.Valid;
+import java.util.List;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -34,25 +37,52 @@ public class AiGradingController implements AiGradingControllerDocs {
       @Valid @RequestBody AiGradingTestRequest request
   ) {
     // Presentation DTO를 Application DTO로 변환
-    AiGradingRequest aiGradingRequest = new AiGradingRequest(
+    AiGradingRequest aiGradingRequest = toAiGradingRequest(request);
+
+    // AI 채점 서비스 호출
+    AiGradingResult result = aiGradingService.gradeSubjectiveAnswer(aiGradingRequest);
+
+    // Application DTO를 Presentation DTO로 변환
+    return ResponseEntity.ok(toAiGradingTestResponse(result));
+  }
+
+  @Override
+  @PostMapping("/batch")
+  public ResponseEntity<AiGradingBatchResponse> batchAiGrading(
+      @LoginUser Long userId,
+      @Valid @RequestBody AiGradingBatchRequest request
+  ) {
+    List<AiGradingRequest> aiGradingRequests = request.items().stream()
+        .map(this::toAiGradingRequest)
+        .toList();
+
+    List<AiGradingResult> results = aiGradingService.gradeSubjectiveAnswers(aiGradingRequests);
+
+    AiGradingBatchResponse response = new AiGradingBatchResponse(
+        results.stream()
+            .map(this::toAiGradingTestResponse)
+            .toList()
+    );
+
+    return ResponseEntity.ok(response);
+  }
+
+  private AiGradingRequest toAiGradingRequest(AiGradingTestRequest request) {
+    return new AiGradingRequest(
         request.topic(),
         request.question(),
         request.modelAnswer(),
         request.keywords(),
         request.userAnswer()
     );
+  }
 
-    // AI 채점 서비스 호출
-    AiGradingResult result = aiGradingService.gradeSubjectiveAnswer(aiGradingRequest);
-
-    // Application DTO를 Presentation DTO로 변환
-    AiGradingTestResponse response = new AiGradingTestResponse(
+  private AiGradingTestResponse toAiGradingTestResponse(AiGradingResult result) {
+    return new AiGradingTestResponse(
         result.isCorrect(),
         result.feedback(),
         result.missingKeywords(),
         result.scoringReason()
     );
-
-    return ResponseEntity.ok(response);
   }
 }
@@ -2,6 +2,8 @@ package com.ebbinghaus.ttopullae.problem.presentation;
 
 import com.ebbinghaus.ttopullae.global.auth.LoginUser;
 import com.ebbinghaus.ttopullae.global.exception.ErrorResponse;
+import com.ebbinghaus.ttopullae.problem.presentation.dto.AiGradingBatchRequest;
+import com.ebbinghaus.ttopullae.problem.presentation.dto.AiGradingBatchResponse;
 import com.ebbinghaus.ttopullae.problem.presentation.dto.AiGradingTestRequest;
 import com.ebbinghaus.ttopullae.problem.presentation.dto.AiGradingTestResponse;
 import io.swagger.v3.oas.annotations.Operation;
@@ -128,4 +130,89 @@ public interface AiGradingControllerDocs {
       @Parameter(hidden = true) @LoginUser Long userId,
       @Valid @RequestBody AiGradingTestRequest request
   );
+
+  @Operation(
+      summary = "AI 일괄 채점",
+      description = "여러 서술형 답안을 한 번에 채점합니다. 답안들을 묶어 한 번의 OpenAI 요청으로 채점하며, 응답에서 누락된 항목만 개별 채점으로 다시 요청합니다. 결과는 요청 항목과 같은 순서로 반환됩니다. 한 번에 최대 50개까지 요청할 수 있습니다."
+  )
+  @ApiResponses({
+      @ApiResponse(responseCode = "200", description = "AI 일괄 채점에 성공한 경우",
+          content = @Content(
+              schema = @Schema(implementation = AiGradingBatchResponse.class),
+              examples = @ExampleObject(
+                  name = "일괄 채점 결과",
+                  value = """
+                          {
+                            "results": [
+                              {
+                                "isCorrect": true,
+                                "feedback": "정답입니다. '제어의 역전'의 개념과 '컨테이너'의 역할이 정확하게 설명되었습니다.",
+                                "missingKeywords": [],
+                                "scoringReason": "모든 핵심 키워드가 의미적으로 포함되었으며, 모범 답안의 핵심 내용과 일치합니다."
+                              },
+                              {
+                                "isCorrect": false,
+                                "feedback": "핵심 개념인 '제어의 역전'에 대한 설명이 누락되었습니다.",
+                                "missingKeywords": ["제어의 역전"],
+                                "scoringReason": "'제어의 역전' 개념이 누락되었습니다. '컨테이너'의 역할은 올바르게 설명되었습니다."
+                              }
+                            ]
+                          }
+                          """
+              )
+          )
+      ),
+
+      @ApiResponse(responseCode = "400", description = "잘못된 요청",
+          content = @Content(
+              schema = @Schema(implementation = ErrorResponse.class),
+              examples = {
+                  @ExampleObject(
+                      name = "채점 항목이 비어있는 경우",
+                      value = """
+                              {
+                                "title": "유효하지 않은 입력값",
+                                "status": 400,
+                                "detail": "items: 최소 1개 이상의 채점 항목이 필요합니다",
+                                "instance": "/api/grading/batch"
+                              }
+                              """
+                  ),
+                  @ExampleObject(
+                      name = "채점 항목이 50개를 초과한 경우",
+                      value = """
+                              {
+                                "title": "유효하지 않은 입력값",
+                                "status": 400,
+                                "detail": "items: 한 번에 최대 50개까지 채점할 수 있습니다",
+                                "instance": "/api/grading/batch"
+                              }
+                              """
+                  )
+              }
+          )
+      ),
+
+      @ApiResponse(responseCode = "401", description = "인증 실패",
+          content = @Content(
+              schema = @Schema(implementation = ErrorResponse.class),
+              examples = @ExampleObject(
+                  name = "JWT 토큰이 없거나 유효하지 않은 경우",
+                  value = """
+                          {
+                            "title": "토큰을 찾을 수 없음",
+                            "status": 401,
+                            "detail": "인증 토큰이 제공되지 않았습니다.",
+                            "instance": "/api/grading/batch"
+                          }
+                          """
+              )
+          )
+      )
+  })
+  @PostMapping("/batch")
+  ResponseEntity<AiGradingBatchResponse> batchAiGrading(
+      @Parameter(hidden = true) @LoginUser Long userId,
+      @Valid @RequestBody AiGradingBatchRequest request
+  );
 }
@@ -1,15 +1,25 @@
 package com.ebbinghaus.ttopullae.problem.presentation;
 
 import com.ebbinghaus.ttopullae.global.auth.LoginUser;
+import com.ebbinghaus.ttopullae.global.exception.ApplicationException;
+import com.ebbinghaus.ttopullae.problem.application.ProblemImportService;
 import com.ebbinghaus.ttopullae.problem.application.ProblemService;
+import com.ebbinghaus.ttopullae.problem.application.ProblemSubmitService;
+import com.ebbinghaus.ttopullae.problem.application.ProblemSubmitStreamService;
 import com.ebbinghaus.ttopullae.problem.application.dto.ProblemCreateResult;
 import com.ebbinghaus.ttopullae.problem.application.dto.ProblemDetailResult;
+import com.ebbinghaus.ttopullae.problem.application.dto.ProblemImportCommand;
+import com.ebbinghaus.ttopullae.problem.application.dto.ProblemImportFormat;
+import com.ebbinghaus.ttopullae.problem.application.dto.ProblemImportResult;
 import com.ebbinghaus.ttopullae.problem.application.dto.ProblemReviewInclusionCommand;
 import com.ebbinghaus.ttopullae.problem.application.dto.ProblemSubmitCommand;
 import com.ebbinghaus.ttopullae.problem.application.dto.ProblemSubmitResult;
+import com.ebbinghaus.ttopullae.problem.application.dto.ProblemSubmitStreamEvent;
 import com.ebbinghaus.ttopullae.problem.presentation.dto.ProblemCreateRequest;
 import com.ebbinghaus.ttopullae.problem.presentation.dto.ProblemCreateResponse;
+import com.ebbinghaus.ttopullae.problem.exception.ProblemException;
 import com.ebbinghaus.ttopullae.problem.presentation.dto.ProblemDetailResponse;
+import com.ebbinghaus.ttopullae.problem.presentation.dto.ProblemImportResponse;
 import com.ebbinghaus.ttopullae.problem.presentation.dto.ProblemReviewInclusionRequest;
 import com.ebbinghaus.ttopullae.problem.presentation.dto.ProblemReviewInclusionResponse;
 import com.ebbinghaus.ttopullae.problem.presentation.dto.ProblemSubmitRequest;
@@ -17,8 +27,15 @@ import com.ebbinghaus.ttopullae.problem.presentation.dto.ProblemSubmitResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.io.InputStream;
 
 @RestController
 @RequestMapping("/api")
@@ -26,6 +43,9 @@ import org.springframework.web.bind.annotation.*;
 public class ProblemController implements ProblemControllerDocs {
 
     private final ProblemService problemService;
+    private final ProblemImportService problemImportService;
+    private final ProblemSubmitService problemSubmitService;
+    private final ProblemSubmitStreamService problemSubmitStreamService;
 
     @PostMapping("/study-rooms/{studyRoomId}/problems")
     public ResponseEntity<ProblemCreateResponse> createProblem(
@@ -40,6 +60,25 @@ public class ProblemController implements ProblemControllerDocs {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @PostMapping(value = "/study-rooms/{studyRoomId}/problems/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ProblemImportResponse> importProblems(
+            @LoginUser Long userId,
+            @PathVariable Long studyRoomId,
+            @RequestPart("file") MultipartFile file
+    ) {
+        ProblemImportFormat format = ProblemImportFormat.fromFilename(file.getOriginalFilename());
+
+        try (InputStream content = file.getInputStream()) {
+            ProblemImportResult result = problemImportService.importProblems(
+                    new ProblemImportCommand(userId, studyRoomId, format, content)
+            );
+            ProblemImportResponse response = ProblemImportResponse.from(result);
+            return ResponseEntity.ok(response);
+        } catch (IOException e) {
+            throw new ApplicationException(ProblemException.IMPORT_FILE_UNREADABLE);
+        }
+    }
+
     @GetMapping("/problems/{problemId}")
     public ResponseEntity<ProblemDetailResponse> getProblemDetail(
             @LoginUser Long userId,
@@ -62,7 +101,33 @@ public class ProblemController implements ProblemControllerDocs {
                 request.answer()
         );
 
-        ProblemSubmitResult result = problemService.submitProblemAnswer(command);
+        ProblemSubmitResult result = problemSubmitService.submitProblemAnswer(command);
+        ProblemSubmitResponse response = ProblemSubmitResponse.from(result);
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping(value = "/{problemId}/submit/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<Object>> submitProblemAnswerStream(
+            @LoginUser Long userId,
+            @PathVariable Long problemId,
+            @Valid @RequestBody ProblemSubmitRequest request
+    ) {
+        ProblemSubmitCommand command = new ProblemSubmitCommand(
+                userId,
+                problemId,
+                request.answer()
+        );
+
+        return problemSubmitStreamService.submit(command)
+                .map(this::toServerSentEvent);
+    }
+
+    @GetMapping("/attempts/{attemptId}")
+    public ResponseEntity<ProblemSubmitResponse> getAttemptResult(
+            @LoginUser Long userId,
+            @PathVariable Long attemptId
+    ) {
+        ProblemSubmitResult result = problemService.getAttemptResult(userId, attemptId);
         ProblemSubmitResponse response = ProblemSubmitResponse.from(result);
         return ResponseEntity.ok(response);
     }
@@ -82,4 +147,15 @@ public class ProblemController implements ProblemControllerDocs {
         ProblemReviewInclusionResponse response = ProblemReviewInclusionResponse.of(configured);
         return ResponseEntity.ok(response);
     }
+
+    private ServerSentEvent<Object> toServerSentEvent(ProblemSubmitStreamEvent event) {
+        if (event.type() == ProblemSubmitStreamEvent.Type.FEEDBACK) {
+            return ServerSentEvent.<Object>builder(event.feedbackDelta())
+                    .event("feedback")
+                    .build();
+        }
+        return ServerSentEvent.<Object>builder(ProblemSubmitResponse.from(event.result()))
+                .event("result")
+                .build();
+    }
 }
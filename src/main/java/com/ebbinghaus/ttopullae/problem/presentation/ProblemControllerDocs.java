@@ -5,6 +5,7 @@ import com.ebbinghaus.ttopullae.global.exception.ErrorResponse;
 import com.ebbinghaus.ttopullae.problem.presentation.dto.ProblemCreateRequest;
 import com.ebbinghaus.ttopullae.problem.presentation.dto.ProblemCreateResponse;
 import com.ebbinghaus.ttopullae.problem.presentation.dto.ProblemDetailResponse;
+import com.ebbinghaus.ttopullae.problem.presentation.dto.ProblemImportResponse;
 import com.ebbinghaus.ttopullae.problem.presentation.dto.ProblemReviewInclusionRequest;
 import com.ebbinghaus.ttopullae.problem.presentation.dto.ProblemReviewInclusionResponse;
 import com.ebbinghaus.ttopullae.problem.presentation.dto.ProblemSubmitRequest;
@@ -18,12 +19,17 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestPart;
+import org.springframework.web.multipart.MultipartFile;
+import reactor.core.publisher.Flux;
 
 @Tag(name = "Problem", description = "문제 관리 API")
 public interface ProblemControllerDocs {
@@ -248,6 +254,96 @@ public interface ProblemControllerDocs {
             @Valid @RequestBody ProblemCreateRequest request
     );
 
+    @Operation(
+            summary = "문제 일괄 가져오기",
+            description = """
+                    JSON Lines(.jsonl) 또는 CSV(.csv) 파일로 스터디룸에 문제를 한 번에 등록합니다.
+                    - JSON Lines: 한 줄에 문제 생성 요청 JSON 1개 (문제 생성 API와 같은 필드)
+                    - CSV: 첫 줄은 헤더(problemType, question, explanation 필수), 목록 값(choices, keywords)은 '|'로 구분
+                    검증에 실패한 줄은 건너뛰고 나머지를 등록하며, 실패한 줄 번호와 사유를 응답에 담습니다.
+                    """
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "가져오기 완료 (일부 줄 실패 포함)",
+                    content = @Content(
+                            schema = @Schema(implementation = ProblemImportResponse.class),
+                            examples = @ExampleObject(
+                                    name = "3줄 중 1줄 실패",
+                                    value = """
+                                            {
+                                              "totalCount": 3,
+                                              "importedCount": 2,
+                                              "failedCount": 1,
+                                              "errors": [
+                                                {
+                                                  "lineNumber": 2,
+                                                  "message": "OX 문제는 정답(true/false)이 필요합니다."
+                                                }
+                                              ]
+                                            }
+                                            """
+                            )
+                    )
+            ),
+
+            @ApiResponse(responseCode = "400", description = "잘못된 파일",
+                    content = @Content(
+                            schema = @Schema(implementation = ErrorResponse.class),
+                            examples = @ExampleObject(
+                                    name = "지원하지 않는 확장자",
+                                    value = """
+                                            {
+                                              "title": "지원하지 않는 파일 형식",
+                                              "status": 400,
+                                              "detail": "문제 가져오기는 JSON Lines(.jsonl) 또는 CSV(.csv) 파일만 지원합니다.",
+                                              "instance": "/api/study-rooms/1/problems/import"
+                                            }
+                                            """
+                            )
+                    )
+            ),
+
+            @ApiResponse(responseCode = "403", description = "스터디룸 접근 권한 없음",
+                    content = @Content(
+                            schema = @Schema(implementation = ErrorResponse.class),
+                            examples = @ExampleObject(
+                                    name = "스터디룸 멤버가 아닌 경우",
+                                    value = """
+                                            {
+                                              "title": "스터디룸 접근 권한 없음",
+                                              "status": 403,
+                                              "detail": "해당 스터디룸의 문제를 풀 수 있는 권한이 없습니다.",
+                                              "instance": "/api/study-rooms/1/problems/import"
+                                            }
+                                            """
+                            )
+                    )
+            ),
+
+            @ApiResponse(responseCode = "404", description = "스터디룸을 찾을 수 없음",
+                    content = @Content(
+                            schema = @Schema(implementation = ErrorResponse.class),
+                            examples = @ExampleObject(
+                                    name = "존재하지 않는 스터디룸 ID로 요청한 경우",
+                                    value = """
+                                            {
+                                              "title": "스터디룸을 찾을 수 없음",
+                                              "status": 404,
+                                              "detail": "요청한 ID의 스터디룸이 존재하지 않습니다.",
+                                              "instance": "/api/study-rooms/999/problems/import"
+                                            }
+                                            """
+                            )
+                    )
+            )
+    })
+    @PostMapping(value = "/study-rooms/{studyRoomId}/problems/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    ResponseEntity<ProblemImportResponse> importProblems(
+            @Parameter(hidden = true) @LoginUser Long userId,
+            @PathVariable Long studyRoomId,
+            @Parameter(description = "가져올 문제 파일 (.jsonl 또는 .csv)") @RequestPart("file") MultipartFile file
+    );
+
     @Operation(
             summary = "문제 상세 조회",
             description = "문제를 풀기 전에 문제의 상세 정보를 조회합니다. 정답 정보는 노출되지 않습니다."
@@ -362,6 +458,10 @@ public interface ProblemControllerDocs {
                     - **그룹방 타인 문제 첫 풀이**: ReviewState 생성 없음, 채점만 제공 (복습 상태 필드들은 null 반환)
                       - 복습 루프에 추가하려면 별도의 "복습 루프 포함 설정 API" 호출 필요
 
+                    **서술형 비동기 채점 (grading.async.enabled=true):**
+                    - 서술형 답안은 채점 중(gradingStatus: PENDING) 상태로 즉시 응답합니다.
+                    - 채점 결과와 복습 상태 전이는 "풀이 채점 결과 조회 API"(GET /api/attempts/{attemptId})로 확인합니다.
+
                     **답안 형식:**
                     - 객관식: 선택지 인덱스 (0부터 시작, 문자열로 전달)
                     - OX: "true" 또는 "false"
@@ -384,7 +484,9 @@ public interface ProblemControllerDocs {
                                                       "reviewCount": 1,
                                                       "nextReviewDate": "2025-01-31",
                                                       "isFirstAttempt": true,
-                                                      "isReviewStateChanged": true
+                                                      "isReviewStateChanged": true,
+                                                      "attemptId": 11,
+                                                      "gradingStatus": "COMPLETED"
                                                     }
                                                     """
                                             ),
@@ -399,7 +501,9 @@ public interface ProblemControllerDocs {
                                                       "reviewCount": 2,
                                                       "nextReviewDate": "2025-01-25",
                                                       "isFirstAttempt": true,
-                                                      "isReviewStateChanged": true
+                                                      "isReviewStateChanged": true,
+                                                      "attemptId": 12,
+                                                      "gradingStatus": "COMPLETED"
                                                     }
                                                     """
                                             ),
@@ -414,7 +518,9 @@ public interface ProblemControllerDocs {
                                                       "reviewCount": 2,
                                                       "nextReviewDate": "2025-01-24",
                                                       "isFirstAttempt": false,
-                                                      "isReviewStateChanged": false
+                                                      "isReviewStateChanged": false,
+                                                      "attemptId": 13,
+                                                      "gradingStatus": "COMPLETED"
                                                     }
                                                     """
                                             ),
@@ -429,7 +535,26 @@ public interface ProblemControllerDocs {
                                                       "reviewCount": 1,
                                                       "nextReviewDate": "2025-01-31",
                                                       "isFirstAttempt": true,
-                                                      "isReviewStateChanged": true
+                                                      "isReviewStateChanged": true,
+                                                      "attemptId": 14,
+                                                      "gradingStatus": "COMPLETED"
+                                                    }
+                                                    """
+                                            ),
+                                    @ExampleObject(
+                                            name = "서술형 문제 비동기 채점 접수 (채점 중)",
+                                            value = """
+                                                    {
+                                                      "isCorrect": false,
+                                                      "explanation": "IoC는 객체의 생성과 의존성 관리를 개발자가 아닌 프레임워크(Spring Container)가 담당하는 설계 원칙입니다.",
+                                                      "aiFeedback": null,
+                                                      "currentGate": "GATE_1",
+                                                      "reviewCount": 1,
+                                                      "nextReviewDate": "2025-01-24",
+                                                      "isFirstAttempt": true,
+                                                      "isReviewStateChanged": false,
+                                                      "attemptId": 20,
+                                                      "gradingStatus": "PENDING"
                                                     }
                                                     """
                                             ),
@@ -444,7 +569,9 @@ public interface ProblemControllerDocs {
                                                       "reviewCount": 3,
                                                       "nextReviewDate": null,
                                                       "isFirstAttempt": false,
-                                                      "isReviewStateChanged": false
+                                                      "isReviewStateChanged": false,
+                                                      "attemptId": 15,
+                                                      "gradingStatus": "COMPLETED"
                                                     }
                                                     """
                                             ),
@@ -459,7 +586,9 @@ public interface ProblemControllerDocs {
                                                       "reviewCount": null,
                                                       "nextReviewDate": null,
                                                       "isFirstAttempt": false,
-                                                      "isReviewStateChanged": false
+                                                      "isReviewStateChanged": false,
+                                                      "attemptId": 16,
+                                                      "gradingStatus": "COMPLETED"
                                                     }
                                                     """
                                     )
@@ -525,6 +654,181 @@ public interface ProblemControllerDocs {
             @Valid @RequestBody ProblemSubmitRequest request
     );
 
+    @Operation(
+            summary = "문제 풀이 제출 (스트리밍)",
+            description = """
+                    문제 풀이 제출 API와 동일하게 채점하되, 서술형 AI 피드백을 생성되는 대로 Server-Sent Events로 전달합니다.
+                    채점 프롬프트와 결과는 일반 제출과 같으며, 첫 피드백이 수백 ms 안에 도착하므로 체감 대기 시간이 줄어듭니다.
+
+                    **이벤트 종류:**
+                    - feedback: AI 피드백 텍스트 조각 (순서대로 이어 붙이면 전체 피드백)
+                    - result: 최종 채점 결과와 복습 상태 변화 (문제 풀이 제출 응답과 같은 형식, 항상 마지막 이벤트)
+
+                    **동작 방식:**
+                    - 객관식/OX/단답형, 빈 답안, 사전 채점으로 판정된 서술형 답안은 result 이벤트 하나만 전달합니다.
+                    - 스트리밍 중 AI 호출이 실패하면 일반 제출 방식으로 다시 채점한 뒤 result 이벤트를 전달합니다.
+                    - result 이벤트의 aiFeedback이 최종 피드백입니다.
+                    - result 이벤트를 받기 전에 연결을 끊으면 풀이 기록이 저장되지 않습니다.
+                    """
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "채점 이벤트 스트림",
+                    content = @Content(
+                            mediaType = MediaType.TEXT_EVENT_STREAM_VALUE,
+                            examples = @ExampleObject(
+                                    name = "서술형 AI 채점",
+                                    value = """
+                                            event:feedback
+                                            data:정답입니다. '제어의 역전'의 개념과
+
+                                            event:feedback
+                                            data: 'Spring Container'의 역할이 정확하게 설명되었습니다.
+
+                                            event:result
+                                            data:{"isCorrect":true,"explanation":"IoC는 객체의 생성과 의존성 관리를 개발자가 아닌 프레임워크(Spring Container)가 담당하는 설계 원칙입니다.","aiFeedback":"정답입니다. '제어의 역전'의 개념과 'Spring Container'의 역할이 정확하게 설명되었습니다.","currentGate":"GATE_2","reviewCount":1,"nextReviewDate":"2025-01-30","isFirstAttempt":true,"isReviewStateChanged":true,"attemptId":12,"gradingStatus":"COMPLETED"}
+                                            """
+                            )
+                    )
+            ),
+
+            @ApiResponse(responseCode = "401", description = "인증 실패",
+                    content = @Content(
+                            schema = @Schema(implementation = ErrorResponse.class),
+                            examples = @ExampleObject(
+                                    name = "JWT 토큰이 없거나 유효하지 않은 경우",
+                                    value = """
+                                            {
+                                              "title": "토큰을 찾을 수 없음",
+                                              "status": 401,
+                                              "detail": "인증 토큰이 제공되지 않았습니다.",
+                                              "instance": "/api/1/submit/stream"
+                                            }
+                                            """
+                            )
+                    )
+            ),
+
+            @ApiResponse(responseCode = "404", description = "문제를 찾을 수 없음",
+                    content = @Content(
+                            schema = @Schema(implementation = ErrorResponse.class),
+                            examples = @ExampleObject(
+                                    name = "존재하지 않는 문제 ID로 요청한 경우",
+                                    value = """
+                                            {
+                                              "title": "문제를 찾을 수 없음",
+                                              "status": 404,
+                                              "detail": "요청한 ID의 문제가 존재하지 않습니다.",
+                                              "instance": "/api/999/submit/stream"
+                                            }
+                                            """
+                            )
+                    )
+            )
+    })
+    @PostMapping(value = "/{problemId}/submit/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    Flux<ServerSentEvent<Object>> submitProblemAnswerStream(
+            @Parameter(hidden = true) @LoginUser Long userId,
+            @PathVariable Long problemId,
+            @Valid @RequestBody ProblemSubmitRequest request
+    );
+
+    @Operation(
+            summary = "풀이 채점 결과 조회",
+            description = """
+                    제출한 풀이의 채점 결과를 조회합니다. 서술형 비동기 채점 시 채점 완료 여부를 확인하는 데 사용합니다.
+
+                    **채점 상태 (gradingStatus):**
+                    - PENDING: 채점 중 (잠시 후 다시 조회)
+                    - COMPLETED: 채점 완료 (오늘의 복습 첫 시도라면 복습 상태 전이 반영됨)
+                    - FAILED: AI 채점 실패 (오답으로 처리됨)
+
+                    복습 상태 필드(currentGate, reviewCount, nextReviewDate)는 조회 시점의 현재 상태입니다.
+                    본인의 풀이 기록만 조회할 수 있습니다.
+                    """
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "채점 결과 조회 성공",
+                    content = @Content(
+                            schema = @Schema(implementation = ProblemSubmitResponse.class),
+                            examples = {
+                                    @ExampleObject(
+                                            name = "채점 중",
+                                            value = """
+                                                    {
+                                                      "isCorrect": false,
+                                                      "explanation": "IoC는 객체의 생성과 의존성 관리를 개발자가 아닌 프레임워크(Spring Container)가 담당하는 설계 원칙입니다.",
+                                                      "aiFeedback": null,
+                                                      "currentGate": "GATE_1",
+                                                      "reviewCount": 1,
+                                                      "nextReviewDate": "2025-01-24",
+                                                      "isFirstAttempt": true,
+                                                      "isReviewStateChanged": false,
+                                                      "attemptId": 20,
+                                                      "gradingStatus": "PENDING"
+                                                    }
+                                                    """
+                                    ),
+                                    @ExampleObject(
+                                            name = "채점 완료 (GATE_1 → GATE_2 승급)",
+                                            value = """
+                                                    {
+                                                      "isCorrect": true,
+                                                      "explanation": "IoC는 객체의 생성과 의존성 관리를 개발자가 아닌 프레임워크(Spring Container)가 담당하는 설계 원칙입니다.",
+                                                      "aiFeedback": "필수 키워드를 모두 포함하고 정확하게 설명하셨습니다.",
+                                                      "currentGate": "GATE_2",
+                                                      "reviewCount": 1,
+                                                      "nextReviewDate": "2025-01-31",
+                                                      "isFirstAttempt": true,
+                                                      "isReviewStateChanged": true,
+                                                      "attemptId": 20,
+                                                      "gradingStatus": "COMPLETED"
+                                                    }
+                                                    """
+                                    )
+                            }
+                    )
+            ),
+
+            @ApiResponse(responseCode = "401", description = "인증 실패",
+                    content = @Content(
+                            schema = @Schema(implementation = ErrorResponse.class),
+                            examples = @ExampleObject(
+                                    name = "JWT 토큰이 없거나 유효하지 않은 경우",
+                                    value = """
+                                            {
+                                              "title": "토큰을 찾을 수 없음",
+                                              "status": 401,
+                                              "detail": "인증 토큰이 제공되지 않았습니다.",
+                                              "instance": "/api/attempts/20"
+                                            }
+                                            """
+                            )
+                    )
+            ),
+
+            @ApiResponse(responseCode = "404", description = "풀이 기록을 찾을 수 없음",
+                    content = @Content(
+                            schema = @Schema(implementation = ErrorResponse.class),
+                            examples = @ExampleObject(
+                                    name = "존재하지 않거나 본인의 풀이가 아닌 경우",
+                                    value = """
+                                            {
+                                              "title": "풀이 기록을 찾을 수 없음",
+                                              "status": 404,
+                                              "detail": "요청한 ID의 풀이 기록이 존재하지 않습니다.",
+                                              "instance": "/api/attempts/999"
+                                            }
+                                            """
+                            )
+                    )
+            )
+    })
+    @GetMapping("/attempts/{attemptId}")
+    ResponseEntity<ProblemSubmitResponse> getAttemptResult(
+            @Parameter(hidden = true) @LoginUser Long userId,
+            @PathVariable Long attemptId
+    );
+
     @Operation(
             summary = "문제 복습 루프 포함 설정",
             description = """
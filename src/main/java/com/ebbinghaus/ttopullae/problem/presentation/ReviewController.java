@@ -1,7 +1,7 @@
 package com.ebbinghaus.ttopullae.problem.presentation;
 
 import com.ebbinghaus.ttopullae.global.auth.LoginUser;
-import com.ebbinghaus.ttopullae.problem.application.ProblemService;
+import com.ebbinghaus.ttopullae.problem.application.TodayReviewQueryService;
 import com.ebbinghaus.ttopullae.problem.application.dto.TodayReviewCommand;
 import com.ebbinghaus.ttopullae.problem.application.dto.TodayReviewResult;
 import com.ebbinghaus.ttopullae.problem.presentation.dto.TodayReviewResponse;
@@ -14,7 +14,7 @@ import org.springframework.web.bind.annotation.*;
 @RequiredArgsConstructor
 public class ReviewController implements ReviewControllerDocs {
 
-    private final ProblemService problemService;
+    private final TodayReviewQueryService todayReviewQueryService;
 
     @GetMapping("/today")
     public ResponseEntity<TodayReviewResponse> getTodayReviewProblems(
@@ -22,7 +22,7 @@ public class ReviewController implements ReviewControllerDocs {
         @RequestParam(defaultValue = "ALL") String filter
     ) {
         TodayReviewCommand command = new TodayReviewCommand(userId, filter);
-        TodayReviewResult result = problemService.getTodayReviewProblems(command);
+        TodayReviewResult result = todayReviewQueryService.getTodayReviewProblems(command);
         TodayReviewResponse response = TodayReviewResponse.from(result);
         return ResponseEntity.ok(response);
     }
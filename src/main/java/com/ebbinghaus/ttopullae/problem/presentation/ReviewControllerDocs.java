@@ -34,6 +34,7 @@ public interface ReviewControllerDocs {
             - NOT_ATTEMPTED: 아직 풀지 않음
             - CORRECT: 정답
             - INCORRECT: 오답
+            - GRADING: 서술형 비동기 채점 진행 중
 
             **필터 옵션**:
             - ALL: 모든 관문 (GATE_1 + GATE_2)
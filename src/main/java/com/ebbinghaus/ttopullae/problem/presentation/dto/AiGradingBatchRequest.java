@@ -0,0 +1,20 @@
+package com.ebbinghaus.ttopullae.problem.presentation.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+/**
+ * AI 일괄 채점 요청 DTO
+ */
+@Schema(description = "AI 일괄 채점 요청")
+public record AiGradingBatchRequest(
+
+    @Schema(description = "채점할 답안 목록 (최대 50개)")
+    @NotEmpty(message = "최소 1개 이상의 채점 항목이 필요합니다")
+    @Size(max = 50, message = "한 번에 최대 50개까지 채점할 수 있습니다")
+    List<@Valid AiGradingTestRequest> items
+) {
+}
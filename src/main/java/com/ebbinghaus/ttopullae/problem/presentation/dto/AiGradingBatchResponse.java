@@ -0,0 +1,15 @@
+package com.ebbinghaus.ttopullae.problem.presentation.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+
+/**
+ * AI 일괄 채점 응답 DTO
+ */
+@Schema(description = "AI 일괄 채점 응답")
+public record AiGradingBatchResponse(
+
+    @Schema(description = "요청 항목과 같은 순서의 채점 결과 목록")
+    List<AiGradingTestResponse> results
+) {
+}
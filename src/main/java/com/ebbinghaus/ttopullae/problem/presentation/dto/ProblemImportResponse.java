@@ -0,0 +1,31 @@
+package com.ebbinghaus.ttopullae.problem.presentation.dto;
+
+import com.ebbinghaus.ttopullae.problem.application.dto.ProblemImportResult;
+
+import java.util.List;
+
+public record ProblemImportResponse(
+        int totalCount,
+        int importedCount,
+        int failedCount,
+        List<LineErrorDto> errors
+) {
+    public static ProblemImportResponse from(ProblemImportResult result) {
+        List<LineErrorDto> errors = result.errors().stream()
+                .map(error -> new LineErrorDto(error.lineNumber(), error.message()))
+                .toList();
+
+        return new ProblemImportResponse(
+                result.totalCount(),
+                result.importedCount(),
+                errors.size(),
+                errors
+        );
+    }
+
+    public record LineErrorDto(
+            long lineNumber,
+            String message
+    ) {
+    }
+}
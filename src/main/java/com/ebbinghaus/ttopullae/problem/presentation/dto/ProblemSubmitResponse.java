@@ -1,6 +1,7 @@
 package com.ebbinghaus.ttopullae.problem.presentation.dto;
 
 import com.ebbinghaus.ttopullae.problem.application.dto.ProblemSubmitResult;
+import com.ebbinghaus.ttopullae.problem.domain.GradingStatus;
 import com.ebbinghaus.ttopullae.problem.domain.ReviewGate;
 import io.swagger.v3.oas.annotations.media.Schema;
 
@@ -29,7 +30,13 @@ public record ProblemSubmitResponse(
         boolean isFirstAttempt,
 
         @Schema(description = "복습 상태 변경 여부 (승급/강등)", example = "true")
-        boolean isReviewStateChanged
+        boolean isReviewStateChanged,
+
+        @Schema(description = "풀이 기록 ID (채점 결과 조회에 사용)", example = "12")
+        Long attemptId,
+
+        @Schema(description = "채점 상태 (PENDING: 채점 중, COMPLETED: 채점 완료, FAILED: 채점 실패)", example = "COMPLETED")
+        GradingStatus gradingStatus
 ) {
     public static ProblemSubmitResponse from(ProblemSubmitResult result) {
         return new ProblemSubmitResponse(
@@ -40,7 +47,9 @@ public record ProblemSubmitResponse(
                 result.reviewCount(),
                 result.nextReviewDate(),
                 result.isFirstAttempt(),
-                result.isReviewStateChanged()
+                result.isReviewStateChanged(),
+                result.attemptId(),
+                result.gradingStatus()
         );
     }
 }
@@ -0,0 +1,94 @@
+package com.ebbinghaus.ttopullae.studyroom.application;
+
+import com.ebbinghaus.ttopullae.studyroom.domain.StudyRoom;
+import com.ebbinghaus.ttopullae.studyroom.domain.repository.StudyRoomMemberRepository;
+import com.ebbinghaus.ttopullae.user.domain.User;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * 서버 메모리(Caffeine) 스터디룸별 활성 멤버 캐시
+ *
+ * 스터디룸 ID를 키로 활성 멤버의 사용자 ID를 정렬된 long 배열로 저장하고 이진 탐색으로 확인합니다.
+ * 캐시 크기는 전체 멤버 ID 수(maximum-members)로 제한하며, 무효화 메시지가 유실된 경우는 ttl이 지나면 반영됩니다.
+ *
+ * 조회 중인 항목을 무효화하면 Caffeine은 조회가 끝날 때까지 기다린 뒤 제거하므로,
+ * 커밋 전에 시작된 조회 결과가 커밋 후 무효화 이후까지 남지 않습니다.
+ * 멤버 목록은 호출한 트랜잭션의 커넥션에서 공유 잠금 조회로 읽으므로, 캐시 미스가 커넥션을 추가로 점유하지 않고
+ * 멤버 변경 커밋 전에 시작된 REPEATABLE READ 트랜잭션도 무효화 이후에 변경 전 목록을 캐시하지 않습니다.
+ * (공유 잠금은 호출한 트랜잭션이 끝날 때까지 유지되어 같은 스터디룸의 가입/탈퇴 커밋이 그동안 대기합니다)
+ *
+ * 무효화 채널이 같은 서버 안에서만 전달되는 동안(local)에는 단일 서버 배포에서만 사용해야 합니다.
+ * 서버가 여러 대이면 다른 서버의 캐시는 ttl이 지날 때까지 변경 전 멤버 목록으로 판별합니다.
+ */
+@Component
+@ConditionalOnProperty(name = "study-room.membership-cache.backend", havingValue = "caffeine")
+public class CaffeineStudyRoomMembershipCache implements StudyRoomMembershipCache {
+
+    private static final String METRIC_NAME = "study-room.membership.cache";
+
+    private final StudyRoomMemberRepository studyRoomMemberRepository;
+    private final Cache<Long, long[]> cache;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public CaffeineStudyRoomMembershipCache(StudyRoomMemberRepository studyRoomMemberRepository,
+                                            MembershipInvalidationChannel membershipInvalidationChannel,
+                                            MeterRegistry meterRegistry,
+                                            @Value("${study-room.membership-cache.maximum-members:1000000}") long maximumMembers,
+                                            @Value("${study-room.membership-cache.ttl:10m}") Duration ttl) {
+        this.studyRoomMemberRepository = studyRoomMemberRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maximumMembers)
+                .weigher((Long studyRoomId, long[] userIds) -> userIds.length + 1)
+                .expireAfterWrite(ttl)
+                .build();
+
+        this.hitCounter = Counter.builder(METRIC_NAME)
+                .tag("result", "hit")
+                .description("스터디룸 멤버십 캐시 조회 결과")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder(METRIC_NAME)
+                .tag("result", "miss")
+                .description("스터디룸 멤버십 캐시 조회 결과")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_NAME + ".size", cache, Cache::estimatedSize)
+                .description("멤버 목록이 캐시된 스터디룸 수")
+                .register(meterRegistry);
+
+        membershipInvalidationChannel.subscribe(this::evictRoom);
+    }
+
+    @Override
+    public boolean isActiveMember(User user, StudyRoom studyRoom) {
+        long[] userIds = cache.getIfPresent(studyRoom.getStudyRoomId());
+        if (userIds != null) {
+            hitCounter.increment();
+        } else {
+            missCounter.increment();
+            userIds = cache.get(studyRoom.getStudyRoomId(), this::loadActiveUserIds);
+        }
+        return Arrays.binarySearch(userIds, user.getUserId()) >= 0;
+    }
+
+    @Override
+    public void evictRoom(Long studyRoomId) {
+        cache.invalidate(studyRoomId);
+    }
+
+    private long[] loadActiveUserIds(Long studyRoomId) {
+        return studyRoomMemberRepository.findActiveUserIdsByStudyRoomId(studyRoomId).stream()
+                .mapToLong(Long::longValue)
+                .sorted()
+                .toArray();
+    }
+}
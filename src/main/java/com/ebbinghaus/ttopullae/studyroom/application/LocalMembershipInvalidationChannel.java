@@ -0,0 +1,29 @@
+package com.ebbinghaus.ttopullae.studyroom.application;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * 같은 서버 안에서만 전달하는 무효화 채널 (study-room.membership-cache.invalidation-channel=local, 기본값)
+ * 단일 서버 배포와 테스트에서 사용합니다.
+ */
+@Component
+@ConditionalOnProperty(name = "study-room.membership-cache.invalidation-channel", havingValue = "local", matchIfMissing = true)
+public class LocalMembershipInvalidationChannel implements MembershipInvalidationChannel {
+
+    private final List<Consumer<Long>> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(Long studyRoomId) {
+        listeners.forEach(listener -> listener.accept(studyRoomId));
+    }
+
+    @Override
+    public void subscribe(Consumer<Long> listener) {
+        listeners.add(listener);
+    }
+}
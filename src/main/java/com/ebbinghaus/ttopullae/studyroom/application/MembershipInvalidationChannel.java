@@ -0,0 +1,24 @@
+package com.ebbinghaus.ttopullae.studyroom.application;
+
+import java.util.function.Consumer;
+
+/**
+ * 멤버십 캐시 무효화 메시지 전달 채널
+ *
+ * 서버가 여러 대이면 한 서버의 멤버 변경을 다른 서버의 캐시에도 반영해야 하므로,
+ * 무효화는 캐시를 직접 비우지 않고 이 채널에 발행하여 구독 중인 모든 서버(발행한 서버 포함)가 처리합니다.
+ * 채널은 study-room.membership-cache.invalidation-channel 설정으로 선택하며,
+ * 서버 간 메시지 브로커(Redis Pub/Sub 등)를 도입할 때는 이 인터페이스를 구현한 빈을 추가합니다.
+ */
+public interface MembershipInvalidationChannel {
+
+    /**
+     * 스터디룸의 멤버 목록 무효화를 모든 구독자에게 전달합니다.
+     */
+    void publish(Long studyRoomId);
+
+    /**
+     * 무효화 메시지를 받을 구독자를 등록합니다.
+     */
+    void subscribe(Consumer<Long> listener);
+}
@@ -0,0 +1,28 @@
+package com.ebbinghaus.ttopullae.studyroom.application;
+
+import com.ebbinghaus.ttopullae.studyroom.domain.StudyRoom;
+import com.ebbinghaus.ttopullae.studyroom.domain.repository.StudyRoomMemberRepository;
+import com.ebbinghaus.ttopullae.user.domain.User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 캐시하지 않고 매번 멤버십을 조회 (study-room.membership-cache.backend=none, 기본값)
+ */
+@Component
+@ConditionalOnProperty(name = "study-room.membership-cache.backend", havingValue = "none", matchIfMissing = true)
+@RequiredArgsConstructor
+public class NoOpStudyRoomMembershipCache implements StudyRoomMembershipCache {
+
+    private final StudyRoomMemberRepository studyRoomMemberRepository;
+
+    @Override
+    public boolean isActiveMember(User user, StudyRoom studyRoom) {
+        return studyRoomMemberRepository.existsByUserAndStudyRoomAndActive(user, studyRoom, true);
+    }
+
+    @Override
+    public void evictRoom(Long studyRoomId) {
+    }
+}
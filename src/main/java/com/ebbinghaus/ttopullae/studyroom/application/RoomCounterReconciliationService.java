@@ -0,0 +1,112 @@
+package com.ebbinghaus.ttopullae.studyroom.application;
+
+import com.ebbinghaus.ttopullae.problem.domain.ReviewGateCount;
+import com.ebbinghaus.ttopullae.problem.domain.repository.ReviewGateCountRepository;
+import com.ebbinghaus.ttopullae.problem.domain.repository.dto.UserStudyRoomPairDto;
+import com.ebbinghaus.ttopullae.studyroom.domain.repository.StudyRoomRepository;
+import com.ebbinghaus.ttopullae.user.domain.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.function.BiFunction;
+
+/**
+ * 공부방 목록 카운터 정합성 작업
+ *
+ * 스터디룸의 문제 수/활성 멤버 수와 사용자별 관문 분포 카운터는 요청 트랜잭션에서 증감으로 갱신되므로,
+ * 카운터 도입 전 데이터나 카운터를 거치지 않은 변경(직접 수정한 데이터 등)이 있으면 실제 개수와 어긋날 수 있습니다.
+ * 매일 새벽 실제 개수로 다시 계산하여 어긋난 값을 복구합니다.
+ * 서버 기동 시 실행은 모든 서버가 재시작마다 전체 테이블을 다시 계산하게 되므로,
+ * 카운터 도입 직후처럼 필요한 배포에서만 reconcile-on-startup 설정으로 켭니다.
+ *
+ * 테이블 전체를 한 트랜잭션으로 갱신하지 않도록 기본 키 범위(chunk-size) 단위로 나누어 커밋합니다.
+ */
+@Slf4j
+@Service
+public class RoomCounterReconciliationService {
+
+    private final StudyRoomRepository studyRoomRepository;
+    private final ReviewGateCountRepository reviewGateCountRepository;
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final boolean reconcileOnStartup;
+
+    public RoomCounterReconciliationService(StudyRoomRepository studyRoomRepository,
+                                            ReviewGateCountRepository reviewGateCountRepository,
+                                            UserRepository userRepository,
+                                            PlatformTransactionManager transactionManager,
+                                            @Value("${study-room.counter.reconcile-chunk-size:1000}") int chunkSize,
+                                            @Value("${study-room.counter.reconcile-on-startup:false}") boolean reconcileOnStartup) {
+        this.studyRoomRepository = studyRoomRepository;
+        this.reviewGateCountRepository = reviewGateCountRepository;
+        this.userRepository = userRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.reconcileOnStartup = reconcileOnStartup;
+    }
+
+    @Scheduled(cron = "0 30 3 * * *")  // 매일 새벽 03:30:00
+    public void reconcileScheduled() {
+        reconcile();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileOnStartup() {
+        if (reconcileOnStartup) {
+            reconcile();
+        }
+    }
+
+    public void reconcile() {
+        long startedNanos = System.nanoTime();
+
+        int createdRows = createMissingGateCounts();
+        long studyRooms = recalculateInChunks(
+                studyRoomRepository.findMaxStudyRoomId(), studyRoomRepository::recalculateCountsInRange);
+        long gateCounts = recalculateInChunks(
+                reviewGateCountRepository.findMaxCountId(), reviewGateCountRepository::recalculateInRange);
+
+        log.info("공부방 카운터 정합성 작업 완료: 스터디룸 {} 개, 관문 분포 {} 개 (신규 {} 개), {} ms",
+                studyRooms, gateCounts, createdRows, (System.nanoTime() - startedNanos) / 1_000_000);
+    }
+
+    /**
+     * 복습 상태는 있지만 관문 분포 카운터 행이 없는 (사용자, 스터디룸)에 빈 카운터 행 생성
+     * (개수는 이후 다시 계산 단계에서 채워짐)
+     */
+    private int createMissingGateCounts() {
+        Integer created = transactionTemplate.execute(status -> {
+            List<UserStudyRoomPairDto> missingPairs = reviewGateCountRepository.findPairsWithoutCount();
+            List<ReviewGateCount> counts = missingPairs.stream()
+                    .map(pair -> ReviewGateCount.builder()
+                            .user(userRepository.getReferenceById(pair.userId()))
+                            .studyRoom(studyRoomRepository.getReferenceById(pair.studyRoomId()))
+                            .build())
+                    .toList();
+            reviewGateCountRepository.saveAll(counts);
+            return counts.size();
+        });
+        return created == null ? 0 : created;
+    }
+
+    private long recalculateInChunks(long maxId, BiFunction<Long, Long, Integer> recalculateRange) {
+        long recalculated = 0;
+        long fromId = 1;
+        while (fromId <= maxId) {
+            long rangeStart = fromId;
+            long rangeEnd = Math.min(fromId + chunkSize - 1, maxId);
+            Integer count = transactionTemplate.execute(status -> recalculateRange.apply(rangeStart, rangeEnd));
+            recalculated += count == null ? 0 : count;
+            fromId = rangeEnd + 1;
+        }
+        return recalculated;
+    }
+}
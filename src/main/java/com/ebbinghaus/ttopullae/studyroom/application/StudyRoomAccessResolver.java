@@ -0,0 +1,75 @@
+package com.ebbinghaus.ttopullae.studyroom.application;
+
+import com.ebbinghaus.ttopullae.studyroom.domain.StudyRoom;
+import com.ebbinghaus.ttopullae.studyroom.domain.StudyRoomRole;
+import com.ebbinghaus.ttopullae.user.domain.User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 스터디룸에 대한 사용자의 역할 판별 (문제 API와 공부방 API 공용)
+ *
+ * 개인 공부방은 소유자 ID로 판별하고, 그룹 스터디는 활성 멤버십을 조회합니다. (방장은 활성 멤버가 아니어도 OWNER)
+ * 멤버십은 {@link StudyRoomMembershipCache}를 거쳐 조회하므로, 캐시를 사용하면 요청이 달라도 DB를 조회하지 않습니다.
+ * 멤버십 조회 결과는 요청 범위(request attribute)에 보관하여 한 요청 안에서 같은 (사용자, 스터디룸)을 다시 조회하지 않습니다.
+ * 사용자와 스터디룸 엔티티는 트랜잭션의 영속성 컨텍스트가 재사용하므로 역할만 보관합니다.
+ * 웹 요청 밖(스케줄러, 비동기 채점, 스트리밍 채점 스레드)에서는 보관하지 않고 매번 조회합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class StudyRoomAccessResolver {
+
+    private static final String ROLES_ATTRIBUTE = StudyRoomAccessResolver.class.getName() + ".roles";
+
+    private final StudyRoomMembershipCache studyRoomMembershipCache;
+
+    public StudyRoomRole resolveRole(User user, StudyRoom studyRoom) {
+        if (!studyRoom.isGroupRoom()) {
+            return isOwner(user, studyRoom) ? StudyRoomRole.OWNER : StudyRoomRole.NONE;
+        }
+
+        Map<RoleKey, StudyRoomRole> roles = requestScopedRoles();
+        if (roles == null) {
+            return findGroupRole(user, studyRoom);
+        }
+        return roles.computeIfAbsent(
+                new RoleKey(user.getUserId(), studyRoom.getStudyRoomId()),
+                key -> findGroupRole(user, studyRoom));
+    }
+
+    private StudyRoomRole findGroupRole(User user, StudyRoom studyRoom) {
+        // 방장은 멤버십과 관계없이 OWNER이므로 멤버십을 조회하지 않음
+        if (isOwner(user, studyRoom)) {
+            return StudyRoomRole.OWNER;
+        }
+        return studyRoomMembershipCache.isActiveMember(user, studyRoom) ? StudyRoomRole.MEMBER : StudyRoomRole.NONE;
+    }
+
+    private static boolean isOwner(User user, StudyRoom studyRoom) {
+        return studyRoom.getOwner().getUserId().equals(user.getUserId());
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<RoleKey, StudyRoomRole> requestScopedRoles() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+
+        Map<RoleKey, StudyRoomRole> roles =
+                (Map<RoleKey, StudyRoomRole>) attributes.getAttribute(ROLES_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (roles == null) {
+            roles = new HashMap<>();
+            attributes.setAttribute(ROLES_ATTRIBUTE, roles, RequestAttributes.SCOPE_REQUEST);
+        }
+        return roles;
+    }
+
+    private record RoleKey(Long userId, Long studyRoomId) {
+    }
+}
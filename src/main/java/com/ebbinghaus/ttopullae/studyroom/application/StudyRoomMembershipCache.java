@@ -0,0 +1,25 @@
+package com.ebbinghaus.ttopullae.studyroom.application;
+
+import com.ebbinghaus.ttopullae.studyroom.domain.StudyRoom;
+import com.ebbinghaus.ttopullae.user.domain.User;
+
+/**
+ * 스터디룸별 활성 멤버 캐시
+ *
+ * 그룹 스터디의 멤버십은 문제 상세 조회, 제출, 목록 조회마다 확인하지만 참여, 탈퇴, 강퇴 시에만 바뀝니다.
+ * 저장소는 study-room.membership-cache.backend 설정으로 선택합니다. (caffeine: 서버 메모리, none: 매번 조회)
+ * 서버 간 무효화 채널이 구현되기 전까지 caffeine은 단일 서버 배포에서만 사용합니다.
+ * 멤버 구성이 바뀌면 {@link MembershipInvalidationChannel}을 통해 모든 서버의 해당 스터디룸 항목을 무효화합니다.
+ */
+public interface StudyRoomMembershipCache {
+
+    /**
+     * 사용자가 스터디룸의 활성 멤버인지 확인합니다.
+     */
+    boolean isActiveMember(User user, StudyRoom studyRoom);
+
+    /**
+     * 스터디룸의 멤버 목록을 무효화합니다.
+     */
+    void evictRoom(Long studyRoomId);
+}
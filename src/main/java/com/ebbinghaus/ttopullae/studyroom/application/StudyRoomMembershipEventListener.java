@@ -0,0 +1,23 @@
+package com.ebbinghaus.ttopullae.studyroom.application;
+
+import com.ebbinghaus.ttopullae.studyroom.application.dto.StudyRoomMembershipChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 멤버 변경 트랜잭션 커밋 이후 무효화 채널에 발행
+ * (커밋 전에 무효화하면 그 사이의 조회가 변경 전 멤버 목록을 다시 캐시할 수 있음)
+ */
+@Component
+@RequiredArgsConstructor
+public class StudyRoomMembershipEventListener {
+
+    private final MembershipInvalidationChannel membershipInvalidationChannel;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMembershipChanged(StudyRoomMembershipChangedEvent event) {
+        membershipInvalidationChannel.publish(event.studyRoomId());
+    }
+}
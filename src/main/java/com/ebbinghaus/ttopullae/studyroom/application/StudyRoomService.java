@@ -2,13 +2,14 @@ package com.ebbinghaus.ttopullae.studyroom.application;
 
 import com.ebbinghaus.ttopullae.global.exception.ApplicationException;
 import com.ebbinghaus.ttopullae.global.util.JoinCodeGenerator;
-import com.ebbinghaus.ttopullae.problem.domain.Problem;
-import com.ebbinghaus.ttopullae.problem.domain.ProblemAttempt;
+import com.ebbinghaus.ttopullae.problem.domain.LatestProblemAttempt;
 import com.ebbinghaus.ttopullae.problem.domain.ProblemReviewState;
 import com.ebbinghaus.ttopullae.problem.domain.ReviewGate;
-import com.ebbinghaus.ttopullae.problem.domain.repository.ProblemAttemptRepository;
+import com.ebbinghaus.ttopullae.problem.domain.ReviewGateCount;
+import com.ebbinghaus.ttopullae.problem.domain.repository.LatestProblemAttemptRepository;
 import com.ebbinghaus.ttopullae.problem.domain.repository.ProblemRepository;
-import com.ebbinghaus.ttopullae.problem.domain.repository.ProblemReviewStateRepository;
+import com.ebbinghaus.ttopullae.problem.domain.repository.ReviewGateCountRepository;
+import com.ebbinghaus.ttopullae.problem.domain.repository.dto.ProblemWithMyReviewDto;
 import com.ebbinghaus.ttopullae.studyroom.application.dto.GroupRoomJoinCommand;
 import com.ebbinghaus.ttopullae.studyroom.application.dto.GroupRoomJoinResult;
 import com.ebbinghaus.ttopullae.studyroom.application.dto.GroupRoomListResult;
@@ -21,6 +22,7 @@ import com.ebbinghaus.ttopullae.studyroom.application.dto.PersonalRoomListResult
 import com.ebbinghaus.ttopullae.studyroom.application.dto.PersonalRoomListResult.PersonalRoomInfo;
 import com.ebbinghaus.ttopullae.studyroom.application.dto.PersonalRoomProblemListCommand;
 import com.ebbinghaus.ttopullae.studyroom.application.dto.PersonalRoomProblemListResult;
+import com.ebbinghaus.ttopullae.studyroom.application.dto.ProblemCursor;
 import com.ebbinghaus.ttopullae.studyroom.application.dto.StudyRoomCreateCommand;
 import com.ebbinghaus.ttopullae.studyroom.application.dto.StudyRoomCreateResult;
 import com.ebbinghaus.ttopullae.studyroom.domain.RoomType;
@@ -36,6 +38,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -43,14 +48,17 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class StudyRoomService {
 
-    private static final int MAX_JOIN_CODE_ATTEMPTS = 10;
+    private static final int MAX_PAGE_SIZE = 100;
 
     private final StudyRoomRepository studyRoomRepository;
     private final StudyRoomMemberRepository studyRoomMemberRepository;
     private final UserRepository userRepository;
     private final ProblemRepository problemRepository;
-    private final ProblemReviewStateRepository problemReviewStateRepository;
-    private final ProblemAttemptRepository problemAttemptRepository;
+    private final ReviewGateCountRepository reviewGateCountRepository;
+    private final LatestProblemAttemptRepository latestProblemAttemptRepository;
+    private final StudyRoomAccessResolver studyRoomAccessResolver;
+    private final ApplicationEventPublisher eventPublisher;
+    private final JoinCodeGenerator joinCodeGenerator;
 
     /**
      * 개인 공부방을 생성합니다.
@@ -75,24 +83,23 @@ public class StudyRoomService {
 
     /**
      * 그룹 스터디를 생성합니다.
-     * 생성 시 고유한 참여 코드를 자동으로 발급합니다.
+     * 저장으로 발급된 스터디룸 ID로 고유한 참여 코드를 생성하므로 중복 확인 조회가 없습니다.
      */
     @Transactional
     public StudyRoomCreateResult createGroupRoom(StudyRoomCreateCommand command) {
         User owner = findUserById(command.userId());
 
-        String uniqueJoinCode = generateUniqueJoinCode();
-
         StudyRoom groupRoom = StudyRoom.builder()
                 .owner(owner)
                 .roomType(RoomType.GROUP)
                 .name(command.name())
                 .description(command.description())
                 .category(command.category())
-                .joinCode(uniqueJoinCode)
+                .activeMemberCount(1) // 방장
                 .build();
 
         StudyRoom savedRoom = studyRoomRepository.save(groupRoom);
+        assignJoinCode(savedRoom);
 
         // 방장을 그룹 멤버로 자동 등록
         StudyRoomMember ownerMembership = StudyRoomMember.builder()
@@ -135,12 +142,15 @@ public class StudyRoomService {
                 .build();
 
         StudyRoomMember savedMember = studyRoomMemberRepository.save(member);
+        studyRoomRepository.adjustActiveMemberCount(studyRoom.getStudyRoomId(), 1);
+        eventPublisher.publishEvent(new StudyRoomMembershipChangedEvent(studyRoom.getStudyRoomId(), user.getUserId()));
 
         return GroupRoomJoinResult.from(savedMember);
     }
 
     /**
      * 사용자의 개인 공부방 목록을 조회합니다.
+     * 문제 수는 스터디룸의 카운터 컬럼을, 완료 문제 수는 관문 분포 카운터를 읽으므로 COUNT 쿼리를 실행하지 않습니다.
      */
     @Transactional(readOnly = true)
     public PersonalRoomListResult getPersonalRooms(Long userId) {
@@ -148,25 +158,23 @@ public class StudyRoomService {
 
         // 개인방 목록 조회
         List<StudyRoom> personalRooms = studyRoomRepository.findAllByOwnerAndRoomType(user, RoomType.PERSONAL);
+        if (personalRooms.isEmpty()) {
+            return new PersonalRoomListResult(List.of());
+        }
 
-        // 각 방별 문제 수 및 완료 문제 수 집계
-        List<PersonalRoomInfo> roomInfos = personalRooms.stream()
-                .map(studyRoom -> {
-                    int totalProblems = problemRepository.countByStudyRoom(studyRoom);
-                    int graduatedProblems = problemReviewStateRepository.countByUserAndProblem_StudyRoomAndGate(
-                            user, studyRoom, ReviewGate.GRADUATED
-                    );
+        // 방별 완료 문제 수 조회
+        Map<Long, Integer> graduatedProblemCounts = findGraduatedProblemCounts(user.getUserId(), personalRooms);
 
-                    return new PersonalRoomInfo(
-                            studyRoom.getStudyRoomId(),
-                            studyRoom.getName(),
-                            studyRoom.getCategory(),
-                            studyRoom.getDescription(),
-                            totalProblems,
-                            graduatedProblems,
-                            studyRoom.getCreatedAt()
-                    );
-                })
+        List<PersonalRoomInfo> roomInfos = personalRooms.stream()
+                .map(studyRoom -> new PersonalRoomInfo(
+                        studyRoom.getStudyRoomId(),
+                        studyRoom.getName(),
+                        studyRoom.getCategory(),
+                        studyRoom.getDescription(),
+                        studyRoom.getProblemCount(),
+                        graduatedProblemCounts.getOrDefault(studyRoom.getStudyRoomId(), 0),
+                        studyRoom.getCreatedAt()
+                ))
                 .toList();
 
         return new PersonalRoomListResult(roomInfos);
@@ -174,23 +182,27 @@ public class StudyRoomService {
 
     /**
      * 사용자가 속한 그룹 스터디 목록을 조회합니다.
+     * 문제 수와 멤버 수는 스터디룸의 카운터 컬럼을, 완료 문제 수는 관문 분포 카운터를 읽으므로 COUNT 쿼리를 실행하지 않습니다.
      */
     @Transactional(readOnly = true)
     public GroupRoomListResult getGroupRooms(Long userId) {
         User user = findUserById(userId);
 
-        // 활성 멤버십 조회
-        List<StudyRoomMember> memberships = studyRoomMemberRepository.findAllByUserAndActive(user, true);
+        // 활성 멤버십 조회 (스터디룸 fetch join)
+        List<StudyRoomMember> memberships = studyRoomMemberRepository.findAllByUserAndActiveWithStudyRoom(user, true);
+        if (memberships.isEmpty()) {
+            return new GroupRoomListResult(List.of());
+        }
+
+        // 그룹별 완료 문제 수 조회
+        List<StudyRoom> groupRooms = memberships.stream()
+                .map(StudyRoomMember::getStudyRoom)
+                .toList();
+        Map<Long, Integer> graduatedProblemCounts = findGraduatedProblemCounts(user.getUserId(), groupRooms);
 
-        // 각 그룹별 문제 수, 완료 문제 수, 멤버 수 집계
         List<GroupRoomInfo> roomInfos = memberships.stream()
                 .map(member -> {
                     StudyRoom studyRoom = member.getStudyRoom();
-                    int totalProblems = problemRepository.countByStudyRoom(studyRoom);
-                    int graduatedProblems = problemReviewStateRepository.countByUserAndProblem_StudyRoomAndGate(
-                            user, studyRoom, ReviewGate.GRADUATED
-                    );
-                    int memberCount = studyRoomMemberRepository.countByStudyRoomAndActive(studyRoom, true);
 
                     return new GroupRoomInfo(
                             studyRoom.getStudyRoomId(),
@@ -198,9 +210,9 @@ public class StudyRoomService {
                             studyRoom.getCategory(),
                             studyRoom.getDescription(),
                             studyRoom.getJoinCode(),
-                            totalProblems,
-                            graduatedProblems,
-                            memberCount,
+                            studyRoom.getProblemCount(),
+                            graduatedProblemCounts.getOrDefault(studyRoom.getStudyRoomId(), 0),
+                            studyRoom.getActiveMemberCount(),
                             member.getCreatedAt() // 참여일
                     );
                 })
@@ -210,11 +222,14 @@ public class StudyRoomService {
     }
 
     /**
-     * 개인 공부방의 문제 목록을 조회합니다.
+     * 개인 공부방의 문제 목록을 한 페이지씩 조회합니다.
      * 필터링 옵션(ALL/GATE_1/GATE_2/GRADUATED)을 지원합니다.
      *
+     * 문제 목록은 (createdAt, problemId) 키셋 커서로 페이지를 나누며,
+     * 대시보드와 전체 개수는 관문 분포 카운터에서 읽으므로 공부방의 문제 수와 관계없이 조회 비용이 일정합니다.
+     *
      * @param command 문제 목록 조회 요청 Command
-     * @return 문제 목록 결과
+     * @return 문제 목록 결과 (다음 페이지 커서 포함)
      */
     @Transactional(readOnly = true)
     public PersonalRoomProblemListResult getPersonalRoomProblems(
@@ -225,11 +240,35 @@ public class StudyRoomService {
         validatePersonalRoomOwnership(studyRoom, user.getUserId());
 
         ReviewGate targetGate = parseFilter(command.filter());
-        List<Problem> problems = problemRepository.findPersonalRoomProblemsWithReviewState(
-                command.studyRoomId(), user.getUserId(), targetGate);
-        Map<Long, ProblemAttempt> attemptMap = findLatestAttempts(problems, user.getUserId());
+        int pageSize = validatePageSize(command.size());
+        ProblemCursor cursor = ProblemCursor.decode(command.cursor());
 
-        return PersonalRoomProblemListResult.of(studyRoom, problems, attemptMap, user.getUserId());
+        // 다음 페이지 존재 여부를 알기 위해 한 건 더 조회
+        List<ProblemWithMyReviewDto> problemDtos = problemRepository.findPersonalRoomProblemsWithReviewState(
+                command.studyRoomId(),
+                user.getUserId(),
+                targetGate,
+                cursor != null ? cursor.createdAt() : null,
+                cursor != null ? cursor.problemId() : null,
+                PageRequest.of(0, pageSize + 1)
+        );
+        List<ProblemWithMyReviewDto> page = currentPage(problemDtos, pageSize);
+        Map<Long, LatestProblemAttempt> attemptMap = findLatestAttempts(page, user.getUserId());
+
+        // 대시보드 (필터 조건 전체 기준)
+        ReviewGateCount gateCount = findGateCount(user.getUserId(), studyRoom.getStudyRoomId());
+        int totalCount = targetGate == null ? gateCount.getTotalCount() : gateCount.getCount(targetGate);
+        int completedCount = targetGate == null || targetGate == ReviewGate.GRADUATED
+                ? gateCount.getGraduatedCount()
+                : 0;
+
+        return PersonalRoomProblemListResult.of(
+                studyRoom,
+                page,
+                attemptMap,
+                PersonalRoomProblemListResult.DashboardInfo.of(totalCount, completedCount),
+                nextCursor(problemDtos, page)
+        );
     }
 
     /**
@@ -281,11 +320,14 @@ public class StudyRoomService {
     }
 
     /**
-     * 그룹 공부방의 문제 목록을 조회합니다.
+     * 그룹 공부방의 문제 목록을 한 페이지씩 조회합니다.
      * 필터링 옵션(ALL/NOT_IN_REVIEW/GATE_1/GATE_2/GRADUATED)을 지원합니다.
      *
+     * 페이지 방식과 대시보드 계산 방식은 개인 공부방 문제 목록과 같으며,
+     * 전체 문제 수는 스터디룸의 문제 수 카운터를 사용합니다.
+     *
      * @param command 문제 목록 조회 요청 Command
-     * @return 문제 목록 결과 (isMyProblem, creatorName 포함)
+     * @return 문제 목록 결과 (isMyProblem, creatorName, 다음 페이지 커서 포함)
      */
     @Transactional(readOnly = true)
     public GroupRoomProblemListResult getGroupRoomProblems(
@@ -302,26 +344,50 @@ public class StudyRoomService {
 
         // 4. 필터 파라미터 변환 (filter 문자열 → Boolean 플래그)
         FilterParams filterParams = convertFilterToParams(command.filter());
+        int pageSize = validatePageSize(command.size());
+        ProblemCursor cursor = ProblemCursor.decode(command.cursor());
 
-        // 5. 문제 목록 조회 (DTO 프로젝션: Problem + 내 ReviewState)
-        var problemDtos = problemRepository.findGroupRoomProblemsWithReviewStateAndCreator(
+        // 5. 문제 목록 한 페이지 조회 (DTO 프로젝션: Problem + 내 ReviewState, 다음 페이지 확인용 한 건 추가)
+        List<ProblemWithMyReviewDto> problemDtos = problemRepository.findGroupRoomProblemsWithReviewStateAndCreator(
                 command.studyRoomId(),
                 user.getUserId(),
                 filterParams.includeAll(),
                 filterParams.includeNotInReview(),
-                filterParams.targetGate()
+                filterParams.targetGate(),
+                cursor != null ? cursor.createdAt() : null,
+                cursor != null ? cursor.problemId() : null,
+                PageRequest.of(0, pageSize + 1)
         );
-
-        // 6. DTO에서 Problem 목록 추출
-        List<Problem> problems = problemDtos.stream()
-                .map(dto -> dto.problem())
-                .toList();
-
-        // 7. 최근 시도 기록 조회
-        Map<Long, ProblemAttempt> attemptMap = findLatestAttempts(problems, user.getUserId());
+        List<ProblemWithMyReviewDto> page = currentPage(problemDtos, pageSize);
+
+        // 6. 현재 페이지 문제의 최근 시도 기록 조회
+        Map<Long, LatestProblemAttempt> attemptMap = findLatestAttempts(page, user.getUserId());
+
+        // 7. 대시보드 (필터 조건 전체 기준, 문제 수 카운터와 관문 분포 카운터 사용)
+        ReviewGateCount gateCount = findGateCount(user.getUserId(), studyRoom.getStudyRoomId());
+        int reviewingTotal = gateCount.getTotalCount();
+        int totalCount;
+        int reviewingCount;
+        if (filterParams.includeAll()) {
+            totalCount = Math.max(studyRoom.getProblemCount(), reviewingTotal);
+            reviewingCount = reviewingTotal;
+        } else if (filterParams.includeNotInReview()) {
+            totalCount = Math.max(studyRoom.getProblemCount() - reviewingTotal, 0);
+            reviewingCount = 0;
+        } else {
+            totalCount = gateCount.getCount(filterParams.targetGate());
+            reviewingCount = totalCount;
+        }
 
         // 8. DTO 변환 및 반환 (문제 + 내 복습 상태 함께 전달)
-        return GroupRoomProblemListResult.of(studyRoom, problemDtos, attemptMap, user.getUserId());
+        return GroupRoomProblemListResult.of(
+                studyRoom,
+                page,
+                attemptMap,
+                user.getUserId(),
+                GroupRoomProblemListResult.DashboardInfo.of(totalCount, reviewingCount),
+                nextCursor(problemDtos, page)
+        );
     }
 
     /**
@@ -354,19 +420,47 @@ public class StudyRoomService {
     }
 
     /**
-     * 문제 목록에 대한 사용자의 최근 시도 기록을 조회하여 Map으로 반환합니다.
+     * 페이지 크기를 검증합니다.
      */
-    private Map<Long, ProblemAttempt> findLatestAttempts(List<Problem> problems, Long userId) {
-        List<Long> problemIds = problems.stream()
-                .map(Problem::getProblemId)
+    private int validatePageSize(int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new ApplicationException(StudyRoomException.INVALID_PAGE_SIZE);
+        }
+        return size;
+    }
+
+    /**
+     * 페이지 크기보다 한 건 더 조회한 결과에서 현재 페이지에 해당하는 문제만 반환합니다.
+     */
+    private List<ProblemWithMyReviewDto> currentPage(List<ProblemWithMyReviewDto> problemDtos, int pageSize) {
+        return problemDtos.size() > pageSize ? problemDtos.subList(0, pageSize) : problemDtos;
+    }
+
+    /**
+     * 다음 페이지가 있으면 현재 페이지의 마지막 문제를 가리키는 커서 토큰을, 없으면 null을 반환합니다.
+     */
+    private String nextCursor(List<ProblemWithMyReviewDto> problemDtos, List<ProblemWithMyReviewDto> page) {
+        if (problemDtos.size() == page.size()) {
+            return null;
+        }
+        return ProblemCursor.from(page.get(page.size() - 1).problem()).encode();
+    }
+
+    /**
+     * 현재 페이지 문제에 대한 사용자의 최근 시도 기록 포인터를 조회하여 Map으로 반환합니다.
+     * (user_id, problem_id) 유니크 키로 조회하며, IN 절의 크기는 페이지 크기로 제한됩니다.
+     */
+    private Map<Long, LatestProblemAttempt> findLatestAttempts(List<ProblemWithMyReviewDto> problemDtos, Long userId) {
+        List<Long> problemIds = problemDtos.stream()
+                .map(dto -> dto.problem().getProblemId())
                 .toList();
 
         if (problemIds.isEmpty()) {
             return Map.of();
         }
 
-        List<ProblemAttempt> latestAttempts =
-                problemAttemptRepository.findLatestAttemptsByUserAndProblems(userId, problemIds);
+        List<LatestProblemAttempt> latestAttempts =
+                latestProblemAttemptRepository.findAllByUserIdAndProblemIds(userId, problemIds);
 
         return latestAttempts.stream()
                 .collect(Collectors.toMap(
@@ -376,17 +470,42 @@ public class StudyRoomService {
     }
 
     /**
-     * 고유한 참여 코드를 생성합니다.
-     * 최대 10회까지 재시도하며, 모두 실패 시 예외를 발생시킵니다.
+     * 스터디룸에 대한 사용자의 관문 분포 카운터를 조회합니다.
+     * 카운터 행이 없으면(복습 상태가 없는 방) 모든 값이 0인 카운터를 반환합니다.
+     */
+    private ReviewGateCount findGateCount(Long userId, Long studyRoomId) {
+        return reviewGateCountRepository.findByUserIdAndStudyRoomId(userId, studyRoomId)
+                .orElseGet(() -> ReviewGateCount.builder().build());
+    }
+
+    /**
+     * 스터디룸 목록에 대한 사용자의 완료 문제 수를 관문 분포 카운터에서 조회하여 Map으로 반환합니다.
+     * 카운터 행이 없는 스터디룸(복습 상태가 없는 방)은 결과에 포함되지 않습니다.
+     */
+    private Map<Long, Integer> findGraduatedProblemCounts(Long userId, List<StudyRoom> studyRooms) {
+        List<Long> studyRoomIds = studyRooms.stream()
+                .map(StudyRoom::getStudyRoomId)
+                .toList();
+
+        return reviewGateCountRepository.findAllByUserIdAndStudyRoomIds(userId, studyRoomIds).stream()
+                .collect(Collectors.toMap(
+                        count -> count.getStudyRoom().getStudyRoomId(),
+                        ReviewGateCount::getGraduatedCount
+                ));
+    }
+
+    /**
+     * 스터디룸 ID로 참여 코드를 생성하여 발급합니다.
+     * ID별 코드는 서로 다르지만, 이전 방식(랜덤)으로 발급된 코드와는 충돌할 수 있어 즉시 반영하여 확인합니다.
+     * (충돌 시 요청이 실패하고, 재시도하면 새 ID로 다른 코드가 발급됨)
      */
-    private String generateUniqueJoinCode() {
-        for (int attempt = 0; attempt < MAX_JOIN_CODE_ATTEMPTS; attempt++) {
-            String joinCode = JoinCodeGenerator.generateCode();
-            if (!studyRoomRepository.existsByJoinCode(joinCode)) {
-                return joinCode;
-            }
+    private void assignJoinCode(StudyRoom studyRoom) {
+        studyRoom.assignJoinCode(joinCodeGenerator.generateCode(studyRoom.getStudyRoomId()));
+        try {
+            studyRoomRepository.flush();
+        } catch (DataIntegrityViolationException e) {
+            throw new ApplicationException(StudyRoomException.JOIN_CODE_GENERATION_FAILED);
         }
-        throw new ApplicationException(StudyRoomException.JOIN_CODE_GENERATION_FAILED);
     }
 
     /**
@@ -407,8 +526,8 @@ public class StudyRoomService {
             throw new ApplicationException(StudyRoomException.NOT_GROUP_ROOM);
         }
 
-        // 활성 멤버인지 확인
-        if (!studyRoomMemberRepository.existsByUserAndStudyRoomAndActive(user, studyRoom, true)) {
+        // 방장 또는 활성 멤버인지 확인 (멤버십 조회 결과는 요청 안에서 재사용)
+        if (!studyRoomAccessResolver.resolveRole(user, studyRoom).canAccess()) {
             throw new ApplicationException(StudyRoomException.NOT_GROUP_MEMBER);
         }
     }
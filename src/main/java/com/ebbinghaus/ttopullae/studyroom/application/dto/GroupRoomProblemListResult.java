@@ -1,7 +1,7 @@
 package com.ebbinghaus.ttopullae.studyroom.application.dto;
 
 import com.ebbinghaus.ttopullae.problem.domain.Problem;
-import com.ebbinghaus.ttopullae.problem.domain.ProblemAttempt;
+import com.ebbinghaus.ttopullae.problem.domain.LatestProblemAttempt;
 import com.ebbinghaus.ttopullae.problem.domain.ProblemReviewState;
 import com.ebbinghaus.ttopullae.problem.domain.ProblemType;
 import com.ebbinghaus.ttopullae.problem.domain.ReviewGate;
@@ -20,29 +20,33 @@ public record GroupRoomProblemListResult(
         String joinCode,
         DashboardInfo dashboard,
         List<ProblemInfo> problems,
-        int totalCount
+        int totalCount,
+        String nextCursor,
+        boolean hasNext
 ) {
 
     /**
-     * ProblemWithMyReviewDto 목록을 GroupRoomProblemListResult로 변환합니다.
+     * 문제 목록 한 페이지를 GroupRoomProblemListResult로 변환합니다.
      *
      * @param studyRoom   스터디룸
-     * @param problemDtos 문제+내 복습 상태 DTO 목록
-     * @param attemptMap  최근 시도 기록 맵 (problemId -> ProblemAttempt)
+     * @param problemDtos 문제+내 복습 상태 DTO 목록 (현재 페이지)
+     * @param attemptMap  최근 시도 기록 맵 (problemId -> LatestProblemAttempt)
      * @param userId      현재 사용자 ID
+     * @param dashboard   필터 조건 전체에 대한 대시보드 (문제 수, 관문 분포 카운터 기준)
+     * @param nextCursor  다음 페이지 커서 (마지막 페이지이면 null)
      */
     public static GroupRoomProblemListResult of(
             StudyRoom studyRoom,
             List<ProblemWithMyReviewDto> problemDtos,
-            Map<Long, ProblemAttempt> attemptMap,
-            Long userId
+            Map<Long, LatestProblemAttempt> attemptMap,
+            Long userId,
+            DashboardInfo dashboard,
+            String nextCursor
     ) {
         List<ProblemInfo> problemInfos = problemDtos.stream()
                 .map(dto -> ProblemInfo.from(dto, attemptMap, userId))
                 .toList();
 
-        DashboardInfo dashboard = DashboardInfo.from(problemInfos);
-
         return new GroupRoomProblemListResult(
                 studyRoom.getStudyRoomId(),
                 studyRoom.getName(),
@@ -51,7 +55,9 @@ public record GroupRoomProblemListResult(
                 studyRoom.getJoinCode(),
                 dashboard,
                 problemInfos,
-                problemInfos.size()
+                dashboard.totalCount(),
+                nextCursor,
+                nextCursor != null
         );
     }
 
@@ -80,14 +86,14 @@ public record GroupRoomProblemListResult(
          */
         public static ProblemInfo from(
                 ProblemWithMyReviewDto dto,
-                Map<Long, ProblemAttempt> attemptMap,
+                Map<Long, LatestProblemAttempt> attemptMap,
                 Long userId
         ) {
             Problem problem = dto.problem();
             ProblemReviewState myReviewState = dto.myReviewState();
 
             // 최근 시도 기록 조회
-            ProblemAttempt latestAttempt = attemptMap.get(problem.getProblemId());
+            LatestProblemAttempt latestAttempt = attemptMap.get(problem.getProblemId());
 
             // 내가 생성한 문제인지 확인
             boolean isMyProblem = problem.getCreator().getUserId().equals(userId);
@@ -98,7 +104,7 @@ public record GroupRoomProblemListResult(
                     problem.getProblemType(),
                     myReviewState != null ? myReviewState.getGate() : ReviewGate.NOT_IN_REVIEW,
                     problem.getCreatedAt(),
-                    latestAttempt != null ? latestAttempt.getCreatedAt() : null,
+                    latestAttempt != null ? latestAttempt.getAttemptedAt() : null,
                     myReviewState != null ? myReviewState.getReviewCount() : 0,
                     isMyProblem,
                     problem.getCreator().getUsername()
@@ -115,20 +121,11 @@ public record GroupRoomProblemListResult(
             int reviewingCount,
             int unreviewedCount
     ) {
-        public static DashboardInfo from(List<ProblemInfo> problems) {
-            int totalCount = problems.size();
-
-            // 복습 주기에 포함된 문제 개수 계산 (NOT_IN_REVIEW가 아닌 것들)
-            int reviewingCount = (int) problems.stream()
-                    .filter(ProblemInfo::isIncludedInReview)
-                    .count();
-
-            int unreviewedCount = totalCount - reviewingCount;
-
+        public static DashboardInfo of(int totalCount, int reviewingCount) {
             return new DashboardInfo(
                     totalCount,
                     reviewingCount,
-                    unreviewedCount
+                    totalCount - reviewingCount
             );
         }
     }
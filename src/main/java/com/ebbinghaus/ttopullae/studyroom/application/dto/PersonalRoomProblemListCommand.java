@@ -2,10 +2,18 @@ package com.ebbinghaus.ttopullae.studyroom.application.dto;
 
 /**
  * 개인 공부방 문제 목록 조회 요청 Command
+ *
+ * @param userId 사용자 ID (JWT에서 추출)
+ * @param studyRoomId 스터디룸 ID
+ * @param filter 필터 타입 (ALL, GATE_1, GATE_2, GRADUATED)
+ * @param cursor 이전 페이지 응답의 nextCursor (첫 페이지이면 null)
+ * @param size 페이지 크기
  */
 public record PersonalRoomProblemListCommand(
     Long userId,
     Long studyRoomId,
-    String filter
+    String filter,
+    String cursor,
+    int size
 ) {
-}
\ No newline at end of file
+}
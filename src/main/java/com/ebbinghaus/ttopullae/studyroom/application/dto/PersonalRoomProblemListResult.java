@@ -1,16 +1,16 @@
 package com.ebbinghaus.ttopullae.studyroom.application.dto;
 
 import com.ebbinghaus.ttopullae.problem.domain.Problem;
-import com.ebbinghaus.ttopullae.problem.domain.ProblemAttempt;
+import com.ebbinghaus.ttopullae.problem.domain.LatestProblemAttempt;
 import com.ebbinghaus.ttopullae.problem.domain.ProblemReviewState;
 import com.ebbinghaus.ttopullae.problem.domain.ProblemType;
 import com.ebbinghaus.ttopullae.problem.domain.ReviewGate;
+import com.ebbinghaus.ttopullae.problem.domain.repository.dto.ProblemWithMyReviewDto;
 import com.ebbinghaus.ttopullae.studyroom.domain.StudyRoom;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 
 public record PersonalRoomProblemListResult(
         DashboardInfo dashboard,
@@ -19,38 +19,41 @@ public record PersonalRoomProblemListResult(
         String studyRoomCategory,
         String studyRoomDescription,
         List<ProblemInfo> problems,
-        int totalCount
+        int totalCount,
+        String nextCursor,
+        boolean hasNext
 ) {
 
     /**
-     * Problem 엔티티 목록을 PersonalRoomProblemListResult로 변환합니다.
+     * 문제 목록 한 페이지를 PersonalRoomProblemListResult로 변환합니다.
      *
-     * @param studyRoom  스터디룸
-     * @param problems   문제 목록 (reviewStates fetch join 완료)
-     * @param attemptMap 최근 시도 기록 맵 (problemId -> ProblemAttempt)
-     * @param userId     사용자 ID
+     * @param studyRoom   스터디룸
+     * @param problemDtos 문제+내 복습 상태 DTO 목록 (현재 페이지)
+     * @param attemptMap  최근 시도 기록 맵 (problemId -> LatestProblemAttempt)
+     * @param dashboard   필터 조건 전체에 대한 대시보드 (관문 분포 카운터 기준)
+     * @param nextCursor  다음 페이지 커서 (마지막 페이지이면 null)
      */
     public static PersonalRoomProblemListResult of(
             StudyRoom studyRoom,
-            List<Problem> problems,
-            Map<Long, ProblemAttempt> attemptMap,
-            Long userId
+            List<ProblemWithMyReviewDto> problemDtos,
+            Map<Long, LatestProblemAttempt> attemptMap,
+            DashboardInfo dashboard,
+            String nextCursor
     ) {
-        List<ProblemInfo> problemInfos = problems.stream()
-                .map(problem -> ProblemInfo.from(problem, attemptMap, userId))
-                .filter(Objects::nonNull)
+        List<ProblemInfo> problemInfos = problemDtos.stream()
+                .map(dto -> ProblemInfo.from(dto, attemptMap))
                 .toList();
 
-        DashboardInfo dashboardInfo = DashboardInfo.from(problemInfos);
-
         return new PersonalRoomProblemListResult(
-                dashboardInfo,
+                dashboard,
                 studyRoom.getStudyRoomId(),
                 studyRoom.getName(),
                 studyRoom.getCategory(),
                 studyRoom.getDescription(),
                 problemInfos,
-                problemInfos.size()
+                dashboard.totalCount(),
+                nextCursor,
+                nextCursor != null
         );
     }
 
@@ -64,38 +67,28 @@ public record PersonalRoomProblemListResult(
             int reviewCount
     ) {
         /**
-         * Problem 엔티티를 ProblemInfo DTO로 변환합니다.
+         * ProblemWithMyReviewDto를 ProblemInfo DTO로 변환합니다.
          *
-         * @param problem    문제 엔티티 (reviewStates 포함)
+         * @param dto        문제와 내 복습 상태 DTO
          * @param attemptMap 최근 시도 기록 맵
-         * @param userId     사용자 ID
-         * @return ProblemInfo 또는 null (reviewState 없을 시)
+         * @return ProblemInfo
          */
         public static ProblemInfo from(
-                Problem problem,
-                Map<Long, ProblemAttempt> attemptMap,
-                Long userId
+                ProblemWithMyReviewDto dto,
+                Map<Long, LatestProblemAttempt> attemptMap
         ) {
-            // reviewStates에서 현재 사용자의 복습 상태 찾기
-            ProblemReviewState userReviewState = problem.getReviewStates().stream()
-                    .filter(rs -> rs.getUser().getUserId().equals(userId))
-                    .findFirst()
-                    .orElse(null);
-
-            if (userReviewState == null) {
-                return null;
-            }
-
-            ProblemAttempt latestAttempt = attemptMap.get(problem.getProblemId());
+            Problem problem = dto.problem();
+            ProblemReviewState myReviewState = dto.myReviewState();
+            LatestProblemAttempt latestAttempt = attemptMap.get(problem.getProblemId());
 
             return new ProblemInfo(
                     problem.getProblemId(),
                     problem.getQuestion(),
                     problem.getProblemType(),
-                    userReviewState.getGate(),
+                    myReviewState.getGate(),
                     problem.getCreatedAt(),
-                    latestAttempt != null ? latestAttempt.getCreatedAt() : null,
-                    userReviewState.getReviewCount()
+                    latestAttempt != null ? latestAttempt.getAttemptedAt() : null,
+                    myReviewState.getReviewCount()
             );
         }
 
@@ -111,13 +104,7 @@ public record PersonalRoomProblemListResult(
             int incompletedCount,
             double progressRate
     ) {
-        public static DashboardInfo from(List<ProblemInfo> problemInfos) {
-            int totalCount = problemInfos.size();
-
-            int completedCount = (int) problemInfos.stream()
-                    .filter(ProblemInfo::isCompleted)
-                    .count();
-
+        public static DashboardInfo of(int totalCount, int completedCount) {
             int incompletedCount = totalCount - completedCount;
 
             double progressRate = totalCount == 0 ? 0.0 :
@@ -0,0 +1,65 @@
+package com.ebbinghaus.ttopullae.studyroom.application.dto;
+
+import com.ebbinghaus.ttopullae.global.exception.ApplicationException;
+import com.ebbinghaus.ttopullae.problem.domain.Problem;
+import com.ebbinghaus.ttopullae.studyroom.exception.StudyRoomException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+
+/**
+ * 공부방 문제 목록의 키셋 페이지네이션 커서
+ * 문제 목록은 (createdAt DESC, problemId DESC) 순서로 정렬되며, 커서는 이전 페이지의 마지막 문제 위치를 가리킵니다.
+ *
+ * 클라이언트에는 "createdAt|problemId"를 URL-safe Base64로 인코딩한 불투명 토큰으로 전달합니다.
+ *
+ * @param createdAt 마지막 문제의 생성 시각
+ * @param problemId 마지막 문제 ID (생성 시각이 같은 문제 사이의 순서 결정)
+ */
+public record ProblemCursor(
+    LocalDateTime createdAt,
+    Long problemId
+) {
+
+    private static final String DELIMITER = "|";
+
+    /**
+     * 문제의 위치를 가리키는 커서를 생성합니다.
+     * DB 컬럼 정밀도(마이크로초)보다 세밀한 값이 비교 조건에 쓰이지 않도록 생성 시각을 마이크로초로 자릅니다.
+     */
+    public static ProblemCursor from(Problem problem) {
+        return new ProblemCursor(problem.getCreatedAt().truncatedTo(ChronoUnit.MICROS), problem.getProblemId());
+    }
+
+    /**
+     * 커서 토큰을 해석합니다.
+     *
+     * @param token 커서 토큰 (null 또는 빈 문자열이면 첫 페이지)
+     * @return 커서 (첫 페이지이면 null)
+     */
+    public static ProblemCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int delimiterIndex = decoded.indexOf(DELIMITER);
+            if (delimiterIndex < 0) {
+                throw new ApplicationException(StudyRoomException.INVALID_CURSOR);
+            }
+            return new ProblemCursor(
+                    LocalDateTime.parse(decoded.substring(0, delimiterIndex)),
+                    Long.parseLong(decoded.substring(delimiterIndex + 1))
+            );
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new ApplicationException(StudyRoomException.INVALID_CURSOR);
+        }
+    }
+
+    public String encode() {
+        String raw = createdAt + DELIMITER + problemId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
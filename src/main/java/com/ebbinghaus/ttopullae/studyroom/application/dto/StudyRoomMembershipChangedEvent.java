@@ -0,0 +1,10 @@
+package com.ebbinghaus.ttopullae.studyroom.application.dto;
+
+/**
+ * 스터디룸의 활성 멤버 구성이 바뀌었음을 알리는 이벤트 (참여, 탈퇴, 강퇴)
+ */
+public record StudyRoomMembershipChangedEvent(
+        Long studyRoomId,
+        Long userId
+) {
+}
@@ -36,7 +36,29 @@ public class StudyRoom extends BaseTimeEntity {
     @Column(unique = true)
     private String joinCode;
 
+    /**
+     * 문제 수 (비정규화 카운터, StudyRoomRepository의 원자적 UPDATE로만 갱신)
+     */
+    @Builder.Default
+    @Column(nullable = false)
+    private int problemCount = 0;
+
+    /**
+     * 활성 멤버 수 (비정규화 카운터, StudyRoomRepository의 원자적 UPDATE로만 갱신)
+     * 개인방은 항상 0입니다.
+     */
+    @Builder.Default
+    @Column(nullable = false)
+    private int activeMemberCount = 0;
+
     public boolean isGroupRoom() {
         return this.roomType == RoomType.GROUP;
     }
+
+    /**
+     * 참여 코드 발급 (참여 코드는 스터디룸 ID로 생성하므로 저장 후 발급)
+     */
+    public void assignJoinCode(String joinCode) {
+        this.joinCode = joinCode;
+    }
 }
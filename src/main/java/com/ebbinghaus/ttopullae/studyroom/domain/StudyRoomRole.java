@@ -0,0 +1,14 @@
+package com.ebbinghaus.ttopullae.studyroom.domain;
+
+/**
+ * 스터디룸에 대한 사용자의 역할
+ */
+public enum StudyRoomRole {
+    OWNER,   // 스터디룸 소유자 (개인 공부방 소유자, 그룹 스터디 방장)
+    MEMBER,  // 그룹 스터디 활성 멤버
+    NONE;    // 접근 권한 없음
+
+    public boolean canAccess() {
+        return this != NONE;
+    }
+}
@@ -3,8 +3,10 @@ package com.ebbinghaus.ttopullae.studyroom.domain.repository;
 import com.ebbinghaus.ttopullae.studyroom.domain.StudyRoom;
 import com.ebbinghaus.ttopullae.studyroom.domain.StudyRoomMember;
 import com.ebbinghaus.ttopullae.user.domain.User;
+import jakarta.persistence.LockModeType;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -12,10 +14,17 @@ public interface StudyRoomMemberRepository extends JpaRepository<StudyRoomMember
 
     boolean existsByUserAndStudyRoomAndActive(User user, StudyRoom studyRoom, Boolean active);
 
-    List<StudyRoomMember> findAllByUserAndActive(User user, Boolean active);
-
-    int countByStudyRoomAndActive(StudyRoom studyRoom, Boolean active);
+    @Query("SELECT m FROM StudyRoomMember m JOIN FETCH m.studyRoom WHERE m.user = :user AND m.active = :active")
+    List<StudyRoomMember> findAllByUserAndActiveWithStudyRoom(@Param("user") User user, @Param("active") Boolean active);
 
     @Query("SELECT m FROM StudyRoomMember m JOIN FETCH m.user WHERE m.studyRoom = :studyRoom AND m.active = :active ORDER BY m.createdAt ASC")
     List<StudyRoomMember> findAllByStudyRoomAndActiveWithUser(@Param("studyRoom") StudyRoom studyRoom, @Param("active") Boolean active);
+
+    /**
+     * 스터디룸의 활성 멤버 사용자 ID를 공유 잠금 조회(locking read)로 조회합니다.
+     * 호출한 트랜잭션이 REPEATABLE READ여도 트랜잭션 시작 시점이 아닌 최신 커밋 기준의 멤버 목록을 읽습니다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("SELECT m.user.userId FROM StudyRoomMember m WHERE m.studyRoom.studyRoomId = :studyRoomId AND m.active = true")
+    List<Long> findActiveUserIdsByStudyRoomId(@Param("studyRoomId") Long studyRoomId);
 }
@@ -6,12 +6,39 @@ import com.ebbinghaus.ttopullae.user.domain.User;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface StudyRoomRepository extends JpaRepository<StudyRoom, Long> {
 
-    boolean existsByJoinCode(String joinCode);
-
     Optional<StudyRoom> findByJoinCode(String joinCode);
 
     List<StudyRoom> findAllByOwnerAndRoomType(User owner, RoomType roomType);
+
+    @Modifying
+    @Query("UPDATE StudyRoom sr SET sr.problemCount = sr.problemCount + :delta WHERE sr.studyRoomId = :studyRoomId")
+    int adjustProblemCount(@Param("studyRoomId") Long studyRoomId, @Param("delta") int delta);
+
+    @Modifying
+    @Query("UPDATE StudyRoom sr SET sr.activeMemberCount = sr.activeMemberCount + :delta WHERE sr.studyRoomId = :studyRoomId")
+    int adjustActiveMemberCount(@Param("studyRoomId") Long studyRoomId, @Param("delta") int delta);
+
+    /**
+     * 기본 키 범위 [fromId, toId]의 문제 수와 활성 멤버 수를 실제 개수로 다시 계산합니다.
+     *
+     * @return 다시 계산한 행 수
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        UPDATE StudyRoom sr
+        SET sr.problemCount = CAST((SELECT COUNT(p) FROM Problem p WHERE p.studyRoom = sr) AS Integer),
+            sr.activeMemberCount = CAST((SELECT COUNT(m) FROM StudyRoomMember m
+                                         WHERE m.studyRoom = sr AND m.active = true) AS Integer)
+        WHERE sr.studyRoomId BETWEEN :fromId AND :toId
+        """)
+    int recalculateCountsInRange(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    @Query("SELECT COALESCE(MAX(sr.studyRoomId), 0) FROM StudyRoom sr")
+    Long findMaxStudyRoomId();
 }
@@ -130,18 +130,24 @@ public class StudyRoomController implements StudyRoomControllerDocs {
      * @param userId 현재 로그인한 사용자 ID (JWT에서 추출)
      * @param studyRoomId 스터디룸 ID
      * @param filter 필터 타입 (기본값: ALL)
+     * @param cursor 이전 페이지 응답의 nextCursor (첫 페이지는 생략)
+     * @param size 페이지 크기 (기본값: 20)
      * @return 개인 공부방 문제 목록
      */
     @GetMapping("/personal/{studyRoomId}/problems")
     public ResponseEntity<PersonalRoomProblemListResponse> getPersonalRoomProblems(
             @LoginUser Long userId,
             @PathVariable Long studyRoomId,
-            @RequestParam(defaultValue = "ALL") String filter
+            @RequestParam(defaultValue = "ALL") String filter,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
     ) {
         PersonalRoomProblemListCommand command = new PersonalRoomProblemListCommand(
                 userId,
                 studyRoomId,
-                filter
+                filter,
+                cursor,
+                size
         );
         PersonalRoomProblemListResult result = studyRoomService.getPersonalRoomProblems(command);
         PersonalRoomProblemListResponse response = PersonalRoomProblemListResponse.from(result);
@@ -155,18 +161,24 @@ public class StudyRoomController implements StudyRoomControllerDocs {
      * @param userId 현재 로그인한 사용자 ID (JWT에서 추출)
      * @param studyRoomId 스터디룸 ID
      * @param filter 필터 타입 (기본값: ALL)
+     * @param cursor 이전 페이지 응답의 nextCursor (첫 페이지는 생략)
+     * @param size 페이지 크기 (기본값: 20)
      * @return 그룹 공부방 문제 목록 (isMyProblem, creatorName 포함)
      */
     @GetMapping("/group/{studyRoomId}/problems")
     public ResponseEntity<GroupRoomProblemListResponse> getGroupRoomProblems(
             @LoginUser Long userId,
             @PathVariable Long studyRoomId,
-            @RequestParam(defaultValue = "ALL") String filter
+            @RequestParam(defaultValue = "ALL") String filter,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
     ) {
         GroupRoomProblemListCommand command = new GroupRoomProblemListCommand(
                 userId,
                 studyRoomId,
-                filter
+                filter,
+                cursor,
+                size
         );
         GroupRoomProblemListResult result = studyRoomService.getGroupRoomProblems(command);
         GroupRoomProblemListResponse response = GroupRoomProblemListResponse.from(result);
@@ -153,7 +153,7 @@ public interface StudyRoomControllerDocs {
                     )
             ),
 
-            @ApiResponse(responseCode = "500", description = "참여 코드 생성에 실패한 경우",
+            @ApiResponse(responseCode = "500", description = "생성한 참여 코드가 이전에 발급된 코드와 충돌한 경우 (재시도 시 다른 코드 발급)",
                     content = @Content(
                             schema = @Schema(implementation = ErrorResponse.class),
                             examples = @ExampleObject(
@@ -384,7 +384,7 @@ public interface StudyRoomControllerDocs {
 
     @Operation(
             summary = "개인 공부방 문제 목록 조회",
-            description = "개인 공부방의 문제 목록을 조회합니다. 필터(ALL, GATE_1, GATE_2, GRADUATED)를 사용하여 복습 상태별로 문제를 조회할 수 있습니다. 개인 공부방의 소유자만 접근할 수 있습니다."
+            description = "개인 공부방의 문제 목록을 조회합니다. 필터(ALL, GATE_1, GATE_2, GRADUATED)를 사용하여 복습 상태별로 문제를 조회할 수 있습니다. 개인 공부방의 소유자만 접근할 수 있습니다. 문제는 최신순으로 size개씩 조회되며, 다음 페이지는 응답의 nextCursor를 cursor 파라미터로 전달하여 조회합니다(hasNext가 false이면 마지막 페이지). dashboard와 totalCount는 현재 페이지가 아닌 필터 조건 전체 기준입니다."
     )
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "개인 공부방 문제 목록 조회 성공",
@@ -433,7 +433,9 @@ public interface StudyRoomControllerDocs {
                                                   "reviewCount": 3
                                                 }
                                               ],
-                                              "totalCount": 3
+                                              "totalCount": 3,
+                                              "nextCursor": null,
+                                              "hasNext": false
                                             }
                                             """
                             )
@@ -495,12 +497,14 @@ public interface StudyRoomControllerDocs {
     ResponseEntity<PersonalRoomProblemListResponse> getPersonalRoomProblems(
             @Parameter(hidden = true) @LoginUser Long userId,
             @Parameter(description = "스터디룸 ID", required = true) @PathVariable Long studyRoomId,
-            @Parameter(description = "필터 타입 (ALL, GATE_1, GATE_2, GRADUATED)", example = "ALL") @RequestParam(defaultValue = "ALL") String filter
+            @Parameter(description = "필터 타입 (ALL, GATE_1, GATE_2, GRADUATED)", example = "ALL") @RequestParam(defaultValue = "ALL") String filter,
+            @Parameter(description = "이전 페이지 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (1~100)", example = "20") @RequestParam(defaultValue = "20") int size
     );
 
     @Operation(
             summary = "그룹 공부방 문제 목록 조회",
-            description = "그룹 공부방의 문제 목록을 조회합니다. 필터(ALL, NOT_IN_REVIEW, GATE_1, GATE_2, GRADUATED)를 사용하여 복습 상태별로 문제를 조회할 수 있습니다. 그룹 멤버만 접근할 수 있습니다. 응답에는 isMyProblem(내가 생성한 문제 여부)과 creatorName(생성자 이름)이 포함됩니다."
+            description = "그룹 공부방의 문제 목록을 조회합니다. 필터(ALL, NOT_IN_REVIEW, GATE_1, GATE_2, GRADUATED)를 사용하여 복습 상태별로 문제를 조회할 수 있습니다. 그룹 멤버만 접근할 수 있습니다. 응답에는 isMyProblem(내가 생성한 문제 여부)과 creatorName(생성자 이름)이 포함됩니다. 문제는 최신순으로 size개씩 조회되며, 다음 페이지는 응답의 nextCursor를 cursor 파라미터로 전달하여 조회합니다(hasNext가 false이면 마지막 페이지). dashboard와 totalCount는 현재 페이지가 아닌 필터 조건 전체 기준입니다."
     )
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "그룹 공부방 문제 목록 조회 성공",
@@ -555,7 +559,9 @@ public interface StudyRoomControllerDocs {
                                                   "creatorName": "이민호"
                                                 }
                                               ],
-                                              "totalCount": 3
+                                              "totalCount": 3,
+                                              "nextCursor": null,
+                                              "hasNext": false
                                             }
                                             """
                             )
@@ -630,7 +636,9 @@ public interface StudyRoomControllerDocs {
     ResponseEntity<GroupRoomProblemListResponse> getGroupRoomProblems(
             @Parameter(hidden = true) @LoginUser Long userId,
             @Parameter(description = "스터디룸 ID", required = true) @PathVariable Long studyRoomId,
-            @Parameter(description = "필터 타입 (ALL, NOT_IN_REVIEW, GATE_1, GATE_2, GRADUATED)", example = "ALL") @RequestParam(defaultValue = "ALL") String filter
+            @Parameter(description = "필터 타입 (ALL, NOT_IN_REVIEW, GATE_1, GATE_2, GRADUATED)", example = "ALL") @RequestParam(defaultValue = "ALL") String filter,
+            @Parameter(description = "이전 페이지 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (1~100)", example = "20") @RequestParam(defaultValue = "20") int size
     );
 
     @Operation(
@@ -16,7 +16,9 @@ public record GroupRoomProblemListResponse(
         String joinCode,
         DashboardDto dashboard,
         List<ProblemSummary> problems,
-        int totalCount
+        int totalCount,
+        String nextCursor,
+        boolean hasNext
 ) {
 
     public record ProblemSummary(
@@ -55,7 +57,9 @@ public record GroupRoomProblemListResponse(
                 result.joinCode(),
                 DashboardDto.from(result),
                 summaries,
-                result.totalCount()
+                result.totalCount(),
+                result.nextCursor(),
+                result.hasNext()
         );
     }
 
@@ -13,7 +13,9 @@ public record PersonalRoomProblemListResponse(
     String studyRoomDescription,
     DashboardDto dashboard,
     List<ProblemSummary> problems,
-    int totalCount
+    int totalCount,
+    String nextCursor,
+    boolean hasNext
 ) {
 
     public record ProblemSummary(
@@ -47,7 +49,9 @@ public record PersonalRoomProblemListResponse(
                 result.studyRoomDescription(),
                 DashboardDto.from(result),
                 summaries,
-                result.totalCount()
+                result.totalCount(),
+                result.nextCursor(),
+                result.hasNext()
         );
     }
 
@@ -4,6 +4,8 @@ import com.ebbinghaus.ttopullae.global.BaseTimeEntity;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.time.LocalDate;
+
 @Builder
 @Entity @Getter
 @Table(name = "users")
@@ -27,6 +29,14 @@ public class User extends BaseTimeEntity {
     @Column(nullable = false)
     private Boolean receiveNotifications;
 
+    /**
+     * 오늘의 복습 스냅샷이 마지막으로 생성된 날짜 (지연 스냅샷 모드)
+     * - 값이 오늘이면 → 이미 오늘의 복습 문제가 확정됨
+     * - 다르거나 null이면 → 오늘 첫 접근 시 스냅샷 생성
+     */
+    @Column(name = "review_snapshot_date")
+    private LocalDate reviewSnapshotDate;
+
     public void updateUsername(String username) {
         this.username = username;
     }
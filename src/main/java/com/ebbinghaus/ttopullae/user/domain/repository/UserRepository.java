@@ -2,7 +2,11 @@ package com.ebbinghaus.ttopullae.user.domain.repository;
 
 import com.ebbinghaus.ttopullae.user.domain.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
@@ -20,4 +24,30 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * @return 이메일이 이미 존재하면 true
      */
     boolean existsByEmail(String email);
+
+    /**
+     * 마지막으로 오늘의 복습 스냅샷이 생성된 날짜 조회 (잠금 없는 조회)
+     * @param userId 사용자 ID
+     * @return 스냅샷 생성 날짜 (생성된 적 없으면 Optional.empty)
+     */
+    @Query("SELECT u.reviewSnapshotDate FROM User u WHERE u.userId = :userId")
+    Optional<LocalDate> findReviewSnapshotDateById(@Param("userId") Long userId);
+
+    /**
+     * 오늘의 복습 스냅샷 생성 권한 선점
+     * 사용자 행을 조건부로 갱신하므로 같은 사용자의 요청이 동시에 들어와도 한 요청만 1을 반환하고,
+     * 나머지 요청은 먼저 선점한 트랜잭션이 끝날 때까지 대기한 뒤 0을 반환합니다.
+     *
+     * @param userId 사용자 ID
+     * @param today 오늘 날짜
+     * @return 선점에 성공하면 1, 이미 오늘 스냅샷이 생성되었으면 0
+     */
+    @Modifying
+    @Query("""
+        UPDATE User u
+        SET u.reviewSnapshotDate = :today
+        WHERE u.userId = :userId
+          AND (u.reviewSnapshotDate IS NULL OR u.reviewSnapshotDate <> :today)
+        """)
+    int claimReviewSnapshot(@Param("userId") Long userId, @Param("today") LocalDate today);
 }
@@ -0,0 +1,209 @@
+package com.ebbinghaus.ttopullae.email.application;
+
+import com.ebbinghaus.ttopullae.email.application.dto.MailSendCommand;
+import jakarta.mail.Address;
+import jakarta.mail.MessagingException;
+import jakarta.mail.SendFailedException;
+import jakarta.mail.Session;
+import jakarta.mail.internet.InternetAddress;
+import jakarta.mail.internet.MimeMessage;
+import org.eclipse.angus.mail.smtp.SMTPAddressFailedException;
+import org.eclipse.angus.mail.smtp.SMTPSendFailedException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mail.MailAuthenticationException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.context.Context;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+
+@ExtendWith(MockitoExtension.class)
+class MailServiceTest {
+
+    @InjectMocks
+    private MailService mailService;
+
+    @Mock
+    private JavaMailSender mailSender;
+
+    @Mock
+    private TemplateEngine templateEngine;
+
+    /**
+     * send 호출마다 전달된 메일의 수신자 목록
+     */
+    private final List<List<String>> sentBatches = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(mailService, "baseUrl", "http://localhost:8080");
+        ReflectionTestUtils.setField(mailService, "maxRetries", 1);
+        ReflectionTestUtils.setField(mailService, "retryBackoff", Duration.ZERO);
+
+        given(mailSender.createMimeMessage()).willAnswer(invocation -> new MimeMessage((Session) null));
+    }
+
+    @Test
+    @DisplayName("메일 묶음은 한 번의 send 호출(SMTP 연결 하나)로 전송")
+    void sendEmails_SingleConnection() {
+        // given
+        given(templateEngine.process(eq("problem-mail"), any(Context.class))).willReturn("<html></html>");
+        recordSends(messages -> Map.of());
+
+        // when
+        mailService.sendEmails(List.of(command("a@example.com"), command("b@example.com"), command("c@example.com")));
+
+        // then
+        assertThat(sentBatches).containsExactly(List.of("a@example.com", "b@example.com", "c@example.com"));
+    }
+
+    @Test
+    @DisplayName("일시적인 전송 실패 메일만 다시 전송하고, 수신자 주소 오류는 재시도하지 않음")
+    void sendEmails_RetryTransientFailuresOnly() {
+        // given: 첫 전송에서 b는 주소 오류, c는 연결 오류
+        given(templateEngine.process(eq("problem-mail"), any(Context.class))).willReturn("<html></html>");
+        recordSends(messages -> {
+            if (sentBatches.size() > 1) {
+                return Map.of();
+            }
+            Map<Object, Exception> failures = new LinkedHashMap<>();
+            failures.put(messages[1], new SendFailedException("Invalid Addresses"));
+            failures.put(messages[2], new MessagingException("Connection reset"));
+            return failures;
+        });
+
+        // when
+        mailService.sendEmails(List.of(command("a@example.com"), command("b@example.com"), command("c@example.com")));
+
+        // then
+        assertThat(sentBatches).containsExactly(
+                List.of("a@example.com", "b@example.com", "c@example.com"),
+                List.of("c@example.com")
+        );
+    }
+
+    @Test
+    @DisplayName("SMTP 4xx 응답(발송 제한 등)은 재시도하고, 5xx 응답은 재시도하지 않음")
+    void sendEmails_RetrySmtpTransientReplies() {
+        // given: a는 451 4.7.0, b는 수신자 단위 450, c는 550 응답
+        given(templateEngine.process(eq("problem-mail"), any(Context.class))).willReturn("<html></html>");
+        recordSends(messages -> {
+            if (sentBatches.size() > 1) {
+                return Map.of();
+            }
+            SendFailedException mailboxBusy = new SendFailedException("Invalid Addresses");
+            mailboxBusy.setNextException(new SMTPAddressFailedException(
+                    address("b@example.com"), "RCPT TO:<b@example.com>", 450, "450 4.2.1 Mailbox busy"));
+
+            Map<Object, Exception> failures = new LinkedHashMap<>();
+            failures.put(messages[0], new SMTPSendFailedException(
+                    "DATA", 451, "451 4.7.0 Temporary System Problem", null, null, null, null));
+            failures.put(messages[1], mailboxBusy);
+            failures.put(messages[2], new SMTPSendFailedException(
+                    "DATA", 550, "550 5.7.1 Message rejected", null, null, null, null));
+            return failures;
+        });
+
+        // when
+        mailService.sendEmails(List.of(command("a@example.com"), command("b@example.com"), command("c@example.com")));
+
+        // then
+        assertThat(sentBatches).containsExactly(
+                List.of("a@example.com", "b@example.com", "c@example.com"),
+                List.of("a@example.com", "b@example.com")
+        );
+    }
+
+    @Test
+    @DisplayName("메일 생성에 실패한 수신자는 건너뛰고 나머지 메일을 전송")
+    void sendEmails_SkipMessageCreationFailure() {
+        // given
+        given(templateEngine.process(eq("problem-mail"), any(Context.class))).willReturn("<html></html>");
+        recordSends(messages -> Map.of());
+
+        // when: 수신자 주소가 하나가 아니어서 메일 생성 실패
+        mailService.sendEmails(List.of(
+                command("a@example.com"), command("b@example.com,b2@example.com"), command("c@example.com")));
+
+        // then
+        assertThat(sentBatches).containsExactly(List.of("a@example.com", "c@example.com"));
+    }
+
+    @Test
+    @DisplayName("인증 실패는 재시도하지 않음")
+    void sendEmails_AuthenticationFailure_NoRetry() {
+        // given
+        given(templateEngine.process(eq("problem-mail"), any(Context.class))).willReturn("<html></html>");
+        willAnswer(invocation -> {
+            sentBatches.add(recipients((MimeMessage[]) invocation.getRawArguments()[0]));
+            throw new MailAuthenticationException("Authentication failed");
+        }).given(mailSender).send(any(MimeMessage[].class));
+
+        // when
+        mailService.sendEmails(List.of(command("a@example.com"), command("b@example.com")));
+
+        // then
+        assertThat(sentBatches).hasSize(1);
+    }
+
+    private void recordSends(FailureScenario scenario) {
+        willAnswer(invocation -> {
+            MimeMessage[] messages = (MimeMessage[]) invocation.getRawArguments()[0];
+            sentBatches.add(recipients(messages));
+            Map<Object, Exception> failures = scenario.failuresOf(messages);
+            if (!failures.isEmpty()) {
+                throw new MailSendException(failures);
+            }
+            return null;
+        }).given(mailSender).send(any(MimeMessage[].class));
+    }
+
+    private static List<String> recipients(MimeMessage[] messages) {
+        return Arrays.stream(messages)
+                .map(message -> {
+                    try {
+                        Address[] to = message.getAllRecipients();
+                        return to[0].toString();
+                    } catch (MessagingException e) {
+                        throw new IllegalStateException(e);
+                    }
+                })
+                .toList();
+    }
+
+    private static InternetAddress address(String email) {
+        try {
+            return new InternetAddress(email);
+        } catch (MessagingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static MailSendCommand command(String to) {
+        return new MailSendCommand(to, "noreply@example.com", "테스터", List.of("자바의 접근 제어자가 아닌 것은?"));
+    }
+
+    @FunctionalInterface
+    private interface FailureScenario {
+        Map<Object, Exception> failuresOf(MimeMessage[] messages);
+    }
+}
@@ -0,0 +1,182 @@
+package com.ebbinghaus.ttopullae.global.util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CircuitBreakerTest {
+
+    private static final Duration OPEN_DURATION = Duration.ofSeconds(30);
+
+    private MutableClock clock;
+    private CircuitBreaker circuitBreaker;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2025-01-01T00:00:00Z"));
+        circuitBreaker = new CircuitBreaker(2, OPEN_DURATION, clock);
+    }
+
+    @Test
+    @DisplayName("연속 실패가 임계치에 도달하면 차단 시간 동안 호출을 거절")
+    void open_RejectsCalls() {
+        // when
+        circuitBreaker.tryAcquirePermission().onFailure();
+        circuitBreaker.tryAcquirePermission().onFailure();
+
+        // then
+        assertThat(circuitBreaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.tryAcquirePermission()).isNull();
+    }
+
+    @Test
+    @DisplayName("차단 시간이 지나면 시험 호출 1건만 허용하고, 시험 호출이 끝날 때까지 나머지 호출은 거절")
+    void halfOpen_AdmitsSingleProbe() {
+        // given
+        openCircuit();
+
+        // when
+        CircuitBreaker.Permission probe = circuitBreaker.tryAcquirePermission();
+        CircuitBreaker.Permission other = circuitBreaker.tryAcquirePermission();
+
+        // then
+        assertThat(circuitBreaker.state()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        assertThat(probe).isNotNull();
+        assertThat(other).isNull();
+    }
+
+    @Test
+    @DisplayName("시험 호출이 성공하면 닫히고 모든 호출을 허용")
+    void halfOpen_ProbeSuccess_Closes() {
+        // given
+        openCircuit();
+        CircuitBreaker.Permission probe = circuitBreaker.tryAcquirePermission();
+
+        // when
+        probe.onSuccess();
+
+        // then
+        assertThat(circuitBreaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(circuitBreaker.tryAcquirePermission()).isNotNull();
+        assertThat(circuitBreaker.tryAcquirePermission()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("시험 호출이 실패하면 다시 열리고, 차단 시간이 지나면 새 시험 호출을 허용")
+    void halfOpen_ProbeFailure_Reopens() {
+        // given
+        openCircuit();
+        CircuitBreaker.Permission probe = circuitBreaker.tryAcquirePermission();
+
+        // when
+        probe.onFailure();
+
+        // then
+        assertThat(circuitBreaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.tryAcquirePermission()).isNull();
+
+        clock.advance(OPEN_DURATION);
+        assertThat(circuitBreaker.tryAcquirePermission()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("집계하지 않고 끝난 시험 호출은 허용을 반납하여 다음 호출이 시험 호출이 됨")
+    void halfOpen_ReleasedProbe_AdmitsNextProbe() {
+        // given
+        openCircuit();
+        CircuitBreaker.Permission probe = circuitBreaker.tryAcquirePermission();
+
+        // when
+        probe.release();
+
+        // then
+        assertThat(circuitBreaker.tryAcquirePermission()).isNotNull();
+        assertThat(circuitBreaker.tryAcquirePermission()).isNull();
+    }
+
+    @Test
+    @DisplayName("열리기 전에 허용된 호출이 늦게 끝나도 시험 호출 표시와 상태를 바꾸지 않음")
+    void staleCall_DoesNotAffectProbeOrState() {
+        // given: 닫힌 상태에서 허용된 호출들이 진행 중인 동안 서킷이 열림
+        CircuitBreaker.Permission staleSuccess = circuitBreaker.tryAcquirePermission();
+        CircuitBreaker.Permission staleRelease = circuitBreaker.tryAcquirePermission();
+        circuitBreaker.tryAcquirePermission().onFailure();
+        circuitBreaker.tryAcquirePermission().onFailure();
+
+        // when: OPEN 상태에서 늦게 끝난 성공은 서킷을 닫지 않음
+        staleSuccess.onSuccess();
+
+        // then
+        assertThat(circuitBreaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        // when: 시험 호출 진행 중에 늦게 끝난 호출의 반납은 시험 호출 표시를 지우지 않음
+        clock.advance(OPEN_DURATION);
+        CircuitBreaker.Permission probe = circuitBreaker.tryAcquirePermission();
+        staleRelease.release();
+
+        // then
+        assertThat(probe).isNotNull();
+        assertThat(circuitBreaker.tryAcquirePermission()).isNull();
+        assertThat(circuitBreaker.state()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+    }
+
+    @Test
+    @DisplayName("같은 허용으로 여러 번 결과를 알려도 처음 결과만 반영")
+    void permission_CompletesOnce() {
+        // given
+        openCircuit();
+        CircuitBreaker.Permission probe = circuitBreaker.tryAcquirePermission();
+        probe.onFailure();
+        clock.advance(OPEN_DURATION);
+        CircuitBreaker.Permission nextProbe = circuitBreaker.tryAcquirePermission();
+
+        // when: 먼저 끝난 시험 호출의 반납(finally)이 다음 시험 호출 표시를 지우지 않음
+        probe.release();
+
+        // then
+        assertThat(nextProbe).isNotNull();
+        assertThat(circuitBreaker.tryAcquirePermission()).isNull();
+    }
+
+    private void openCircuit() {
+        circuitBreaker.tryAcquirePermission().onFailure();
+        circuitBreaker.tryAcquirePermission().onFailure();
+        clock.advance(OPEN_DURATION);
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.ebbinghaus.ttopullae.global.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JoinCodeGeneratorTest {
+
+    private final JoinCodeGenerator joinCodeGenerator = new JoinCodeGenerator("test-join-code-secret-key");
+
+    @Test
+    @DisplayName("참여 코드는 영문 대문자와 숫자로 이루어진 8자리")
+    void generateCode_Format() {
+        // when
+        String code = joinCodeGenerator.generateCode(1L);
+
+        // then
+        assertThat(code).matches("[A-Z0-9]{8}");
+    }
+
+    @Test
+    @DisplayName("서로 다른 ID는 서로 다른 참여 코드로, 같은 ID는 항상 같은 참여 코드로 변환")
+    void generateCode_UniquePerId() {
+        // when
+        Set<String> codes = new HashSet<>();
+        for (long id = 0; id < 100_000; id++) {
+            codes.add(joinCodeGenerator.generateCode(id));
+        }
+
+        // then
+        assertThat(codes).hasSize(100_000);
+        assertThat(joinCodeGenerator.generateCode(42L)).isEqualTo(joinCodeGenerator.generateCode(42L));
+    }
+
+    @Test
+    @DisplayName("비밀 키가 다르면 같은 ID라도 다른 참여 코드로 변환")
+    void generateCode_DependsOnSecretKey() {
+        // given
+        JoinCodeGenerator otherGenerator = new JoinCodeGenerator("other-join-code-secret-key");
+
+        // when & then
+        assertThat(otherGenerator.generateCode(1L)).isNotEqualTo(joinCodeGenerator.generateCode(1L));
+    }
+
+    @Test
+    @DisplayName("참여 코드 범위(36^8)를 벗어난 ID는 예외 발생")
+    void generateCode_OutOfRange() {
+        // when & then
+        assertThatThrownBy(() -> joinCodeGenerator.generateCode(2_821_109_907_456L))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> joinCodeGenerator.generateCode(-1L))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,93 @@
+package com.ebbinghaus.ttopullae.global.util;
+
+import com.ebbinghaus.ttopullae.global.exception.ApplicationException;
+import com.ebbinghaus.ttopullae.user.exception.UserException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtTokenProviderTest {
+
+    private static final String SECRET_KEY = "test-secret-key-for-jwt-token-generation-and-validation";
+
+    private SimpleMeterRegistry meterRegistry;
+    private JwtTokenProvider jwtTokenProvider;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        jwtTokenProvider = new JwtTokenProvider(SECRET_KEY, 86400, 100, Duration.ofMinutes(5), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("같은 토큰의 두 번째 인증부터는 캐시된 사용자 ID를 반환한다")
+    void authenticate_SameToken_CacheHit() {
+        // given
+        String token = jwtTokenProvider.generateToken(1L);
+
+        // when
+        Long first = jwtTokenProvider.authenticate(token);
+        Long second = jwtTokenProvider.authenticate(token);
+
+        // then
+        assertThat(first).isEqualTo(1L);
+        assertThat(second).isEqualTo(1L);
+        assertThat(meterRegistry.get("jwt.verification.cache").tag("result", "miss").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("jwt.verification.cache").tag("result", "hit").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("서명이 변조된 토큰은 캐시하지 않고 매번 예외가 발생한다")
+    void authenticate_TamperedToken_Invalid() {
+        // given
+        String token = jwtTokenProvider.generateToken(1L);
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+        // when & then
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> jwtTokenProvider.authenticate(tampered))
+                    .isInstanceOf(ApplicationException.class)
+                    .extracting("code")
+                    .isEqualTo(UserException.INVALID_TOKEN);
+        }
+        assertThat(meterRegistry.get("jwt.verification.cache").tag("result", "hit").counter().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("만료된 토큰은 만료 예외가 발생한다")
+    void authenticate_ExpiredToken() {
+        // given: 발급 즉시 만료되는 토큰
+        JwtTokenProvider expiringProvider = new JwtTokenProvider(
+                SECRET_KEY, -1, 100, Duration.ofMinutes(5), new SimpleMeterRegistry());
+        String token = expiringProvider.generateToken(1L);
+
+        // when & then
+        assertThatThrownBy(() -> jwtTokenProvider.authenticate(token))
+                .isInstanceOf(ApplicationException.class)
+                .extracting("code")
+                .isEqualTo(UserException.EXPIRED_TOKEN);
+    }
+
+    @Test
+    @DisplayName("캐시를 사용하지 않아도 토큰을 한 번 파싱하여 사용자 ID를 반환한다")
+    void authenticate_CacheDisabled() {
+        // given
+        SimpleMeterRegistry uncachedMeterRegistry = new SimpleMeterRegistry();
+        JwtTokenProvider uncachedProvider = new JwtTokenProvider(
+                SECRET_KEY, 86400, 0, Duration.ofMinutes(5), uncachedMeterRegistry);
+        String token = uncachedProvider.generateToken(7L);
+
+        // when
+        Long userId = uncachedProvider.authenticate(token);
+
+        // then
+        assertThat(userId).isEqualTo(7L);
+        assertThat(uncachedMeterRegistry.find("jwt.verification.cache").counter()).isNull();
+    }
+}
@@ -67,4 +67,17 @@ class PromptLoaderTest {
     // then
     assertThat(result).isEqualTo("A, B, C");
   }
+
+  @Test
+  @DisplayName("채점 프롬프트를 컴파일하고 같은 경로는 캐시된 템플릿을 재사용한다")
+  void getTemplate_CompiledOnce() throws IOException {
+    // when
+    PromptTemplate first = promptLoader.getTemplate("classpath:prompts/grading_system_prompt.txt");
+    PromptTemplate second = promptLoader.getTemplate("classpath:prompts/grading_system_prompt.txt");
+
+    // then
+    assertThat(second).isSameAs(first);
+    assertThat(first.requiredVariables())
+        .containsExactlyInAnyOrder("TOPIC", "QUESTION", "MODEL_ANSWER", "KEYWORDS_LIST", "USER_ANSWER");
+  }
 }
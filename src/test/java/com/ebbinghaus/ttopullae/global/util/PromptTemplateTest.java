@@ -0,0 +1,67 @@
+package com.ebbinghaus.ttopullae.global.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PromptTemplateTest {
+
+  @Test
+  @DisplayName("컴파일된 템플릿에 변수를 바인딩하여 렌더링한다")
+  void render_Success() {
+    // given
+    PromptTemplate template = PromptTemplate.compile("주제: {{TOPIC}}, 질문: {{QUESTION}}, 다시 주제: {{TOPIC}}");
+
+    // when
+    String result = template.render(Map.of(
+        "TOPIC", "Spring Framework",
+        "QUESTION", "IoC란 무엇인가?"
+    ));
+
+    // then
+    assertThat(result).isEqualTo("주제: Spring Framework, 질문: IoC란 무엇인가?, 다시 주제: Spring Framework");
+    assertThat(template.requiredVariables()).containsExactly("TOPIC", "QUESTION");
+  }
+
+  @Test
+  @DisplayName("변수 값에 포함된 템플릿 문법은 다시 치환하지 않는다")
+  void render_ValueContainingPlaceholder_NotReplaced() {
+    // given
+    PromptTemplate template = PromptTemplate.compile("{{USER_ANSWER}} / {{TOPIC}}");
+
+    // when
+    String result = template.render(Map.of(
+        "USER_ANSWER", "{{TOPIC}}",
+        "TOPIC", "Java"
+    ));
+
+    // then
+    assertThat(result).isEqualTo("{{TOPIC}} / Java");
+  }
+
+  @Test
+  @DisplayName("바인딩되지 않은 변수가 있으면 예외가 발생한다")
+  void render_MissingVariable_ThrowsException() {
+    // given
+    PromptTemplate template = PromptTemplate.compile("{{TOPIC}}, {{QUESTION}}");
+
+    // when & then
+    assertThatThrownBy(() -> template.render(Map.of("TOPIC", "Java")))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("QUESTION");
+  }
+
+  @Test
+  @DisplayName("변수가 없는 템플릿은 원문 그대로 렌더링된다")
+  void render_NoPlaceholder() {
+    // given
+    PromptTemplate template = PromptTemplate.compile("{ \"isCorrect\": boolean }");
+
+    // when & then
+    assertThat(template.render(Map.of())).isEqualTo("{ \"isCorrect\": boolean }");
+    assertThat(template.requiredVariables()).isEmpty();
+  }
+}
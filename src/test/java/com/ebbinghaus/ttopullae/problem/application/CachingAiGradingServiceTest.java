@@ -0,0 +1,151 @@
+package com.ebbinghaus.ttopullae.problem.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.ebbinghaus.ttopullae.global.util.PromptLoader;
+import com.ebbinghaus.ttopullae.global.util.PromptTemplate;
+import com.ebbinghaus.ttopullae.problem.application.dto.AiGradingRequest;
+import com.ebbinghaus.ttopullae.problem.application.dto.AiGradingResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * AI 채점 결과 캐시 데코레이터 단위 테스트
+ */
+class CachingAiGradingServiceTest {
+
+  private OpenAiGradingService delegate;
+  private SimpleMeterRegistry meterRegistry;
+  private CachingAiGradingService cachingAiGradingService;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    delegate = mock(OpenAiGradingService.class);
+    PromptLoader promptLoader = mock(PromptLoader.class);
+    given(promptLoader.getTemplate(anyString()))
+        .willReturn(PromptTemplate.compile("채점 프롬프트 {{USER_ANSWER}}"));
+
+    meterRegistry = new SimpleMeterRegistry();
+    cachingAiGradingService = new CachingAiGradingService(
+        delegate, promptLoader, meterRegistry, "gpt-4o-mini", 100, Duration.ofHours(1));
+  }
+
+  @Test
+  @DisplayName("정규화 후 동일한 답안은 캐시된 채점 결과를 재사용한다")
+  void gradeSubjectiveAnswer_SameNormalizedAnswer_CacheHit() {
+    // given
+    AiGradingResult result = new AiGradingResult(true, "정답입니다", List.of(), "모든 키워드 포함");
+    given(delegate.gradeSubjectiveAnswer(any())).willReturn(result);
+
+    // when
+    AiGradingResult first = cachingAiGradingService.gradeSubjectiveAnswer(request("IoC는  제어의 역전이다"));
+    AiGradingResult second = cachingAiGradingService.gradeSubjectiveAnswer(request(" ioc는 제어의 역전이다 "));
+
+    // then
+    assertThat(first).isEqualTo(result);
+    assertThat(second).isEqualTo(result);
+    verify(delegate, times(1)).gradeSubjectiveAnswer(any());
+    assertThat(meterRegistry.get("ai.grading.cache").tag("result", "hit").counter().count()).isEqualTo(1.0);
+    assertThat(meterRegistry.get("ai.grading.cache").tag("result", "miss").counter().count()).isEqualTo(1.0);
+  }
+
+  @Test
+  @DisplayName("문제 내용이 다르면 같은 답안이라도 캐시를 공유하지 않는다")
+  void gradeSubjectiveAnswer_DifferentProblem_CacheMiss() {
+    // given
+    AiGradingResult result = new AiGradingResult(true, "정답입니다", List.of(), "모든 키워드 포함");
+    given(delegate.gradeSubjectiveAnswer(any())).willReturn(result);
+
+    AiGradingRequest other = new AiGradingRequest(
+        "Spring Framework",
+        "DI란 무엇인가?",
+        "의존성 주입",
+        List.of("의존성 주입"),
+        "IoC는 제어의 역전이다"
+    );
+
+    // when
+    cachingAiGradingService.gradeSubjectiveAnswer(request("IoC는 제어의 역전이다"));
+    cachingAiGradingService.gradeSubjectiveAnswer(other);
+
+    // then
+    verify(delegate, times(2)).gradeSubjectiveAnswer(any());
+  }
+
+  @Test
+  @DisplayName("시스템 오류로 인한 대체 결과는 캐시하지 않는다")
+  void gradeSubjectiveAnswer_SystemFailure_NotCached() {
+    // given
+    AiGradingResult failure = new AiGradingResult(
+        false, "AI 채점 중 오류가 발생했습니다.", List.of(), AiGradingResult.SYSTEM_FAILURE_REASON);
+    given(delegate.gradeSubjectiveAnswer(any())).willReturn(failure);
+
+    // when
+    cachingAiGradingService.gradeSubjectiveAnswer(request("IoC는 제어의 역전이다"));
+    cachingAiGradingService.gradeSubjectiveAnswer(request("IoC는 제어의 역전이다"));
+
+    // then
+    verify(delegate, times(2)).gradeSubjectiveAnswer(any());
+  }
+
+  @Test
+  @DisplayName("스트리밍으로 얻은 채점 결과를 저장하면 같은 답안은 위임 없이 재사용한다")
+  void cacheResult_ThenFindCachedResult_Hit() {
+    // given
+    AiGradingResult result = new AiGradingResult(true, "정답입니다", List.of(), "모든 키워드 포함");
+    assertThat(cachingAiGradingService.findCachedResult(request("IoC는 제어의 역전이다"))).isEmpty();
+
+    // when
+    cachingAiGradingService.cacheResult(request("IoC는 제어의 역전이다"), result);
+
+    // then
+    assertThat(cachingAiGradingService.findCachedResult(request(" ioc는  제어의 역전이다"))).contains(result);
+    assertThat(cachingAiGradingService.gradeSubjectiveAnswer(request("IoC는 제어의 역전이다"))).isEqualTo(result);
+    verify(delegate, never()).gradeSubjectiveAnswer(any());
+  }
+
+  @Test
+  @DisplayName("일괄 채점 시 캐시에 없는 답안만 중복을 제거하여 위임한다")
+  void gradeSubjectiveAnswers_OnlyUniqueMissesDelegated() {
+    // given
+    AiGradingResult cachedResult = new AiGradingResult(true, "정답입니다", List.of(), "모든 키워드 포함");
+    AiGradingResult gradedResult = new AiGradingResult(false, "오답입니다", List.of("컨테이너"), "키워드 누락");
+    given(delegate.gradeSubjectiveAnswer(any())).willReturn(cachedResult);
+    given(delegate.gradeSubjectiveAnswers(anyList())).willReturn(List.of(gradedResult));
+    cachingAiGradingService.gradeSubjectiveAnswer(request("IoC는 제어의 역전이다"));
+
+    // when
+    List<AiGradingResult> results = cachingAiGradingService.gradeSubjectiveAnswers(List.of(
+        request("객체를 생성한다"),
+        request("IoC는 제어의 역전이다"),
+        request(" 객체를  생성한다 ")
+    ));
+
+    // then
+    assertThat(results).containsExactly(gradedResult, cachedResult, gradedResult);
+    verify(delegate, times(1)).gradeSubjectiveAnswers(argThat(requests -> requests.size() == 1));
+  }
+
+  private AiGradingRequest request(String userAnswer) {
+    return new AiGradingRequest(
+        "Spring Framework",
+        "IoC란 무엇인가?",
+        "제어의 역전",
+        List.of("제어의 역전", "컨테이너"),
+        userAnswer
+    );
+  }
+}
@@ -0,0 +1,88 @@
+package com.ebbinghaus.ttopullae.problem.application;
+
+import com.ebbinghaus.ttopullae.global.exception.ApplicationException;
+import com.ebbinghaus.ttopullae.problem.application.dto.ProblemSnapshot;
+import com.ebbinghaus.ttopullae.problem.domain.ProblemType;
+import com.ebbinghaus.ttopullae.problem.exception.ProblemException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 서버 메모리 문제 스냅샷 캐시 단위 테스트
+ */
+class CaffeineProblemSnapshotCacheTest {
+
+    private static final Long PROBLEM_ID = 1L;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CaffeineProblemSnapshotCache cache;
+    private AtomicInteger loadCount;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new CaffeineProblemSnapshotCache(meterRegistry, 100);
+        loadCount = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("같은 문제의 스냅샷은 한 번만 조회하고 캐시된 결과를 재사용한다")
+    void get_SameProblem_CacheHit() {
+        // when
+        ProblemSnapshot first = cache.get(PROBLEM_ID, this::load);
+        ProblemSnapshot second = cache.get(PROBLEM_ID, this::load);
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(loadCount.get()).isEqualTo(1);
+        assertThat(meterRegistry.get("problem.snapshot.cache").tag("result", "hit").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("problem.snapshot.cache").tag("result", "miss").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("무효화된 문제는 다음 조회에서 다시 조회한다")
+    void evict_ReloadsSnapshot() {
+        // given
+        cache.get(PROBLEM_ID, this::load);
+
+        // when
+        cache.evict(PROBLEM_ID);
+        cache.get(PROBLEM_ID, this::load);
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 문제는 캐시하지 않고 매번 예외가 발생한다")
+    void get_ProblemNotFound_NotCached() {
+        // when & then
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> cache.get(PROBLEM_ID, this::loadMissing))
+                    .isInstanceOf(ApplicationException.class)
+                    .extracting("code")
+                    .isEqualTo(ProblemException.PROBLEM_NOT_FOUND);
+        }
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+
+    private ProblemSnapshot load(Long problemId) {
+        loadCount.incrementAndGet();
+        return new ProblemSnapshot(problemId, 10L, "자바 스터디", ProblemType.MCQ,
+                "자바의 접근 제어자가 아닌 것은?", "friend는 C++의 접근 제어자입니다.",
+                null, null, null, 3, List.of("public", "private", "protected", "friend"), List.of());
+    }
+
+    private ProblemSnapshot loadMissing(Long problemId) {
+        loadCount.incrementAndGet();
+        throw new ApplicationException(ProblemException.PROBLEM_NOT_FOUND);
+    }
+}
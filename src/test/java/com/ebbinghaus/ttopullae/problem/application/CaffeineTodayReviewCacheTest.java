@@ -0,0 +1,117 @@
+package com.ebbinghaus.ttopullae.problem.application;
+
+import com.ebbinghaus.ttopullae.problem.application.dto.TodayReviewResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 서버 메모리 오늘의 복습 목록 캐시 단위 테스트
+ */
+class CaffeineTodayReviewCacheTest {
+
+    private static final Long USER_ID = 1L;
+    private static final LocalDate TODAY = LocalDate.of(2025, 1, 24);
+
+    private SimpleMeterRegistry meterRegistry;
+    private CaffeineTodayReviewCache cache;
+    private AtomicInteger loadCount;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new CaffeineTodayReviewCache(meterRegistry, 100, Duration.ofMinutes(10));
+        loadCount = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("같은 사용자, 날짜, 필터의 목록은 캐시된 결과를 재사용한다")
+    void get_SameKey_CacheHit() {
+        // when
+        TodayReviewResult first = cache.get(USER_ID, TODAY, "ALL", this::load);
+        TodayReviewResult second = cache.get(USER_ID, TODAY, "ALL", this::load);
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(loadCount.get()).isEqualTo(1);
+        assertThat(meterRegistry.get("review.today.cache").tag("result", "hit").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("review.today.cache").tag("result", "miss").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("필터나 날짜가 다르면 다시 조회한다")
+    void get_DifferentFilterOrDate_CacheMiss() {
+        // when
+        cache.get(USER_ID, TODAY, "ALL", this::load);
+        cache.get(USER_ID, TODAY, "GATE_1", this::load);
+        cache.get(USER_ID, TODAY.plusDays(1), "ALL", this::load);
+        cache.get(USER_ID, TODAY.plusDays(1), "ALL", this::load);
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("사용자 캐시를 무효화하면 그 사용자의 모든 필터 목록을 다시 조회하고, 다른 사용자는 유지한다")
+    void evictUser_ReloadsOnlyThatUser() {
+        // given
+        Long otherUserId = 2L;
+        cache.get(USER_ID, TODAY, "ALL", this::load);
+        cache.get(USER_ID, TODAY, "GATE_1", this::load);
+        cache.get(otherUserId, TODAY, "ALL", this::load);
+
+        // when
+        cache.evictUser(USER_ID);
+        cache.get(USER_ID, TODAY, "ALL", this::load);
+        cache.get(USER_ID, TODAY, "GATE_1", this::load);
+        cache.get(otherUserId, TODAY, "ALL", this::load);
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("조회 도중 무효화되면 조회 결과를 캐시에 남기지 않는다")
+    void get_EvictedWhileLoading_NotCached() {
+        // given: 조회 중에 다른 요청의 커밋으로 무효화됨
+        cache.get(USER_ID, TODAY, "ALL", () -> {
+            cache.evictUser(USER_ID);
+            return load();
+        });
+
+        // when
+        cache.get(USER_ID, TODAY, "ALL", this::load);
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("전체 무효화 후에는 모든 사용자의 목록을 다시 조회한다")
+    void evictAll_ReloadsAllUsers() {
+        // given
+        cache.get(USER_ID, TODAY, "ALL", this::load);
+        cache.get(2L, TODAY, "ALL", this::load);
+
+        // when
+        cache.evictAll();
+        cache.get(USER_ID, TODAY, "ALL", this::load);
+        cache.get(2L, TODAY, "ALL", this::load);
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(4);
+    }
+
+    private TodayReviewResult load() {
+        loadCount.incrementAndGet();
+        return new TodayReviewResult(new TodayReviewResult.DashboardInfo(0, 0, 0, 0.0), List.of());
+    }
+}
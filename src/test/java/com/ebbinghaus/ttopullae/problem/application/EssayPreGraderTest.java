@@ -0,0 +1,98 @@
+package com.ebbinghaus.ttopullae.problem.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ebbinghaus.ttopullae.problem.application.dto.AiGradingRequest;
+import com.ebbinghaus.ttopullae.problem.application.dto.AiGradingResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 서술형 로컬 사전 채점기 단위 테스트
+ */
+class EssayPreGraderTest {
+
+  private static final String MODEL_ANSWER = "제어의 역전으로, 객체의 생성과 관리를 개발자가 아닌 스프링 컨테이너가 담당하는 것을 의미합니다.";
+
+  private SimpleMeterRegistry meterRegistry;
+  private EssayPreGrader essayPreGrader;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    essayPreGrader = new EssayPreGrader(meterRegistry, true, 5, 0.3);
+  }
+
+  @Test
+  @DisplayName("최소 길이 미만의 답안은 AI 호출 없이 오답 처리한다")
+  void preGrade_TooShort_Rejected() {
+    // when
+    Optional<AiGradingResult> result = essayPreGrader.preGrade(request("모름"));
+
+    // then
+    assertThat(result).isPresent();
+    assertThat(result.get().isCorrect()).isFalse();
+    assertThat(result.get().missingKeywords()).containsExactly("제어의 역전", "컨테이너");
+    assertThat(meterRegistry.get("ai.grading.pregrade").tag("decision", "rejected").counter().count())
+        .isEqualTo(1.0);
+  }
+
+  @Test
+  @DisplayName("키워드가 하나도 없고 모범 답안보다 확연히 짧은 답안은 오답 처리한다")
+  void preGrade_NoKeywordAndShort_Rejected() {
+    // when
+    Optional<AiGradingResult> result = essayPreGrader.preGrade(request("객체를 만드는 기능"));
+
+    // then
+    assertThat(result).isPresent();
+    assertThat(result.get().isCorrect()).isFalse();
+  }
+
+  @Test
+  @DisplayName("모든 키워드가 포함된 답안도 정답으로 확정하지 않고 AI 채점으로 넘긴다")
+  void preGrade_AllKeywords_Escalated() {
+    // when
+    Optional<AiGradingResult> result = essayPreGrader.preGrade(
+        request("제어의 역전이며, 객체의 생성과 관리를 개발자 대신 스프링 컨테이너가 맡는 것입니다."));
+
+    // then
+    assertThat(result).isEmpty();
+    assertThat(meterRegistry.get("ai.grading.pregrade").tag("decision", "escalated").counter().count())
+        .isEqualTo(1.0);
+  }
+
+  @Test
+  @DisplayName("일부 키워드만 포함된 답안은 AI 채점으로 넘긴다")
+  void preGrade_PartialKeywords_Escalated() {
+    // when
+    Optional<AiGradingResult> result = essayPreGrader.preGrade(
+        request("객체의 생성과 관리를 개발자가 직접 하지 않고 스프링 컨테이너에게 맡기는 것입니다."));
+
+    // then
+    assertThat(result).isEmpty();
+  }
+
+  @Test
+  @DisplayName("비활성화 시 모든 답안을 AI 채점으로 넘긴다")
+  void preGrade_Disabled_Escalated() {
+    // given
+    EssayPreGrader disabled = new EssayPreGrader(new SimpleMeterRegistry(), false, 5, 0.3);
+
+    // when & then
+    assertThat(disabled.preGrade(request("모름"))).isEmpty();
+  }
+
+  private AiGradingRequest request(String userAnswer) {
+    return new AiGradingRequest(
+        "Spring Framework",
+        "IoC란 무엇인가?",
+        MODEL_ANSWER,
+        List.of("제어의 역전", "컨테이너"),
+        userAnswer
+    );
+  }
+}
@@ -0,0 +1,145 @@
+package com.ebbinghaus.ttopullae.problem.application;
+
+import com.ebbinghaus.ttopullae.problem.domain.AttemptStatus;
+import com.ebbinghaus.ttopullae.problem.domain.GradingStatus;
+import com.ebbinghaus.ttopullae.problem.domain.Problem;
+import com.ebbinghaus.ttopullae.problem.domain.ProblemAttempt;
+import com.ebbinghaus.ttopullae.problem.domain.ProblemReviewState;
+import com.ebbinghaus.ttopullae.problem.domain.ProblemType;
+import com.ebbinghaus.ttopullae.problem.domain.ReviewGate;
+import com.ebbinghaus.ttopullae.problem.domain.repository.ProblemAttemptRepository;
+import com.ebbinghaus.ttopullae.problem.domain.repository.ProblemRepository;
+import com.ebbinghaus.ttopullae.problem.domain.repository.ProblemReviewStateRepository;
+import com.ebbinghaus.ttopullae.studyroom.domain.RoomType;
+import com.ebbinghaus.ttopullae.studyroom.domain.StudyRoom;
+import com.ebbinghaus.ttopullae.studyroom.domain.repository.StudyRoomRepository;
+import com.ebbinghaus.ttopullae.user.domain.User;
+import com.ebbinghaus.ttopullae.user.domain.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+class FirstAttemptBackfillServiceTest {
+
+    @Autowired
+    private FirstAttemptBackfillService backfillService;
+
+    @Autowired
+    private ProblemReviewStateRepository problemReviewStateRepository;
+
+    @Autowired
+    private ProblemAttemptRepository problemAttemptRepository;
+
+    @Autowired
+    private ProblemRepository problemRepository;
+
+    @Autowired
+    private StudyRoomRepository studyRoomRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User user;
+    private Problem problem;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder()
+                .email("test@example.com")
+                .password("password123")
+                .username("테스트유저")
+                .receiveNotifications(true)
+                .build());
+
+        StudyRoom studyRoom = studyRoomRepository.save(StudyRoom.builder()
+                .owner(user)
+                .roomType(RoomType.PERSONAL)
+                .name("자바 스터디")
+                .description("자바 개념 정리")
+                .category("프로그래밍")
+                .build());
+
+        problem = problemRepository.save(Problem.builder()
+                .studyRoom(studyRoom)
+                .creator(user)
+                .problemType(ProblemType.OX)
+                .question("JVM은 Java Virtual Machine의 약자이다.")
+                .explanation("맞습니다.")
+                .answerBoolean(true)
+                .build());
+    }
+
+    @Test
+    @DisplayName("정답 여부가 비어 있는 오늘의 첫 시도는 오늘 가장 먼저 저장된 풀이 기록으로 채움")
+    void backfill_FillsFromFirstAttemptToday() {
+        // given: 정답 여부 컬럼 도입 전 서버가 기록한 첫 시도
+        LocalDate today = LocalDate.now();
+        ProblemReviewState reviewState = saveReviewState(today);
+        saveAttempt(true, GradingStatus.COMPLETED);
+        saveAttempt(false, GradingStatus.COMPLETED);
+
+        // when
+        int updated = backfillService.backfill(today);
+        entityManager.clear();
+
+        // then
+        assertThat(updated).isEqualTo(1);
+        assertThat(problemReviewStateRepository.findById(reviewState.getStateId()).orElseThrow()
+                .getTodayAttemptStatus(today)).isEqualTo(AttemptStatus.CORRECT);
+    }
+
+    @Test
+    @DisplayName("첫 풀이 기록이 채점 중이면 채점 완료 시 기록되도록 비워 둠")
+    void backfill_SkipsPendingGrading() {
+        // given
+        LocalDate today = LocalDate.now();
+        ProblemReviewState reviewState = saveReviewState(today);
+        saveAttempt(false, GradingStatus.PENDING);
+
+        // when
+        int updated = backfillService.backfill(today);
+        entityManager.clear();
+
+        // then
+        assertThat(updated).isZero();
+        assertThat(problemReviewStateRepository.findById(reviewState.getStateId()).orElseThrow()
+                .getTodayAttemptStatus(today)).isEqualTo(AttemptStatus.GRADING);
+    }
+
+    private ProblemReviewState saveReviewState(LocalDate today) {
+        return problemReviewStateRepository.save(ProblemReviewState.builder()
+                .user(user)
+                .problem(problem)
+                .gate(ReviewGate.GATE_1)
+                .nextReviewDate(today)
+                .reviewCount(0)
+                .todayReviewIncludedDate(today)
+                .todayReviewIncludedGate(ReviewGate.GATE_1)
+                .todayReviewFirstAttemptDate(today)
+                .build());
+    }
+
+    private ProblemAttempt saveAttempt(boolean isCorrect, GradingStatus gradingStatus) {
+        return problemAttemptRepository.save(ProblemAttempt.builder()
+                .user(user)
+                .problem(problem)
+                .submittedBoolean(isCorrect)
+                .isCorrect(isCorrect)
+                .gradingStatus(gradingStatus)
+                .firstReviewAttempt(true)
+                .build());
+    }
+}
@@ -0,0 +1,151 @@
+package com.ebbinghaus.ttopullae.problem.application;
+
+import com.ebbinghaus.ttopullae.problem.domain.LatestProblemAttempt;
+import com.ebbinghaus.ttopullae.problem.domain.Problem;
+import com.ebbinghaus.ttopullae.problem.domain.ProblemAttempt;
+import com.ebbinghaus.ttopullae.problem.domain.ProblemType;
+import com.ebbinghaus.ttopullae.problem.domain.repository.LatestProblemAttemptRepository;
+import com.ebbinghaus.ttopullae.problem.domain.repository.ProblemAttemptRepository;
+import com.ebbinghaus.ttopullae.problem.domain.repository.ProblemRepository;
+import com.ebbinghaus.ttopullae.studyroom.domain.RoomType;
+import com.ebbinghaus.ttopullae.studyroom.domain.StudyRoom;
+import com.ebbinghaus.ttopullae.studyroom.domain.repository.StudyRoomRepository;
+import com.ebbinghaus.ttopullae.user.domain.User;
+import com.ebbinghaus.ttopullae.user.domain.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+class LatestAttemptReconciliationServiceTest {
+
+    @Autowired
+    private LatestAttemptReconciliationService reconciliationService;
+
+    @Autowired
+    private LatestProblemAttemptService latestProblemAttemptService;
+
+    @Autowired
+    private LatestProblemAttemptRepository latestProblemAttemptRepository;
+
+    @Autowired
+    private ProblemAttemptRepository problemAttemptRepository;
+
+    @Autowired
+    private ProblemRepository problemRepository;
+
+    @Autowired
+    private StudyRoomRepository studyRoomRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User user;
+    private Problem problem;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder()
+                .email("test@example.com")
+                .password("password123")
+                .username("테스트유저")
+                .receiveNotifications(true)
+                .build());
+
+        StudyRoom studyRoom = studyRoomRepository.save(StudyRoom.builder()
+                .owner(user)
+                .roomType(RoomType.PERSONAL)
+                .name("자바 스터디")
+                .description("자바 개념 정리")
+                .category("프로그래밍")
+                .build());
+
+        problem = problemRepository.save(Problem.builder()
+                .studyRoom(studyRoom)
+                .creator(user)
+                .problemType(ProblemType.OX)
+                .question("JVM은 Java Virtual Machine의 약자이다.")
+                .explanation("맞습니다.")
+                .answerBoolean(true)
+                .build());
+    }
+
+    @Test
+    @DisplayName("포인터 없이 저장된 풀이 기록은 가장 최근 풀이를 가리키는 포인터를 생성")
+    void reconcile_CreatesMissingPointer() {
+        // given: 서비스를 거치지 않고 저장한 풀이 기록 (포인터 도입 전 데이터)
+        saveAttempt(false);
+        ProblemAttempt latest = saveAttempt(true);
+
+        // when
+        reconciliationService.reconcile();
+        entityManager.clear();
+
+        // then
+        LatestProblemAttempt pointer = findPointer();
+        assertThat(pointer.getAttemptId()).isEqualTo(latest.getAttemptId());
+        assertThat(pointer.getIsCorrect()).isTrue();
+    }
+
+    @Test
+    @DisplayName("이미 포인터가 있는 (사용자, 문제)는 다시 생성하지 않음")
+    void reconcile_SkipsExistingPointer() {
+        // given
+        latestProblemAttemptService.recordAttempt(saveAttempt(false));
+
+        // when
+        reconciliationService.reconcile();
+        entityManager.clear();
+
+        // then
+        assertThat(latestProblemAttemptRepository.findAllByUserIdAndProblemIds(
+                user.getUserId(), List.of(problem.getProblemId()))).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("더 최근 풀이 기록이 저장되면 포인터를 옮기고, 이전 풀이 기록으로는 되돌리지 않음")
+    void recordAttempt_MovesPointerForward() {
+        // given
+        ProblemAttempt first = saveAttempt(false);
+        ProblemAttempt second = saveAttempt(true);
+        latestProblemAttemptService.recordAttempt(first);
+
+        // when
+        latestProblemAttemptService.recordAttempt(second);
+        latestProblemAttemptService.recordAttempt(first);
+        entityManager.clear();
+
+        // then
+        LatestProblemAttempt pointer = findPointer();
+        assertThat(pointer.getAttemptId()).isEqualTo(second.getAttemptId());
+        assertThat(pointer.getIsCorrect()).isTrue();
+    }
+
+    private LatestProblemAttempt findPointer() {
+        List<LatestProblemAttempt> pointers = latestProblemAttemptRepository.findAllByUserIdAndProblemIds(
+                user.getUserId(), List.of(problem.getProblemId()));
+        assertThat(pointers).hasSize(1);
+        return pointers.get(0);
+    }
+
+    private ProblemAttempt saveAttempt(boolean isCorrect) {
+        return problemAttemptRepository.save(ProblemAttempt.builder()
+                .user(user)
+                .problem(problem)
+                .submittedBoolean(isCorrect)
+                .isCorrect(isCorrect)
+                .build());
+    }
+}
@@ -0,0 +1,245 @@
+package com.ebbinghaus.ttopullae.problem.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.ebbinghaus.ttopullae.global.config.OpenAiClientConfig;
+import com.ebbinghaus.ttopullae.global.config.OpenAiClientProperties;
+import com.ebbinghaus.ttopullae.global.exception.ApplicationException;
+import com.ebbinghaus.ttopullae.global.util.CircuitBreaker;
+import com.ebbinghaus.ttopullae.problem.exception.ProblemException;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+/**
+ * OpenAI 호출 클라이언트 테스트
+ * 로컬 스텁 HTTP 서버로 타임아웃, 재시도, 서킷 브레이커 동작을 검증한다
+ */
+class OpenAiChatClientTest {
+
+  private static final String OK_BODY = "{\"choices\":[]}";
+
+  private HttpServer server;
+  private String apiUrl;
+  private final AtomicInteger requestCount = new AtomicInteger();
+  private volatile StubBehavior behavior;
+
+  private SimpleMeterRegistry meterRegistry;
+  private OpenAiChatClient openAiChatClient;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+    server.createContext("/v1/chat/completions", exchange -> {
+      int count = requestCount.incrementAndGet();
+      behavior.handle(exchange, count);
+    });
+    server.start();
+    apiUrl = "http://127.0.0.1:" + server.getAddress().getPort() + "/v1/chat/completions";
+
+    OpenAiClientProperties properties = new OpenAiClientProperties(
+        Duration.ofSeconds(1),
+        Duration.ofMillis(500),
+        Duration.ofSeconds(3),
+        4,
+        2,
+        Duration.ofMillis(200),
+        2,
+        Duration.ofMillis(10),
+        3,
+        Duration.ofMinutes(1),
+        Duration.ofSeconds(2)
+    );
+    WebClient webClient = new OpenAiClientConfig().openAiWebClient(WebClient.builder(), properties);
+    meterRegistry = new SimpleMeterRegistry();
+    openAiChatClient = new OpenAiChatClient(webClient, properties, meterRegistry);
+  }
+
+  @AfterEach
+  void tearDown() {
+    server.stop(0);
+  }
+
+  @Test
+  @DisplayName("정상 응답 본문을 반환하고 지연 시간을 기록한다")
+  void post_Success() {
+    // given
+    behavior = (exchange, count) -> respond(exchange, 200, OK_BODY);
+
+    // when
+    String response = openAiChatClient.post(apiUrl, "test-key", Map.of("model", "gpt-4o-mini"));
+
+    // then
+    assertThat(response).isEqualTo(OK_BODY);
+    assertThat(requestCount.get()).isEqualTo(1);
+    assertThat(meterRegistry.get("openai.request.latency").tag("outcome", "success").timer().count())
+        .isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("503 응답은 백오프 후 재시도한다")
+  void post_ServiceUnavailable_Retried() {
+    // given
+    behavior = (exchange, count) -> {
+      if (count < 3) {
+        respond(exchange, 503, "{}");
+      } else {
+        respond(exchange, 200, OK_BODY);
+      }
+    };
+
+    // when
+    String response = openAiChatClient.post(apiUrl, "test-key", Map.of("model", "gpt-4o-mini"));
+
+    // then
+    assertThat(response).isEqualTo(OK_BODY);
+    assertThat(requestCount.get()).isEqualTo(3);
+  }
+
+  @Test
+  @DisplayName("요청 자체의 오류(400)는 재시도하지 않고 서킷 실패로도 집계하지 않는다")
+  void post_BadRequest_NotRetried() {
+    // given
+    behavior = (exchange, count) -> respond(exchange, 400, "{}");
+
+    // when & then
+    for (int i = 0; i < 5; i++) {
+      assertThatThrownBy(() -> openAiChatClient.post(apiUrl, "test-key", Map.of()))
+          .isInstanceOf(WebClientResponseException.BadRequest.class);
+    }
+    assertThat(requestCount.get()).isEqualTo(5);
+    assertThat(openAiChatClient.circuitState()).isEqualTo(CircuitBreaker.State.CLOSED);
+  }
+
+  @Test
+  @DisplayName("응답 타임아웃이 지나면 재시도 없이 실패한다")
+  void post_ResponseTimeout_FailsFast() {
+    // given
+    behavior = (exchange, count) -> {
+      sleep(1_500);
+      respond(exchange, 200, OK_BODY);
+    };
+
+    // when & then
+    long start = System.nanoTime();
+    assertThatThrownBy(() -> openAiChatClient.post(apiUrl, "test-key", Map.of()))
+        .isInstanceOf(RuntimeException.class);
+    assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofMillis(1_400));
+    assertThat(requestCount.get()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("연속 실패가 임계치에 도달하면 서킷이 열려 호출 없이 즉시 실패한다")
+  void post_ConsecutiveFailures_CircuitOpens() {
+    // given
+    behavior = (exchange, count) -> respond(exchange, 500, "{}");
+
+    for (int i = 0; i < 3; i++) {
+      assertThatThrownBy(() -> openAiChatClient.post(apiUrl, "test-key", Map.of()))
+          .isInstanceOf(WebClientResponseException.InternalServerError.class);
+    }
+
+    // when & then
+    assertThat(openAiChatClient.circuitState()).isEqualTo(CircuitBreaker.State.OPEN);
+    assertThatThrownBy(() -> openAiChatClient.post(apiUrl, "test-key", Map.of()))
+        .isInstanceOf(ApplicationException.class)
+        .hasFieldOrPropertyWithValue("code", ProblemException.AI_GRADING_UNAVAILABLE);
+    assertThat(requestCount.get()).isEqualTo(3);
+    assertThat(meterRegistry.get("openai.request.rejected").counter().count()).isEqualTo(1.0);
+  }
+
+  @Test
+  @DisplayName("스트리밍 응답의 이벤트 본문을 순서대로 방출하고 종료 이벤트는 제외한다")
+  void stream_EmitsEventData() {
+    // given
+    behavior = (exchange, count) -> {
+      byte[] bytes = """
+          data: {"choices":[{"delta":{"content":"정답"}}]}
+
+          data: {"choices":[{"delta":{"content":"입니다"}}]}
+
+          data: [DONE]
+
+          """.getBytes(StandardCharsets.UTF_8);
+      exchange.getResponseHeaders().add("Content-Type", "text/event-stream");
+      exchange.sendResponseHeaders(200, bytes.length);
+      exchange.getResponseBody().write(bytes);
+      exchange.close();
+    };
+
+    // when
+    List<String> events = openAiChatClient.stream(apiUrl, "test-key", Map.of("stream", true))
+        .collectList()
+        .block();
+
+    // then
+    assertThat(events).containsExactly(
+        "{\"choices\":[{\"delta\":{\"content\":\"정답\"}}]}",
+        "{\"choices\":[{\"delta\":{\"content\":\"입니다\"}}]}"
+    );
+    assertThat(meterRegistry.get("openai.request.latency").tag("outcome", "success").timer().count())
+        .isEqualTo(1);
+    assertThat(meterRegistry.get("openai.request.in.flight").gauge().value()).isZero();
+  }
+
+  @Test
+  @DisplayName("토큰이 계속 들어오더라도 스트림 전체 마감 시간이 지나면 실패한다")
+  void stream_Trickling_FailsAtDeadline() {
+    // given: 토큰 사이 간격(300ms)은 응답 타임아웃(1초)보다 짧지만 전체 응답은 마감(2초)보다 김
+    behavior = (exchange, count) -> {
+      exchange.getResponseHeaders().add("Content-Type", "text/event-stream");
+      exchange.sendResponseHeaders(200, 0);
+      for (int i = 0; i < 20; i++) {
+        exchange.getResponseBody().write("data: {}\n\n".getBytes(StandardCharsets.UTF_8));
+        exchange.getResponseBody().flush();
+        sleep(300);
+      }
+      exchange.close();
+    };
+
+    // when & then
+    long start = System.nanoTime();
+    assertThatThrownBy(() -> openAiChatClient.stream(apiUrl, "test-key", Map.of("stream", true))
+        .collectList()
+        .block())
+        .hasRootCauseInstanceOf(TimeoutException.class);
+    assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofMillis(3_000));
+  }
+
+  private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+    byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+    exchange.getResponseHeaders().add("Content-Type", "application/json");
+    exchange.sendResponseHeaders(status, bytes.length);
+    exchange.getResponseBody().write(bytes);
+    exchange.close();
+  }
+
+  private static void sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  @FunctionalInterface
+  private interface StubBehavior {
+
+    void handle(HttpExchange exchange, int count) throws IOException;
+  }
+}
@@ -0,0 +1,131 @@
+package com.ebbinghaus.ttopullae.problem.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.ebbinghaus.ttopullae.global.util.PromptLoader;
+import com.ebbinghaus.ttopullae.problem.application.dto.AiGradingRequest;
+import com.ebbinghaus.ttopullae.problem.application.dto.AiGradingResult;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * OpenAI 일괄 채점 단위 테스트
+ * OpenAI 호출 클라이언트를 Mock으로 대체하여 응답 파싱과 개별 채점 재요청을 검증한다
+ */
+class OpenAiGradingServiceTest {
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  private OpenAiChatClient openAiChatClient;
+  private OpenAiGradingService openAiGradingService;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    openAiChatClient = mock(OpenAiChatClient.class);
+    PromptLoader promptLoader = new PromptLoader(new DefaultResourceLoader());
+    openAiGradingService = new OpenAiGradingService(openAiChatClient, promptLoader, objectMapper);
+
+    ReflectionTestUtils.setField(openAiGradingService, "apiKey", "test-key");
+    ReflectionTestUtils.setField(openAiGradingService, "model", "gpt-4o-mini");
+    ReflectionTestUtils.setField(openAiGradingService, "apiUrl", "http://localhost/v1/chat/completions");
+    ReflectionTestUtils.setField(openAiGradingService, "batchSize", 20);
+  }
+
+  @Test
+  @DisplayName("여러 답안을 한 번의 요청으로 채점하고 요청 순서대로 결과를 반환한다")
+  void gradeSubjectiveAnswers_SingleRequest() throws Exception {
+    // given
+    given(openAiChatClient.post(anyString(), anyString(), any()))
+        .willReturn(chatResponse(Map.of("results", List.of(
+            gradedItem(1, false),
+            gradedItem(0, true)
+        ))));
+
+    // when
+    List<AiGradingResult> results = openAiGradingService.gradeSubjectiveAnswers(
+        List.of(request("제어의 역전이며 컨테이너가 관리합니다."), request("객체를 생성합니다.")));
+
+    // then
+    assertThat(results).extracting(AiGradingResult::isCorrect).containsExactly(true, false);
+    verify(openAiChatClient, times(1)).post(anyString(), anyString(), any());
+  }
+
+  @Test
+  @DisplayName("응답에서 누락된 항목만 개별 채점으로 다시 요청한다")
+  void gradeSubjectiveAnswers_MissingItem_GradedIndividually() throws Exception {
+    // given
+    given(openAiChatClient.post(anyString(), anyString(), any()))
+        .willReturn(chatResponse(Map.of("results", List.of(gradedItem(0, true)))))
+        .willReturn(chatResponse(Map.of(
+            "isCorrect", false,
+            "feedback", "개별 채점 결과",
+            "missingKeywords", List.of("제어의 역전"),
+            "scoringReason", "개별 채점 근거"
+        )));
+
+    // when
+    List<AiGradingResult> results = openAiGradingService.gradeSubjectiveAnswers(
+        List.of(request("제어의 역전이며 컨테이너가 관리합니다."), request("객체를 생성합니다.")));
+
+    // then
+    assertThat(results).hasSize(2);
+    assertThat(results.get(0).isCorrect()).isTrue();
+    assertThat(results.get(1).feedback()).isEqualTo("개별 채점 결과");
+    verify(openAiChatClient, times(2)).post(anyString(), anyString(), any());
+  }
+
+  @Test
+  @DisplayName("일괄 채점 호출이 실패하면 해당 묶음의 모든 항목을 시스템 오류 결과로 반환한다")
+  void gradeSubjectiveAnswers_CallFailed_SystemFailureResults() {
+    // given
+    given(openAiChatClient.post(anyString(), anyString(), any()))
+        .willThrow(new IllegalStateException("OpenAI 호출 실패"));
+
+    // when
+    List<AiGradingResult> results = openAiGradingService.gradeSubjectiveAnswers(
+        List.of(request("답안 1"), request("답안 2"), request("답안 3")));
+
+    // then
+    assertThat(results).hasSize(3).allMatch(AiGradingResult::isSystemFailure);
+  }
+
+  private String chatResponse(Map<String, Object> content) throws Exception {
+    return objectMapper.writeValueAsString(Map.of(
+        "choices", List.of(Map.of(
+            "message", Map.of("content", objectMapper.writeValueAsString(content))
+        ))
+    ));
+  }
+
+  private Map<String, Object> gradedItem(int id, boolean isCorrect) {
+    return Map.of(
+        "id", id,
+        "isCorrect", isCorrect,
+        "feedback", isCorrect ? "정답입니다." : "오답입니다.",
+        "missingKeywords", isCorrect ? List.of() : List.of("제어의 역전"),
+        "scoringReason", "채점 근거"
+    );
+  }
+
+  private AiGradingRequest request(String userAnswer) {
+    return new AiGradingRequest(
+        "Spring Framework",
+        "IoC란 무엇인가?",
+        "제어의 역전",
+        List.of("제어의 역전", "컨테이너"),
+        userAnswer
+    );
+  }
+}
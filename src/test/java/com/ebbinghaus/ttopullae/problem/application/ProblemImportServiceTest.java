@@ -0,0 +1,243 @@
+package com.ebbinghaus.ttopullae.problem.application;
+
+import com.ebbinghaus.ttopullae.global.exception.ApplicationException;
+import com.ebbinghaus.ttopullae.problem.application.dto.ProblemImportCommand;
+import com.ebbinghaus.ttopullae.problem.application.dto.ProblemImportFormat;
+import com.ebbinghaus.ttopullae.problem.application.dto.ProblemImportResult;
+import com.ebbinghaus.ttopullae.problem.domain.Problem;
+import com.ebbinghaus.ttopullae.problem.domain.ProblemType;
+import com.ebbinghaus.ttopullae.problem.domain.repository.ProblemChoiceRepository;
+import com.ebbinghaus.ttopullae.problem.domain.repository.ProblemKeywordRepository;
+import com.ebbinghaus.ttopullae.problem.domain.repository.ProblemRepository;
+import com.ebbinghaus.ttopullae.problem.domain.repository.ReviewGateCountRepository;
+import com.ebbinghaus.ttopullae.problem.exception.ProblemException;
+import com.ebbinghaus.ttopullae.studyroom.domain.RoomType;
+import com.ebbinghaus.ttopullae.studyroom.domain.StudyRoom;
+import com.ebbinghaus.ttopullae.studyroom.domain.repository.StudyRoomRepository;
+import com.ebbinghaus.ttopullae.user.domain.User;
+import com.ebbinghaus.ttopullae.user.domain.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doCallRealMethod;
+
+@SpringBootTest(properties = "problem.import.chunk-size=2")
+@Transactional
+class ProblemImportServiceTest {
+
+    @Autowired
+    private ProblemImportService problemImportService;
+
+    @SpyBean
+    private ProblemService problemService;
+
+    @Autowired
+    private ProblemRepository problemRepository;
+
+    @Autowired
+    private ProblemChoiceRepository problemChoiceRepository;
+
+    @Autowired
+    private ProblemKeywordRepository problemKeywordRepository;
+
+    @Autowired
+    private ReviewGateCountRepository reviewGateCountRepository;
+
+    @Autowired
+    private StudyRoomRepository studyRoomRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User user;
+    private StudyRoom studyRoom;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder()
+                .email("test@example.com")
+                .password("password123")
+                .username("테스트유저")
+                .receiveNotifications(true)
+                .build());
+
+        studyRoom = studyRoomRepository.save(StudyRoom.builder()
+                .owner(user)
+                .roomType(RoomType.PERSONAL)
+                .name("자바 스터디")
+                .description("자바 개념 정리")
+                .category("프로그래밍")
+                .build());
+    }
+
+    @Test
+    @DisplayName("JSON Lines 파일의 유효한 줄은 묶음 단위로 등록하고, 잘못된 줄은 줄 번호와 사유를 반환")
+    void importProblems_JsonLines() {
+        // given: 유효 3줄, 빈 줄 1줄, 잘못된 줄 3줄 (묶음 크기 2)
+        String content = """
+                {"problemType":"MCQ","question":"자바의 접근 제어자가 아닌 것은?","explanation":"friend는 C++의 접근 제어자입니다.","choices":["public","private","protected","friend"],"correctChoiceIndex":3}
+                {"problemType":"OX","question":"JVM은 Java Virtual Machine의 약자이다.","explanation":"맞습니다."}
+
+                {"problemType":"SUBJECTIVE","question":"DDD의 핵심 개념에 대해 설명하시오.","explanation":"DDD는 도메인 중심 설계입니다.","modelAnswerText":"DDD는 도메인을 중심으로 설계하는 방법론입니다.","keywords":["도메인","엔티티"]}
+                {"problemType":"SHORT","question":
+                {"problemType":"SHORT","question":"자바에서 문자열을 다루는 불변 클래스는?","explanation":"String 클래스입니다.","answerText":"String"}
+                null
+                """;
+
+        // when
+        ProblemImportResult result = importProblems(ProblemImportFormat.JSONL, content);
+        entityManager.clear();
+
+        // then
+        assertThat(result.totalCount()).isEqualTo(6);
+        assertThat(result.importedCount()).isEqualTo(3);
+        assertThat(result.errors())
+                .extracting(ProblemImportResult.LineError::lineNumber)
+                .containsExactly(2L, 5L, 7L);
+        assertThat(result.errors().get(0).message()).isEqualTo(ProblemException.INVALID_OX_DATA.getDetail());
+        assertThat(result.errors().get(2).message()).isEqualTo("문제 데이터는 JSON 객체여야 합니다.");
+
+        List<Problem> problems = findImportedProblems();
+        assertThat(problems).extracting(Problem::getProblemType)
+                .containsExactly(ProblemType.MCQ, ProblemType.SUBJECTIVE, ProblemType.SHORT);
+        assertThat(problemChoiceRepository.findByProblem(problems.get(0))).hasSize(4);
+        assertThat(problemKeywordRepository.findByProblem(problems.get(1))).hasSize(2);
+
+        assertThat(studyRoomRepository.findById(studyRoom.getStudyRoomId()).orElseThrow().getProblemCount())
+                .isEqualTo(3);
+        assertThat(reviewGateCountRepository.findByUserIdAndStudyRoomId(user.getUserId(), studyRoom.getStudyRoomId())
+                .orElseThrow().getGate1Count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("CSV 파일은 헤더 이름으로 컬럼을 찾고, 따옴표로 감싼 값과 '|'로 구분한 목록을 읽음")
+    void importProblems_Csv() {
+        // given
+        String content = """
+                problemType,question,explanation,choices,correctChoiceIndex,answerBoolean
+                MCQ,"쉼표, 따옴표("")가 포함된 문제",해설,public|private|friend,2,
+                OX,JVM은 Java Virtual Machine의 약자이다.,맞습니다.,,,yes
+                OX,JVM은 Java Virtual Machine의 약자이다.,맞습니다.,,,TRUE
+                """;
+
+        // when
+        ProblemImportResult result = importProblems(ProblemImportFormat.CSV, content);
+        entityManager.clear();
+
+        // then
+        assertThat(result.totalCount()).isEqualTo(3);
+        assertThat(result.importedCount()).isEqualTo(2);
+        assertThat(result.errors()).singleElement()
+                .extracting(ProblemImportResult.LineError::lineNumber)
+                .isEqualTo(3L);
+
+        List<Problem> problems = findImportedProblems();
+        assertThat(problems.get(0).getQuestion()).isEqualTo("쉼표, 따옴표(\")가 포함된 문제");
+        assertThat(problems.get(0).getCorrectChoiceIndex()).isEqualTo(2);
+        assertThat(problemChoiceRepository.findByProblem(problems.get(0))).hasSize(3);
+        assertThat(problems.get(1).getAnswerBoolean()).isTrue();
+    }
+
+    @Test
+    @DisplayName("CSV 헤더에 필수 컬럼이 없으면 예외 발생")
+    void importProblems_Csv_InvalidHeader() {
+        // given
+        String content = """
+                question,explanation
+                문제,해설
+                """;
+
+        // when & then
+        assertThatThrownBy(() -> importProblems(ProblemImportFormat.CSV, content))
+                .isInstanceOf(ApplicationException.class)
+                .extracting("code")
+                .isEqualTo(ProblemException.INVALID_IMPORT_HEADER);
+    }
+
+    @Test
+    @DisplayName("이전 묶음이 등록된 뒤 다음 묶음이 실패하면 등록된 묶음은 유지하고 실패한 묶음의 줄만 사유와 함께 반환")
+    void importProblems_LaterChunkFails_KeepsEarlierChunks() {
+        // given: 첫 묶음은 등록되고, 두 번째 묶음 등록 중 권한이 회수됨 (묶음 크기 2)
+        doCallRealMethod()
+                .doThrow(new ApplicationException(ProblemException.ROOM_ACCESS_DENIED))
+                .when(problemService).createProblems(any(), any(), anyList());
+
+        String content = """
+                {"problemType":"OX","question":"JVM은 Java Virtual Machine의 약자이다.","explanation":"맞습니다.","answerBoolean":true}
+                {"problemType":"SHORT","question":"자바에서 문자열을 다루는 불변 클래스는?","explanation":"String 클래스입니다.","answerText":"String"}
+                {"problemType":"OX","question":"JDK에는 JRE가 포함된다.","explanation":"맞습니다.","answerBoolean":true}
+                {"problemType":"SHORT","question":"자바의 최상위 클래스는?","explanation":"Object 클래스입니다.","answerText":"Object"}
+                """;
+
+        // when
+        ProblemImportResult result = importProblems(ProblemImportFormat.JSONL, content);
+        entityManager.clear();
+
+        // then
+        assertThat(result.totalCount()).isEqualTo(4);
+        assertThat(result.importedCount()).isEqualTo(2);
+        assertThat(result.errors())
+                .extracting(ProblemImportResult.LineError::lineNumber)
+                .containsExactly(3L, 4L);
+        assertThat(result.errors())
+                .extracting(ProblemImportResult.LineError::message)
+                .containsOnly(ProblemException.ROOM_ACCESS_DENIED.getDetail());
+        assertThat(findImportedProblems()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("다른 사용자의 개인 스터디룸에는 가져올 수 없음")
+    void importProblems_RoomAccessDenied() {
+        // given
+        User otherUser = userRepository.save(User.builder()
+                .email("other@example.com")
+                .password("password123")
+                .username("다른유저")
+                .receiveNotifications(true)
+                .build());
+
+        // when & then
+        assertThatThrownBy(() -> problemImportService.importProblems(new ProblemImportCommand(
+                otherUser.getUserId(),
+                studyRoom.getStudyRoomId(),
+                ProblemImportFormat.JSONL,
+                new ByteArrayInputStream(new byte[0]))))
+                .isInstanceOf(ApplicationException.class)
+                .extracting("code")
+                .isEqualTo(ProblemException.ROOM_ACCESS_DENIED);
+    }
+
+    private ProblemImportResult importProblems(ProblemImportFormat format, String content) {
+        return problemImportService.importProblems(new ProblemImportCommand(
+                user.getUserId(),
+                studyRoom.getStudyRoomId(),
+                format,
+                new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8))
+        ));
+    }
+
+    private List<Problem> findImportedProblems() {
+        return problemRepository.findAll().stream()
+                .filter(problem -> problem.getStudyRoom().getStudyRoomId().equals(studyRoom.getStudyRoomId()))
+                .sorted(Comparator.comparing(Problem::getProblemId))
+                .toList();
+    }
+}
@@ -3,9 +3,12 @@ package com.ebbinghaus.ttopullae.problem.application;
 import com.ebbinghaus.ttopullae.global.exception.ApplicationException;
 import com.ebbinghaus.ttopullae.problem.application.dto.ProblemCreateCommand;
 import com.ebbinghaus.ttopullae.problem.application.dto.ProblemCreateResult;
+import com.ebbinghaus.ttopullae.problem.application.dto.TodayReviewChangedEvent;
 import com.ebbinghaus.ttopullae.problem.domain.*;
 import com.ebbinghaus.ttopullae.problem.domain.repository.*;
 import com.ebbinghaus.ttopullae.problem.exception.ProblemException;
+import com.ebbinghaus.ttopullae.studyroom.application.NoOpStudyRoomMembershipCache;
+import com.ebbinghaus.ttopullae.studyroom.application.StudyRoomAccessResolver;
 import com.ebbinghaus.ttopullae.studyroom.domain.RoomType;
 import com.ebbinghaus.ttopullae.studyroom.domain.StudyRoom;
 import com.ebbinghaus.ttopullae.studyroom.domain.StudyRoomMember;
@@ -14,15 +17,19 @@ import com.ebbinghaus.ttopullae.studyroom.domain.repository.StudyRoomRepository;
 import com.ebbinghaus.ttopullae.user.domain.User;
 import com.ebbinghaus.ttopullae.user.domain.repository.UserRepository;
 import com.ebbinghaus.ttopullae.user.exception.UserException;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -61,9 +68,29 @@ class ProblemServiceTest {
     @Mock
     private AiGradingService aiGradingService;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private EssayPreGrader essayPreGrader;
+
+    @Mock
+    private ReviewGateCountService reviewGateCountService;
+
+    @Mock
+    private LatestProblemAttemptService latestProblemAttemptService;
+
     @InjectMocks
     private ProblemService problemService;
 
+    @BeforeEach
+    void setUp() {
+        // 접근 권한 판별은 실제 구현을 사용하고, 멤버십 조회만 mock 리포지토리로 대체
+        ReflectionTestUtils.setField(problemService, "studyRoomAccessResolver",
+                new StudyRoomAccessResolver(new NoOpStudyRoomMembershipCache(studyRoomMemberRepository)));
+        ReflectionTestUtils.setField(problemService, "problemSnapshotCache", new NoOpProblemSnapshotCache());
+    }
+
     @Test
     @DisplayName("객관식 문제 생성 성공")
     void createMcqProblem_Success() {
@@ -500,9 +527,6 @@ class ProblemServiceTest {
 
         given(problemReviewStateRepository.findTodaysReviewProblems(userId, today, null))
                 .willReturn(reviewStates);
-        given(problemAttemptRepository.findTodaysFirstAttemptsByUserAndProblems(
-                any(Long.class), anyList(), any(LocalDateTime.class), any(LocalDateTime.class)))
-                .willReturn(List.of());
 
         com.ebbinghaus.ttopullae.problem.application.dto.TodayReviewCommand command =
                 new com.ebbinghaus.ttopullae.problem.application.dto.TodayReviewCommand(userId, filter);
@@ -572,9 +596,6 @@ class ProblemServiceTest {
 
         given(problemReviewStateRepository.findTodaysReviewProblems(userId, today, ReviewGate.GATE_1))
                 .willReturn(reviewStates);
-        given(problemAttemptRepository.findTodaysFirstAttemptsByUserAndProblems(
-                any(Long.class), anyList(), any(LocalDateTime.class), any(LocalDateTime.class)))
-                .willReturn(List.of());
 
         com.ebbinghaus.ttopullae.problem.application.dto.TodayReviewCommand command =
                 new com.ebbinghaus.ttopullae.problem.application.dto.TodayReviewCommand(userId, filter);
@@ -638,9 +659,6 @@ class ProblemServiceTest {
 
         given(problemReviewStateRepository.findTodaysReviewProblems(userId, today, ReviewGate.GATE_2))
                 .willReturn(reviewStates);
-        given(problemAttemptRepository.findTodaysFirstAttemptsByUserAndProblems(
-                any(Long.class), anyList(), any(LocalDateTime.class), any(LocalDateTime.class)))
-                .willReturn(List.of());
 
         com.ebbinghaus.ttopullae.problem.application.dto.TodayReviewCommand command =
                 new com.ebbinghaus.ttopullae.problem.application.dto.TodayReviewCommand(userId, filter);
@@ -659,6 +677,77 @@ class ProblemServiceTest {
                 .findTodaysReviewProblems(userId, today, ReviewGate.GATE_2);
     }
 
+    @Test
+    @DisplayName("오늘의 복습 문제 조회 성공 - 복습 상태의 첫 시도 기록으로 풀이 상태 판단")
+    void getTodayReviewProblems_Success_AttemptStatus() {
+        // Given
+        Long userId = 1L;
+        LocalDate today = LocalDate.now();
+
+        User mockUser = User.builder()
+                .userId(userId)
+                .email("test@example.com")
+                .password("password")
+                .username("테스터")
+                .receiveNotifications(true)
+                .build();
+
+        StudyRoom mockStudyRoom = StudyRoom.builder()
+                .studyRoomId(1L)
+                .owner(mockUser)
+                .roomType(RoomType.PERSONAL)
+                .name("자바 스터디")
+                .build();
+
+        // 정답, 오답, 채점 중, 어제 풀이(오늘 미풀이)
+        LocalDate[] firstAttemptDates = {today, today, today, today.minusDays(1)};
+        Boolean[] firstAttemptCorrects = {true, false, null, true};
+
+        List<ProblemReviewState> reviewStates = new ArrayList<>();
+        for (int i = 0; i < firstAttemptDates.length; i++) {
+            Problem problem = Problem.builder()
+                    .problemId((long) i + 1)
+                    .studyRoom(mockStudyRoom)
+                    .creator(mockUser)
+                    .problemType(ProblemType.SUBJECTIVE)
+                    .question("문제 " + (i + 1))
+                    .build();
+            reviewStates.add(ProblemReviewState.builder()
+                    .user(mockUser)
+                    .problem(problem)
+                    .gate(ReviewGate.GATE_1)
+                    .nextReviewDate(today)
+                    .reviewCount(0)
+                    .todayReviewIncludedDate(today)
+                    .todayReviewIncludedGate(ReviewGate.GATE_1)
+                    .todayReviewFirstAttemptDate(firstAttemptDates[i])
+                    .todayReviewFirstAttemptCorrect(firstAttemptCorrects[i])
+                    .build());
+        }
+
+        given(problemReviewStateRepository.findTodaysReviewProblems(userId, today, null))
+                .willReturn(reviewStates);
+
+        com.ebbinghaus.ttopullae.problem.application.dto.TodayReviewCommand command =
+                new com.ebbinghaus.ttopullae.problem.application.dto.TodayReviewCommand(userId, "ALL");
+
+        // When
+        com.ebbinghaus.ttopullae.problem.application.dto.TodayReviewResult result =
+                problemService.getTodayReviewProblems(command);
+
+        // Then
+        assertThat(result.problems())
+                .extracting(com.ebbinghaus.ttopullae.problem.application.dto.TodayReviewResult.TodayReviewProblemInfo::attemptStatus)
+                .containsExactly(
+                        AttemptStatus.CORRECT,
+                        AttemptStatus.INCORRECT,
+                        AttemptStatus.GRADING,
+                        AttemptStatus.NOT_ATTEMPTED
+                );
+        assertThat(result.dashboard().completedCount()).isEqualTo(3);
+        verifyNoInteractions(problemAttemptRepository);
+    }
+
     @Test
     @DisplayName("오늘의 복습 문제 조회 성공 - 빈 목록")
     void getTodayReviewProblems_Success_EmptyList() {
@@ -755,6 +844,8 @@ class ProblemServiceTest {
 
         given(userRepository.findById(userId)).willReturn(Optional.of(mockUser));
         given(problemRepository.findById(problemId)).willReturn(Optional.of(mockProblem));
+        given(studyRoomRepository.findById(mockStudyRoom.getStudyRoomId())).willReturn(Optional.of(mockStudyRoom));
+        given(problemRepository.getReferenceById(problemId)).willReturn(mockProblem);
         given(problemReviewStateRepository.findByUserAndProblem(mockUser, mockProblem))
                 .willReturn(Optional.of(mockReviewState));
 
@@ -775,6 +866,7 @@ class ProblemServiceTest {
         assertThat(result.isReviewStateChanged()).isTrue();
 
         verify(problemAttemptRepository, times(1)).save(any(ProblemAttempt.class));
+        verify(eventPublisher, times(1)).publishEvent(new TodayReviewChangedEvent(userId));
     }
 
     @Test
@@ -824,6 +916,8 @@ class ProblemServiceTest {
 
         given(userRepository.findById(userId)).willReturn(Optional.of(mockUser));
         given(problemRepository.findById(problemId)).willReturn(Optional.of(mockProblem));
+        given(studyRoomRepository.findById(mockStudyRoom.getStudyRoomId())).willReturn(Optional.of(mockStudyRoom));
+        given(problemRepository.getReferenceById(problemId)).willReturn(mockProblem);
         given(problemReviewStateRepository.findByUserAndProblem(mockUser, mockProblem))
                 .willReturn(Optional.of(mockReviewState));
 
@@ -893,6 +987,8 @@ class ProblemServiceTest {
 
         given(userRepository.findById(userId)).willReturn(Optional.of(mockUser));
         given(problemRepository.findById(problemId)).willReturn(Optional.of(mockProblem));
+        given(studyRoomRepository.findById(mockStudyRoom.getStudyRoomId())).willReturn(Optional.of(mockStudyRoom));
+        given(problemRepository.getReferenceById(problemId)).willReturn(mockProblem);
         given(problemReviewStateRepository.findByUserAndProblem(mockUser, mockProblem))
                 .willReturn(Optional.of(mockReviewState));
 
@@ -912,6 +1008,7 @@ class ProblemServiceTest {
         assertThat(result.isReviewStateChanged()).isFalse();
 
         verify(problemAttemptRepository, times(1)).save(any(ProblemAttempt.class));
+        verify(eventPublisher, never()).publishEvent(any(TodayReviewChangedEvent.class));
     }
 
     @Test
@@ -961,6 +1058,8 @@ class ProblemServiceTest {
 
         given(userRepository.findById(userId)).willReturn(Optional.of(mockUser));
         given(problemRepository.findById(problemId)).willReturn(Optional.of(mockProblem));
+        given(studyRoomRepository.findById(mockStudyRoom.getStudyRoomId())).willReturn(Optional.of(mockStudyRoom));
+        given(problemRepository.getReferenceById(problemId)).willReturn(mockProblem);
         given(problemReviewStateRepository.findByUserAndProblem(mockUser, mockProblem))
                 .willReturn(Optional.of(mockReviewState));
 
@@ -1042,6 +1141,8 @@ class ProblemServiceTest {
 
         given(userRepository.findById(userId)).willReturn(Optional.of(mockUser));
         given(problemRepository.findById(problemId)).willReturn(Optional.of(mockProblem));
+        given(studyRoomRepository.findById(mockStudyRoom.getStudyRoomId())).willReturn(Optional.of(mockStudyRoom));
+        given(problemRepository.getReferenceById(problemId)).willReturn(mockProblem);
         given(problemReviewStateRepository.findByUserAndProblem(mockUser, mockProblem))
                 .willReturn(Optional.of(mockReviewState));
         given(problemKeywordRepository.findByProblem(mockProblem)).willReturn(mockKeywords);
@@ -1062,10 +1163,257 @@ class ProblemServiceTest {
         assertThat(result.isFirstAttempt()).isTrue();
         assertThat(result.isReviewStateChanged()).isTrue();
 
-        verify(aiGradingService, times(2)).gradeSubjectiveAnswer(any());
+        verify(aiGradingService, times(1)).gradeSubjectiveAnswer(any());
+        verify(problemKeywordRepository, times(1)).findByProblem(mockProblem);
         verify(problemAttemptRepository, times(1)).save(any(ProblemAttempt.class));
     }
 
+    @Test
+    @DisplayName("문제 풀이 제출 - 서술형 비동기 채점 모드는 채점 중 상태로 저장 후 즉시 반환")
+    void submitProblemAnswer_EssayAsyncGrading_Pending() {
+        // Given
+        ReflectionTestUtils.setField(problemService, "asyncEssayGradingEnabled", true);
+
+        Long userId = 1L;
+        Long problemId = 5L;
+        String answer = "IoC는 제어의 역전으로, 객체의 생성과 의존성 관리를 Spring Container가 담당합니다.";
+        LocalDate today = LocalDate.now();
+
+        User mockUser = User.builder()
+                .userId(userId)
+                .email("test@example.com")
+                .password("password")
+                .username("테스터")
+                .receiveNotifications(true)
+                .build();
+
+        StudyRoom mockStudyRoom = StudyRoom.builder()
+                .studyRoomId(1L)
+                .owner(mockUser)
+                .roomType(RoomType.PERSONAL)
+                .name("스프링 스터디")
+                .build();
+
+        Problem mockProblem = Problem.builder()
+                .problemId(problemId)
+                .studyRoom(mockStudyRoom)
+                .creator(mockUser)
+                .problemType(ProblemType.SUBJECTIVE)
+                .question("Spring IoC에 대해 설명하시오.")
+                .explanation("IoC는 객체의 생성과 의존성 관리를 개발자가 아닌 프레임워크(Spring Container)가 담당하는 설계 원칙입니다.")
+                .modelAnswerText("IoC는 제어의 역전(Inversion of Control)으로, Spring Container가 객체의 생성과 의존성을 관리합니다.")
+                .build();
+
+        ProblemReviewState mockReviewState = ProblemReviewState.builder()
+                .user(mockUser)
+                .problem(mockProblem)
+                .gate(ReviewGate.GATE_1)
+                .nextReviewDate(today)
+                .reviewCount(0)
+                .todayReviewIncludedDate(today)
+                .todayReviewIncludedGate(ReviewGate.GATE_1)
+                .todayReviewFirstAttemptDate(null)
+                .build();
+
+        given(userRepository.findById(userId)).willReturn(Optional.of(mockUser));
+        given(problemRepository.findById(problemId)).willReturn(Optional.of(mockProblem));
+        given(studyRoomRepository.findById(mockStudyRoom.getStudyRoomId())).willReturn(Optional.of(mockStudyRoom));
+        given(problemRepository.getReferenceById(problemId)).willReturn(mockProblem);
+        given(problemReviewStateRepository.findByUserAndProblem(mockUser, mockProblem))
+                .willReturn(Optional.of(mockReviewState));
+        given(problemKeywordRepository.findByProblem(mockProblem)).willReturn(List.of(
+                ProblemKeyword.builder().problem(mockProblem).keyword("제어의 역전").build()
+        ));
+
+        com.ebbinghaus.ttopullae.problem.application.dto.ProblemSubmitCommand command =
+                new com.ebbinghaus.ttopullae.problem.application.dto.ProblemSubmitCommand(userId, problemId, answer);
+
+        // When
+        com.ebbinghaus.ttopullae.problem.application.dto.ProblemSubmitResult result =
+                problemService.submitProblemAnswer(command);
+
+        // Then
+        assertThat(result.gradingStatus()).isEqualTo(GradingStatus.PENDING);
+        assertThat(result.isCorrect()).isFalse();
+        assertThat(result.aiFeedback()).isNull();
+        assertThat(result.isFirstAttempt()).isTrue();
+        assertThat(result.isReviewStateChanged()).isFalse();
+
+        // 첫 시도 기록과 복습 횟수는 제출 시점에 반영, 관문 전이는 채점 완료 후 반영
+        assertThat(mockReviewState.getTodayReviewFirstAttemptDate()).isEqualTo(today);
+        assertThat(mockReviewState.getReviewCount()).isEqualTo(1);
+        assertThat(mockReviewState.getGate()).isEqualTo(ReviewGate.GATE_1);
+
+        verify(aiGradingService, never()).gradeSubjectiveAnswer(any());
+        verify(problemAttemptRepository, times(1)).save(argThat(attempt ->
+                attempt.isGradingPending() && attempt.isFirstReviewAttempt()));
+        verify(eventPublisher, times(1)).publishEvent(
+                any(com.ebbinghaus.ttopullae.problem.application.dto.EssayGradingRequestedEvent.class));
+    }
+
+    @Test
+    @DisplayName("문제 풀이 제출 - 서술형 사전 채점으로 판정된 답안은 AI 호출 없이 즉시 채점")
+    void submitProblemAnswer_EssayPreGraded_NoAiCall() {
+        // Given
+        ReflectionTestUtils.setField(problemService, "asyncEssayGradingEnabled", true);
+
+        Long userId = 1L;
+        Long problemId = 5L;
+        String answer = "모름";
+        LocalDate today = LocalDate.now();
+
+        User mockUser = User.builder()
+                .userId(userId)
+                .email("test@example.com")
+                .password("password")
+                .username("테스터")
+                .receiveNotifications(true)
+                .build();
+
+        StudyRoom mockStudyRoom = StudyRoom.builder()
+                .studyRoomId(1L)
+                .owner(mockUser)
+                .roomType(RoomType.PERSONAL)
+                .name("스프링 스터디")
+                .build();
+
+        Problem mockProblem = Problem.builder()
+                .problemId(problemId)
+                .studyRoom(mockStudyRoom)
+                .creator(mockUser)
+                .problemType(ProblemType.SUBJECTIVE)
+                .question("Spring IoC에 대해 설명하시오.")
+                .modelAnswerText("IoC는 제어의 역전(Inversion of Control)으로, Spring Container가 객체의 생성과 의존성을 관리합니다.")
+                .build();
+
+        ProblemReviewState mockReviewState = ProblemReviewState.builder()
+                .user(mockUser)
+                .problem(mockProblem)
+                .gate(ReviewGate.GATE_1)
+                .nextReviewDate(today)
+                .reviewCount(0)
+                .todayReviewIncludedDate(today)
+                .todayReviewIncludedGate(ReviewGate.GATE_1)
+                .todayReviewFirstAttemptDate(null)
+                .build();
+
+        com.ebbinghaus.ttopullae.problem.application.dto.AiGradingResult preGradedResult =
+                new com.ebbinghaus.ttopullae.problem.application.dto.AiGradingResult(
+                        false, "답안이 너무 짧아 핵심 개념을 설명하지 못했습니다.", List.of("제어의 역전"),
+                        "[사전 채점] 답안 길이가 최소 기준에 미달합니다.");
+
+        given(userRepository.findById(userId)).willReturn(Optional.of(mockUser));
+        given(problemRepository.findById(problemId)).willReturn(Optional.of(mockProblem));
+        given(studyRoomRepository.findById(mockStudyRoom.getStudyRoomId())).willReturn(Optional.of(mockStudyRoom));
+        given(problemRepository.getReferenceById(problemId)).willReturn(mockProblem);
+        given(problemReviewStateRepository.findByUserAndProblem(mockUser, mockProblem))
+                .willReturn(Optional.of(mockReviewState));
+        given(problemKeywordRepository.findByProblem(mockProblem)).willReturn(List.of(
+                ProblemKeyword.builder().problem(mockProblem).keyword("제어의 역전").build()
+        ));
+        given(essayPreGrader.isEnabled()).willReturn(true);
+        given(essayPreGrader.preGrade(any())).willReturn(Optional.of(preGradedResult));
+
+        com.ebbinghaus.ttopullae.problem.application.dto.ProblemSubmitCommand command =
+                new com.ebbinghaus.ttopullae.problem.application.dto.ProblemSubmitCommand(userId, problemId, answer);
+
+        // When
+        com.ebbinghaus.ttopullae.problem.application.dto.ProblemSubmitResult result =
+                problemService.submitProblemAnswer(command);
+
+        // Then
+        assertThat(result.gradingStatus()).isEqualTo(GradingStatus.COMPLETED);
+        assertThat(result.isCorrect()).isFalse();
+        assertThat(result.aiFeedback()).isEqualTo("답안이 너무 짧아 핵심 개념을 설명하지 못했습니다.");
+        assertThat(result.isReviewStateChanged()).isTrue();
+        assertThat(mockReviewState.getGate()).isEqualTo(ReviewGate.GATE_1);
+
+        verify(aiGradingService, never()).gradeSubjectiveAnswer(any());
+        verify(eventPublisher, never()).publishEvent(
+                any(com.ebbinghaus.ttopullae.problem.application.dto.EssayGradingRequestedEvent.class));
+    }
+
+    @Test
+    @DisplayName("서술형 비동기 채점 완료 - 첫 시도 풀이는 제출일 기준으로 관문 전이 적용")
+    void completeEssayGrading_FirstReviewAttempt_Promotion() {
+        // Given
+        Long attemptId = 20L;
+        LocalDate submittedDate = LocalDate.now().minusDays(1);
+
+        User mockUser = User.builder()
+                .userId(1L)
+                .email("test@example.com")
+                .password("password")
+                .username("테스터")
+                .receiveNotifications(true)
+                .build();
+
+        Problem mockProblem = Problem.builder()
+                .problemId(5L)
+                .creator(mockUser)
+                .problemType(ProblemType.SUBJECTIVE)
+                .question("Spring IoC에 대해 설명하시오.")
+                .build();
+
+        ProblemAttempt attempt = ProblemAttempt.builder()
+                .attemptId(attemptId)
+                .user(mockUser)
+                .problem(mockProblem)
+                .isCorrect(false)
+                .gradingStatus(GradingStatus.PENDING)
+                .firstReviewAttempt(true)
+                .build();
+        ReflectionTestUtils.setField(attempt, "createdAt", submittedDate.atTime(23, 59));
+
+        ProblemReviewState mockReviewState = ProblemReviewState.builder()
+                .user(mockUser)
+                .problem(mockProblem)
+                .gate(ReviewGate.GATE_1)
+                .nextReviewDate(submittedDate)
+                .reviewCount(1)
+                .todayReviewFirstAttemptDate(submittedDate)
+                .build();
+
+        com.ebbinghaus.ttopullae.problem.application.dto.AiGradingResult aiResult =
+                new com.ebbinghaus.ttopullae.problem.application.dto.AiGradingResult(
+                        true, "정확하게 설명하셨습니다.", List.of(), "모든 키워드가 포함되어 있습니다.");
+
+        given(problemAttemptRepository.completePendingGrading(
+                attemptId, true, "정확하게 설명하셨습니다.", GradingStatus.COMPLETED)).willReturn(1);
+        given(problemAttemptRepository.findById(attemptId)).willReturn(Optional.of(attempt));
+        given(problemReviewStateRepository.findByUserAndProblem(mockUser, mockProblem))
+                .willReturn(Optional.of(mockReviewState));
+
+        // When
+        problemService.completeEssayGrading(attemptId, aiResult);
+
+        // Then
+        assertThat(mockReviewState.getGate()).isEqualTo(ReviewGate.GATE_2);
+        assertThat(mockReviewState.getNextReviewDate()).isEqualTo(submittedDate.plusDays(7));
+        assertThat(mockReviewState.getReviewCount()).isEqualTo(1);  // 제출 시점에 이미 반영됨
+        assertThat(mockReviewState.getTodayReviewFirstAttemptCorrect()).isTrue();
+    }
+
+    @Test
+    @DisplayName("서술형 비동기 채점 완료 - 이미 처리된 풀이는 중복 반영하지 않음")
+    void completeEssayGrading_AlreadyCompleted_Ignored() {
+        // Given
+        Long attemptId = 20L;
+        com.ebbinghaus.ttopullae.problem.application.dto.AiGradingResult aiResult =
+                new com.ebbinghaus.ttopullae.problem.application.dto.AiGradingResult(
+                        true, "정확하게 설명하셨습니다.", List.of(), "모든 키워드가 포함되어 있습니다.");
+
+        given(problemAttemptRepository.completePendingGrading(
+                attemptId, true, "정확하게 설명하셨습니다.", GradingStatus.COMPLETED)).willReturn(0);
+
+        // When
+        problemService.completeEssayGrading(attemptId, aiResult);
+
+        // Then
+        verify(problemAttemptRepository, never()).findById(any());
+        verify(problemReviewStateRepository, never()).findByUserAndProblem(any(), any());
+    }
+
     @Test
     @DisplayName("문제 풀이 제출 - 그룹방 타인 문제 첫 풀이 (ReviewState 생성 안 함)")
     void submitProblemAnswer_GroupProblemFirstAttempt_NoReviewState() {
@@ -1110,6 +1458,8 @@ class ProblemServiceTest {
 
         given(userRepository.findById(userId)).willReturn(Optional.of(mockUser));
         given(problemRepository.findById(problemId)).willReturn(Optional.of(mockProblem));
+        given(studyRoomRepository.findById(mockStudyRoom.getStudyRoomId())).willReturn(Optional.of(mockStudyRoom));
+        given(problemRepository.getReferenceById(problemId)).willReturn(mockProblem);
         given(problemReviewStateRepository.findByUserAndProblem(mockUser, mockProblem))
                 .willReturn(Optional.empty());
         given(studyRoomMemberRepository.existsByUserAndStudyRoomAndActive(mockUser, mockStudyRoom, true))
@@ -1183,6 +1533,8 @@ class ProblemServiceTest {
 
         given(userRepository.findById(userId)).willReturn(Optional.of(mockUser));
         given(problemRepository.findById(problemId)).willReturn(Optional.of(mockProblem));
+        given(studyRoomRepository.findById(mockStudyRoom.getStudyRoomId())).willReturn(Optional.of(mockStudyRoom));
+        given(problemRepository.getReferenceById(problemId)).willReturn(mockProblem);
         given(problemReviewStateRepository.findByUserAndProblem(mockUser, mockProblem))
                 .willReturn(Optional.of(mockReviewState));
 
@@ -1306,6 +1658,8 @@ class ProblemServiceTest {
 
         given(userRepository.findById(userId)).willReturn(Optional.of(mockUser));
         given(problemRepository.findById(problemId)).willReturn(Optional.of(mockProblem));
+        given(studyRoomRepository.findById(mockStudyRoom.getStudyRoomId())).willReturn(Optional.of(mockStudyRoom));
+        given(problemRepository.getReferenceById(problemId)).willReturn(mockProblem);
         given(problemChoiceRepository.findByProblem(mockProblem)).willReturn(choices);
         given(problemReviewStateRepository.findByUserAndProblem(mockUser, mockProblem))
                 .willReturn(Optional.of(mockReviewState));
@@ -1373,6 +1727,8 @@ class ProblemServiceTest {
 
         given(userRepository.findById(userId)).willReturn(Optional.of(mockUser));
         given(problemRepository.findById(problemId)).willReturn(Optional.of(mockProblem));
+        given(studyRoomRepository.findById(mockStudyRoom.getStudyRoomId())).willReturn(Optional.of(mockStudyRoom));
+        given(problemRepository.getReferenceById(problemId)).willReturn(mockProblem);
         given(studyRoomMemberRepository.existsByUserAndStudyRoomAndActive(mockUser, mockStudyRoom, true))
                 .willReturn(true);
         given(problemReviewStateRepository.findByUserAndProblem(mockUser, mockProblem))
@@ -1479,6 +1835,7 @@ class ProblemServiceTest {
 
         given(userRepository.findById(userId)).willReturn(Optional.of(mockUser));
         given(problemRepository.findById(problemId)).willReturn(Optional.of(mockProblem));
+        given(studyRoomRepository.findById(mockStudyRoom.getStudyRoomId())).willReturn(Optional.of(mockStudyRoom));
         given(studyRoomMemberRepository.existsByUserAndStudyRoomAndActive(mockUser, mockStudyRoom, true))
                 .willReturn(false);
 
@@ -1487,7 +1844,6 @@ class ProblemServiceTest {
                 .isInstanceOf(ApplicationException.class)
                 .hasFieldOrPropertyWithValue("code", ProblemException.ROOM_ACCESS_DENIED);
 
-        verify(problemChoiceRepository, never()).findByProblem(any());
         verify(problemReviewStateRepository, never()).findByUserAndProblem(any(), any());
     }
 
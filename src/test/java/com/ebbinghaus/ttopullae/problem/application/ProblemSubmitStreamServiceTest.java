@@ -0,0 +1,112 @@
+package com.ebbinghaus.ttopullae.problem.application;
+
+import com.ebbinghaus.ttopullae.problem.application.dto.AiGradingRequest;
+import com.ebbinghaus.ttopullae.problem.application.dto.AiGradingResult;
+import com.ebbinghaus.ttopullae.problem.application.dto.ProblemSubmitCommand;
+import com.ebbinghaus.ttopullae.problem.application.dto.ProblemSubmitResult;
+import com.ebbinghaus.ttopullae.problem.application.dto.ProblemSubmitStreamEvent;
+import com.ebbinghaus.ttopullae.problem.domain.GradingStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ProblemSubmitStreamServiceTest {
+
+    @Mock
+    private ProblemService problemService;
+
+    @Mock
+    private ProblemSubmitService problemSubmitService;
+
+    @Mock
+    private OpenAiGradingService openAiGradingService;
+
+    @InjectMocks
+    private ProblemSubmitStreamService problemSubmitStreamService;
+
+    private final ProblemSubmitCommand command = new ProblemSubmitCommand(1L, 5L, "IoC는 제어의 역전입니다.");
+
+    @Test
+    @DisplayName("서술형 AI 채점은 피드백 조각을 먼저 전달하고 최종 결과를 마지막에 전달")
+    void submit_Essay_StreamsFeedbackThenResult() {
+        // Given
+        AiGradingRequest aiGradingRequest = new AiGradingRequest(
+                "스프링 스터디", "Spring IoC에 대해 설명하시오.", "제어의 역전", List.of("제어의 역전"), command.answer());
+        String content = "{\"isCorrect\":true,\"feedback\":\"정답입니다.\",\"missingKeywords\":[],\"scoringReason\":\"근거\"}";
+        AiGradingResult aiResult = new AiGradingResult(true, "정답입니다.", List.of(), "근거");
+        ProblemSubmitResult submitResult = submitResult(true, "정답입니다.");
+
+        given(problemService.prepareEssayStreamGrading(command)).willReturn(aiGradingRequest);
+        given(openAiGradingService.streamGradingContent(aiGradingRequest))
+                .willReturn(Flux.just(content.substring(0, 32), content.substring(32)));
+        given(openAiGradingService.parseGradingContent(content)).willReturn(aiResult);
+        given(problemSubmitService.submitGradedEssayAnswer(command, aiResult)).willReturn(submitResult);
+
+        // When
+        List<ProblemSubmitStreamEvent> events = problemSubmitStreamService.submit(command).collectList().block();
+
+        // Then
+        assertThat(events).extracting(ProblemSubmitStreamEvent::type).containsExactly(
+                ProblemSubmitStreamEvent.Type.FEEDBACK,
+                ProblemSubmitStreamEvent.Type.FEEDBACK,
+                ProblemSubmitStreamEvent.Type.RESULT);
+        assertThat(events.get(0).feedbackDelta() + events.get(1).feedbackDelta()).isEqualTo("정답입니다.");
+        assertThat(events.get(2).result()).isEqualTo(submitResult);
+        verify(problemSubmitService, never()).submitProblemAnswer(any());
+    }
+
+    @Test
+    @DisplayName("AI 채점이 필요 없는 제출은 결과 이벤트 하나만 전달")
+    void submit_NotStreamingTarget_ResultOnly() {
+        // Given
+        ProblemSubmitResult submitResult = submitResult(false, null);
+        given(problemService.prepareEssayStreamGrading(command)).willReturn(null);
+        given(problemSubmitService.submitProblemAnswer(command)).willReturn(submitResult);
+
+        // When
+        List<ProblemSubmitStreamEvent> events = problemSubmitStreamService.submit(command).collectList().block();
+
+        // Then
+        assertThat(events).containsExactly(ProblemSubmitStreamEvent.result(submitResult));
+        verify(openAiGradingService, never()).streamGradingContent(any());
+    }
+
+    @Test
+    @DisplayName("스트리밍 호출이 실패하면 일반 제출로 다시 채점하여 결과 전달")
+    void submit_StreamFailed_FallsBackToRegularSubmit() {
+        // Given
+        AiGradingRequest aiGradingRequest = new AiGradingRequest(
+                "스프링 스터디", "Spring IoC에 대해 설명하시오.", "제어의 역전", List.of("제어의 역전"), command.answer());
+        ProblemSubmitResult submitResult = submitResult(true, "정답입니다.");
+
+        given(problemService.prepareEssayStreamGrading(command)).willReturn(aiGradingRequest);
+        given(openAiGradingService.streamGradingContent(aiGradingRequest))
+                .willReturn(Flux.error(new IllegalStateException("OpenAI 연결 실패")));
+        given(problemSubmitService.submitProblemAnswer(command)).willReturn(submitResult);
+
+        // When
+        List<ProblemSubmitStreamEvent> events = problemSubmitStreamService.submit(command).collectList().block();
+
+        // Then
+        assertThat(events).containsExactly(ProblemSubmitStreamEvent.result(submitResult));
+        verify(problemSubmitService, never()).submitGradedEssayAnswer(any(), any());
+    }
+
+    private ProblemSubmitResult submitResult(boolean isCorrect, String aiFeedback) {
+        return new ProblemSubmitResult(
+                isCorrect, "해설", aiFeedback, null, null, null, false, false, 10L, GradingStatus.COMPLETED);
+    }
+}
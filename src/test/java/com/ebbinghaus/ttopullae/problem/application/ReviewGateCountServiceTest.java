@@ -0,0 +1,125 @@
+package com.ebbinghaus.ttopullae.problem.application;
+
+import com.ebbinghaus.ttopullae.problem.domain.Problem;
+import com.ebbinghaus.ttopullae.problem.domain.ProblemReviewState;
+import com.ebbinghaus.ttopullae.problem.domain.ReviewGate;
+import com.ebbinghaus.ttopullae.problem.domain.repository.ReviewGateCountRepository;
+import com.ebbinghaus.ttopullae.studyroom.domain.RoomType;
+import com.ebbinghaus.ttopullae.studyroom.domain.StudyRoom;
+import com.ebbinghaus.ttopullae.user.domain.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReviewGateCountServiceTest {
+
+    private static final Long USER_ID = 1L;
+    private static final Long STUDY_ROOM_ID = 10L;
+
+    @InjectMocks
+    private ReviewGateCountService reviewGateCountService;
+
+    @Mock
+    private ReviewGateCountRepository reviewGateCountRepository;
+
+    private User user;
+    private Problem problem;
+
+    @BeforeEach
+    void setUp() {
+        user = User.builder().userId(USER_ID).email("test@example.com").password("password").username("테스터").build();
+        StudyRoom studyRoom = StudyRoom.builder().studyRoomId(STUDY_ROOM_ID).owner(user).roomType(RoomType.PERSONAL).build();
+        problem = Problem.builder().problemId(100L).studyRoom(studyRoom).creator(user).build();
+    }
+
+    @Test
+    @DisplayName("새 복습 상태는 현재 관문의 카운터만 1 증가")
+    void recordCreated_IncrementsGate() {
+        // given
+        given(reviewGateCountRepository.adjustCounts(USER_ID, STUDY_ROOM_ID, 1, 0, 0)).willReturn(1);
+
+        // when
+        reviewGateCountService.recordCreated(reviewState(ReviewGate.GATE_1));
+
+        // then
+        verify(reviewGateCountRepository).adjustCounts(USER_ID, STUDY_ROOM_ID, 1, 0, 0);
+        verify(reviewGateCountRepository, never()).insertIfAbsent(anyLong(), anyLong());
+        verify(reviewGateCountRepository, never()).recalculate(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("관문 전이는 이전 관문을 1 감소, 새 관문을 1 증가")
+    void recordTransition_MovesCount() {
+        // given
+        given(reviewGateCountRepository.adjustCounts(USER_ID, STUDY_ROOM_ID, 0, -1, 1)).willReturn(1);
+
+        // when
+        reviewGateCountService.recordTransition(reviewState(ReviewGate.GRADUATED), ReviewGate.GATE_2);
+
+        // then
+        verify(reviewGateCountRepository).adjustCounts(USER_ID, STUDY_ROOM_ID, 0, -1, 1);
+        verify(reviewGateCountRepository, never()).insertIfAbsent(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("관문이 바뀌지 않은 전이는 카운터를 갱신하지 않음")
+    void recordTransition_SameGate_NoOp() {
+        // when
+        reviewGateCountService.recordTransition(reviewState(ReviewGate.GATE_1), ReviewGate.GATE_1);
+
+        // then
+        verifyNoInteractions(reviewGateCountRepository);
+    }
+
+    @Test
+    @DisplayName("카운터 행이 없으면 충돌 없이 행을 만들고 실제 개수로 다시 계산")
+    void recordTransition_MissingRow_UpsertsAndRecalculates() {
+        // given: 다른 요청이 먼저 행을 만들었더라도 insertIfAbsent는 실패하지 않음
+        given(reviewGateCountRepository.adjustCounts(USER_ID, STUDY_ROOM_ID, -1, 1, 0)).willReturn(0);
+
+        // when
+        reviewGateCountService.recordTransition(reviewState(ReviewGate.GATE_2), ReviewGate.GATE_1);
+
+        // then
+        InOrder inOrder = inOrder(reviewGateCountRepository);
+        inOrder.verify(reviewGateCountRepository).insertIfAbsent(USER_ID, STUDY_ROOM_ID);
+        inOrder.verify(reviewGateCountRepository).recalculate(USER_ID, STUDY_ROOM_ID);
+    }
+
+    @Test
+    @DisplayName("일괄 생성된 복습 상태는 첫 관문 카운터를 한 번에 증가")
+    void recordCreatedInBulk_IncrementsGate1Once() {
+        // given
+        given(reviewGateCountRepository.adjustCounts(USER_ID, STUDY_ROOM_ID, 30, 0, 0)).willReturn(1);
+
+        // when
+        reviewGateCountService.recordCreatedInBulk(USER_ID, STUDY_ROOM_ID, 30);
+        reviewGateCountService.recordCreatedInBulk(USER_ID, STUDY_ROOM_ID, 0);
+
+        // then
+        verify(reviewGateCountRepository, times(1)).adjustCounts(anyLong(), anyLong(), anyInt(), anyInt(), anyInt());
+    }
+
+    private ProblemReviewState reviewState(ReviewGate gate) {
+        return ProblemReviewState.builder()
+                .user(user)
+                .problem(problem)
+                .gate(gate)
+                .nextReviewDate(LocalDate.now().plusDays(1))
+                .reviewCount(0)
+                .build();
+    }
+}
@@ -4,8 +4,10 @@ import com.ebbinghaus.ttopullae.problem.domain.Problem;
 import com.ebbinghaus.ttopullae.problem.domain.ProblemReviewState;
 import com.ebbinghaus.ttopullae.problem.domain.ProblemType;
 import com.ebbinghaus.ttopullae.problem.domain.ReviewGate;
+import com.ebbinghaus.ttopullae.problem.domain.ReviewSnapshotCheckpoint;
 import com.ebbinghaus.ttopullae.problem.domain.repository.ProblemRepository;
 import com.ebbinghaus.ttopullae.problem.domain.repository.ProblemReviewStateRepository;
+import com.ebbinghaus.ttopullae.problem.domain.repository.ReviewSnapshotCheckpointRepository;
 import com.ebbinghaus.ttopullae.studyroom.domain.RoomType;
 import com.ebbinghaus.ttopullae.studyroom.domain.StudyRoom;
 import com.ebbinghaus.ttopullae.studyroom.domain.repository.StudyRoomRepository;
@@ -16,11 +18,17 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.dao.QueryTimeoutException;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doThrow;
 
 @SpringBootTest
 @Transactional
@@ -29,9 +37,12 @@ class ReviewScheduleServiceTest {
     @Autowired
     private ReviewScheduleService reviewScheduleService;
 
-    @Autowired
+    @SpyBean
     private ProblemReviewStateRepository problemReviewStateRepository;
 
+    @Autowired
+    private ReviewSnapshotCheckpointRepository checkpointRepository;
+
     @Autowired
     private ProblemRepository problemRepository;
 
@@ -240,4 +251,179 @@ class ReviewScheduleServiceTest {
         assertThat(updated.getTodayReviewIncludedDate()).isNull();  // 스냅샷되지 않음
         assertThat(updated.getTodayReviewIncludedGate()).isNull();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("스냅샷 재개 - 체크포인트 이후 범위만 처리하고 완료 상태로 기록")
+    void createSnapshot_ResumeFromCheckpoint() {
+        // given
+        LocalDate today = LocalDate.now();
+        ProblemReviewState processedState = saveReviewState("JVM은 Java Virtual Machine의 약자이다.", today);
+        ProblemReviewState remainingState = saveReviewState("JDK에는 JRE가 포함된다.", today);
+
+        // 첫 번째 상태까지 처리한 뒤 중단된 작업
+        ReviewSnapshotCheckpoint checkpoint = ReviewSnapshotCheckpoint.start(
+                today, remainingState.getStateId(), LocalDateTime.now());
+        checkpoint.advance(processedState.getStateId(), 0, LocalDateTime.now());
+        checkpointRepository.save(checkpoint);
+
+        // when
+        reviewScheduleService.createDailyReviewSnapshot();
+
+        // then
+        assertThat(problemReviewStateRepository.findById(processedState.getStateId()).orElseThrow()
+                .getTodayReviewIncludedDate()).isNull();  // 이미 처리된 범위는 다시 처리하지 않음
+        assertThat(problemReviewStateRepository.findById(remainingState.getStateId()).orElseThrow()
+                .getTodayReviewIncludedDate()).isEqualTo(today);
+
+        ReviewSnapshotCheckpoint completed = checkpointRepository.findById(today).orElseThrow();
+        assertThat(completed.isCompleted()).isTrue();
+        assertThat(completed.getLastProcessedId()).isEqualTo(remainingState.getStateId());
+        assertThat(completed.getSnapshotCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("다른 서버가 점유 중인 스냅샷 작업은 처리하지 않음")
+    void createSnapshot_ClaimedByOtherNode_Skips() {
+        // given
+        LocalDate today = LocalDate.now();
+        ProblemReviewState reviewState = saveReviewState("JVM은 Java Virtual Machine의 약자이다.", today);
+
+        ReviewSnapshotCheckpoint checkpoint = ReviewSnapshotCheckpoint.builder()
+                .snapshotDate(today)
+                .maxStateId(reviewState.getStateId())
+                .lastProcessedId(0L)
+                .ownerId("other-node")
+                .leaseUntil(LocalDateTime.now().plusMinutes(5))
+                .startedAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+        checkpointRepository.save(checkpoint);
+
+        // when
+        reviewScheduleService.createDailyReviewSnapshot();
+
+        // then
+        assertThat(problemReviewStateRepository.findById(reviewState.getStateId()).orElseThrow()
+                .getTodayReviewIncludedDate()).isNull();
+        ReviewSnapshotCheckpoint current = checkpointRepository.findById(today).orElseThrow();
+        assertThat(current.isCompleted()).isFalse();
+        assertThat(current.getOwnerId()).isEqualTo("other-node");
+    }
+
+    @Test
+    @DisplayName("다른 서버의 점유가 만료되었으면 이어받아 완료")
+    void createSnapshot_ExpiredLease_TakesOver() {
+        // given
+        LocalDate today = LocalDate.now();
+        ProblemReviewState reviewState = saveReviewState("JVM은 Java Virtual Machine의 약자이다.", today);
+
+        ReviewSnapshotCheckpoint checkpoint = ReviewSnapshotCheckpoint.builder()
+                .snapshotDate(today)
+                .maxStateId(reviewState.getStateId())
+                .lastProcessedId(0L)
+                .ownerId("crashed-node")
+                .leaseUntil(LocalDateTime.now().minusMinutes(1))
+                .startedAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+        checkpointRepository.save(checkpoint);
+
+        // when
+        reviewScheduleService.createDailyReviewSnapshot();
+
+        // then
+        assertThat(problemReviewStateRepository.findById(reviewState.getStateId()).orElseThrow()
+                .getTodayReviewIncludedDate()).isEqualTo(today);
+        assertThat(checkpointRepository.findById(today).orElseThrow().isCompleted()).isTrue();
+    }
+
+    @Test
+    @DisplayName("주기적 확인 - 중단된 서버의 점유가 만료되었으면 이어받아 완료")
+    void resumeIncompleteSnapshot_ExpiredLease_TakesOver() {
+        // given
+        LocalDate today = LocalDate.now();
+        ProblemReviewState reviewState = saveReviewState("JVM은 Java Virtual Machine의 약자이다.", today);
+        saveCheckpoint(today, reviewState.getStateId(), "crashed-node", LocalDateTime.now().minusMinutes(1));
+
+        // when
+        reviewScheduleService.resumeIncompleteSnapshot();
+
+        // then
+        assertThat(problemReviewStateRepository.findById(reviewState.getStateId()).orElseThrow()
+                .getTodayReviewIncludedDate()).isEqualTo(today);
+        assertThat(checkpointRepository.findById(today).orElseThrow().isCompleted()).isTrue();
+    }
+
+    @Test
+    @DisplayName("주기적 확인 - 다른 서버의 점유가 유효하면 처리하지 않음")
+    void resumeIncompleteSnapshot_LiveLease_Skips() {
+        // given
+        LocalDate today = LocalDate.now();
+        ProblemReviewState reviewState = saveReviewState("JVM은 Java Virtual Machine의 약자이다.", today);
+        saveCheckpoint(today, reviewState.getStateId(), "other-node", LocalDateTime.now().plusMinutes(5));
+
+        // when
+        reviewScheduleService.resumeIncompleteSnapshot();
+
+        // then
+        assertThat(problemReviewStateRepository.findById(reviewState.getStateId()).orElseThrow()
+                .getTodayReviewIncludedDate()).isNull();
+        ReviewSnapshotCheckpoint checkpoint = checkpointRepository.findById(today).orElseThrow();
+        assertThat(checkpoint.isCompleted()).isFalse();
+        assertThat(checkpoint.getOwnerId()).isEqualTo("other-node");
+    }
+
+    @Test
+    @DisplayName("범위 처리 실패 시 점유를 해제하여 다음 확인 주기에 재시도")
+    void resumeIncompleteSnapshot_ChunkFailure_ReleasesLease() {
+        // given
+        LocalDate today = LocalDate.now();
+        ProblemReviewState reviewState = saveReviewState("JVM은 Java Virtual Machine의 약자이다.", today);
+        saveCheckpoint(today, reviewState.getStateId(), "crashed-node", LocalDateTime.now().minusMinutes(1));
+        doThrow(new QueryTimeoutException("timeout"))
+                .when(problemReviewStateRepository).snapshotTodayReviewProblemsInRange(any(), anyLong(), anyLong());
+
+        // when
+        reviewScheduleService.resumeIncompleteSnapshot();
+
+        // then
+        ReviewSnapshotCheckpoint checkpoint = checkpointRepository.findById(today).orElseThrow();
+        assertThat(checkpoint.isCompleted()).isFalse();
+        assertThat(checkpoint.getLastProcessedId()).isZero();
+        assertThat(checkpoint.getOwnerId()).isNull();
+        assertThat(checkpoint.getLeaseUntil()).isNull();
+    }
+
+    private void saveCheckpoint(LocalDate today, Long maxStateId, String ownerId, LocalDateTime leaseUntil) {
+        checkpointRepository.save(ReviewSnapshotCheckpoint.builder()
+                .snapshotDate(today)
+                .maxStateId(maxStateId)
+                .lastProcessedId(0L)
+                .ownerId(ownerId)
+                .leaseUntil(leaseUntil)
+                .startedAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build());
+    }
+
+    private ProblemReviewState saveReviewState(String question, LocalDate nextReviewDate) {
+        Problem problem = Problem.builder()
+                .studyRoom(testStudyRoom)
+                .creator(testUser)
+                .problemType(ProblemType.OX)
+                .question(question)
+                .explanation("맞습니다.")
+                .answerBoolean(true)
+                .build();
+        problemRepository.save(problem);
+
+        ProblemReviewState reviewState = ProblemReviewState.builder()
+                .user(testUser)
+                .problem(problem)
+                .gate(ReviewGate.GATE_1)
+                .nextReviewDate(nextReviewDate)
+                .reviewCount(0)
+                .build();
+        return problemReviewStateRepository.save(reviewState);
+    }
+}
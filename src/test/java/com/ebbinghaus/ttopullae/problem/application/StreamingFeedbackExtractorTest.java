@@ -0,0 +1,40 @@
+package com.ebbinghaus.ttopullae.problem.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 스트리밍 피드백 추출기 단위 테스트
+ */
+class StreamingFeedbackExtractorTest {
+
+  @Test
+  @DisplayName("조각으로 나뉘어 도착한 JSON에서 feedback 값만 순서대로 추출한다")
+  void append_ExtractsFeedbackIncrementally() {
+    // given
+    StreamingFeedbackExtractor extractor = new StreamingFeedbackExtractor();
+
+    // when & then
+    assertThat(extractor.append("{\"isCorrect\": true, \"feed")).isEmpty();
+    assertThat(extractor.append("back\": \"정답")).isEqualTo("정답");
+    assertThat(extractor.append("입니다.\", \"missingKeywords\": []")).isEqualTo("입니다.");
+    assertThat(extractor.append(", \"scoringReason\": \"근거\"}")).isEmpty();
+    assertThat(extractor.content())
+        .isEqualTo("{\"isCorrect\": true, \"feedback\": \"정답입니다.\", \"missingKeywords\": [], \"scoringReason\": \"근거\"}");
+  }
+
+  @Test
+  @DisplayName("조각 경계에서 잘린 이스케이프 시퀀스는 다음 조각이 도착한 뒤 복원한다")
+  void append_SplitEscapeSequence() {
+    // given
+    StreamingFeedbackExtractor extractor = new StreamingFeedbackExtractor();
+    extractor.append("{\"feedback\":\"첫 줄\\");
+
+    // when & then
+    assertThat(extractor.append("n'컨테이너' \\u")).isEqualTo("\n'컨테이너' ");
+    assertThat(extractor.append("AC00\\\"끝\\\"\"")).isEqualTo("가\"끝\"");
+    assertThat(extractor.append("}")).isEmpty();
+  }
+}
@@ -0,0 +1,162 @@
+package com.ebbinghaus.ttopullae.problem.application;
+
+import com.ebbinghaus.ttopullae.problem.domain.Problem;
+import com.ebbinghaus.ttopullae.problem.domain.ProblemReviewState;
+import com.ebbinghaus.ttopullae.problem.domain.ProblemType;
+import com.ebbinghaus.ttopullae.problem.domain.ReviewGate;
+import com.ebbinghaus.ttopullae.problem.domain.repository.ProblemRepository;
+import com.ebbinghaus.ttopullae.problem.domain.repository.ProblemReviewStateRepository;
+import com.ebbinghaus.ttopullae.studyroom.domain.RoomType;
+import com.ebbinghaus.ttopullae.studyroom.domain.StudyRoom;
+import com.ebbinghaus.ttopullae.studyroom.domain.repository.StudyRoomRepository;
+import com.ebbinghaus.ttopullae.user.domain.User;
+import com.ebbinghaus.ttopullae.user.domain.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 스냅샷은 별도 트랜잭션에서 커밋되므로 테스트 데이터도 커밋한 뒤 테스트가 끝나면 삭제합니다.
+ */
+@SpringBootTest(properties = "review.snapshot.mode=lazy")
+class TodayReviewSnapshotServiceTest {
+
+    @Autowired
+    private TodayReviewSnapshotService todayReviewSnapshotService;
+
+    @Autowired
+    private ProblemReviewStateRepository problemReviewStateRepository;
+
+    @Autowired
+    private ProblemRepository problemRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private StudyRoomRepository studyRoomRepository;
+
+    private User testUser;
+    private User otherUser;
+    private StudyRoom testStudyRoom;
+
+    @BeforeEach
+    void setUp() {
+        testUser = userRepository.save(User.builder()
+                .email("test@example.com")
+                .password("password123")
+                .username("테스트유저")
+                .receiveNotifications(true)
+                .build());
+        otherUser = userRepository.save(User.builder()
+                .email("other@example.com")
+                .password("password123")
+                .username("다른유저")
+                .receiveNotifications(true)
+                .build());
+
+        testStudyRoom = studyRoomRepository.save(StudyRoom.builder()
+                .owner(testUser)
+                .roomType(RoomType.PERSONAL)
+                .name("자바 스터디")
+                .description("자바 개념 정리")
+                .category("프로그래밍")
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        problemReviewStateRepository.deleteAllInBatch();
+        problemRepository.deleteAllInBatch();
+        studyRoomRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("첫 접근 시 해당 사용자의 오늘 복습 문제만 스냅샷")
+    void ensureTodaySnapshot_FirstAccess_SnapshotsOnlyThatUser() {
+        // given
+        LocalDate today = LocalDate.now();
+        ProblemReviewState dueState = saveReviewState(testUser, ReviewGate.GATE_1, today);
+        ProblemReviewState futureState = saveReviewState(testUser, ReviewGate.GATE_1, today.plusDays(1));
+        ProblemReviewState otherUserState = saveReviewState(otherUser, ReviewGate.GATE_2, today);
+
+        // when
+        int snapshotCount = todayReviewSnapshotService.ensureTodaySnapshot(testUser.getUserId(), today);
+
+        // then
+        assertThat(snapshotCount).isEqualTo(1);
+
+        ProblemReviewState snapshotted = problemReviewStateRepository.findById(dueState.getStateId()).orElseThrow();
+        assertThat(snapshotted.getTodayReviewIncludedDate()).isEqualTo(today);
+        assertThat(snapshotted.getTodayReviewIncludedGate()).isEqualTo(ReviewGate.GATE_1);
+        assertThat(problemReviewStateRepository.findById(futureState.getStateId()).orElseThrow()
+                .getTodayReviewIncludedDate()).isNull();
+        assertThat(problemReviewStateRepository.findById(otherUserState.getStateId()).orElseThrow()
+                .getTodayReviewIncludedDate()).isNull();  // 접근하지 않은 사용자는 스냅샷하지 않음
+        assertThat(userRepository.findById(testUser.getUserId()).orElseThrow()
+                .getReviewSnapshotDate()).isEqualTo(today);
+    }
+
+    @Test
+    @DisplayName("같은 날 두 번째 접근은 스냅샷을 다시 만들지 않음")
+    void ensureTodaySnapshot_SecondAccess_NoOp() {
+        // given
+        LocalDate today = LocalDate.now();
+        saveReviewState(testUser, ReviewGate.GATE_1, today);
+        todayReviewSnapshotService.ensureTodaySnapshot(testUser.getUserId(), today);
+
+        // 첫 접근 이후 새로 복습 대상이 된 문제
+        saveReviewState(testUser, ReviewGate.GATE_2, today);
+
+        // when
+        int snapshotCount = todayReviewSnapshotService.ensureTodaySnapshot(testUser.getUserId(), today);
+
+        // then
+        assertThat(snapshotCount).isZero();
+    }
+
+    @Test
+    @DisplayName("다음 날 첫 접근 시 스냅샷을 다시 생성")
+    void ensureTodaySnapshot_NextDay_SnapshotsAgain() {
+        // given
+        LocalDate today = LocalDate.now();
+        LocalDate tomorrow = today.plusDays(1);
+        ProblemReviewState state = saveReviewState(testUser, ReviewGate.GATE_1, today);
+        todayReviewSnapshotService.ensureTodaySnapshot(testUser.getUserId(), today);
+
+        // when
+        int snapshotCount = todayReviewSnapshotService.ensureTodaySnapshot(testUser.getUserId(), tomorrow);
+
+        // then
+        assertThat(snapshotCount).isEqualTo(1);  // 풀지 않은 문제는 이월
+        assertThat(problemReviewStateRepository.findById(state.getStateId()).orElseThrow()
+                .getTodayReviewIncludedDate()).isEqualTo(tomorrow);
+    }
+
+    private ProblemReviewState saveReviewState(User user, ReviewGate gate, LocalDate nextReviewDate) {
+        Problem problem = problemRepository.save(Problem.builder()
+                .studyRoom(testStudyRoom)
+                .creator(testUser)
+                .problemType(ProblemType.OX)
+                .question("JVM은 Java Virtual Machine의 약자이다.")
+                .explanation("맞습니다.")
+                .answerBoolean(true)
+                .build());
+
+        return problemReviewStateRepository.save(ProblemReviewState.builder()
+                .user(user)
+                .problem(problem)
+                .gate(gate)
+                .nextReviewDate(nextReviewDate)
+                .reviewCount(0)
+                .build());
+    }
+}
@@ -23,6 +23,7 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
@@ -179,6 +180,59 @@ class AiGradingControllerTest {
         .andExpect(jsonPath("$.status").value(400));
   }
 
+  @Test
+  @DisplayName("AI 일괄 채점 성공 - 요청 순서대로 결과 반환")
+  void batchAiGrading_Success() throws Exception {
+    // given
+    Map<String, Object> first = new HashMap<>();
+    first.put("topic", "Spring Framework");
+    first.put("question", "IoC란 무엇인가?");
+    first.put("modelAnswer", "제어의 역전으로, 객체의 생성과 관리를 개발자가 아닌 컨테이너가 담당한다.");
+    first.put("keywords", List.of("제어의 역전", "컨테이너"));
+    first.put("userAnswer", "제어의 역전이며, 스프링 컨테이너가 객체를 관리합니다.");
+
+    Map<String, Object> second = new HashMap<>(first);
+    second.put("userAnswer", "객체를 자동으로 생성해주는 기능입니다.");
+
+    Map<String, Object> request = Map.of("items", List.of(first, second));
+
+    when(aiGradingService.gradeSubjectiveAnswers(anyList()))
+        .thenReturn(List.of(
+            new AiGradingResult(true, "정답입니다.", List.of(), "모든 핵심 키워드가 포함되었습니다."),
+            new AiGradingResult(false, "'제어의 역전'에 대한 설명이 누락되었습니다.", List.of("제어의 역전"),
+                "'제어의 역전' 개념이 누락되었습니다.")
+        ));
+
+    // when & then
+    mockMvc.perform(post("/api/grading/batch")
+            .cookie(new Cookie("accessToken", accessToken))
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(request)))
+        .andDo(print())
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.results.length()").value(2))
+        .andExpect(jsonPath("$.results[0].isCorrect").value(true))
+        .andExpect(jsonPath("$.results[1].isCorrect").value(false))
+        .andExpect(jsonPath("$.results[1].missingKeywords[0]").value("제어의 역전"));
+  }
+
+  @Test
+  @DisplayName("AI 일괄 채점 실패 - 채점 항목 비어있음")
+  void batchAiGrading_EmptyItems() throws Exception {
+    // given
+    Map<String, Object> request = Map.of("items", List.of());
+
+    // when & then
+    mockMvc.perform(post("/api/grading/batch")
+            .cookie(new Cookie("accessToken", accessToken))
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(request)))
+        .andDo(print())
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.title").value("유효하지 않은 입력값"))
+        .andExpect(jsonPath("$.status").value(400));
+  }
+
   @Test
   @DisplayName("AI 채점 테스트 실패 - 인증 토큰 없음")
   void testAiGrading_Unauthorized() throws Exception {
@@ -32,6 +32,7 @@ import java.util.Map;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
@@ -141,7 +142,9 @@ class ProblemSubmitControllerTest {
                 .andExpect(jsonPath("$.reviewCount").value(1))
                 .andExpect(jsonPath("$.nextReviewDate").value(today.plusDays(7).toString()))
                 .andExpect(jsonPath("$.isFirstAttempt").value(true))
-                .andExpect(jsonPath("$.isReviewStateChanged").value(true));
+                .andExpect(jsonPath("$.isReviewStateChanged").value(true))
+                .andExpect(jsonPath("$.attemptId").isNumber())
+                .andExpect(jsonPath("$.gradingStatus").value("COMPLETED"));
 
         // DB 검증
         ProblemReviewState updatedState = problemReviewStateRepository.findByUserAndProblem(testUser, problem).get();
@@ -352,6 +355,74 @@ class ProblemSubmitControllerTest {
                 .andExpect(jsonPath("$.title").value("문제를 찾을 수 없음"));
     }
 
+    @Test
+    @DisplayName("풀이 채점 결과 조회 - 제출한 풀이의 채점 결과와 현재 복습 상태 반환")
+    void getAttemptResult_Success() throws Exception {
+        // Given: 오늘의 복습 문제 첫 시도 정답 제출
+        Problem problem = createMcqProblem();
+        ProblemReviewState reviewState = ProblemReviewState.builder()
+                .user(testUser)
+                .problem(problem)
+                .gate(ReviewGate.GATE_1)
+                .nextReviewDate(today)
+                .reviewCount(0)
+                .todayReviewIncludedDate(today)
+                .todayReviewIncludedGate(ReviewGate.GATE_1)
+                .todayReviewFirstAttemptDate(null)
+                .build();
+        problemReviewStateRepository.save(reviewState);
+
+        Map<String, Object> request = new HashMap<>();
+        request.put("answer", "3");
+        mockMvc.perform(post("/api/{problemId}/submit", problem.getProblemId())
+                        .cookie(new Cookie("accessToken", accessToken))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk());
+
+        Long attemptId = problemAttemptRepository.findAll().getFirst().getAttemptId();
+
+        // When & Then
+        mockMvc.perform(get("/api/attempts/{attemptId}", attemptId)
+                        .cookie(new Cookie("accessToken", accessToken)))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.attemptId").value(attemptId.intValue()))
+                .andExpect(jsonPath("$.gradingStatus").value("COMPLETED"))
+                .andExpect(jsonPath("$.isCorrect").value(true))
+                .andExpect(jsonPath("$.currentGate").value("GATE_2"))
+                .andExpect(jsonPath("$.isFirstAttempt").value(true))
+                .andExpect(jsonPath("$.isReviewStateChanged").value(true));
+    }
+
+    @Test
+    @DisplayName("풀이 채점 결과 조회 실패 - 타인의 풀이 기록")
+    void getAttemptResult_Fail_OtherUsersAttempt() throws Exception {
+        // Given
+        Problem problem = createMcqProblem();
+        ProblemAttempt attempt = problemAttemptRepository.save(ProblemAttempt.builder()
+                .user(testUser)
+                .problem(problem)
+                .submittedChoiceIndex(3)
+                .isCorrect(true)
+                .build());
+
+        User otherUser = userRepository.save(User.builder()
+                .email("other@example.com")
+                .password("password123")
+                .username("다른유저")
+                .receiveNotifications(true)
+                .build());
+        String otherToken = jwtTokenProvider.generateToken(otherUser.getUserId());
+
+        // When & Then
+        mockMvc.perform(get("/api/attempts/{attemptId}", attempt.getAttemptId())
+                        .cookie(new Cookie("accessToken", otherToken)))
+                .andDo(print())
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.title").value("풀이 기록을 찾을 수 없음"));
+    }
+
     // Helper methods
     private Problem createMcqProblem() {
         Problem problem = Problem.builder()
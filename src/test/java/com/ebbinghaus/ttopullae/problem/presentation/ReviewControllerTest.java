@@ -135,6 +135,7 @@ class ReviewControllerTest {
                 .nextReviewDate(today)
                 .reviewCount(1)
                 .todayReviewFirstAttemptDate(today)
+                .todayReviewFirstAttemptCorrect(true)
                 .build();
         problemReviewStateRepository.save(reviewState2);
 
@@ -0,0 +1,102 @@
+package com.ebbinghaus.ttopullae.studyroom.application;
+
+import com.ebbinghaus.ttopullae.studyroom.domain.RoomType;
+import com.ebbinghaus.ttopullae.studyroom.domain.StudyRoom;
+import com.ebbinghaus.ttopullae.studyroom.domain.repository.StudyRoomMemberRepository;
+import com.ebbinghaus.ttopullae.user.domain.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CaffeineStudyRoomMembershipCacheTest {
+
+    private static final String METRIC_NAME = "study-room.membership.cache";
+
+    @Mock
+    private StudyRoomMemberRepository studyRoomMemberRepository;
+
+    private LocalMembershipInvalidationChannel invalidationChannel;
+    private SimpleMeterRegistry meterRegistry;
+    private CaffeineStudyRoomMembershipCache membershipCache;
+
+    private StudyRoom groupRoom;
+    private User member;
+    private User outsider;
+
+    @BeforeEach
+    void setUp() {
+        invalidationChannel = new LocalMembershipInvalidationChannel();
+        meterRegistry = new SimpleMeterRegistry();
+        membershipCache = new CaffeineStudyRoomMembershipCache(
+                studyRoomMemberRepository, invalidationChannel, meterRegistry, 1000, Duration.ofMinutes(10));
+
+        User owner = User.builder().userId(1L).email("owner@example.com").password("password").username("방장").build();
+        member = User.builder().userId(5L).email("member@example.com").password("password").username("멤버").build();
+        outsider = User.builder().userId(7L).email("outsider@example.com").password("password").username("외부인").build();
+        groupRoom = StudyRoom.builder().studyRoomId(10L).owner(owner).roomType(RoomType.GROUP).build();
+    }
+
+    @Test
+    @DisplayName("스터디룸의 멤버 목록을 한 번 조회한 뒤에는 캐시에서 멤버 여부를 판별")
+    void isActiveMember_CacheHit() {
+        // given
+        given(studyRoomMemberRepository.findActiveUserIdsByStudyRoomId(10L)).willReturn(List.of(9L, 5L, 3L));
+
+        // when
+        boolean first = membershipCache.isActiveMember(member, groupRoom);
+        boolean second = membershipCache.isActiveMember(outsider, groupRoom);
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+        verify(studyRoomMemberRepository, times(1)).findActiveUserIdsByStudyRoomId(10L);
+        assertThat(meterRegistry.get(METRIC_NAME).tag("result", "miss").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get(METRIC_NAME).tag("result", "hit").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("무효화 채널로 스터디룸 ID가 전달되면 다음 조회에서 멤버 목록을 다시 조회")
+    void isActiveMember_EvictedByChannel() {
+        // given: 가입 전에는 멤버가 아니었다가, 가입 커밋 후 무효화 메시지 수신
+        given(studyRoomMemberRepository.findActiveUserIdsByStudyRoomId(10L))
+                .willReturn(List.of(3L))
+                .willReturn(List.of(3L, 7L));
+        assertThat(membershipCache.isActiveMember(outsider, groupRoom)).isFalse();
+
+        // when
+        invalidationChannel.publish(10L);
+        boolean joined = membershipCache.isActiveMember(outsider, groupRoom);
+
+        // then
+        assertThat(joined).isTrue();
+        verify(studyRoomMemberRepository, times(2)).findActiveUserIdsByStudyRoomId(10L);
+    }
+
+    @Test
+    @DisplayName("다른 스터디룸의 무효화 메시지는 캐시된 멤버 목록에 영향을 주지 않음")
+    void isActiveMember_OtherRoomEvicted() {
+        // given
+        given(studyRoomMemberRepository.findActiveUserIdsByStudyRoomId(10L)).willReturn(List.of(5L));
+        membershipCache.isActiveMember(member, groupRoom);
+
+        // when
+        invalidationChannel.publish(11L);
+        boolean stillMember = membershipCache.isActiveMember(member, groupRoom);
+
+        // then
+        assertThat(stillMember).isTrue();
+        verify(studyRoomMemberRepository, times(1)).findActiveUserIdsByStudyRoomId(10L);
+    }
+}
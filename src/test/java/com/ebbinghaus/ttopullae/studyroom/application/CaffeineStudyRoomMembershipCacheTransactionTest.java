@@ -0,0 +1,79 @@
+package com.ebbinghaus.ttopullae.studyroom.application;
+
+import com.ebbinghaus.ttopullae.studyroom.domain.RoomType;
+import com.ebbinghaus.ttopullae.studyroom.domain.StudyRoom;
+import com.ebbinghaus.ttopullae.studyroom.domain.StudyRoomMember;
+import com.ebbinghaus.ttopullae.studyroom.domain.repository.StudyRoomMemberRepository;
+import com.ebbinghaus.ttopullae.studyroom.domain.repository.StudyRoomRepository;
+import com.ebbinghaus.ttopullae.user.domain.User;
+import com.ebbinghaus.ttopullae.user.domain.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 커넥션 풀에 커넥션이 하나뿐일 때, 트랜잭션 안의 캐시 미스가 커넥션을 추가로 기다리지 않는지 확인합니다.
+ * (추가 커넥션을 요청하면 connection-timeout 후 예외가 발생)
+ */
+@SpringBootTest(properties = {
+        "study-room.membership-cache.backend=caffeine",
+        "spring.datasource.hikari.maximum-pool-size=1",
+        "spring.datasource.hikari.connection-timeout=2000"
+})
+@Transactional
+class CaffeineStudyRoomMembershipCacheTransactionTest {
+
+    @Autowired
+    private StudyRoomMembershipCache studyRoomMembershipCache;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private StudyRoomRepository studyRoomRepository;
+
+    @Autowired
+    private StudyRoomMemberRepository studyRoomMemberRepository;
+
+    @Test
+    @DisplayName("트랜잭션 안의 캐시 미스는 호출한 트랜잭션의 커넥션으로 멤버 목록을 조회")
+    void isActiveMember_MissInsideTransaction_UsesCallerConnection() {
+        // given
+        User owner = userRepository.save(User.builder()
+                .email("owner@example.com")
+                .password("password123")
+                .username("방장")
+                .receiveNotifications(true)
+                .build());
+        User member = userRepository.save(User.builder()
+                .email("member@example.com")
+                .password("password123")
+                .username("멤버")
+                .receiveNotifications(true)
+                .build());
+        StudyRoom groupRoom = studyRoomRepository.save(StudyRoom.builder()
+                .owner(owner)
+                .roomType(RoomType.GROUP)
+                .name("알고리즘 스터디")
+                .description("알고리즘 문제 풀이")
+                .category("알고리즘")
+                .joinCode("ABC12345")
+                .build());
+        studyRoomMemberRepository.save(StudyRoomMember.builder()
+                .user(member)
+                .studyRoom(groupRoom)
+                .active(true)
+                .build());
+
+        // when
+        boolean isMember = studyRoomMembershipCache.isActiveMember(member, groupRoom);
+
+        // then
+        assertThat(studyRoomMembershipCache).isInstanceOf(CaffeineStudyRoomMembershipCache.class);
+        assertThat(isMember).isTrue();
+    }
+}
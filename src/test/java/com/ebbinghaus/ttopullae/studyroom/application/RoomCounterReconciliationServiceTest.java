@@ -0,0 +1,186 @@
+package com.ebbinghaus.ttopullae.studyroom.application;
+
+import com.ebbinghaus.ttopullae.problem.domain.Problem;
+import com.ebbinghaus.ttopullae.problem.domain.ProblemReviewState;
+import com.ebbinghaus.ttopullae.problem.domain.ProblemType;
+import com.ebbinghaus.ttopullae.problem.domain.ReviewGate;
+import com.ebbinghaus.ttopullae.problem.domain.ReviewGateCount;
+import com.ebbinghaus.ttopullae.problem.domain.repository.ProblemRepository;
+import com.ebbinghaus.ttopullae.problem.domain.repository.ProblemReviewStateRepository;
+import com.ebbinghaus.ttopullae.problem.domain.repository.ReviewGateCountRepository;
+import com.ebbinghaus.ttopullae.studyroom.domain.RoomType;
+import com.ebbinghaus.ttopullae.studyroom.domain.StudyRoom;
+import com.ebbinghaus.ttopullae.studyroom.domain.StudyRoomMember;
+import com.ebbinghaus.ttopullae.studyroom.domain.repository.StudyRoomMemberRepository;
+import com.ebbinghaus.ttopullae.studyroom.domain.repository.StudyRoomRepository;
+import com.ebbinghaus.ttopullae.user.domain.User;
+import com.ebbinghaus.ttopullae.user.domain.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+class RoomCounterReconciliationServiceTest {
+
+    @Autowired
+    private RoomCounterReconciliationService reconciliationService;
+
+    @Autowired
+    private StudyRoomRepository studyRoomRepository;
+
+    @Autowired
+    private StudyRoomMemberRepository studyRoomMemberRepository;
+
+    @Autowired
+    private ProblemRepository problemRepository;
+
+    @Autowired
+    private ProblemReviewStateRepository problemReviewStateRepository;
+
+    @Autowired
+    private ReviewGateCountRepository reviewGateCountRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User owner;
+    private User member;
+    private StudyRoom groupRoom;
+
+    @BeforeEach
+    void setUp() {
+        owner = userRepository.save(User.builder()
+                .email("owner@example.com")
+                .password("password123")
+                .username("방장")
+                .receiveNotifications(true)
+                .build());
+        member = userRepository.save(User.builder()
+                .email("member@example.com")
+                .password("password123")
+                .username("멤버")
+                .receiveNotifications(true)
+                .build());
+
+        // 카운터를 거치지 않고 저장한 데이터 (카운터 값이 실제 개수와 어긋난 상태)
+        groupRoom = studyRoomRepository.save(StudyRoom.builder()
+                .owner(owner)
+                .roomType(RoomType.GROUP)
+                .name("알고리즘 스터디")
+                .description("매일 알고리즘 풀이")
+                .category("알고리즘")
+                .joinCode("ABC12345")
+                .problemCount(7)
+                .build());
+        saveMember(owner, true);
+        saveMember(member, true);
+        saveMember(userRepository.save(User.builder()
+                .email("left@example.com")
+                .password("password123")
+                .username("탈퇴멤버")
+                .receiveNotifications(true)
+                .build()), false);
+    }
+
+    @Test
+    @DisplayName("스터디룸의 문제 수와 활성 멤버 수를 실제 개수로 복구")
+    void reconcile_RepairsStudyRoomCounters() {
+        // given
+        saveReviewState(saveProblem(), owner, ReviewGate.GATE_1);
+        saveReviewState(saveProblem(), owner, ReviewGate.GATE_2);
+
+        // when
+        reconciliationService.reconcile();
+        entityManager.clear();
+
+        // then
+        StudyRoom reconciled = studyRoomRepository.findById(groupRoom.getStudyRoomId()).orElseThrow();
+        assertThat(reconciled.getProblemCount()).isEqualTo(2);
+        assertThat(reconciled.getActiveMemberCount()).isEqualTo(2);  // 비활성 멤버 제외
+    }
+
+    @Test
+    @DisplayName("카운터 행이 없는 사용자는 행을 만들고, 어긋난 관문 분포는 실제 개수로 복구")
+    void reconcile_RepairsGateCounts() {
+        // given
+        Problem problem1 = saveProblem();
+        Problem problem2 = saveProblem();
+        Problem problem3 = saveProblem();
+        saveReviewState(problem1, owner, ReviewGate.GATE_1);
+        saveReviewState(problem2, owner, ReviewGate.GRADUATED);
+        saveReviewState(problem3, owner, ReviewGate.GRADUATED);
+        saveReviewState(problem1, member, ReviewGate.GATE_2);
+
+        // 방장의 카운터는 어긋나 있고, 멤버의 카운터 행은 없음
+        reviewGateCountRepository.save(ReviewGateCount.builder()
+                .user(owner)
+                .studyRoom(groupRoom)
+                .gate1Count(5)
+                .graduatedCount(0)
+                .build());
+
+        // when
+        reconciliationService.reconcile();
+        entityManager.clear();
+
+        // then
+        ReviewGateCount ownerCount = findGateCount(owner);
+        assertThat(ownerCount.getGate1Count()).isEqualTo(1);
+        assertThat(ownerCount.getGate2Count()).isZero();
+        assertThat(ownerCount.getGraduatedCount()).isEqualTo(2);
+
+        ReviewGateCount memberCount = findGateCount(member);
+        assertThat(memberCount.getGate1Count()).isZero();
+        assertThat(memberCount.getGate2Count()).isEqualTo(1);
+        assertThat(memberCount.getGraduatedCount()).isZero();
+    }
+
+    private ReviewGateCount findGateCount(User user) {
+        List<ReviewGateCount> counts = reviewGateCountRepository.findAllByUserIdAndStudyRoomIds(
+                user.getUserId(), List.of(groupRoom.getStudyRoomId()));
+        assertThat(counts).hasSize(1);
+        return counts.get(0);
+    }
+
+    private void saveMember(User user, boolean active) {
+        studyRoomMemberRepository.save(StudyRoomMember.builder()
+                .user(user)
+                .studyRoom(groupRoom)
+                .active(active)
+                .build());
+    }
+
+    private Problem saveProblem() {
+        return problemRepository.save(Problem.builder()
+                .studyRoom(groupRoom)
+                .creator(owner)
+                .problemType(ProblemType.OX)
+                .question("JVM은 Java Virtual Machine의 약자이다.")
+                .explanation("맞습니다.")
+                .answerBoolean(true)
+                .build());
+    }
+
+    private void saveReviewState(Problem problem, User user, ReviewGate gate) {
+        problemReviewStateRepository.save(ProblemReviewState.builder()
+                .user(user)
+                .problem(problem)
+                .gate(gate)
+                .nextReviewDate(LocalDate.now().plusDays(1))
+                .reviewCount(0)
+                .build());
+    }
+}
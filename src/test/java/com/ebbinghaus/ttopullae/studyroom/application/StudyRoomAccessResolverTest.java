@@ -0,0 +1,92 @@
+package com.ebbinghaus.ttopullae.studyroom.application;
+
+import com.ebbinghaus.ttopullae.studyroom.domain.RoomType;
+import com.ebbinghaus.ttopullae.studyroom.domain.StudyRoom;
+import com.ebbinghaus.ttopullae.studyroom.domain.StudyRoomRole;
+import com.ebbinghaus.ttopullae.studyroom.domain.repository.StudyRoomMemberRepository;
+import com.ebbinghaus.ttopullae.user.domain.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StudyRoomAccessResolverTest {
+
+    @Mock
+    private StudyRoomMemberRepository studyRoomMemberRepository;
+
+    private StudyRoomAccessResolver studyRoomAccessResolver;
+
+    private User owner;
+    private User member;
+
+    @BeforeEach
+    void setUp() {
+        studyRoomAccessResolver = new StudyRoomAccessResolver(new NoOpStudyRoomMembershipCache(studyRoomMemberRepository));
+        owner = User.builder().userId(1L).email("owner@example.com").password("password").username("방장").build();
+        member = User.builder().userId(2L).email("member@example.com").password("password").username("멤버").build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("개인 공부방은 멤버십을 조회하지 않고 소유자 여부로 판별")
+    void resolveRole_PersonalRoom() {
+        // given
+        StudyRoom personalRoom = StudyRoom.builder().studyRoomId(1L).owner(owner).roomType(RoomType.PERSONAL).build();
+
+        // when & then
+        assertThat(studyRoomAccessResolver.resolveRole(owner, personalRoom)).isEqualTo(StudyRoomRole.OWNER);
+        assertThat(studyRoomAccessResolver.resolveRole(member, personalRoom)).isEqualTo(StudyRoomRole.NONE);
+        verify(studyRoomMemberRepository, never()).existsByUserAndStudyRoomAndActive(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("한 요청 안에서는 같은 (사용자, 그룹 스터디)의 멤버십을 한 번만 조회")
+    void resolveRole_GroupRoom_ReusedWithinRequest() {
+        // given
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        StudyRoom groupRoom = StudyRoom.builder().studyRoomId(2L).owner(owner).roomType(RoomType.GROUP).build();
+        given(studyRoomMemberRepository.existsByUserAndStudyRoomAndActive(member, groupRoom, true)).willReturn(true);
+
+        // when
+        StudyRoomRole first = studyRoomAccessResolver.resolveRole(member, groupRoom);
+        StudyRoomRole second = studyRoomAccessResolver.resolveRole(member, groupRoom);
+
+        // then
+        assertThat(first).isEqualTo(StudyRoomRole.MEMBER);
+        assertThat(second).isEqualTo(StudyRoomRole.MEMBER);
+        verify(studyRoomMemberRepository, times(1)).existsByUserAndStudyRoomAndActive(member, groupRoom, true);
+    }
+
+    @Test
+    @DisplayName("웹 요청 밖에서는 판별 결과를 보관하지 않고 매번 조회")
+    void resolveRole_GroupRoom_OutsideRequest() {
+        // given
+        StudyRoom groupRoom = StudyRoom.builder().studyRoomId(2L).owner(owner).roomType(RoomType.GROUP).build();
+        given(studyRoomMemberRepository.existsByUserAndStudyRoomAndActive(member, groupRoom, true)).willReturn(false);
+
+        // when
+        studyRoomAccessResolver.resolveRole(member, groupRoom);
+        StudyRoomRole role = studyRoomAccessResolver.resolveRole(member, groupRoom);
+
+        // then
+        assertThat(role).isEqualTo(StudyRoomRole.NONE);
+        verify(studyRoomMemberRepository, times(2)).existsByUserAndStudyRoomAndActive(member, groupRoom, true);
+    }
+}
@@ -2,14 +2,15 @@ package com.ebbinghaus.ttopullae.studyroom.application;
 
 import com.ebbinghaus.ttopullae.global.exception.ApplicationException;
 import com.ebbinghaus.ttopullae.global.util.JoinCodeGenerator;
+import com.ebbinghaus.ttopullae.problem.domain.LatestProblemAttempt;
 import com.ebbinghaus.ttopullae.problem.domain.Problem;
-import com.ebbinghaus.ttopullae.problem.domain.ProblemAttempt;
 import com.ebbinghaus.ttopullae.problem.domain.ProblemReviewState;
 import com.ebbinghaus.ttopullae.problem.domain.ProblemType;
 import com.ebbinghaus.ttopullae.problem.domain.ReviewGate;
-import com.ebbinghaus.ttopullae.problem.domain.repository.ProblemAttemptRepository;
+import com.ebbinghaus.ttopullae.problem.domain.ReviewGateCount;
+import com.ebbinghaus.ttopullae.problem.domain.repository.LatestProblemAttemptRepository;
 import com.ebbinghaus.ttopullae.problem.domain.repository.ProblemRepository;
-import com.ebbinghaus.ttopullae.problem.domain.repository.ProblemReviewStateRepository;
+import com.ebbinghaus.ttopullae.problem.domain.repository.ReviewGateCountRepository;
 import com.ebbinghaus.ttopullae.problem.domain.repository.dto.ProblemWithMyReviewDto;
 import com.ebbinghaus.ttopullae.studyroom.application.dto.GroupRoomJoinCommand;
 import com.ebbinghaus.ttopullae.studyroom.application.dto.GroupRoomJoinResult;
@@ -17,8 +18,10 @@ import com.ebbinghaus.ttopullae.studyroom.application.dto.GroupRoomListResult;
 import com.ebbinghaus.ttopullae.studyroom.application.dto.PersonalRoomListResult;
 import com.ebbinghaus.ttopullae.studyroom.application.dto.PersonalRoomProblemListCommand;
 import com.ebbinghaus.ttopullae.studyroom.application.dto.PersonalRoomProblemListResult;
+import com.ebbinghaus.ttopullae.studyroom.application.dto.ProblemCursor;
 import com.ebbinghaus.ttopullae.studyroom.application.dto.StudyRoomCreateCommand;
 import com.ebbinghaus.ttopullae.studyroom.application.dto.StudyRoomCreateResult;
+import com.ebbinghaus.ttopullae.studyroom.application.dto.StudyRoomMembershipChangedEvent;
 import com.ebbinghaus.ttopullae.studyroom.domain.RoomType;
 import com.ebbinghaus.ttopullae.studyroom.domain.StudyRoom;
 import com.ebbinghaus.ttopullae.studyroom.domain.StudyRoomMember;
@@ -28,14 +31,19 @@ import com.ebbinghaus.ttopullae.studyroom.exception.StudyRoomException;
 import com.ebbinghaus.ttopullae.user.domain.User;
 import com.ebbinghaus.ttopullae.user.domain.repository.UserRepository;
 import com.ebbinghaus.ttopullae.user.exception.UserException;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
-import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -44,8 +52,9 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -67,10 +76,23 @@ class StudyRoomServiceTest {
     private ProblemRepository problemRepository;
 
     @Mock
-    private ProblemReviewStateRepository problemReviewStateRepository;
+    private ReviewGateCountRepository reviewGateCountRepository;
 
     @Mock
-    private ProblemAttemptRepository problemAttemptRepository;
+    private LatestProblemAttemptRepository latestProblemAttemptRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private JoinCodeGenerator joinCodeGenerator;
+
+    @BeforeEach
+    void setUp() {
+        // 접근 권한 판별은 실제 구현을 사용하고, 멤버십 조회만 mock 리포지토리로 대체
+        ReflectionTestUtils.setField(studyRoomService, "studyRoomAccessResolver",
+                new StudyRoomAccessResolver(new NoOpStudyRoomMembershipCache(studyRoomMemberRepository)));
+    }
 
     @Test
     @DisplayName("개인 공부방 생성 성공")
@@ -146,7 +168,7 @@ class StudyRoomServiceTest {
     }
 
     @Test
-    @DisplayName("그룹 스터디 생성 성공")
+    @DisplayName("그룹 스터디 생성 성공 - 저장으로 발급된 ID로 참여 코드 생성 (중복 확인 조회 없음)")
     void createGroupRoom_Success() {
         // given
         Long userId = 1L;
@@ -173,7 +195,6 @@ class StudyRoomServiceTest {
                 .name("알고리즘 스터디")
                 .description("매일 알고리즘 풀이")
                 .category("알고리즘")
-                .joinCode(generatedJoinCode)
                 .build();
 
         StudyRoomMember savedMember = StudyRoomMember.builder()
@@ -182,28 +203,26 @@ class StudyRoomServiceTest {
                 .active(true)
                 .build();
 
-        try (MockedStatic<JoinCodeGenerator> mockedGenerator = mockStatic(JoinCodeGenerator.class)) {
-            mockedGenerator.when(JoinCodeGenerator::generateCode).thenReturn(generatedJoinCode);
-            given(studyRoomRepository.existsByJoinCode(generatedJoinCode)).willReturn(false);
-            given(userRepository.findById(userId)).willReturn(Optional.of(mockUser));
-            given(studyRoomRepository.save(any(StudyRoom.class))).willReturn(savedRoom);
-            given(studyRoomMemberRepository.save(any(StudyRoomMember.class))).willReturn(savedMember);
-
-            // when
-            StudyRoomCreateResult result = studyRoomService.createGroupRoom(command);
-
-            // then
-            assertThat(result).isNotNull();
-            assertThat(result.studyRoomId()).isEqualTo(1L);
-            assertThat(result.name()).isEqualTo("알고리즘 스터디");
-            assertThat(result.description()).isEqualTo("매일 알고리즘 풀이");
-            assertThat(result.category()).isEqualTo("알고리즘");
-            assertThat(result.joinCode()).isEqualTo(generatedJoinCode); // 그룹방은 참여 코드 필수
-
-            verify(userRepository, times(1)).findById(userId);
-            verify(studyRoomRepository, times(1)).save(any(StudyRoom.class));
-            verify(studyRoomMemberRepository, times(1)).save(any(StudyRoomMember.class)); // 방장 자동 등록
-        }
+        given(userRepository.findById(userId)).willReturn(Optional.of(mockUser));
+        given(studyRoomRepository.save(any(StudyRoom.class))).willReturn(savedRoom);
+        given(joinCodeGenerator.generateCode(1L)).willReturn(generatedJoinCode);
+        given(studyRoomMemberRepository.save(any(StudyRoomMember.class))).willReturn(savedMember);
+
+        // when
+        StudyRoomCreateResult result = studyRoomService.createGroupRoom(command);
+
+        // then
+        assertThat(result).isNotNull();
+        assertThat(result.studyRoomId()).isEqualTo(1L);
+        assertThat(result.name()).isEqualTo("알고리즘 스터디");
+        assertThat(result.description()).isEqualTo("매일 알고리즘 풀이");
+        assertThat(result.category()).isEqualTo("알고리즘");
+        assertThat(result.joinCode()).isEqualTo(generatedJoinCode); // 그룹방은 참여 코드 필수
+
+        verify(userRepository, times(1)).findById(userId);
+        verify(studyRoomRepository, times(1)).save(any(StudyRoom.class));
+        verify(studyRoomRepository, times(1)).flush();
+        verify(studyRoomMemberRepository, times(1)).save(any(StudyRoomMember.class)); // 방장 자동 등록
     }
 
     @Test
@@ -226,7 +245,6 @@ class StudyRoomServiceTest {
                 RoomType.GROUP
         );
 
-        String generatedJoinCode = "SPRING01";
         StudyRoom savedRoom = StudyRoom.builder()
                 .studyRoomId(2L)
                 .owner(mockUser)
@@ -234,25 +252,21 @@ class StudyRoomServiceTest {
                 .name("스프링 스터디")
                 .description("스프링 심화 학습")
                 .category("프레임워크")
-                .joinCode(generatedJoinCode)
                 .build();
 
-        try (MockedStatic<JoinCodeGenerator> mockedGenerator = mockStatic(JoinCodeGenerator.class)) {
-            mockedGenerator.when(JoinCodeGenerator::generateCode).thenReturn(generatedJoinCode);
-            given(studyRoomRepository.existsByJoinCode(generatedJoinCode)).willReturn(false);
-            given(userRepository.findById(userId)).willReturn(Optional.of(mockUser));
-            given(studyRoomRepository.save(any(StudyRoom.class))).willReturn(savedRoom);
+        given(userRepository.findById(userId)).willReturn(Optional.of(mockUser));
+        given(studyRoomRepository.save(any(StudyRoom.class))).willReturn(savedRoom);
+        given(joinCodeGenerator.generateCode(2L)).willReturn("SPRING01");
 
-            // when
-            studyRoomService.createGroupRoom(command);
+        // when
+        studyRoomService.createGroupRoom(command);
 
-            // then
-            verify(studyRoomMemberRepository, times(1)).save(argThat(member ->
-                    member.getUser().getUserId().equals(userId) &&
-                            member.getStudyRoom().getStudyRoomId().equals(2L) &&
-                            member.getActive()
-            ));
-        }
+        // then
+        verify(studyRoomMemberRepository, times(1)).save(argThat(member ->
+                member.getUser().getUserId().equals(userId) &&
+                        member.getStudyRoom().getStudyRoomId().equals(2L) &&
+                        member.getActive()
+        ));
     }
 
     @Test
@@ -281,8 +295,8 @@ class StudyRoomServiceTest {
     }
 
     @Test
-    @DisplayName("그룹 스터디 생성 실패 - 참여 코드 생성 실패 (10회 재시도 후 실패)")
-    void createGroupRoom_Fail_JoinCodeGenerationFailed() {
+    @DisplayName("그룹 스터디 생성 실패 - 참여 코드가 이전에 발급된 코드와 충돌")
+    void createGroupRoom_Fail_JoinCodeConflict() {
         // given
         Long userId = 1L;
         User mockUser = User.builder()
@@ -300,78 +314,24 @@ class StudyRoomServiceTest {
                 RoomType.GROUP
         );
 
-        try (MockedStatic<JoinCodeGenerator> mockedGenerator = mockStatic(JoinCodeGenerator.class)) {
-            // 모든 생성된 코드가 이미 존재한다고 가정 (10회 재시도 모두 실패)
-            mockedGenerator.when(JoinCodeGenerator::generateCode).thenReturn("DUPLICATE1");
-            given(userRepository.findById(userId)).willReturn(Optional.of(mockUser));
-            given(studyRoomRepository.existsByJoinCode(anyString())).willReturn(true); // 항상 중복
-
-            // when & then
-            assertThatThrownBy(() -> studyRoomService.createGroupRoom(command))
-                    .isInstanceOf(ApplicationException.class)
-                    .hasFieldOrPropertyWithValue("code", StudyRoomException.JOIN_CODE_GENERATION_FAILED);
-
-            verify(userRepository, times(1)).findById(userId);
-            verify(studyRoomRepository, times(10)).existsByJoinCode(anyString()); // 10회 재시도
-            verify(studyRoomRepository, never()).save(any(StudyRoom.class));
-            verify(studyRoomMemberRepository, never()).save(any(StudyRoomMember.class));
-        }
-    }
-
-    @Test
-    @DisplayName("그룹 스터디 생성 성공 - 참여 코드 중복 후 재생성 성공")
-    void createGroupRoom_Success_JoinCodeRetrySuccess() {
-        // given
-        Long userId = 1L;
-        User mockUser = User.builder()
-                .userId(userId)
-                .email("test@example.com")
-                .username("테스트유저")
-                .receiveNotifications(true)
-                .build();
-
-        StudyRoomCreateCommand command = new StudyRoomCreateCommand(
-                userId,
-                "데이터베이스 스터디",
-                "DB 최적화 학습",
-                "데이터베이스",
-                RoomType.GROUP
-        );
-
-        String duplicateCode = "DUPLICATE";
-        String uniqueCode = "UNIQUE123";
-
         StudyRoom savedRoom = StudyRoom.builder()
                 .studyRoomId(3L)
                 .owner(mockUser)
                 .roomType(RoomType.GROUP)
-                .name("데이터베이스 스터디")
-                .description("DB 최적화 학습")
-                .category("데이터베이스")
-                .joinCode(uniqueCode)
+                .name("알고리즘 스터디")
                 .build();
 
-        try (MockedStatic<JoinCodeGenerator> mockedGenerator = mockStatic(JoinCodeGenerator.class)) {
-            // 첫 번째 시도는 중복, 두 번째 시도는 성공
-            mockedGenerator.when(JoinCodeGenerator::generateCode)
-                    .thenReturn(duplicateCode)
-                    .thenReturn(uniqueCode);
-
-            given(userRepository.findById(userId)).willReturn(Optional.of(mockUser));
-            given(studyRoomRepository.existsByJoinCode(duplicateCode)).willReturn(true); // 중복
-            given(studyRoomRepository.existsByJoinCode(uniqueCode)).willReturn(false); // 고유
-            given(studyRoomRepository.save(any(StudyRoom.class))).willReturn(savedRoom);
-
-            // when
-            StudyRoomCreateResult result = studyRoomService.createGroupRoom(command);
+        given(userRepository.findById(userId)).willReturn(Optional.of(mockUser));
+        given(studyRoomRepository.save(any(StudyRoom.class))).willReturn(savedRoom);
+        given(joinCodeGenerator.generateCode(3L)).willReturn("DUPLICAT");
+        willThrow(new DataIntegrityViolationException("duplicate join_code")).given(studyRoomRepository).flush();
 
-            // then
-            assertThat(result).isNotNull();
-            assertThat(result.joinCode()).isEqualTo(uniqueCode);
+        // when & then
+        assertThatThrownBy(() -> studyRoomService.createGroupRoom(command))
+                .isInstanceOf(ApplicationException.class)
+                .hasFieldOrPropertyWithValue("code", StudyRoomException.JOIN_CODE_GENERATION_FAILED);
 
-            verify(studyRoomRepository, times(2)).existsByJoinCode(anyString()); // 2회 시도
-            verify(studyRoomRepository, times(1)).save(any(StudyRoom.class));
-        }
+        verify(studyRoomMemberRepository, never()).save(any(StudyRoomMember.class));
     }
 
     // ===== 그룹 스터디 참여 API 테스트 =====
@@ -436,6 +396,8 @@ class StudyRoomServiceTest {
         verify(studyRoomRepository, times(1)).findByJoinCode(joinCode);
         verify(studyRoomMemberRepository, times(1)).existsByUserAndStudyRoomAndActive(mockUser, mockGroupRoom, true);
         verify(studyRoomMemberRepository, times(1)).save(any(StudyRoomMember.class));
+        verify(studyRoomRepository, times(1)).adjustActiveMemberCount(10L, 1);
+        verify(eventPublisher, times(1)).publishEvent(new StudyRoomMembershipChangedEvent(10L, userId));
     }
 
     @Test
@@ -612,6 +574,7 @@ class StudyRoomServiceTest {
                 .description("자바 기초")
                 .category("프로그래밍")
                 .joinCode(null)
+                .problemCount(10)
                 .build();
 
         StudyRoom room2 = StudyRoom.builder()
@@ -622,6 +585,7 @@ class StudyRoomServiceTest {
                 .description("스프링 심화")
                 .category("프레임워크")
                 .joinCode(null)
+                .problemCount(15)
                 .build();
 
         List<StudyRoom> personalRooms = Arrays.asList(room1, room2);
@@ -629,12 +593,11 @@ class StudyRoomServiceTest {
         given(userRepository.findById(userId)).willReturn(Optional.of(mockUser));
         given(studyRoomRepository.findAllByOwnerAndRoomType(mockUser, RoomType.PERSONAL))
                 .willReturn(personalRooms);
-        given(problemRepository.countByStudyRoom(room1)).willReturn(10);
-        given(problemRepository.countByStudyRoom(room2)).willReturn(15);
-        given(problemReviewStateRepository.countByUserAndProblem_StudyRoomAndGate(mockUser, room1, ReviewGate.GRADUATED))
-                .willReturn(5);
-        given(problemReviewStateRepository.countByUserAndProblem_StudyRoomAndGate(mockUser, room2, ReviewGate.GRADUATED))
-                .willReturn(8);
+        given(reviewGateCountRepository.findAllByUserIdAndStudyRoomIds(userId, List.of(1L, 2L)))
+                .willReturn(List.of(
+                        ReviewGateCount.builder().user(mockUser).studyRoom(room1).graduatedCount(5).build(),
+                        ReviewGateCount.builder().user(mockUser).studyRoom(room2).graduatedCount(8).build()
+                ));
 
         // when
         PersonalRoomListResult result = studyRoomService.getPersonalRooms(userId);
@@ -659,9 +622,8 @@ class StudyRoomServiceTest {
 
         verify(userRepository, times(1)).findById(userId);
         verify(studyRoomRepository, times(1)).findAllByOwnerAndRoomType(mockUser, RoomType.PERSONAL);
-        verify(problemRepository, times(2)).countByStudyRoom(any(StudyRoom.class));
-        verify(problemReviewStateRepository, times(2))
-                .countByUserAndProblem_StudyRoomAndGate(any(User.class), any(StudyRoom.class), eq(ReviewGate.GRADUATED));
+        verify(reviewGateCountRepository, times(1)).findAllByUserIdAndStudyRoomIds(eq(userId), anyList());
+        verifyNoInteractions(problemRepository);
     }
 
     @Test
@@ -696,7 +658,7 @@ class StudyRoomServiceTest {
                 .build();
 
         given(userRepository.findById(userId)).willReturn(Optional.of(mockUser));
-        given(studyRoomMemberRepository.findAllByUserAndActive(mockUser, true))
+        given(studyRoomMemberRepository.findAllByUserAndActiveWithStudyRoom(mockUser, true))
                 .willReturn(Collections.emptyList());
 
         // when
@@ -707,7 +669,7 @@ class StudyRoomServiceTest {
         assertThat(result.rooms()).isEmpty();
 
         verify(userRepository, times(1)).findById(userId);
-        verify(studyRoomMemberRepository, times(1)).findAllByUserAndActive(mockUser, true);
+        verify(studyRoomMemberRepository, times(1)).findAllByUserAndActiveWithStudyRoom(mockUser, true);
     }
 
     @Test
@@ -744,6 +706,8 @@ class StudyRoomServiceTest {
                 .description("매일 알고리즘")
                 .category("알고리즘")
                 .joinCode("CODE001")
+                .problemCount(20)
+                .activeMemberCount(5)
                 .build();
 
         StudyRoom group2 = StudyRoom.builder()
@@ -754,6 +718,8 @@ class StudyRoomServiceTest {
                 .description("CS 기초 학습")
                 .category("CS")
                 .joinCode("CODE002")
+                .problemCount(30)
+                .activeMemberCount(3)
                 .build();
 
         StudyRoomMember member1 = StudyRoomMember.builder()
@@ -773,16 +739,13 @@ class StudyRoomServiceTest {
         List<StudyRoomMember> memberships = Arrays.asList(member1, member2);
 
         given(userRepository.findById(userId)).willReturn(Optional.of(mockUser));
-        given(studyRoomMemberRepository.findAllByUserAndActive(mockUser, true))
+        given(studyRoomMemberRepository.findAllByUserAndActiveWithStudyRoom(mockUser, true))
                 .willReturn(memberships);
-        given(problemRepository.countByStudyRoom(group1)).willReturn(20);
-        given(problemRepository.countByStudyRoom(group2)).willReturn(30);
-        given(problemReviewStateRepository.countByUserAndProblem_StudyRoomAndGate(mockUser, group1, ReviewGate.GRADUATED))
-                .willReturn(12);
-        given(problemReviewStateRepository.countByUserAndProblem_StudyRoomAndGate(mockUser, group2, ReviewGate.GRADUATED))
-                .willReturn(18);
-        given(studyRoomMemberRepository.countByStudyRoomAndActive(group1, true)).willReturn(5);
-        given(studyRoomMemberRepository.countByStudyRoomAndActive(group2, true)).willReturn(3);
+        given(reviewGateCountRepository.findAllByUserIdAndStudyRoomIds(userId, List.of(10L, 20L)))
+                .willReturn(List.of(
+                        ReviewGateCount.builder().user(mockUser).studyRoom(group1).graduatedCount(12).build(),
+                        ReviewGateCount.builder().user(mockUser).studyRoom(group2).graduatedCount(18).build()
+                ));
 
         // when
         GroupRoomListResult result = studyRoomService.getGroupRooms(userId);
@@ -810,11 +773,56 @@ class StudyRoomServiceTest {
         assertThat(secondGroup.memberCount()).isEqualTo(3);
 
         verify(userRepository, times(1)).findById(userId);
-        verify(studyRoomMemberRepository, times(1)).findAllByUserAndActive(mockUser, true);
-        verify(problemRepository, times(2)).countByStudyRoom(any(StudyRoom.class));
-        verify(problemReviewStateRepository, times(2))
-                .countByUserAndProblem_StudyRoomAndGate(any(User.class), any(StudyRoom.class), eq(ReviewGate.GRADUATED));
-        verify(studyRoomMemberRepository, times(2)).countByStudyRoomAndActive(any(StudyRoom.class), eq(true));
+        verify(studyRoomMemberRepository, times(1)).findAllByUserAndActiveWithStudyRoom(mockUser, true);
+        verify(reviewGateCountRepository, times(1)).findAllByUserIdAndStudyRoomIds(eq(userId), anyList());
+        verifyNoInteractions(problemRepository);
+    }
+
+    @Test
+    @DisplayName("그룹 스터디 목록 조회 성공 - 관문 분포 카운터가 없는 그룹은 완료 문제 0으로 표시")
+    void getGroupRooms_Success_MissingCountsAreZero() {
+        // given
+        Long userId = 2L;
+        User mockUser = User.builder()
+                .userId(userId)
+                .email("member@example.com")
+                .username("멤버유저")
+                .receiveNotifications(true)
+                .build();
+
+        StudyRoom emptyGroup = StudyRoom.builder()
+                .studyRoomId(30L)
+                .owner(mockUser)
+                .roomType(RoomType.GROUP)
+                .name("새 스터디")
+                .description("아직 문제가 없는 스터디")
+                .category("CS")
+                .joinCode("CODE003")
+                .activeMemberCount(1)
+                .build();
+
+        StudyRoomMember membership = StudyRoomMember.builder()
+                .memberId(3L)
+                .user(mockUser)
+                .studyRoom(emptyGroup)
+                .active(true)
+                .build();
+
+        given(userRepository.findById(userId)).willReturn(Optional.of(mockUser));
+        given(studyRoomMemberRepository.findAllByUserAndActiveWithStudyRoom(mockUser, true))
+                .willReturn(List.of(membership));
+        given(reviewGateCountRepository.findAllByUserIdAndStudyRoomIds(userId, List.of(30L)))
+                .willReturn(List.of());
+
+        // when
+        GroupRoomListResult result = studyRoomService.getGroupRooms(userId);
+
+        // then
+        assertThat(result.rooms()).hasSize(1);
+        GroupRoomListResult.GroupRoomInfo group = result.rooms().get(0);
+        assertThat(group.totalProblems()).isZero();
+        assertThat(group.graduatedProblems()).isZero();
+        assertThat(group.memberCount()).isEqualTo(1);
     }
 
     @Test
@@ -831,7 +839,7 @@ class StudyRoomServiceTest {
                 .hasFieldOrPropertyWithValue("code", UserException.USER_NOT_FOUND);
 
         verify(userRepository, times(1)).findById(nonExistentUserId);
-        verify(studyRoomMemberRepository, never()).findAllByUserAndActive(any(), any());
+        verify(studyRoomMemberRepository, never()).findAllByUserAndActiveWithStudyRoom(any(), any());
     }
 
     // ===== 개인 공부방 문제 목록 조회 API 테스트 =====
@@ -859,15 +867,17 @@ class StudyRoomServiceTest {
                 .description("자바 기초")
                 .category("프로그래밍")
                 .joinCode(null)
+                .problemCount(10)
                 .build();
 
         given(userRepository.findById(userId)).willReturn(Optional.of(mockUser));
         given(studyRoomRepository.findById(studyRoomId)).willReturn(Optional.of(personalRoom));
-        given(problemRepository.findPersonalRoomProblemsWithReviewState(studyRoomId, userId, null))
+        given(problemRepository.findPersonalRoomProblemsWithReviewState(
+                studyRoomId, userId, null, null, null, PageRequest.of(0, 21)))
                 .willReturn(Collections.emptyList());
 
         // when
-        PersonalRoomProblemListCommand command = new PersonalRoomProblemListCommand(userId, studyRoomId, filter);
+        PersonalRoomProblemListCommand command = new PersonalRoomProblemListCommand(userId, studyRoomId, filter, null, 20);
         PersonalRoomProblemListResult result = studyRoomService.getPersonalRoomProblems(command);
 
         // then
@@ -879,7 +889,8 @@ class StudyRoomServiceTest {
 
         verify(userRepository, times(1)).findById(userId);
         verify(studyRoomRepository, times(1)).findById(studyRoomId);
-        verify(problemRepository, times(1)).findPersonalRoomProblemsWithReviewState(studyRoomId, userId, null);
+        verify(problemRepository, times(1)).findPersonalRoomProblemsWithReviewState(
+                studyRoomId, userId, null, null, null, PageRequest.of(0, 21));
     }
 
     @Test
@@ -905,6 +916,7 @@ class StudyRoomServiceTest {
                 .description("자바 기초")
                 .category("프로그래밍")
                 .joinCode(null)
+                .problemCount(10)
                 .build();
 
         ProblemReviewState reviewState1 = ProblemReviewState.builder()
@@ -941,28 +953,40 @@ class StudyRoomServiceTest {
                 .reviewStates(List.of(reviewState2))
                 .build();
 
-        ProblemAttempt attempt1 = ProblemAttempt.builder()
-                .attemptId(1L)
+        LatestProblemAttempt attempt1 = LatestProblemAttempt.builder()
+                .latestAttemptId(1L)
                 .user(mockUser)
                 .problem(problem1)
+                .attemptId(1L)
                 .isCorrect(true)
+                .attemptedAt(LocalDateTime.now())
                 .build();
 
         given(userRepository.findById(userId)).willReturn(Optional.of(mockUser));
         given(studyRoomRepository.findById(studyRoomId)).willReturn(Optional.of(personalRoom));
-        given(problemRepository.findPersonalRoomProblemsWithReviewState(studyRoomId, userId, null))
-                .willReturn(Arrays.asList(problem1, problem2));
-        given(problemAttemptRepository.findLatestAttemptsByUserAndProblems(userId, Arrays.asList(1L, 2L)))
+        given(problemRepository.findPersonalRoomProblemsWithReviewState(
+                studyRoomId, userId, null, null, null, PageRequest.of(0, 21)))
+                .willReturn(Arrays.asList(
+                        new ProblemWithMyReviewDto(problem1, reviewState1),
+                        new ProblemWithMyReviewDto(problem2, reviewState2)
+                ));
+        given(latestProblemAttemptRepository.findAllByUserIdAndProblemIds(userId, Arrays.asList(1L, 2L)))
                 .willReturn(List.of(attempt1));
 
+        given(reviewGateCountRepository.findByUserIdAndStudyRoomId(userId, studyRoomId))
+                .willReturn(Optional.of(ReviewGateCount.builder().gate1Count(1).gate2Count(1).build()));
+
         // when
-        PersonalRoomProblemListCommand command = new PersonalRoomProblemListCommand(userId, studyRoomId, filter);
+        PersonalRoomProblemListCommand command = new PersonalRoomProblemListCommand(userId, studyRoomId, filter, null, 20);
         PersonalRoomProblemListResult result = studyRoomService.getPersonalRoomProblems(command);
 
         // then
         assertThat(result).isNotNull();
         assertThat(result.problems()).hasSize(2);
         assertThat(result.totalCount()).isEqualTo(2);
+        assertThat(result.dashboard().completedCount()).isEqualTo(0);
+        assertThat(result.hasNext()).isFalse();
+        assertThat(result.nextCursor()).isNull();
 
         PersonalRoomProblemListResult.ProblemInfo firstProblem = result.problems().get(0);
         assertThat(firstProblem.problemId()).isEqualTo(1L);
@@ -976,8 +1000,9 @@ class StudyRoomServiceTest {
         assertThat(secondProblem.reviewGate()).isEqualTo(ReviewGate.GATE_2);
         assertThat(secondProblem.reviewCount()).isEqualTo(2);
 
-        verify(problemRepository, times(1)).findPersonalRoomProblemsWithReviewState(studyRoomId, userId, null);
-        verify(problemAttemptRepository, times(1)).findLatestAttemptsByUserAndProblems(userId, Arrays.asList(1L, 2L));
+        verify(problemRepository, times(1)).findPersonalRoomProblemsWithReviewState(
+                studyRoomId, userId, null, null, null, PageRequest.of(0, 21));
+        verify(latestProblemAttemptRepository, times(1)).findAllByUserIdAndProblemIds(userId, Arrays.asList(1L, 2L));
     }
 
     @Test
@@ -1003,6 +1028,7 @@ class StudyRoomServiceTest {
                 .description("자바 기초")
                 .category("프로그래밍")
                 .joinCode(null)
+                .problemCount(10)
                 .build();
 
         ProblemReviewState reviewState1 = ProblemReviewState.builder()
@@ -1024,13 +1050,17 @@ class StudyRoomServiceTest {
 
         given(userRepository.findById(userId)).willReturn(Optional.of(mockUser));
         given(studyRoomRepository.findById(studyRoomId)).willReturn(Optional.of(personalRoom));
-        given(problemRepository.findPersonalRoomProblemsWithReviewState(studyRoomId, userId, ReviewGate.GATE_1))
-                .willReturn(List.of(problem1));
-        given(problemAttemptRepository.findLatestAttemptsByUserAndProblems(userId, List.of(1L)))
+        given(problemRepository.findPersonalRoomProblemsWithReviewState(
+                studyRoomId, userId, ReviewGate.GATE_1, null, null, PageRequest.of(0, 21)))
+                .willReturn(List.of(new ProblemWithMyReviewDto(problem1, reviewState1)));
+        given(latestProblemAttemptRepository.findAllByUserIdAndProblemIds(userId, List.of(1L)))
                 .willReturn(Collections.emptyList());
 
+        given(reviewGateCountRepository.findByUserIdAndStudyRoomId(userId, studyRoomId))
+                .willReturn(Optional.of(ReviewGateCount.builder().gate1Count(1).gate2Count(3).graduatedCount(2).build()));
+
         // when
-        PersonalRoomProblemListCommand command = new PersonalRoomProblemListCommand(userId, studyRoomId, filter);
+        PersonalRoomProblemListCommand command = new PersonalRoomProblemListCommand(userId, studyRoomId, filter, null, 20);
         PersonalRoomProblemListResult result = studyRoomService.getPersonalRoomProblems(command);
 
         // then
@@ -1050,7 +1080,7 @@ class StudyRoomServiceTest {
 
         given(userRepository.findById(nonExistentUserId)).willReturn(Optional.empty());
 
-        PersonalRoomProblemListCommand command = new PersonalRoomProblemListCommand(nonExistentUserId, studyRoomId, filter);
+        PersonalRoomProblemListCommand command = new PersonalRoomProblemListCommand(nonExistentUserId, studyRoomId, filter, null, 20);
 
         // when & then
         assertThatThrownBy(() -> studyRoomService.getPersonalRoomProblems(command))
@@ -1079,7 +1109,7 @@ class StudyRoomServiceTest {
         given(userRepository.findById(userId)).willReturn(Optional.of(mockUser));
         given(studyRoomRepository.findById(nonExistentStudyRoomId)).willReturn(Optional.empty());
 
-        PersonalRoomProblemListCommand command = new PersonalRoomProblemListCommand(userId, nonExistentStudyRoomId, filter);
+        PersonalRoomProblemListCommand command = new PersonalRoomProblemListCommand(userId, nonExistentStudyRoomId, filter, null, 20);
 
         // when & then
         assertThatThrownBy(() -> studyRoomService.getPersonalRoomProblems(command))
@@ -1118,7 +1148,7 @@ class StudyRoomServiceTest {
         given(userRepository.findById(userId)).willReturn(Optional.of(mockUser));
         given(studyRoomRepository.findById(groupRoomId)).willReturn(Optional.of(groupRoom));
 
-        PersonalRoomProblemListCommand command = new PersonalRoomProblemListCommand(userId, groupRoomId, filter);
+        PersonalRoomProblemListCommand command = new PersonalRoomProblemListCommand(userId, groupRoomId, filter, null, 20);
 
         // when & then
         assertThatThrownBy(() -> studyRoomService.getPersonalRoomProblems(command))
@@ -1127,7 +1157,7 @@ class StudyRoomServiceTest {
 
         verify(userRepository, times(1)).findById(userId);
         verify(studyRoomRepository, times(1)).findById(groupRoomId);
-        verify(problemRepository, never()).findPersonalRoomProblemsWithReviewState(anyLong(), anyLong(), any());
+        verify(problemRepository, never()).findPersonalRoomProblemsWithReviewState(anyLong(), anyLong(), any(), any(), any(), any());
     }
 
     @Test
@@ -1160,12 +1190,13 @@ class StudyRoomServiceTest {
                 .description("자바 기초")
                 .category("프로그래밍")
                 .joinCode(null)
+                .problemCount(10)
                 .build();
 
         given(userRepository.findById(userId)).willReturn(Optional.of(mockUser));
         given(studyRoomRepository.findById(studyRoomId)).willReturn(Optional.of(personalRoom));
 
-        PersonalRoomProblemListCommand command = new PersonalRoomProblemListCommand(userId, studyRoomId, filter);
+        PersonalRoomProblemListCommand command = new PersonalRoomProblemListCommand(userId, studyRoomId, filter, null, 20);
 
         // when & then
         assertThatThrownBy(() -> studyRoomService.getPersonalRoomProblems(command))
@@ -1174,7 +1205,7 @@ class StudyRoomServiceTest {
 
         verify(userRepository, times(1)).findById(userId);
         verify(studyRoomRepository, times(1)).findById(studyRoomId);
-        verify(problemRepository, never()).findPersonalRoomProblemsWithReviewState(anyLong(), anyLong(), any());
+        verify(problemRepository, never()).findPersonalRoomProblemsWithReviewState(anyLong(), anyLong(), any(), any(), any(), any());
     }
 
     // ===== 그룹 공부방 문제 목록 조회 API 테스트 =====
@@ -1209,6 +1240,7 @@ class StudyRoomServiceTest {
                 .description("알고리즘 공부")
                 .category("알고리즘")
                 .joinCode("ABC12345")
+                .problemCount(2)
                 .build();
 
         Problem problem1 = Problem.builder()
@@ -1229,19 +1261,18 @@ class StudyRoomServiceTest {
 
         given(userRepository.findById(userId)).willReturn(Optional.of(mockUser));
         given(studyRoomRepository.findById(groupRoomId)).willReturn(Optional.of(groupRoom));
-        given(studyRoomMemberRepository.existsByUserAndStudyRoomAndActive(mockUser, groupRoom, true))
-                .willReturn(true);
         given(problemRepository.findGroupRoomProblemsWithReviewStateAndCreator(
-                eq(groupRoomId), eq(userId), eq(true), eq(false), eq(null)
+                eq(groupRoomId), eq(userId), eq(true), eq(false), eq(null),
+                eq(null), eq(null), eq(PageRequest.of(0, 21))
         )).willReturn(Arrays.asList(
                 new ProblemWithMyReviewDto(problem1, null),
                 new ProblemWithMyReviewDto(problem2, null)
         ));
-        given(problemAttemptRepository.findLatestAttemptsByUserAndProblems(eq(userId), anyList()))
+        given(latestProblemAttemptRepository.findAllByUserIdAndProblemIds(eq(userId), anyList()))
                 .willReturn(Collections.emptyList());
 
         com.ebbinghaus.ttopullae.studyroom.application.dto.GroupRoomProblemListCommand command =
-                new com.ebbinghaus.ttopullae.studyroom.application.dto.GroupRoomProblemListCommand(userId, groupRoomId, filter);
+                new com.ebbinghaus.ttopullae.studyroom.application.dto.GroupRoomProblemListCommand(userId, groupRoomId, filter, null, 20);
 
         // when
         com.ebbinghaus.ttopullae.studyroom.application.dto.GroupRoomProblemListResult result =
@@ -1253,12 +1284,15 @@ class StudyRoomServiceTest {
         assertThat(result.studyRoomName()).isEqualTo("알고리즘 스터디");
         assertThat(result.problems()).hasSize(2);
         assertThat(result.totalCount()).isEqualTo(2);
+        assertThat(result.dashboard().reviewingCount()).isEqualTo(0);
+        assertThat(result.dashboard().unreviewedCount()).isEqualTo(2);
 
         verify(userRepository, times(1)).findById(userId);
         verify(studyRoomRepository, times(1)).findById(groupRoomId);
-        verify(studyRoomMemberRepository, times(1)).existsByUserAndStudyRoomAndActive(mockUser, groupRoom, true);
+        verify(studyRoomMemberRepository, never()).existsByUserAndStudyRoomAndActive(any(), any(), any());  // 방장은 멤버십을 조회하지 않음
         verify(problemRepository, times(1)).findGroupRoomProblemsWithReviewStateAndCreator(
-                eq(groupRoomId), eq(userId), eq(true), eq(false), eq(null)
+                eq(groupRoomId), eq(userId), eq(true), eq(false), eq(null),
+                eq(null), eq(null), eq(PageRequest.of(0, 21))
         );
     }
 
@@ -1289,14 +1323,13 @@ class StudyRoomServiceTest {
 
         given(userRepository.findById(userId)).willReturn(Optional.of(mockUser));
         given(studyRoomRepository.findById(groupRoomId)).willReturn(Optional.of(groupRoom));
-        given(studyRoomMemberRepository.existsByUserAndStudyRoomAndActive(mockUser, groupRoom, true))
-                .willReturn(true);
         given(problemRepository.findGroupRoomProblemsWithReviewStateAndCreator(
-                eq(groupRoomId), eq(userId), eq(false), eq(true), eq(null)
+                eq(groupRoomId), eq(userId), eq(false), eq(true), eq(null),
+                eq(null), eq(null), eq(PageRequest.of(0, 21))
         )).willReturn(Collections.emptyList());
 
         com.ebbinghaus.ttopullae.studyroom.application.dto.GroupRoomProblemListCommand command =
-                new com.ebbinghaus.ttopullae.studyroom.application.dto.GroupRoomProblemListCommand(userId, groupRoomId, filter);
+                new com.ebbinghaus.ttopullae.studyroom.application.dto.GroupRoomProblemListCommand(userId, groupRoomId, filter, null, 20);
 
         // when
         com.ebbinghaus.ttopullae.studyroom.application.dto.GroupRoomProblemListResult result =
@@ -1307,7 +1340,8 @@ class StudyRoomServiceTest {
         assertThat(result.problems()).isEmpty();
 
         verify(problemRepository, times(1)).findGroupRoomProblemsWithReviewStateAndCreator(
-                eq(groupRoomId), eq(userId), eq(false), eq(true), eq(null)
+                eq(groupRoomId), eq(userId), eq(false), eq(true), eq(null),
+                eq(null), eq(null), eq(PageRequest.of(0, 21))
         );
     }
 
@@ -1338,14 +1372,13 @@ class StudyRoomServiceTest {
 
         given(userRepository.findById(userId)).willReturn(Optional.of(mockUser));
         given(studyRoomRepository.findById(groupRoomId)).willReturn(Optional.of(groupRoom));
-        given(studyRoomMemberRepository.existsByUserAndStudyRoomAndActive(mockUser, groupRoom, true))
-                .willReturn(true);
         given(problemRepository.findGroupRoomProblemsWithReviewStateAndCreator(
-                eq(groupRoomId), eq(userId), eq(false), eq(false), eq(ReviewGate.GATE_1)
+                eq(groupRoomId), eq(userId), eq(false), eq(false), eq(ReviewGate.GATE_1),
+                eq(null), eq(null), eq(PageRequest.of(0, 21))
         )).willReturn(Collections.emptyList());
 
         com.ebbinghaus.ttopullae.studyroom.application.dto.GroupRoomProblemListCommand command =
-                new com.ebbinghaus.ttopullae.studyroom.application.dto.GroupRoomProblemListCommand(userId, groupRoomId, filter);
+                new com.ebbinghaus.ttopullae.studyroom.application.dto.GroupRoomProblemListCommand(userId, groupRoomId, filter, null, 20);
 
         // when
         com.ebbinghaus.ttopullae.studyroom.application.dto.GroupRoomProblemListResult result =
@@ -1355,7 +1388,8 @@ class StudyRoomServiceTest {
         assertThat(result).isNotNull();
 
         verify(problemRepository, times(1)).findGroupRoomProblemsWithReviewStateAndCreator(
-                eq(groupRoomId), eq(userId), eq(false), eq(false), eq(ReviewGate.GATE_1)
+                eq(groupRoomId), eq(userId), eq(false), eq(false), eq(ReviewGate.GATE_1),
+                eq(null), eq(null), eq(PageRequest.of(0, 21))
         );
     }
 
@@ -1370,7 +1404,7 @@ class StudyRoomServiceTest {
         given(userRepository.findById(userId)).willReturn(Optional.empty());
 
         com.ebbinghaus.ttopullae.studyroom.application.dto.GroupRoomProblemListCommand command =
-                new com.ebbinghaus.ttopullae.studyroom.application.dto.GroupRoomProblemListCommand(userId, groupRoomId, filter);
+                new com.ebbinghaus.ttopullae.studyroom.application.dto.GroupRoomProblemListCommand(userId, groupRoomId, filter, null, 20);
 
         // when & then
         assertThatThrownBy(() -> studyRoomService.getGroupRoomProblems(command))
@@ -1400,7 +1434,7 @@ class StudyRoomServiceTest {
         given(studyRoomRepository.findById(groupRoomId)).willReturn(Optional.empty());
 
         com.ebbinghaus.ttopullae.studyroom.application.dto.GroupRoomProblemListCommand command =
-                new com.ebbinghaus.ttopullae.studyroom.application.dto.GroupRoomProblemListCommand(userId, groupRoomId, filter);
+                new com.ebbinghaus.ttopullae.studyroom.application.dto.GroupRoomProblemListCommand(userId, groupRoomId, filter, null, 20);
 
         // when & then
         assertThatThrownBy(() -> studyRoomService.getGroupRoomProblems(command))
@@ -1434,13 +1468,14 @@ class StudyRoomServiceTest {
                 .description("자바 기초")
                 .category("프로그래밍")
                 .joinCode(null)
+                .problemCount(10)
                 .build();
 
         given(userRepository.findById(userId)).willReturn(Optional.of(mockUser));
         given(studyRoomRepository.findById(personalRoomId)).willReturn(Optional.of(personalRoom));
 
         com.ebbinghaus.ttopullae.studyroom.application.dto.GroupRoomProblemListCommand command =
-                new com.ebbinghaus.ttopullae.studyroom.application.dto.GroupRoomProblemListCommand(userId, personalRoomId, filter);
+                new com.ebbinghaus.ttopullae.studyroom.application.dto.GroupRoomProblemListCommand(userId, personalRoomId, filter, null, 20);
 
         // when & then
         assertThatThrownBy(() -> studyRoomService.getGroupRoomProblems(command))
@@ -1490,7 +1525,7 @@ class StudyRoomServiceTest {
                 .willReturn(false);
 
         com.ebbinghaus.ttopullae.studyroom.application.dto.GroupRoomProblemListCommand command =
-                new com.ebbinghaus.ttopullae.studyroom.application.dto.GroupRoomProblemListCommand(userId, groupRoomId, filter);
+                new com.ebbinghaus.ttopullae.studyroom.application.dto.GroupRoomProblemListCommand(userId, groupRoomId, filter, null, 20);
 
         // when & then
         assertThatThrownBy(() -> studyRoomService.getGroupRoomProblems(command))
@@ -1500,7 +1535,7 @@ class StudyRoomServiceTest {
         verify(userRepository, times(1)).findById(userId);
         verify(studyRoomRepository, times(1)).findById(groupRoomId);
         verify(studyRoomMemberRepository, times(1)).existsByUserAndStudyRoomAndActive(mockUser, groupRoom, true);
-        verify(problemRepository, never()).findGroupRoomProblemsWithReviewStateAndCreator(anyLong(), anyLong(), anyBoolean(), anyBoolean(), any());
+        verify(problemRepository, never()).findGroupRoomProblemsWithReviewStateAndCreator(anyLong(), anyLong(), anyBoolean(), anyBoolean(), any(), any(), any(), any());
     }
 
     @Test
@@ -1530,11 +1565,9 @@ class StudyRoomServiceTest {
 
         given(userRepository.findById(userId)).willReturn(Optional.of(mockUser));
         given(studyRoomRepository.findById(groupRoomId)).willReturn(Optional.of(groupRoom));
-        given(studyRoomMemberRepository.existsByUserAndStudyRoomAndActive(mockUser, groupRoom, true))
-                .willReturn(true);
 
         com.ebbinghaus.ttopullae.studyroom.application.dto.GroupRoomProblemListCommand command =
-                new com.ebbinghaus.ttopullae.studyroom.application.dto.GroupRoomProblemListCommand(userId, groupRoomId, invalidFilter);
+                new com.ebbinghaus.ttopullae.studyroom.application.dto.GroupRoomProblemListCommand(userId, groupRoomId, invalidFilter, null, 20);
 
         // when & then
         assertThatThrownBy(() -> studyRoomService.getGroupRoomProblems(command))
@@ -1543,8 +1576,155 @@ class StudyRoomServiceTest {
 
         verify(userRepository, times(1)).findById(userId);
         verify(studyRoomRepository, times(1)).findById(groupRoomId);
-        verify(studyRoomMemberRepository, times(1)).existsByUserAndStudyRoomAndActive(mockUser, groupRoom, true);
-        verify(problemRepository, never()).findGroupRoomProblemsWithReviewStateAndCreator(anyLong(), anyLong(), anyBoolean(), anyBoolean(), any());
+        verify(studyRoomMemberRepository, never()).existsByUserAndStudyRoomAndActive(any(), any(), any());  // 방장은 멤버십을 조회하지 않음
+        verify(problemRepository, never()).findGroupRoomProblemsWithReviewStateAndCreator(anyLong(), anyLong(), anyBoolean(), anyBoolean(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("그룹 공부방 문제 목록 조회 성공 - 다음 페이지가 있으면 마지막 문제 위치의 커서 반환")
+    void getGroupRoomProblems_Success_NextCursor() {
+        // given
+        Long userId = 1L;
+        Long groupRoomId = 2L;
+        LocalDateTime latestCreatedAt = LocalDateTime.of(2025, 1, 17, 10, 0, 0, 123_456_789);
+
+        User mockUser = User.builder()
+                .userId(userId)
+                .email("test@example.com")
+                .username("테스트유저")
+                .receiveNotifications(true)
+                .build();
+
+        StudyRoom groupRoom = StudyRoom.builder()
+                .studyRoomId(groupRoomId)
+                .owner(mockUser)
+                .roomType(RoomType.GROUP)
+                .name("알고리즘 스터디")
+                .description("알고리즘 공부")
+                .category("알고리즘")
+                .joinCode("ABC12345")
+                .problemCount(2)
+                .build();
+
+        Problem problem1 = Problem.builder()
+                .problemId(1L)
+                .studyRoom(groupRoom)
+                .creator(mockUser)
+                .question("문제1")
+                .problemType(ProblemType.SHORT)
+                .build();
+        ReflectionTestUtils.setField(problem1, "createdAt", latestCreatedAt);
+
+        Problem problem2 = Problem.builder()
+                .problemId(2L)
+                .studyRoom(groupRoom)
+                .creator(mockUser)
+                .question("문제2")
+                .problemType(ProblemType.SHORT)
+                .build();
+        ReflectionTestUtils.setField(problem2, "createdAt", latestCreatedAt.minusDays(1));
+
+        given(userRepository.findById(userId)).willReturn(Optional.of(mockUser));
+        given(studyRoomRepository.findById(groupRoomId)).willReturn(Optional.of(groupRoom));
+        given(problemRepository.findGroupRoomProblemsWithReviewStateAndCreator(
+                eq(groupRoomId), eq(userId), eq(true), eq(false), eq(null),
+                eq(null), eq(null), eq(PageRequest.of(0, 2))
+        )).willReturn(Arrays.asList(
+                new ProblemWithMyReviewDto(problem1, null),
+                new ProblemWithMyReviewDto(problem2, null)
+        ));
+        given(latestProblemAttemptRepository.findAllByUserIdAndProblemIds(userId, List.of(1L)))
+                .willReturn(Collections.emptyList());
+
+        com.ebbinghaus.ttopullae.studyroom.application.dto.GroupRoomProblemListCommand command =
+                new com.ebbinghaus.ttopullae.studyroom.application.dto.GroupRoomProblemListCommand(userId, groupRoomId, "ALL", null, 1);
+
+        // when
+        com.ebbinghaus.ttopullae.studyroom.application.dto.GroupRoomProblemListResult result =
+                studyRoomService.getGroupRoomProblems(command);
+
+        // then
+        assertThat(result.problems()).hasSize(1);
+        assertThat(result.problems().get(0).problemId()).isEqualTo(1L);
+        assertThat(result.totalCount()).isEqualTo(2);
+        assertThat(result.hasNext()).isTrue();
+        assertThat(ProblemCursor.decode(result.nextCursor()))
+                .isEqualTo(new ProblemCursor(LocalDateTime.of(2025, 1, 17, 10, 0, 0, 123_456_000), 1L));
+    }
+
+    @Test
+    @DisplayName("그룹 공부방 문제 목록 조회 실패 - 잘못된 커서")
+    void getGroupRoomProblems_Fail_InvalidCursor() {
+        // given
+        Long userId = 1L;
+        Long groupRoomId = 2L;
+
+        User mockUser = User.builder()
+                .userId(userId)
+                .email("test@example.com")
+                .username("테스트유저")
+                .receiveNotifications(true)
+                .build();
+
+        StudyRoom groupRoom = StudyRoom.builder()
+                .studyRoomId(groupRoomId)
+                .owner(mockUser)
+                .roomType(RoomType.GROUP)
+                .name("알고리즘 스터디")
+                .description("알고리즘 공부")
+                .category("알고리즘")
+                .joinCode("ABC12345")
+                .build();
+
+        given(userRepository.findById(userId)).willReturn(Optional.of(mockUser));
+        given(studyRoomRepository.findById(groupRoomId)).willReturn(Optional.of(groupRoom));
+
+        com.ebbinghaus.ttopullae.studyroom.application.dto.GroupRoomProblemListCommand command =
+                new com.ebbinghaus.ttopullae.studyroom.application.dto.GroupRoomProblemListCommand(userId, groupRoomId, "ALL", "not-a-cursor", 20);
+
+        // when & then
+        assertThatThrownBy(() -> studyRoomService.getGroupRoomProblems(command))
+                .isInstanceOf(ApplicationException.class)
+                .hasFieldOrPropertyWithValue("code", StudyRoomException.INVALID_CURSOR);
+
+        verify(problemRepository, never()).findGroupRoomProblemsWithReviewStateAndCreator(anyLong(), anyLong(), anyBoolean(), anyBoolean(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("개인 공부방 문제 목록 조회 실패 - 페이지 크기 초과")
+    void getPersonalRoomProblems_Fail_InvalidPageSize() {
+        // given
+        Long userId = 1L;
+        Long studyRoomId = 1L;
+
+        User mockUser = User.builder()
+                .userId(userId)
+                .email("test@example.com")
+                .username("테스트유저")
+                .receiveNotifications(true)
+                .build();
+
+        StudyRoom personalRoom = StudyRoom.builder()
+                .studyRoomId(studyRoomId)
+                .owner(mockUser)
+                .roomType(RoomType.PERSONAL)
+                .name("자바 스터디")
+                .description("자바 기초")
+                .category("프로그래밍")
+                .joinCode(null)
+                .build();
+
+        given(userRepository.findById(userId)).willReturn(Optional.of(mockUser));
+        given(studyRoomRepository.findById(studyRoomId)).willReturn(Optional.of(personalRoom));
+
+        PersonalRoomProblemListCommand command = new PersonalRoomProblemListCommand(userId, studyRoomId, "ALL", null, 101);
+
+        // when & then
+        assertThatThrownBy(() -> studyRoomService.getPersonalRoomProblems(command))
+                .isInstanceOf(ApplicationException.class)
+                .hasFieldOrPropertyWithValue("code", StudyRoomException.INVALID_PAGE_SIZE);
+
+        verify(problemRepository, never()).findPersonalRoomProblemsWithReviewState(anyLong(), anyLong(), any(), any(), any(), any());
     }
 
     @Test
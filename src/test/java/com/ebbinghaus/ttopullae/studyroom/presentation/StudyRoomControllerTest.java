@@ -1,6 +1,9 @@
 package com.ebbinghaus.ttopullae.studyroom.presentation;
 
 import com.ebbinghaus.ttopullae.global.util.JwtTokenProvider;
+import com.ebbinghaus.ttopullae.problem.domain.Problem;
+import com.ebbinghaus.ttopullae.problem.domain.ProblemType;
+import com.ebbinghaus.ttopullae.problem.domain.repository.ProblemRepository;
 import com.ebbinghaus.ttopullae.studyroom.domain.RoomType;
 import com.ebbinghaus.ttopullae.studyroom.domain.StudyRoom;
 import com.ebbinghaus.ttopullae.studyroom.domain.StudyRoomMember;
@@ -9,6 +12,7 @@ import com.ebbinghaus.ttopullae.studyroom.domain.repository.StudyRoomRepository;
 import com.ebbinghaus.ttopullae.user.domain.User;
 import com.ebbinghaus.ttopullae.user.domain.repository.UserRepository;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
 import jakarta.servlet.http.Cookie;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -18,9 +22,12 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -50,6 +57,12 @@ class StudyRoomControllerTest {
     @Autowired
     private StudyRoomMemberRepository studyRoomMemberRepository;
 
+    @Autowired
+    private ProblemRepository problemRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
     @Autowired
     private JwtTokenProvider jwtTokenProvider;
 
@@ -455,6 +468,7 @@ class StudyRoomControllerTest {
                 .description("매일 알고리즘 풀이")
                 .category("알고리즘")
                 .joinCode("ABC12345")
+                .activeMemberCount(1)  // 멤버 수 카운터는 서비스 계층에서 갱신되므로 직접 저장 시 함께 설정
                 .build();
         studyRoomRepository.save(group1);
 
@@ -481,6 +495,7 @@ class StudyRoomControllerTest {
                 .description("CS 기초 학습")
                 .category("CS")
                 .joinCode("XYZ67890")
+                .activeMemberCount(1)
                 .build();
         studyRoomRepository.save(group2);
 
@@ -818,6 +833,106 @@ class StudyRoomControllerTest {
                 .andExpect(jsonPath("$.title").value("스터디룸을 찾을 수 없음"));
     }
 
+    @Test
+    @DisplayName("그룹 공부방 문제 목록 조회 성공 - 커서로 다음 페이지 조회")
+    void getGroupRoomProblems_Success_KeysetPagination() throws Exception {
+        // given
+        StudyRoom groupRoom = StudyRoom.builder()
+                .owner(testUser)
+                .roomType(RoomType.GROUP)
+                .name("알고리즘 스터디")
+                .description("알고리즘 공부")
+                .category("알고리즘")
+                .joinCode("ABC12345")
+                .problemCount(3)
+                .build();
+        studyRoomRepository.save(groupRoom);
+
+        studyRoomMemberRepository.save(StudyRoomMember.builder()
+                .user(testUser)
+                .studyRoom(groupRoom)
+                .active(true)
+                .build());
+
+        List<Long> problemIds = new ArrayList<>();
+        for (int i = 1; i <= 3; i++) {
+            Problem problem = problemRepository.save(Problem.builder()
+                    .creator(testUser)
+                    .studyRoom(groupRoom)
+                    .problemType(ProblemType.MCQ)
+                    .question("문제" + i)
+                    .explanation("해설")
+                    .correctChoiceIndex(1)
+                    .build());
+            problemIds.add(problem.getProblemId());
+        }
+
+        // 커서가 DB에 저장된 정밀도의 생성 시각으로 만들어지도록 영속성 컨텍스트 초기화
+        entityManager.flush();
+        entityManager.clear();
+
+        // when & then
+        // 첫 페이지: 최신 문제 2개
+        MvcResult firstPage = mockMvc.perform(get("/api/study-rooms/group/" + groupRoom.getStudyRoomId() + "/problems")
+                        .cookie(new Cookie("accessToken", accessToken))
+                        .param("filter", "ALL")
+                        .param("size", "2"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.problems.length()").value(2))
+                .andExpect(jsonPath("$.problems[0].problemId").value(problemIds.get(2)))
+                .andExpect(jsonPath("$.problems[1].problemId").value(problemIds.get(1)))
+                .andExpect(jsonPath("$.totalCount").value(3))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andReturn();
+
+        String nextCursor = objectMapper.readTree(firstPage.getResponse().getContentAsString())
+                .get("nextCursor").asText();
+
+        // 두 번째 페이지: 나머지 문제 1개
+        mockMvc.perform(get("/api/study-rooms/group/" + groupRoom.getStudyRoomId() + "/problems")
+                        .cookie(new Cookie("accessToken", accessToken))
+                        .param("filter", "ALL")
+                        .param("size", "2")
+                        .param("cursor", nextCursor))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.problems.length()").value(1))
+                .andExpect(jsonPath("$.problems[0].problemId").value(problemIds.get(0)))
+                .andExpect(jsonPath("$.hasNext").value(false))
+                .andExpect(jsonPath("$.nextCursor").isEmpty());
+    }
+
+    @Test
+    @DisplayName("그룹 공부방 문제 목록 조회 실패 - 잘못된 커서")
+    void getGroupRoomProblems_Fail_InvalidCursor() throws Exception {
+        // given
+        StudyRoom groupRoom = StudyRoom.builder()
+                .owner(testUser)
+                .roomType(RoomType.GROUP)
+                .name("알고리즘 스터디")
+                .description("알고리즘 공부")
+                .category("알고리즘")
+                .joinCode("ABC12345")
+                .build();
+        studyRoomRepository.save(groupRoom);
+
+        studyRoomMemberRepository.save(StudyRoomMember.builder()
+                .user(testUser)
+                .studyRoom(groupRoom)
+                .active(true)
+                .build());
+
+        // when & then
+        mockMvc.perform(get("/api/study-rooms/group/" + groupRoom.getStudyRoomId() + "/problems")
+                        .cookie(new Cookie("accessToken", accessToken))
+                        .param("filter", "ALL")
+                        .param("cursor", "not-a-cursor"))
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.title").value("잘못된 커서"));
+    }
+
     // ===== 그룹 스터디 멤버 목록 조회 API 통합 테스트 =====
 
     @Test